@@ -0,0 +1,83 @@
+package com.docarchitect.benchmarks;
+
+import com.docarchitect.core.scanner.ast.AstParser;
+import com.docarchitect.core.scanner.base.SourceReader;
+import com.docarchitect.core.scanner.impl.dotnet.util.CSharpAstParserAdapter;
+import com.docarchitect.core.scanner.impl.go.util.GoAstParserAdapter;
+import com.docarchitect.core.scanner.impl.javascript.util.JavaScriptAstParserAdapter;
+import com.docarchitect.core.scanner.impl.ruby.util.RubyAstParserAdapter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parse time of the ANTLR-backed {@link AstParser}s over all sources of one language in a
+ * synthetic repository.
+ *
+ * <p>Sources are read into memory during setup, so the benchmark measures parsing only.
+ *
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AstParserBenchmark {
+
+    @Param({"go", "csharp", "javascript", "ruby"})
+    public String language;
+
+    private AstParser<?> parser;
+    private final List<Path> files = new ArrayList<>();
+    private final List<String> sources = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void loadSources(SyntheticRepoState repo) throws IOException {
+        parser = switch (language) {
+            case "go" -> new GoAstParserAdapter();
+            case "csharp" -> new CSharpAstParserAdapter();
+            case "javascript" -> new JavaScriptAstParserAdapter();
+            case "ruby" -> new RubyAstParserAdapter();
+            default -> throw new IllegalArgumentException("Unknown language: " + language);
+        };
+
+        String pattern = switch (language) {
+            case "go" -> "**/*.go";
+            case "csharp" -> "**/*.cs";
+            case "javascript" -> "**/*.js";
+            default -> "**/*.rb";
+        };
+
+        files.clear();
+        sources.clear();
+        for (Path file : repo.fileIndex.findFiles(pattern).toList()) {
+            files.add(file);
+            sources.add(SourceReader.defaultReader().read(file));
+        }
+    }
+
+    @Benchmark
+    public void parse(Blackhole blackhole) throws IOException {
+        for (int i = 0; i < files.size(); i++) {
+            blackhole.consume(parser.parse(files.get(i), sources.get(i)));
+        }
+    }
+}
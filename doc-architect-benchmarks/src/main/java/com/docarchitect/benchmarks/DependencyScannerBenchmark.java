@@ -0,0 +1,53 @@
+package com.docarchitect.benchmarks;
+
+import com.docarchitect.core.scanner.ScanResult;
+import com.docarchitect.core.scanner.base.AbstractScanner;
+import com.docarchitect.core.scanner.impl.dotnet.NuGetDependencyScanner;
+import com.docarchitect.core.scanner.impl.java.MavenDependencyScanner;
+import com.docarchitect.core.scanner.impl.javascript.NpmDependencyScanner;
+import com.docarchitect.core.scanner.impl.python.PipPoetryDependencyScanner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the Jackson-based dependency scanners over the manifests of a synthetic
+ * repository (one manifest per service module).
+ *
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DependencyScannerBenchmark {
+
+    @Param({"maven", "npm", "nuget", "pip"})
+    public String scanner;
+
+    @Benchmark
+    public ScanResult scan(SyntheticRepoState repo) {
+        return newScanner().scan(repo.newContext());
+    }
+
+    private AbstractScanner newScanner() {
+        return switch (scanner) {
+            case "maven" -> new MavenDependencyScanner();
+            case "npm" -> new NpmDependencyScanner();
+            case "nuget" -> new NuGetDependencyScanner();
+            case "pip" -> new PipPoetryDependencyScanner();
+            default -> throw new IllegalArgumentException("Unknown scanner: " + scanner);
+        };
+    }
+}
@@ -0,0 +1,56 @@
+package com.docarchitect.benchmarks;
+
+import com.docarchitect.core.scanner.ProjectFileIndex;
+import com.docarchitect.core.scanner.ScanContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@link ScanContext#findFiles(String)} with and without a {@link ProjectFileIndex},
+ * and of building the index itself.
+ *
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FindFilesBenchmark {
+
+    @Param({"**/*.java", "**/pom.xml", "**/src/main/java/**/*.java"})
+    public String pattern;
+
+    @Benchmark
+    public long findFilesWalking(SyntheticRepoState repo) {
+        ScanContext context = new ScanContext(repo.root, List.of(repo.root), Map.of(), Map.of(), Map.of());
+        try (var files = context.findFiles(pattern)) {
+            return files.count();
+        }
+    }
+
+    @Benchmark
+    public long findFilesIndexed(SyntheticRepoState repo) {
+        try (var files = repo.newContext().findFiles(pattern)) {
+            return files.count();
+        }
+    }
+
+    @Benchmark
+    public ProjectFileIndex buildIndex(SyntheticRepoState repo) {
+        return ProjectFileIndex.build(repo.root, List.of(repo.root));
+    }
+}
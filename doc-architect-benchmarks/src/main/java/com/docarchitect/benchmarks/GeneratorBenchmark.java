@@ -0,0 +1,67 @@
+package com.docarchitect.benchmarks;
+
+import com.docarchitect.core.generator.DiagramGenerator;
+import com.docarchitect.core.generator.DiagramType;
+import com.docarchitect.core.generator.GeneratorConfig;
+import com.docarchitect.core.generator.impl.MarkdownGenerator;
+import com.docarchitect.core.generator.impl.MermaidGenerator;
+import com.docarchitect.core.model.ArchitectureModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to render every supported diagram type of {@link MermaidGenerator} and
+ * {@link MarkdownGenerator} for large {@link SyntheticArchitectureModel synthetic models}.
+ *
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GeneratorBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int componentCount;
+
+    private ArchitectureModel model;
+    private final GeneratorConfig config = GeneratorConfig.defaults();
+    private final MermaidGenerator mermaid = new MermaidGenerator();
+    private final MarkdownGenerator markdown = new MarkdownGenerator();
+
+    @Setup(Level.Trial)
+    public void createModel() {
+        model = SyntheticArchitectureModel.create(componentCount);
+    }
+
+    @Benchmark
+    public void mermaid(Blackhole blackhole) {
+        generateAll(mermaid, blackhole);
+    }
+
+    @Benchmark
+    public void markdown(Blackhole blackhole) {
+        generateAll(markdown, blackhole);
+    }
+
+    private void generateAll(DiagramGenerator generator, Blackhole blackhole) {
+        for (DiagramType type : generator.getSupportedDiagramTypes()) {
+            blackhole.consume(generator.generate(model, type, config));
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.docarchitect.benchmarks;
+
+import com.docarchitect.core.util.IdGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ID generation cost: the original per-call {@code MessageDigest} implementation against
+ * {@link IdGenerator} in {@link IdGenerator.Mode#COMPATIBLE} and {@link IdGenerator.Mode#FAST}
+ * mode, over inputs shaped like the component, endpoint and relationship IDs scanners create.
+ *
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class IdGeneratorBenchmark {
+
+    private static final int INPUTS = 1_000;
+
+    private final String[][] inputs = new String[INPUTS][];
+
+    public IdGeneratorBenchmark() {
+        for (int i = 0; i < INPUTS; i++) {
+            inputs[i] = new String[] {
+                "service-" + (i % 50), "GET", "/api/v1/orders/" + i + "/items/{itemId}"
+            };
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(INPUTS)
+    public void legacySha256(Blackhole blackhole) {
+        for (String[] components : inputs) {
+            blackhole.consume(legacyGenerate(components));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(INPUTS)
+    public void compatibleMode(Blackhole blackhole) {
+        for (String[] components : inputs) {
+            blackhole.consume(IdGenerator.generate(IdGenerator.Mode.COMPATIBLE, components));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(INPUTS)
+    public void fastMode(Blackhole blackhole) {
+        for (String[] components : inputs) {
+            blackhole.consume(IdGenerator.generate(IdGenerator.Mode.FAST, components));
+        }
+    }
+
+    /**
+     * The implementation {@link IdGenerator} replaced, kept verbatim as the baseline.
+     */
+    private static String legacyGenerate(String... components) {
+        String input = String.join("|", components);
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(input.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash).substring(0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.docarchitect.benchmarks;
+
+import com.docarchitect.core.scanner.ScanResult;
+import com.docarchitect.core.scanner.base.AbstractScanner;
+import com.docarchitect.core.scanner.impl.java.JpaEntityScanner;
+import com.docarchitect.core.scanner.impl.java.KafkaScanner;
+import com.docarchitect.core.scanner.impl.java.SpringComponentScanner;
+import com.docarchitect.core.scanner.impl.java.SpringRestApiScanner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the JavaParser-based scanners over the Java modules of a synthetic repository.
+ *
+ * <p>Each invocation uses a new scanner and context without a compilation unit cache, so every
+ * Java file is read and parsed.
+ *
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JavaParserScannerBenchmark {
+
+    @Param({"spring-rest", "jpa", "spring-component", "kafka"})
+    public String scanner;
+
+    @Benchmark
+    public ScanResult scan(SyntheticRepoState repo) {
+        return newScanner().scan(repo.newContext());
+    }
+
+    private AbstractScanner newScanner() {
+        return switch (scanner) {
+            case "spring-rest" -> new SpringRestApiScanner();
+            case "jpa" -> new JpaEntityScanner();
+            case "spring-component" -> new SpringComponentScanner();
+            case "kafka" -> new KafkaScanner();
+            default -> throw new IllegalArgumentException("Unknown scanner: " + scanner);
+        };
+    }
+}
@@ -0,0 +1,99 @@
+package com.docarchitect.benchmarks;
+
+import com.docarchitect.core.scanner.ScanResult;
+import com.docarchitect.core.scanner.base.MultiPatternMatcher;
+import com.docarchitect.core.scanner.base.SourceReader;
+import com.docarchitect.core.scanner.impl.go.GoHttpRouterScanner;
+import com.docarchitect.core.scanner.impl.python.FlaskScanner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Regex scanning cost: the Flask and Go router scanners end to end, and
+ * {@link MultiPatternMatcher} against running the same patterns one after another over the
+ * lines of the synthetic Python sources.
+ *
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RegexScannerBenchmark {
+
+    private static final Pattern MODERN_DECORATOR = Pattern.compile(
+        "@(\\w+)\\.(get|post|put|delete|patch)\\s*\\(\\s*['\"](.+?)['\"]");
+    private static final Pattern LEGACY_DECORATOR = Pattern.compile(
+        "@(\\w+)\\.route\\s*\\(\\s*['\"](.+?)['\"].*?methods\\s*=\\s*\\[(.+?)\\]", Pattern.DOTALL);
+    private static final Pattern SIMPLE_ROUTE = Pattern.compile(
+        "@(\\w+)\\.route\\s*\\(\\s*['\"](.+?)['\"]");
+
+    private static final List<Pattern> SERIAL_PATTERNS = List.of(MODERN_DECORATOR, LEGACY_DECORATOR, SIMPLE_ROUTE);
+
+    private static final MultiPatternMatcher MULTI_PATTERN = MultiPatternMatcher.builder()
+        .add("modern", MODERN_DECORATOR, "@")
+        .add("legacy", LEGACY_DECORATOR, ".route", "methods")
+        .add("simple", SIMPLE_ROUTE, ".route")
+        .build();
+
+    private final List<List<String>> pythonLines = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void loadPythonSources(SyntheticRepoState repo) throws IOException {
+        pythonLines.clear();
+        for (Path file : repo.fileIndex.findFiles("**/*.py").toList()) {
+            pythonLines.add(SourceReader.defaultReader().readLines(file));
+        }
+    }
+
+    @Benchmark
+    public ScanResult flaskScanner(SyntheticRepoState repo) {
+        return new FlaskScanner().scan(repo.newContext());
+    }
+
+    @Benchmark
+    public ScanResult goHttpRouterScanner(SyntheticRepoState repo) {
+        return new GoHttpRouterScanner().scan(repo.newContext());
+    }
+
+    @Benchmark
+    public void serialPatterns(Blackhole blackhole) {
+        for (List<String> lines : pythonLines) {
+            for (Pattern pattern : SERIAL_PATTERNS) {
+                for (String line : lines) {
+                    Matcher matcher = pattern.matcher(line);
+                    if (matcher.find()) {
+                        blackhole.consume(matcher.toMatchResult());
+                    }
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void multiPatternMatcher(Blackhole blackhole) {
+        for (List<String> lines : pythonLines) {
+            blackhole.consume(MULTI_PATTERN.matchLines(lines));
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.docarchitect.benchmarks;
+
+import com.docarchitect.cli.ScanCommand;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import picocli.CommandLine;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end {@link ScanCommand} run over a synthetic repository: scanner discovery,
+ * applicability checks, all scanners and model aggregation.
+ *
+ * <p>Runs as a single-shot benchmark because one scan of a large repository takes seconds.
+ * The incremental cache is disabled so every iteration parses every file; output generation
+ * is skipped with {@code --dry-run}.
+ *
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ScanPipelineBenchmark {
+
+    @Param({"1", "4"})
+    public int parallelism;
+
+    @Benchmark
+    public int scan(SyntheticRepoState repo) {
+        int exitCode = new CommandLine(new ScanCommand()).execute(
+            repo.root.toString(), "--dry-run", "--no-cache", "--parallelism", Integer.toString(parallelism));
+        if (exitCode != 0) {
+            throw new IllegalStateException("Scan failed with exit code " + exitCode);
+        }
+        return exitCode;
+    }
+}
@@ -0,0 +1,105 @@
+package com.docarchitect.benchmarks;
+
+import com.docarchitect.core.model.ApiEndpoint;
+import com.docarchitect.core.model.ApiType;
+import com.docarchitect.core.model.ArchitectureModel;
+import com.docarchitect.core.model.Component;
+import com.docarchitect.core.model.ComponentType;
+import com.docarchitect.core.model.DataEntity;
+import com.docarchitect.core.model.Dependency;
+import com.docarchitect.core.model.MessageFlow;
+import com.docarchitect.core.model.Relationship;
+import com.docarchitect.core.model.RelationshipType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds large, deterministic {@link ArchitectureModel}s for generator benchmarks.
+ *
+ * <p>Per component the model holds a few dependencies, relationships to neighbouring
+ * components, API endpoints, a message flow and a data entity, roughly matching the ratios
+ * seen when scanning real service repositories.
+ *
+ * @since 1.0.0
+ */
+public final class SyntheticArchitectureModel {
+
+    private static final int DEPENDENCIES_PER_COMPONENT = 5;
+    private static final int RELATIONSHIPS_PER_COMPONENT = 3;
+    private static final int ENDPOINTS_PER_COMPONENT = 4;
+    private static final int FIELDS_PER_ENTITY = 6;
+
+    private static final String[] HTTP_METHODS = {"GET", "POST", "PUT", "DELETE"};
+
+    private SyntheticArchitectureModel() {
+    }
+
+    /**
+     * Creates a model with the given number of components.
+     *
+     * @param componentCount number of components
+     * @return architecture model
+     */
+    public static ArchitectureModel create(int componentCount) {
+        List<Component> components = new ArrayList<>(componentCount);
+        List<Dependency> dependencies = new ArrayList<>(componentCount * DEPENDENCIES_PER_COMPONENT);
+        List<Relationship> relationships = new ArrayList<>(componentCount * RELATIONSHIPS_PER_COMPONENT);
+        List<ApiEndpoint> apiEndpoints = new ArrayList<>(componentCount * ENDPOINTS_PER_COMPONENT);
+        List<MessageFlow> messageFlows = new ArrayList<>(componentCount);
+        List<DataEntity> dataEntities = new ArrayList<>(componentCount);
+
+        for (int i = 0; i < componentCount; i++) {
+            String id = componentId(i);
+            ComponentType type = i % 10 == 0 ? ComponentType.DATABASE : ComponentType.SERVICE;
+            components.add(new Component(id, "Service " + i, type, "Synthetic component " + i,
+                "Spring Boot", "synthetic", Map.of("version", "1." + i + ".0")));
+
+            for (int d = 0; d < DEPENDENCIES_PER_COMPONENT; d++) {
+                dependencies.add(new Dependency(id, "com.example.lib" + d, "library-" + ((i + d) % 50),
+                    "2." + d + ".0", d == 0 ? "test" : "compile", d < 3));
+            }
+
+            for (int r = 1; r <= RELATIONSHIPS_PER_COMPONENT && componentCount > 1; r++) {
+                String target = componentId((i + r * 7) % componentCount);
+                if (!target.equals(id)) {
+                    relationships.add(new Relationship(id, target,
+                        r == 1 ? RelationshipType.CALLS : RelationshipType.DEPENDS_ON, "calls " + target, "HTTP"));
+                }
+            }
+
+            for (int e = 0; e < ENDPOINTS_PER_COMPONENT; e++) {
+                apiEndpoints.add(new ApiEndpoint(id, ApiType.REST, "/api/service-" + i + "/items/" + e,
+                    HTTP_METHODS[e % HTTP_METHODS.length], "Endpoint " + e, "Item", "Item", null));
+            }
+
+            String subscriber = componentId((i + 1) % componentCount);
+            messageFlows.add(new MessageFlow(id, subscriber, "topic-" + (i % 100), "ItemChanged", null, "kafka"));
+
+            List<DataEntity.Field> fields = new ArrayList<>(FIELDS_PER_ENTITY);
+            for (int f = 0; f < FIELDS_PER_ENTITY; f++) {
+                fields.add(new DataEntity.Field("field" + f, f == 0 ? "BIGINT" : "VARCHAR", f > 0, null));
+            }
+            dataEntities.add(new DataEntity(id, "item_" + i, "table", fields, "field0", null));
+        }
+
+        return new ArchitectureModel(
+            "synthetic-" + componentCount,
+            "1.0.0",
+            List.of("synthetic"),
+            components,
+            dependencies,
+            relationships,
+            apiEndpoints,
+            messageFlows,
+            dataEntities,
+            null,
+            null
+        );
+    }
+
+    private static String componentId(int index) {
+        return "service-" + index;
+    }
+}
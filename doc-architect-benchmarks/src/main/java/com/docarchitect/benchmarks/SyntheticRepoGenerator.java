@@ -0,0 +1,678 @@
+package com.docarchitect.benchmarks;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Generates deterministic polyglot repositories for benchmarks, without network access.
+ *
+ * <p>The repository consists of service modules of {@value #FILES_PER_MODULE} files each.
+ * Modules cycle through Java (Spring/JPA), Go (Gin), C# (ASP.NET Core), JavaScript (Express),
+ * Ruby (Rails) and Python (Flask). Every module has a build manifest ({@code pom.xml},
+ * {@code go.mod}, {@code *.csproj}, {@code package.json}, {@code Gemfile},
+ * {@code requirements.txt}) and a mix of framework sources and plain helper files, so both
+ * the scanners and their pre-filters see realistic work.
+ *
+ * <p>Content depends only on the file count, so repeated runs produce identical trees.
+ * Generated repositories are reused: a tree is only written when its completion marker is
+ * missing.
+ *
+ * <p>Usage: {@code java -cp benchmarks.jar com.docarchitect.benchmarks.SyntheticRepoGenerator <fileCount> [targetDir]}
+ *
+ * @since 1.0.0
+ */
+public final class SyntheticRepoGenerator {
+
+    /**
+     * Standard repository sizes used by the benchmarks.
+     */
+    public static final List<Integer> STANDARD_SIZES = List.of(1_000, 10_000, 100_000);
+
+    /**
+     * Number of files per service module, including its manifest.
+     */
+    public static final int FILES_PER_MODULE = 100;
+
+    /**
+     * Every n-th source file of a module is a framework file; the others are plain helpers.
+     */
+    private static final int FRAMEWORK_FILE_INTERVAL = 3;
+
+    private static final String COMPLETION_MARKER = ".synthetic-complete";
+
+    private static final List<Language> LANGUAGES = List.of(
+        Language.JAVA, Language.GO, Language.CSHARP, Language.JAVASCRIPT, Language.RUBY, Language.PYTHON
+    );
+
+    private SyntheticRepoGenerator() {
+    }
+
+    /**
+     * Returns the repository for the given size below a base directory, generating it if needed.
+     *
+     * @param baseDirectory directory holding generated repositories
+     * @param fileCount number of files in the repository
+     * @return repository root
+     */
+    public static Path getOrGenerate(Path baseDirectory, int fileCount) {
+        Path root = baseDirectory.resolve("repo-" + fileCount);
+        if (Files.exists(root.resolve(COMPLETION_MARKER))) {
+            return root;
+        }
+        generate(root, fileCount);
+        return root;
+    }
+
+    /**
+     * Writes a repository with exactly {@code fileCount} files (plus a completion marker).
+     *
+     * @param root repository root, created if missing
+     * @param fileCount number of files to write
+     * @throws IllegalArgumentException if fileCount is not positive
+     */
+    public static void generate(Path root, int fileCount) {
+        if (fileCount <= 0) {
+            throw new IllegalArgumentException("fileCount must be positive: " + fileCount);
+        }
+
+        int written = 0;
+        for (int module = 0; written < fileCount; module++) {
+            Language language = LANGUAGES.get(module % LANGUAGES.size());
+            int moduleFiles = Math.min(FILES_PER_MODULE, fileCount - written);
+            writeModule(root.resolve("services").resolve(moduleName(module)), module, language, moduleFiles);
+            written += moduleFiles;
+        }
+
+        write(root.resolve(COMPLETION_MARKER), Integer.toString(fileCount));
+    }
+
+    private static void writeModule(Path moduleDir, int module, Language language, int fileCount) {
+        String name = moduleName(module);
+        write(moduleDir.resolve(language.manifestName(name)), language.manifest(name, module));
+
+        for (int file = 1; file < fileCount; file++) {
+            boolean framework = file % FRAMEWORK_FILE_INTERVAL == 1;
+            String type = typeName(module, file);
+            Path path = moduleDir.resolve(language.sourcePath(name, type));
+            write(path, framework ? language.frameworkSource(name, type, file) : language.helperSource(name, type, file));
+        }
+    }
+
+    private static String moduleName(int module) {
+        return String.format(Locale.ROOT, "service-%04d", module);
+    }
+
+    private static String typeName(int module, int file) {
+        return String.format(Locale.ROOT, "Order%dItem%d", module, file);
+    }
+
+    private static void write(Path path, String content) {
+        try {
+            Files.createDirectories(path.getParent());
+            Files.writeString(path, content, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write " + path, e);
+        }
+    }
+
+    /**
+     * Generates a repository from the command line.
+     *
+     * @param args file count, and optionally the target directory (default: {@code target/synthetic-repos})
+     */
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            System.err.println("Usage: SyntheticRepoGenerator <fileCount> [targetDir]");
+            System.exit(1);
+        }
+        int fileCount = Integer.parseInt(args[0]);
+        Path baseDirectory = args.length > 1 ? Paths.get(args[1]) : Paths.get("target", "synthetic-repos");
+        Path root = getOrGenerate(baseDirectory, fileCount);
+        System.out.println("Synthetic repository with " + fileCount + " files: " + root.toAbsolutePath());
+    }
+
+    // ==================== Language Templates ====================
+
+    /**
+     * Manifest and source templates of one language.
+     */
+    private enum Language {
+        JAVA {
+            @Override
+            String manifestName(String module) {
+                return "pom.xml";
+            }
+
+            @Override
+            String manifest(String module, int index) {
+                return """
+                    <?xml version="1.0" encoding="UTF-8"?>
+                    <project xmlns="http://maven.apache.org/POM/4.0.0">
+                        <modelVersion>4.0.0</modelVersion>
+                        <groupId>com.example</groupId>
+                        <artifactId>%s</artifactId>
+                        <version>1.%d.0</version>
+                        <dependencies>
+                            <dependency>
+                                <groupId>org.springframework.boot</groupId>
+                                <artifactId>spring-boot-starter-web</artifactId>
+                                <version>3.2.0</version>
+                            </dependency>
+                            <dependency>
+                                <groupId>org.springframework.boot</groupId>
+                                <artifactId>spring-boot-starter-data-jpa</artifactId>
+                                <version>3.2.0</version>
+                            </dependency>
+                            <dependency>
+                                <groupId>org.springframework.kafka</groupId>
+                                <artifactId>spring-kafka</artifactId>
+                                <version>3.1.0</version>
+                            </dependency>
+                        </dependencies>
+                    </project>
+                    """.formatted(module, index);
+            }
+
+            @Override
+            String sourcePath(String module, String type) {
+                return "src/main/java/com/example/" + packageName(module) + "/" + type + ".java";
+            }
+
+            @Override
+            String frameworkSource(String module, String type, int file) {
+                if (file % 2 == 1) {
+                    return """
+                        package com.example.%1$s;
+
+                        import org.springframework.web.bind.annotation.*;
+                        import java.util.List;
+
+                        @RestController
+                        @RequestMapping("/api/%2$s")
+                        public class %3$sController {
+
+                            private final %3$sService service;
+
+                            public %3$sController(%3$sService service) {
+                                this.service = service;
+                            }
+
+                            @GetMapping
+                            public List<%3$s> list() {
+                                return service.findAll();
+                            }
+
+                            @GetMapping("/{id}")
+                            public %3$s get(@PathVariable Long id) {
+                                return service.find(id);
+                            }
+
+                            @PostMapping
+                            public %3$s create(@RequestBody %3$s body) {
+                                return service.save(body);
+                            }
+                        }
+                        """.formatted(packageName(module), type.toLowerCase(Locale.ROOT), type);
+                }
+                return """
+                    package com.example.%1$s;
+
+                    import jakarta.persistence.*;
+
+                    @Entity
+                    @Table(name = "%2$s")
+                    public class %3$s {
+
+                        @Id
+                        @GeneratedValue
+                        private Long id;
+
+                        @Column(nullable = false)
+                        private String name;
+
+                        private int quantity;
+
+                        @ManyToOne
+                        private Customer customer;
+                    }
+                    """.formatted(packageName(module), type.toLowerCase(Locale.ROOT), type);
+            }
+
+            @Override
+            String helperSource(String module, String type, int file) {
+                return """
+                    package com.example.%1$s;
+
+                    /**
+                     * Formatting helpers for %2$s.
+                     */
+                    final class %2$s {
+
+                        private %2$s() {
+                        }
+
+                        static String format(String value, int width) {
+                            StringBuilder builder = new StringBuilder(value);
+                            while (builder.length() < width) {
+                                builder.append(' ');
+                            }
+                            return builder.toString();
+                        }
+
+                        static int checksum(String value) {
+                            int sum = %3$d;
+                            for (char c : value.toCharArray()) {
+                                sum = 31 * sum + c;
+                            }
+                            return sum;
+                        }
+                    }
+                    """.formatted(packageName(module), type, file);
+            }
+        },
+
+        GO {
+            @Override
+            String manifestName(String module) {
+                return "go.mod";
+            }
+
+            @Override
+            String manifest(String module, int index) {
+                return """
+                    module github.com/example/%s
+
+                    go 1.22
+
+                    require (
+                    	github.com/gin-gonic/gin v1.9.1
+                    	github.com/google/uuid v1.%d.0
+                    )
+                    """.formatted(module, index % 10);
+            }
+
+            @Override
+            String sourcePath(String module, String type) {
+                return "internal/" + type.toLowerCase(Locale.ROOT) + ".go";
+            }
+
+            @Override
+            String frameworkSource(String module, String type, int file) {
+                String path = type.toLowerCase(Locale.ROOT);
+                return """
+                    package handlers
+
+                    import (
+                    	"net/http"
+
+                    	"github.com/gin-gonic/gin"
+                    )
+
+                    type %1$s struct {
+                    	ID       string `json:"id"`
+                    	Name     string `json:"name"`
+                    	Quantity int    `json:"quantity"`
+                    }
+
+                    func Register%1$s(r *gin.Engine) {
+                    	v1 := r.Group("/api/v1")
+                    	v1.GET("/%2$s", list%1$s)
+                    	v1.GET("/%2$s/:id", get%1$s)
+                    	v1.POST("/%2$s", create%1$s)
+                    }
+
+                    func list%1$s(c *gin.Context) {
+                    	c.JSON(http.StatusOK, []%1$s{})
+                    }
+
+                    func get%1$s(c *gin.Context) {
+                    	c.JSON(http.StatusOK, %1$s{ID: c.Param("id")})
+                    }
+
+                    func create%1$s(c *gin.Context) {
+                    	c.Status(http.StatusCreated)
+                    }
+                    """.formatted(type, path);
+            }
+
+            @Override
+            String helperSource(String module, String type, int file) {
+                return """
+                    package handlers
+
+                    import "strings"
+
+                    // pad%1$s pads a value to the given width.
+                    func pad%1$s(value string, width int) string {
+                    	if len(value) >= width {
+                    		return value
+                    	}
+                    	return value + strings.Repeat(" ", width-len(value))
+                    }
+
+                    func checksum%1$s(value string) int {
+                    	sum := %2$d
+                    	for _, c := range value {
+                    		sum = 31*sum + int(c)
+                    	}
+                    	return sum
+                    }
+                    """.formatted(type, file);
+            }
+        },
+
+        CSHARP {
+            @Override
+            String manifestName(String module) {
+                return module + ".csproj";
+            }
+
+            @Override
+            String manifest(String module, int index) {
+                return """
+                    <Project Sdk="Microsoft.NET.Sdk.Web">
+                      <PropertyGroup>
+                        <TargetFramework>net8.0</TargetFramework>
+                        <AssemblyName>%s</AssemblyName>
+                      </PropertyGroup>
+                      <ItemGroup>
+                        <PackageReference Include="Microsoft.EntityFrameworkCore" Version="8.0.0" />
+                        <PackageReference Include="Swashbuckle.AspNetCore" Version="6.5.0" />
+                        <PackageReference Include="Serilog" Version="3.%d.0" />
+                      </ItemGroup>
+                    </Project>
+                    """.formatted(module, index % 10);
+            }
+
+            @Override
+            String sourcePath(String module, String type) {
+                return "Controllers/" + type + ".cs";
+            }
+
+            @Override
+            String frameworkSource(String module, String type, int file) {
+                return """
+                    using Microsoft.AspNetCore.Mvc;
+
+                    namespace Example.Api.Controllers
+                    {
+                        [ApiController]
+                        [Route("api/[controller]")]
+                        public class %1$sController : ControllerBase
+                        {
+                            [HttpGet]
+                            public IActionResult GetAll()
+                            {
+                                return Ok();
+                            }
+
+                            [HttpGet("{id}")]
+                            public IActionResult Get(int id)
+                            {
+                                return Ok(id);
+                            }
+
+                            [HttpPost]
+                            public IActionResult Create([FromBody] %1$s item)
+                            {
+                                return Created("", item);
+                            }
+                        }
+
+                        public class %1$s
+                        {
+                            public int Id { get; set; }
+                            public string Name { get; set; }
+                            public int Quantity { get; set; }
+                        }
+                    }
+                    """.formatted(type);
+            }
+
+            @Override
+            String helperSource(String module, String type, int file) {
+                return """
+                    using System.Text;
+
+                    namespace Example.Api.Internal
+                    {
+                        internal static class %1$s
+                        {
+                            public static string Pad(string value, int width)
+                            {
+                                var builder = new StringBuilder(value);
+                                while (builder.Length < width)
+                                {
+                                    builder.Append(' ');
+                                }
+                                return builder.ToString();
+                            }
+
+                            public static int Checksum(string value)
+                            {
+                                var sum = %2$d;
+                                foreach (var c in value)
+                                {
+                                    sum = 31 * sum + c;
+                                }
+                                return sum;
+                            }
+                        }
+                    }
+                    """.formatted(type, file);
+            }
+        },
+
+        JAVASCRIPT {
+            @Override
+            String manifestName(String module) {
+                return "package.json";
+            }
+
+            @Override
+            String manifest(String module, int index) {
+                return """
+                    {
+                      "name": "%s",
+                      "version": "1.%d.0",
+                      "dependencies": {
+                        "express": "^4.18.2",
+                        "kafkajs": "^2.2.4",
+                        "lodash": "^4.17.21"
+                      },
+                      "devDependencies": {
+                        "jest": "^29.7.0"
+                      }
+                    }
+                    """.formatted(module, index);
+            }
+
+            @Override
+            String sourcePath(String module, String type) {
+                return "src/" + type.toLowerCase(Locale.ROOT) + ".js";
+            }
+
+            @Override
+            String frameworkSource(String module, String type, int file) {
+                String path = type.toLowerCase(Locale.ROOT);
+                return """
+                    const express = require('express');
+                    const router = express.Router();
+
+                    router.get('/api/%1$s', (req, res) => {
+                      res.json([]);
+                    });
+
+                    router.get('/api/%1$s/:id', (req, res) => {
+                      res.json({ id: req.params.id });
+                    });
+
+                    router.post('/api/%1$s', (req, res) => {
+                      res.status(201).json(req.body);
+                    });
+
+                    module.exports = router;
+                    """.formatted(path);
+            }
+
+            @Override
+            String helperSource(String module, String type, int file) {
+                return """
+                    function pad%1$s(value, width) {
+                      return value.length >= width ? value : value + ' '.repeat(width - value.length);
+                    }
+
+                    function checksum%1$s(value) {
+                      let sum = %2$d;
+                      for (const c of value) {
+                        sum = (31 * sum + c.charCodeAt(0)) | 0;
+                      }
+                      return sum;
+                    }
+
+                    module.exports = { pad%1$s, checksum%1$s };
+                    """.formatted(type, file);
+            }
+        },
+
+        RUBY {
+            @Override
+            String manifestName(String module) {
+                return "Gemfile";
+            }
+
+            @Override
+            String manifest(String module, int index) {
+                return """
+                    source 'https://rubygems.org'
+
+                    gem 'rails', '~> 7.1.0'
+                    gem 'pg', '~> 1.5'
+                    gem 'sidekiq', '~> 7.%d'
+                    """.formatted(index % 10);
+            }
+
+            @Override
+            String sourcePath(String module, String type) {
+                return "app/controllers/" + type.toLowerCase(Locale.ROOT) + "_controller.rb";
+            }
+
+            @Override
+            String frameworkSource(String module, String type, int file) {
+                return """
+                    class %1$sController < ApplicationController
+                      before_action :authenticate_user!
+
+                      def index
+                        render json: %1$s.all
+                      end
+
+                      def show
+                        render json: %1$s.find(params[:id])
+                      end
+
+                      def create
+                        render json: %1$s.create(params), status: :created
+                      end
+                    end
+                    """.formatted(type);
+            }
+
+            @Override
+            String helperSource(String module, String type, int file) {
+                return """
+                    module %1$sHelper
+                      def self.pad(value, width)
+                        value.ljust(width)
+                      end
+
+                      def self.checksum(value)
+                        value.each_char.reduce(%2$d) { |sum, c| 31 * sum + c.ord }
+                      end
+                    end
+                    """.formatted(type, file);
+            }
+        },
+
+        PYTHON {
+            @Override
+            String manifestName(String module) {
+                return "requirements.txt";
+            }
+
+            @Override
+            String manifest(String module, int index) {
+                return """
+                    flask==3.0.0
+                    sqlalchemy>=2.0.%d
+                    requests~=2.31
+                    """.formatted(index % 10);
+            }
+
+            @Override
+            String sourcePath(String module, String type) {
+                return "app/" + type.toLowerCase(Locale.ROOT) + ".py";
+            }
+
+            @Override
+            String frameworkSource(String module, String type, int file) {
+                String path = type.toLowerCase(Locale.ROOT);
+                return """
+                    from flask import Flask, request
+
+                    app = Flask(__name__)
+
+
+                    @app.route("/api/%1$s", methods=["GET"])
+                    def list_%1$s():
+                        return []
+
+
+                    @app.get("/api/%1$s/<int:item_id>")
+                    def get_%1$s(item_id):
+                        return {"id": item_id}
+
+
+                    @app.post("/api/%1$s")
+                    def create_%1$s(request):
+                        return request.json, 201
+                    """.formatted(path);
+            }
+
+            @Override
+            String helperSource(String module, String type, int file) {
+                return """
+                    def pad(value, width):
+                        return value.ljust(width)
+
+
+                    def checksum(value):
+                        total = %d
+                        for c in value:
+                            total = 31 * total + ord(c)
+                        return total
+                    """.formatted(file);
+            }
+        };
+
+        abstract String manifestName(String module);
+
+        abstract String manifest(String module, int index);
+
+        abstract String sourcePath(String module, String type);
+
+        abstract String frameworkSource(String module, String type, int file);
+
+        abstract String helperSource(String module, String type, int file);
+
+        private static String packageName(String module) {
+            return module.replace("-", "");
+        }
+    }
+}
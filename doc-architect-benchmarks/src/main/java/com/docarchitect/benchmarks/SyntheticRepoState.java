@@ -0,0 +1,58 @@
+package com.docarchitect.benchmarks;
+
+import com.docarchitect.core.scanner.ProjectFileIndex;
+import com.docarchitect.core.scanner.ScanContext;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JMH state holding a {@link SyntheticRepoGenerator synthetic repository} and its file index.
+ *
+ * <p>The repository size is the {@code fileCount} parameter (default 1000; run with
+ * {@code -p fileCount=10000,100000} for the larger trees). Repositories are generated below
+ * the directory given by the {@value #REPOS_DIRECTORY_PROPERTY} system property
+ * (default {@code target/synthetic-repos}) and reused across runs.
+ *
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+public class SyntheticRepoState {
+
+    /**
+     * System property overriding where synthetic repositories are generated.
+     */
+    public static final String REPOS_DIRECTORY_PROPERTY = "docarchitect.benchmark.repos";
+
+    @Param({"1000"})
+    public int fileCount;
+
+    /** Root of the generated repository. */
+    public Path root;
+
+    /** File index over the repository, built once per trial. */
+    public ProjectFileIndex fileIndex;
+
+    @Setup(Level.Trial)
+    public void generateRepository() {
+        Path baseDirectory = Paths.get(System.getProperty(REPOS_DIRECTORY_PROPERTY, "target/synthetic-repos"));
+        root = SyntheticRepoGenerator.getOrGenerate(baseDirectory, fileCount).toAbsolutePath();
+        fileIndex = ProjectFileIndex.build(root, List.of(root));
+    }
+
+    /**
+     * Creates a fresh scan context over the repository, sharing the file index but no caches.
+     *
+     * @return scan context
+     */
+    public ScanContext newContext() {
+        return new ScanContext(root, List.of(root), Map.of(), Map.of(), Map.of(), fileIndex);
+    }
+}
@@ -1,10 +1,13 @@
 package com.docarchitect;
 
+import com.docarchitect.cli.DaemonClient;
+import com.docarchitect.cli.DaemonCommand;
 import com.docarchitect.cli.InitCommand;
 import com.docarchitect.cli.ListCommand;
 import com.docarchitect.cli.ScanCommand;
 import com.docarchitect.cli.GenerateCommand;
 import com.docarchitect.cli.ValidateCommand;
+import com.docarchitect.cli.WatchCommand;
 import com.docarchitect.cli.DiffCommand;
 import picocli.CommandLine;
 import picocli.CommandLine.Command;
@@ -13,6 +16,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ch.qos.logback.classic.Level;
 
+import java.io.IOException;
+import java.net.ConnectException;
+import java.nio.file.Path;
+import java.util.Arrays;
+
 /**
  * Main CLI entry point for DocArchitect.
  *
@@ -23,16 +31,19 @@ import ch.qos.logback.classic.Level;
  * <ul>
  *   <li>{@code init} - Initialize configuration file</li>
  *   <li>{@code scan} - Scan codebase and generate documentation</li>
+ *   <li>{@code watch} - Re-scan and update documentation whenever files change</li>
  *   <li>{@code generate} - Generate specific diagram types</li>
  *   <li>{@code list} - List available scanners, generators, or renderers</li>
  *   <li>{@code validate} - Validate configuration and architecture model</li>
  *   <li>{@code diff} - Compare architecture against baseline</li>
+ *   <li>{@code daemon} - Serve commands from a warm JVM</li>
  * </ul>
  *
  * <p><b>Global Options:</b>
  * <ul>
  *   <li>{@code -v, --verbose} - Enable verbose output</li>
  *   <li>{@code -q, --quiet} - Suppress all output except errors</li>
+ *   <li>{@code --daemon[=<socket>]} - Run the command in a running daemon (first argument only)</li>
  *   <li>{@code --help} - Show help information</li>
  *   <li>{@code --version} - Show version information</li>
  * </ul>
@@ -50,6 +61,9 @@ import ch.qos.logback.classic.Level;
  *
  * # List available scanners
  * doc-architect list scanners
+ *
+ * # Scan through a running daemon
+ * doc-architect --daemon scan
  * }</pre>
  */
 @Command(
@@ -60,22 +74,34 @@ import ch.qos.logback.classic.Level;
     subcommands = {
         InitCommand.class,
         ScanCommand.class,
+        WatchCommand.class,
         GenerateCommand.class,
         ListCommand.class,
         ValidateCommand.class,
-        DiffCommand.class
+        DiffCommand.class,
+        DaemonCommand.class
     }
 )
 public class DocArchitectCLI implements Runnable {
 
     private static final Logger log = LoggerFactory.getLogger(DocArchitectCLI.class);
 
+    private static final String DAEMON_OPTION = "--daemon";
+
     @Option(names = {"-v", "--verbose"}, description = "Enable verbose output (DEBUG level)")
     private boolean verbose;
 
     @Option(names = {"-q", "--quiet"}, description = "Suppress all output except errors")
     private boolean quiet;
 
+    @Option(
+        names = {DAEMON_OPTION},
+        arity = "0..1",
+        paramLabel = "SOCKET",
+        description = "Run the command in a running daemon; must be the first argument"
+    )
+    private Path daemonSocket;
+
     @Override
     public void run() {
         configureLogging();
@@ -131,7 +157,30 @@ public class DocArchitectCLI implements Runnable {
      * @param args command-line arguments
      */
     public static void main(String[] args) {
+        if (args.length > 0 && (args[0].equals(DAEMON_OPTION) || args[0].startsWith(DAEMON_OPTION + "="))) {
+            System.exit(forwardToDaemon(args));
+        }
         int exitCode = new CommandLine(new DocArchitectCLI()).execute(args);
         System.exit(exitCode);
     }
+
+    /**
+     * Forwards a command line starting with {@code --daemon} to the daemon, without loading
+     * the command tree; runs it locally if no daemon is listening.
+     */
+    private static int forwardToDaemon(String[] args) {
+        Path socket = args[0].equals(DAEMON_OPTION)
+            ? DaemonClient.defaultSocket()
+            : Path.of(args[0].substring(DAEMON_OPTION.length() + 1));
+        String[] command = Arrays.copyOfRange(args, 1, args.length);
+        try {
+            return DaemonClient.forward(socket, Path.of(""), Arrays.asList(command), System.out, System.err);
+        } catch (ConnectException e) {
+            System.err.println("⚠ " + e.getMessage() + " - running locally");
+            return new CommandLine(new DocArchitectCLI()).execute(command);
+        } catch (IOException e) {
+            System.err.println("✗ Daemon request failed: " + e.getMessage());
+            return 1;
+        }
+    }
 }
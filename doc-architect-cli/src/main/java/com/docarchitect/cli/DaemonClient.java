@@ -0,0 +1,209 @@
+package com.docarchitect.cli;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.net.ConnectException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.nio.file.attribute.UserPrincipal;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Thin client forwarding a command line to a running {@link DaemonCommand daemon}.
+ *
+ * <p>The client only opens a Unix domain socket and copies text, so it loads none of the
+ * scanners, parsers or the picocli command tree; the daemon runs the command with its warm
+ * state and streams the output back.
+ *
+ * <p><b>Protocol:</b> line-based UTF-8 text, one connection per command.
+ * <ul>
+ *   <li>request: {@code cwd <dir>}, one {@code arg <value>} line per argument, then {@code end};
+ *       or {@code shutdown} followed by {@code end}</li>
+ *   <li>response: {@code out <line>} and {@code err <line>} lines as the command prints them,
+ *       then {@code exit <code>}</li>
+ * </ul>
+ * The protocol is simple enough to drive from a shell with {@code nc -U}.
+ *
+ * <p><b>Security:</b> whoever can connect to the socket runs commands as the daemon's user, so
+ * the socket lives in a directory only that user can access. The daemon creates the directory
+ * with mode {@code 0700} and refuses to bind in a directory owned by someone else or writable
+ * by others; the client refuses to talk to a socket or directory owned by someone else.
+ */
+public final class DaemonClient {
+
+    static final String CWD = "cwd ";
+    static final String ARG = "arg ";
+    static final String SHUTDOWN = "shutdown";
+    static final String END = "end";
+    static final String OUT = "out ";
+    static final String ERR = "err ";
+    static final String EXIT = "exit ";
+
+    private static final String SOCKET_NAME = "docarchitect.sock";
+    private static final Set<PosixFilePermission> FOREIGN_ACCESS = Set.of(
+        PosixFilePermission.GROUP_WRITE, PosixFilePermission.OTHERS_WRITE,
+        PosixFilePermission.GROUP_EXECUTE, PosixFilePermission.OTHERS_EXECUTE);
+
+    private DaemonClient() {
+        // Utility class
+    }
+
+    /**
+     * Returns the socket used when none is given: {@value #SOCKET_NAME} in
+     * {@code $XDG_RUNTIME_DIR}, or else in a per-user {@code docarchitect-<user>} directory in
+     * the temporary directory.
+     *
+     * @return default socket path
+     */
+    public static Path defaultSocket() {
+        String runtimeDirectory = System.getenv("XDG_RUNTIME_DIR");
+        if (runtimeDirectory != null && !runtimeDirectory.isBlank() && Files.isDirectory(Path.of(runtimeDirectory))) {
+            return Path.of(runtimeDirectory, SOCKET_NAME);
+        }
+        return Path.of(System.getProperty("java.io.tmpdir"), "docarchitect-" + System.getProperty("user.name"), SOCKET_NAME);
+    }
+
+    /**
+     * Runs a command line in the daemon and copies its output.
+     *
+     * @param socket daemon socket
+     * @param workingDirectory directory relative paths in the arguments are resolved against
+     * @param args command line, e.g. {@code scan .}
+     * @param out receives the command's standard output
+     * @param err receives the command's error output
+     * @return exit code of the command
+     * @throws ConnectException if no daemon listens on the socket; the command did not run
+     * @throws IOException if the connection fails while the command runs
+     */
+    public static int forward(Path socket, Path workingDirectory, List<String> args,
+                              PrintStream out, PrintStream err) throws IOException {
+        StringBuilder request = new StringBuilder();
+        appendLine(request, CWD + workingDirectory.toAbsolutePath().normalize());
+        for (String arg : args) {
+            appendLine(request, ARG + arg);
+        }
+        appendLine(request, END);
+        return exchange(socket, request.toString(), out, err);
+    }
+
+    /**
+     * Asks the daemon to stop.
+     *
+     * @param socket daemon socket
+     * @return exit code reported by the daemon
+     * @throws ConnectException if no daemon listens on the socket
+     * @throws IOException if the connection fails
+     */
+    public static int shutdown(Path socket) throws IOException {
+        return exchange(socket, SHUTDOWN + "\n" + END + "\n", System.out, System.err);
+    }
+
+    /**
+     * Creates the directory of a socket accessible to the current user only, or checks that an
+     * existing one is.
+     *
+     * <p>The directory is created with mode {@code 0700} in one step, so it is never accessible
+     * to others in between.
+     *
+     * @param socket socket about to be bound
+     * @throws IOException if the directory cannot be created, is owned by another user or is
+     *         writable or searchable by others
+     */
+    static void prepareSocketDirectory(Path socket) throws IOException {
+        Path directory = socket.toAbsolutePath().getParent();
+        boolean posix = directory.getFileSystem().supportedFileAttributeViews().contains("posix");
+        try {
+            if (posix) {
+                Files.createDirectory(directory, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------")));
+            } else {
+                Files.createDirectory(directory);
+            }
+        } catch (FileAlreadyExistsException e) {
+            // Created earlier, possibly by someone else: checked below
+        }
+        checkOwner(directory);
+        if (posix) {
+            Set<PosixFilePermission> permissions = Files.getPosixFilePermissions(directory, LinkOption.NOFOLLOW_LINKS);
+            if (permissions.stream().anyMatch(FOREIGN_ACCESS::contains)) {
+                throw new IOException("Socket directory " + directory + " is accessible to other users ("
+                    + PosixFilePermissions.toString(permissions) + ")");
+            }
+        }
+    }
+
+    /**
+     * Checks that a file is owned by the user running this process.
+     *
+     * @param file socket or socket directory
+     * @throws IOException if the file is owned by another user or is a symbolic link
+     */
+    static void checkOwner(Path file) throws IOException {
+        if (Files.isSymbolicLink(file)) {
+            throw new IOException(file + " is a symbolic link");
+        }
+        UserPrincipal owner = Files.getOwner(file, LinkOption.NOFOLLOW_LINKS);
+        UserPrincipal currentUser = file.getFileSystem().getUserPrincipalLookupService()
+            .lookupPrincipalByName(System.getProperty("user.name"));
+        if (!owner.equals(currentUser)) {
+            throw new IOException(file + " is owned by " + owner.getName() + ", not by " + currentUser.getName());
+        }
+    }
+
+    private static int exchange(Path socket, String request, PrintStream out, PrintStream err) throws IOException {
+        if (!Files.exists(socket, LinkOption.NOFOLLOW_LINKS)) {
+            throw new ConnectException("No daemon listening on " + socket);
+        }
+        // Never hand a command line to a daemon of another user
+        checkOwner(socket.toAbsolutePath().getParent());
+        checkOwner(socket);
+
+        try (SocketChannel channel = SocketChannel.open(StandardProtocolFamily.UNIX)) {
+            try {
+                channel.connect(UnixDomainSocketAddress.of(socket));
+            } catch (IOException e) {
+                throw new ConnectException("No daemon listening on " + socket + ": " + e.getMessage());
+            }
+
+            OutputStream output = Channels.newOutputStream(channel);
+            Writer writer = new OutputStreamWriter(output, StandardCharsets.UTF_8);
+            writer.write(request);
+            writer.flush();
+
+            BufferedReader reader = new BufferedReader(
+                new InputStreamReader(Channels.newInputStream(channel), StandardCharsets.UTF_8));
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith(OUT)) {
+                    out.println(line.substring(OUT.length()));
+                } else if (line.startsWith(ERR)) {
+                    err.println(line.substring(ERR.length()));
+                } else if (line.startsWith(EXIT)) {
+                    return Integer.parseInt(line.substring(EXIT.length()).trim());
+                }
+            }
+            throw new IOException("Daemon closed the connection before the command finished");
+        }
+    }
+
+    private static void appendLine(StringBuilder request, String line) {
+        if (line.indexOf('\n') >= 0 || line.indexOf('\r') >= 0) {
+            throw new IllegalArgumentException("Arguments forwarded to the daemon must not contain line breaks");
+        }
+        request.append(line).append('\n');
+    }
+}
@@ -0,0 +1,317 @@
+package com.docarchitect.cli;
+
+import picocli.CommandLine;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.docarchitect.DocArchitectCLI;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.*;
+import java.util.concurrent.Callable;
+
+/**
+ * Command running a long-lived daemon that executes forwarded commands in a warm JVM.
+ *
+ * <p>A plain CLI run pays JVM startup, scanner discovery, parser class loading and JIT warmup
+ * before scanning. The daemon pays them once: it listens on a Unix domain socket and runs the
+ * commands sent by {@link DaemonClient} in-process, keeping the scanners, the Java AST cache
+ * and a watched file index per project (see {@link WarmState}) between requests. ANTLR parser
+ * pools and other static caches stay warm simply because the JVM does.
+ *
+ * <p>Requests are served one at a time; output of the command, including log output, is
+ * streamed back to the client. Relative paths in the arguments are resolved against the
+ * client's working directory. {@code watch} and {@code daemon} cannot be forwarded.
+ *
+ * <p>The socket is created in a directory only the current user can access (see
+ * {@link DaemonClient#defaultSocket()}); the daemon refuses to start in a directory owned by
+ * another user or writable by others, and the socket file itself is readable and writable by
+ * the current user only.
+ *
+ * <p><b>Usage:</b>
+ * <pre>{@code
+ * # Start the daemon (blocks; run it in the background)
+ * docarchitect daemon &
+ *
+ * # Forward commands to it
+ * docarchitect --daemon scan .
+ *
+ * # Stop it
+ * docarchitect daemon --stop
+ * }</pre>
+ */
+@Command(
+    name = "daemon",
+    description = "Run a daemon that keeps scanners and caches warm for commands started with --daemon",
+    mixinStandardHelpOptions = true
+)
+public class DaemonCommand implements Callable<Integer> {
+
+    private static final Logger log = LoggerFactory.getLogger(DaemonCommand.class);
+
+    private static final Set<String> LOCAL_ONLY_COMMANDS = Set.of("watch", "daemon");
+
+    @Option(
+        names = {"--socket"},
+        description = "Unix domain socket to listen on, in a directory only you can access "
+            + "(default: docarchitect.sock in $XDG_RUNTIME_DIR or in a docarchitect-<user> directory in the temporary directory)"
+    )
+    private Path socket = DaemonClient.defaultSocket();
+
+    @Option(
+        names = {"--stop"},
+        description = "Stop the daemon listening on the socket"
+    )
+    private boolean stop;
+
+    /**
+     * Command line forwarded by a client.
+     *
+     * @param workingDirectory client's working directory
+     * @param args command line arguments
+     * @param shutdown true if the client asked the daemon to stop
+     */
+    private record Request(Path workingDirectory, List<String> args, boolean shutdown) {
+    }
+
+    @Override
+    public Integer call() {
+        if (stop) {
+            try {
+                return DaemonClient.shutdown(socket);
+            } catch (IOException e) {
+                System.err.println("✗ " + e.getMessage());
+                return 1;
+            }
+        }
+
+        try (WarmState warmState = new WarmState(); ServerSocketChannel server = bind()) {
+            Thread cleanup = new Thread(this::deleteSocket, "daemon-cleanup");
+            Runtime.getRuntime().addShutdownHook(cleanup);
+            System.out.println("✓ Daemon listening on " + socket);
+
+            boolean running = true;
+            while (running) {
+                try (SocketChannel client = server.accept()) {
+                    running = serve(client, warmState);
+                } catch (IOException e) {
+                    log.warn("Daemon request failed: {}", e.getMessage());
+                }
+            }
+            Runtime.getRuntime().removeShutdownHook(cleanup);
+            System.out.println("✓ Daemon stopped");
+            return 0;
+        } catch (Exception e) {
+            log.error("Daemon failed", e);
+            System.err.println("✗ Daemon failed: " + e.getMessage());
+            return 1;
+        } finally {
+            deleteSocket();
+        }
+    }
+
+    /**
+     * Binds the socket in a private directory, replacing a stale socket file left by a daemon
+     * that did not shut down.
+     */
+    private ServerSocketChannel bind() throws IOException {
+        DaemonClient.prepareSocketDirectory(socket);
+        if (Files.exists(socket, LinkOption.NOFOLLOW_LINKS)) {
+            DaemonClient.checkOwner(socket);
+            try (SocketChannel probe = SocketChannel.open(StandardProtocolFamily.UNIX)) {
+                probe.connect(UnixDomainSocketAddress.of(socket));
+                throw new IllegalStateException("A daemon is already listening on " + socket);
+            } catch (IOException e) {
+                Files.delete(socket);
+            }
+        }
+        ServerSocketChannel server = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+        server.bind(UnixDomainSocketAddress.of(socket));
+        try {
+            Files.setPosixFilePermissions(socket, PosixFilePermissions.fromString("rw-------"));
+        } catch (UnsupportedOperationException e) {
+            log.debug("Socket permissions not supported by this file system");
+        }
+        return server;
+    }
+
+    /**
+     * Serves one connection.
+     *
+     * @return false if the daemon was asked to stop
+     */
+    private boolean serve(SocketChannel client, WarmState warmState) throws IOException {
+        BufferedReader reader = new BufferedReader(
+            new InputStreamReader(Channels.newInputStream(client), StandardCharsets.UTF_8));
+        Request request = readRequest(reader);
+        Response response = new Response(Channels.newOutputStream(client));
+
+        if (request.shutdown()) {
+            response.exit(0);
+            return false;
+        }
+
+        long start = System.nanoTime();
+        int exitCode;
+        try (PrintStream out = response.stream(DaemonClient.OUT); PrintStream err = response.stream(DaemonClient.ERR)) {
+            exitCode = execute(request, out, err, warmState);
+        }
+        response.exit(exitCode);
+        log.info("Served '{}' in {} ms", String.join(" ", request.args()), (System.nanoTime() - start) / 1_000_000);
+        return true;
+    }
+
+    private static Request readRequest(BufferedReader reader) throws IOException {
+        Path workingDirectory = null;
+        List<String> args = new ArrayList<>();
+        boolean shutdown = false;
+        String line;
+        while ((line = reader.readLine()) != null && !line.equals(DaemonClient.END)) {
+            if (line.startsWith(DaemonClient.CWD)) {
+                workingDirectory = Path.of(line.substring(DaemonClient.CWD.length()));
+            } else if (line.startsWith(DaemonClient.ARG)) {
+                args.add(line.substring(DaemonClient.ARG.length()));
+            } else if (line.equals(DaemonClient.SHUTDOWN)) {
+                shutdown = true;
+            }
+        }
+        if (line == null) {
+            throw new IOException("Incomplete request");
+        }
+        if (!shutdown && (workingDirectory == null || !workingDirectory.isAbsolute())) {
+            throw new IOException("Request without absolute working directory");
+        }
+        return new Request(workingDirectory, args, shutdown);
+    }
+
+    /**
+     * Runs a forwarded command line with the process output redirected to the client.
+     */
+    private static int execute(Request request, PrintStream out, PrintStream err, WarmState warmState) {
+        Optional<String> command = request.args().stream().filter(arg -> !arg.startsWith("-")).findFirst();
+        if (command.isPresent() && LOCAL_ONLY_COMMANDS.contains(command.get())) {
+            err.println("✗ '" + command.get() + "' cannot run in the daemon; run it without --daemon");
+            return 2;
+        }
+
+        PrintStream originalOut = System.out;
+        PrintStream originalErr = System.err;
+        System.setOut(out);
+        System.setErr(err);
+        try {
+            CommandLine commandLine = new CommandLine(new DocArchitectCLI(), new WarmFactory(warmState));
+            commandLine.registerConverter(Path.class, value -> request.workingDirectory().resolve(value));
+            commandLine.setOut(new PrintWriter(out, true));
+            commandLine.setErr(new PrintWriter(err, true));
+            return commandLine.execute(request.args().toArray(String[]::new));
+        } catch (RuntimeException e) {
+            log.error("Forwarded command failed", e);
+            err.println("✗ " + e.getMessage());
+            return 1;
+        } finally {
+            System.setOut(originalOut);
+            System.setErr(originalErr);
+        }
+    }
+
+    private void deleteSocket() {
+        try {
+            Files.deleteIfExists(socket);
+        } catch (IOException e) {
+            log.debug("Failed to delete socket {}: {}", socket, e.getMessage());
+        }
+    }
+
+    /**
+     * Creates scan commands sharing the daemon's warm state.
+     */
+    private record WarmFactory(WarmState warmState) implements CommandLine.IFactory {
+        @Override
+        public <K> K create(Class<K> type) throws Exception {
+            if (type == ScanCommand.class) {
+                return type.cast(new ScanCommand(warmState));
+            }
+            return CommandLine.defaultFactory().create(type);
+        }
+    }
+
+    /**
+     * Writes response lines; output streams emit one line per completed line of text.
+     */
+    private static final class Response {
+        private final OutputStream output;
+
+        private Response(OutputStream output) {
+            this.output = output;
+        }
+
+        PrintStream stream(String prefix) {
+            return new PrintStream(new LineFramingStream(this, prefix), true, StandardCharsets.UTF_8);
+        }
+
+        synchronized void frame(String prefix, byte[] line, int length) throws IOException {
+            output.write(prefix.getBytes(StandardCharsets.UTF_8));
+            output.write(line, 0, length);
+            output.write('\n');
+            output.flush();
+        }
+
+        void exit(int exitCode) throws IOException {
+            byte[] code = String.valueOf(exitCode).getBytes(StandardCharsets.UTF_8);
+            frame(DaemonClient.EXIT, code, code.length);
+        }
+    }
+
+    /**
+     * Buffers bytes until a line is complete and sends it as one response line.
+     */
+    private static final class LineFramingStream extends OutputStream {
+        private final Response response;
+        private final String prefix;
+        private final ByteArrayOutputStream line = new ByteArrayOutputStream();
+
+        private LineFramingStream(Response response, String prefix) {
+            this.response = response;
+            this.prefix = prefix;
+        }
+
+        @Override
+        public synchronized void write(int b) throws IOException {
+            if (b == '\n') {
+                emit();
+            } else if (b != '\r') {
+                line.write(b);
+            }
+        }
+
+        @Override
+        public synchronized void close() throws IOException {
+            if (line.size() > 0) {
+                emit();
+            }
+        }
+
+        private void emit() throws IOException {
+            response.frame(prefix, line.toByteArray(), line.size());
+            line.reset();
+        }
+    }
+}
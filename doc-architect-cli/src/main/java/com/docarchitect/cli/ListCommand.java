@@ -1,6 +1,7 @@
 package com.docarchitect.cli;
 
 import com.docarchitect.core.scanner.Scanner;
+import com.docarchitect.core.scanner.ScannerManifest;
 import com.docarchitect.core.generator.DiagramGenerator;
 import com.docarchitect.core.renderer.OutputRenderer;
 import picocli.CommandLine.Command;
@@ -8,6 +9,7 @@ import picocli.CommandLine.Parameters;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.List;
 import java.util.ServiceLoader;
 import java.util.concurrent.Callable;
 
@@ -61,7 +63,8 @@ public class ListCommand implements Callable<Integer> {
         System.out.println("Available Scanners:");
         System.out.println();
 
-        ServiceLoader<Scanner> scanners = ServiceLoader.load(Scanner.class);
+        // Described scanners are listed from the manifest without being instantiated
+        List<Scanner> scanners = ScannerManifest.discoverScanners(ListCommand.class.getClassLoader());
         boolean found = false;
 
         for (Scanner scanner : scanners) {
@@ -6,9 +6,23 @@ import picocli.CommandLine.Parameters;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.docarchitect.core.scanner.ast.CompilationUnitCache;
+import com.docarchitect.core.scanner.ast.ParsedSourceStore;
+import com.docarchitect.core.scanner.base.AbstractScanner;
+import com.docarchitect.core.scanner.base.LazyScanner;
+import com.docarchitect.core.scanner.base.MappedSourceReader;
+import com.docarchitect.core.scanner.base.ScanLimits;
+import com.docarchitect.core.scanner.cache.IncrementalScanCache;
+import com.docarchitect.core.scanner.FindingType;
+import com.docarchitect.core.scanner.ProjectFileIndex;
 import com.docarchitect.core.scanner.Scanner;
 import com.docarchitect.core.scanner.ScanContext;
 import com.docarchitect.core.scanner.ScanResult;
+import com.docarchitect.core.scanner.ScannerManifest;
+import com.docarchitect.core.scanner.ScannerScheduler;
+import com.docarchitect.core.scanner.profile.ScanPhase;
+import com.docarchitect.core.scanner.profile.ScanProfile;
+import com.docarchitect.core.scanner.profile.ScanProfiler;
 import com.docarchitect.core.model.*;
 import com.docarchitect.core.generator.DiagramGenerator;
 import com.docarchitect.core.generator.DiagramType;
@@ -20,11 +34,14 @@ import com.docarchitect.core.renderer.GeneratedFile;
 import com.docarchitect.core.renderer.RenderContext;
 import com.docarchitect.core.config.ProjectConfig;
 import com.docarchitect.core.config.ConfigLoader;
+import com.docarchitect.core.util.IgnoreRules;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
 import java.util.concurrent.Callable;
+import java.util.function.Consumer;
 
 /**
  * Command to scan codebase and generate documentation.
@@ -32,7 +49,7 @@ import java.util.concurrent.Callable;
  * <p>Orchestrates the full documentation pipeline:
  * <ol>
  *   <li>Discover and load scanners via SPI</li>
- *   <li>Execute scanners in priority order</li>
+ *   <li>Execute scanners in priority order (independent scanners in parallel)</li>
  *   <li>Aggregate results into ArchitectureModel</li>
  *   <li>Generate diagrams using configured generators</li>
  *   <li>Render output to configured destinations</li>
@@ -48,6 +65,12 @@ import java.util.concurrent.Callable;
  *
  * # Dry run (no output generated)
  * docarchitect scan --dry-run
+ *
+ * # Run at most 4 scanners at a time
+ * docarchitect scan --parallelism 4
+ *
+ * # Time every scanner and write scan-profile.json
+ * docarchitect scan --profile
  * }</pre>
  */
 @Command(
@@ -59,12 +82,27 @@ public class ScanCommand implements Callable<Integer> {
 
     private static final Logger log = LoggerFactory.getLogger(ScanCommand.class);
 
+    /**
+     * Output file of the {@code --profile} report.
+     */
+    static final String PROFILE_FILE = "scan-profile.json";
+
+    /**
+     * Number of scanners listed in the profile section of index.md.
+     */
+    private static final int PROFILED_SCANNERS_SHOWN = 10;
+
+    /**
+     * Number of slowest files listed per scanner in the profile section of index.md.
+     */
+    private static final int PROFILED_FILES_SHOWN = 3;
+
     @Parameters(
         index = "0",
         description = "Project directory (default: current directory)",
         defaultValue = "."
     )
-    private Path projectPath;
+    Path projectPath;
 
     @Option(
         names = {"-c", "--config"},
@@ -76,7 +114,7 @@ public class ScanCommand implements Callable<Integer> {
         names = {"--dry-run"},
         description = "Run scanners but don't generate output"
     )
-    private boolean dryRun;
+    boolean dryRun;
 
     @Option(
         names = {"-o", "--output"},
@@ -84,6 +122,80 @@ public class ScanCommand implements Callable<Integer> {
     )
     private Path outputDir;
 
+    @Option(
+        names = {"--parallelism"},
+        description = "Maximum number of scanners, and files per scanner, processed concurrently (default: number of CPU cores)"
+    )
+    int parallelism = Runtime.getRuntime().availableProcessors();
+
+    @Option(
+        names = {"--max-file-size"},
+        description = "Skip source files larger than this many bytes, e.g. generated code or minified bundles (default: "
+            + MappedSourceReader.DEFAULT_MAX_FILE_SIZE + "; overridden by " + ScanLimits.MAX_FILE_SIZE_BYTES_KEY
+            + " in scanners.config)"
+    )
+    private long maxFileSize = MappedSourceReader.DEFAULT_MAX_FILE_SIZE;
+
+    @Option(
+        names = {"--no-cache"},
+        description = "Parse every file instead of reusing results from " + IncrementalScanCache.DEFAULT_DIRECTORY
+    )
+    private boolean noCache;
+
+    @Option(
+        names = {"--rebuild-cache"},
+        description = "Ignore cached results, parse every file and rewrite the cache"
+    )
+    private boolean rebuildCache;
+
+    @Option(
+        names = {"--profile"},
+        description = "Record wall time, CPU time and allocations per scanner and phase, and write "
+            + PROFILE_FILE + " next to index.md"
+    )
+    private boolean profile;
+
+    /**
+     * Profiler of this run, enabled by {@code --profile} (set in {@link #call()}).
+     */
+    ScanProfiler profiler = ScanProfiler.disabled();
+
+    /**
+     * Timings recorded during this run with {@code --profile}, or null.
+     */
+    private ScanProfile scanProfile;
+
+    /**
+     * File index shared by all scanners of this run (built once in {@link #call()}).
+     */
+    ProjectFileIndex fileIndex;
+
+    /**
+     * The {@code scanners.config} section of the loaded configuration (set by {@link #loadConfiguration()}).
+     */
+    Map<String, Object> scannerConfiguration = Map.of();
+
+    /**
+     * Scanners, caches and file indexes kept by the daemon across runs, or null.
+     */
+    private final WarmState warmState;
+
+    /**
+     * Creates a command that sets up everything per run.
+     */
+    public ScanCommand() {
+        this(null);
+    }
+
+    /**
+     * Creates a command reusing the daemon's warm state.
+     *
+     * @param warmState state kept across runs, or null
+     */
+    ScanCommand(WarmState warmState) {
+        this.warmState = warmState;
+    }
+
     @Override
     public Integer call() {
         try {
@@ -99,17 +211,24 @@ public class ScanCommand implements Callable<Integer> {
             // Step 0: Load configuration
             ProjectConfig config = loadConfiguration();
 
-            // Step 1: Discover and load scanners
+            // Step 1: Index project files once and discover scanners
+            fileIndex = buildFileIndex(config);
+            profiler = profile ? ScanProfiler.create(ScanProfiler.DEFAULT_SLOWEST_FILES) : ScanProfiler.disabled();
             List<Scanner> scanners = discoverScanners();
             System.out.println("✓ Discovered " + scanners.size() + " scanners");
 
-            // Step 2: Filter and execute scanners based on config
-            Map<String, ScanResult> scanResults = executeScanners(scanners, config);
+            // Step 2: Filter and execute scanners based on config, aggregating results as they finish
+            ArchitectureModelBuilder modelBuilder = new ArchitectureModelBuilder();
+            Map<String, ScanResult> scanResults = executeScanners(scanners, config, modelBuilder);
             System.out.println("✓ Executed " + scanResults.size() + " scanners");
+            if (profiler.isEnabled()) {
+                scanProfile = profiler.snapshot(projectPath.toAbsolutePath().normalize());
+                System.out.println("✓ Profiled " + scanProfile.scanners().size() + " scanners");
+            }
 
             // Step 3: Aggregate results into ArchitectureModel
-            ScanContext finalContext = createScanContext(scanResults);
-            ArchitectureModel model = aggregateResults(scanResults, finalContext);
+            ScanContext finalContext = createScanContext(scanResults, null, null, null);
+            ArchitectureModel model = aggregateResults(modelBuilder, scanResults, finalContext);
             printModelSummary(model);
 
             if (dryRun) {
@@ -148,7 +267,7 @@ public class ScanCommand implements Callable<Integer> {
     /**
      * Loads project configuration from YAML file.
      */
-    private ProjectConfig loadConfiguration() {
+    ProjectConfig loadConfiguration() {
         Path absoluteConfigPath = configPath.isAbsolute()
             ? configPath
             : projectPath.resolve(configPath);
@@ -161,21 +280,74 @@ public class ScanCommand implements Callable<Integer> {
         } else {
             log.debug("No scanner filtering configured - all scanners enabled");
         }
+        scannerConfiguration = config.scanners() != null && config.scanners().config() != null
+            ? config.scanners().config()
+            : Map.of();
 
         return config;
     }
 
+    /**
+     * Walks the project once and builds the file index shared by all scanners.
+     *
+     * <p>Ignored directories ({@code .gitignore}, {@code .dockerignore}, built-in and
+     * configured excludes) are pruned during the walk. In the daemon, the index of the previous
+     * run is refreshed with the changes reported since instead.
+     */
+    ProjectFileIndex buildFileIndex(ProjectConfig config) {
+        Path absolutePath = projectPath.toAbsolutePath().normalize();
+        long start = System.nanoTime();
+        ProjectFileIndex index = warmState != null
+            ? warmState.fileIndex(absolutePath, config.files(), ignoreRules(config))
+            : ProjectFileIndex.build(absolutePath, List.of(absolutePath), ignoreRules(config));
+        log.info("Indexed {} files in {} ms", index.size(), (System.nanoTime() - start) / 1_000_000);
+        return index;
+    }
+
+    /**
+     * Builds the ignore rules from the {@code files} section of the configuration.
+     */
+    IgnoreRules ignoreRules(ProjectConfig config) {
+        ProjectConfig.FileConfig files = config.files();
+        return files == null
+            ? IgnoreRules.defaults()
+            : IgnoreRules.of(files.exclude(), files.shouldRespectIgnoreFiles());
+    }
+
     /**
      * Discovers all available scanners via SPI.
+     *
+     * <p>Scanners described by the {@link ScannerManifest} are returned as {@link LazyScanner}s
+     * and only instantiated once their applicability check needs them.
      */
-    private List<Scanner> discoverScanners() {
-        log.debug("Discovering scanners via ServiceLoader");
-        ServiceLoader<Scanner> loader = ServiceLoader.load(Scanner.class);
+    List<Scanner> discoverScanners() {
         List<Scanner> scanners = new ArrayList<>();
-        loader.forEach(scanners::add);
+        if (warmState != null) {
+            scanners.addAll(warmState.scanners());
+        } else {
+            log.debug("Discovering scanners via ServiceLoader");
+            scanners.addAll(ScannerManifest.discoverScanners(ScanCommand.class.getClassLoader()));
+        }
 
-        // Sort by priority (higher priority first)
-        scanners.sort((a, b) -> Integer.compare(b.getPriority(), a.getPriority()));
+        // --max-file-size applies run-wide unless scanners.config overrides it
+        ScanLimits limits = ScanLimits.DEFAULT.withMaxFileSizeBytes(maxFileSize);
+        Consumer<Scanner> configureScanner = scanner -> {
+            if (scanner instanceof AbstractScanner abstractScanner) {
+                abstractScanner.setScanLimits(
+                    limits.withOverrides(ScanContext.configurationFor(scannerConfiguration, scanner.getId())));
+                abstractScanner.setProfiler(profiler.forScanner(scanner.getId()));
+            }
+        };
+        for (Scanner scanner : scanners) {
+            if (scanner instanceof LazyScanner lazyScanner) {
+                lazyScanner.configure(configureScanner);
+            } else {
+                configureScanner.accept(scanner);
+            }
+        }
+
+        // Sort by priority (lower values run first, see Scanner#getPriority)
+        scanners.sort(Comparator.comparingInt(Scanner::getPriority));
 
         log.info("Discovered {} scanners", scanners.size());
         if (log.isDebugEnabled()) {
@@ -194,80 +366,67 @@ public class ScanCommand implements Callable<Integer> {
      *   <li><b>EXPLICIT</b> - Explicitly list scanner IDs (legacy mode)</li>
      * </ul>
      *
+     * <p>Findings are fed into the model builder as scanners finish and are then released, so
+     * the returned results only carry status, messages and statistics.</p>
+     *
      * @param scanners discovered scanners
      * @param config project configuration
-     * @return scan results by scanner ID
+     * @param modelBuilder receives the findings of every executed scanner
+     * @return scan results by scanner ID, without findings
      */
-    private Map<String, ScanResult> executeScanners(List<Scanner> scanners, ProjectConfig config) {
+    private Map<String, ScanResult> executeScanners(List<Scanner> scanners, ProjectConfig config,
+                                                    ArchitectureModelBuilder modelBuilder) {
         log.debug("Executing scanners on project: {}", projectPath);
 
-        // Determine scanner selection mode
-        ProjectConfig.ScannerMode mode = config.scanners() != null
-            ? config.scanners().getEffectiveMode()
-            : ProjectConfig.ScannerMode.AUTO;
-
-        log.info("Scanner selection mode: {}", mode);
-        System.out.println("Scanner mode: " + mode);
-
-        // Validate config and warn about unknown scanner IDs (EXPLICIT mode only)
-        if (mode == ProjectConfig.ScannerMode.EXPLICIT) {
-            validateScannerConfig(scanners, config);
-        }
-
-        Map<String, ScanResult> results = new LinkedHashMap<>();
-        ScanContext context = createScanContext(results);
-
-        int disabledByConfigCount = 0;
-        int notApplicableCount = 0;
-
-        for (Scanner scanner : scanners) {
-            try {
-                // Step 1: Check if scanner passes mode-based filtering
-                boolean enabledByMode = isScannerEnabledByMode(scanner.getId(), mode, config);
-                if (!enabledByMode) {
-                    log.debug("Scanner {} disabled by {} mode", scanner.getId(), mode);
-                    disabledByConfigCount++;
-                    continue;
-                }
-
-                // Step 2: Check if scanner applies to this project (applicability strategy)
-                boolean applies = scanner.appliesTo(context);
-                if (applies) {
-                    log.info("Running scanner: {} ({})", scanner.getDisplayName(), scanner.getId());
-                    System.out.println("  → " + scanner.getDisplayName());
-
-                    ScanResult result = scanner.scan(context);
-                    results.put(scanner.getId(), result);
-
-                    if (result.hasFindings()) {
-                        log.debug("Scanner {} found: {} components, {} dependencies, {} endpoints, {} entities",
-                            scanner.getId(),
-                            result.components().size(),
-                            result.dependencies().size(),
-                            result.apiEndpoints().size(),
-                            result.dataEntities().size());
-                    }
-                } else {
-                    log.debug("Scanner {} does not apply to this project (applicability check failed)", scanner.getId());
-                    if (log.isTraceEnabled()) {
-                        log.trace("Scanner {} applicability details:", scanner.getId());
-                        log.trace("  - Supported file patterns: {}", scanner.getSupportedFilePatterns());
-                        log.trace("  - Has applicability strategy: {}", scanner.getApplicabilityStrategy() != null);
-                        log.trace("  - Previous scan results available: {}", !context.previousResults().isEmpty());
-                    }
-                    notApplicableCount++;
+        List<Scanner> enabledScanners = selectScanners(scanners, config);
+        int disabledByConfigCount = scanners.size() - enabledScanners.size();
+
+        // Run applicable scanners; independent scanners execute concurrently
+        log.info("Running {} scanners with parallelism {}", enabledScanners.size(), parallelism);
+        ScannerScheduler scheduler = new ScannerScheduler(parallelism);
+        CompilationUnitCache compilationUnitCache = warmState != null
+            ? warmState.compilationUnitCache()
+            : CompilationUnitCache.withDefaultBudget();
+        ParsedSourceStore parsedSourceStore = warmState != null
+            ? warmState.parsedSourceStore()
+            : ParsedSourceStore.withDefaultBudget();
+        IncrementalScanCache incrementalCache = openIncrementalCache();
+        Map<String, ScanResult> results = scheduler.execute(enabledScanners,
+            createScanContext(Map.of(), compilationUnitCache, parsedSourceStore, incrementalCache), result -> {
+                if (result.hasFindings()) {
+                    log.debug("Scanner {} found: {} components, {} dependencies, {} endpoints, {} entities",
+                        result.scannerId(),
+                        result.components().size(),
+                        result.dependencies().size(),
+                        result.apiEndpoints().size(),
+                        result.dataEntities().size());
                 }
-            } catch (Exception e) {
-                log.error("Scanner {} failed: {}", scanner.getId(), e.getMessage(), e);
-                results.put(scanner.getId(), ScanResult.failed(scanner.getId(), List.of(e.getMessage())));
+                modelBuilder.add(result);
+            });
+        log.debug("Java AST cache: {} hits, {} misses, {} evictions",
+            compilationUnitCache.hitCount(), compilationUnitCache.missCount(), compilationUnitCache.evictionCount());
+        log.debug("Parsed source store: {} hits, {} misses, {} evictions",
+            parsedSourceStore.hitCount(), parsedSourceStore.missCount(), parsedSourceStore.evictionCount());
+        saveIncrementalCache(incrementalCache, results);
+        int notApplicableCount = enabledScanners.size() - results.size();
+
+        for (Scanner scanner : enabledScanners) {
+            ScanResult result = results.get(scanner.getId());
+            if (result == null) {
+                continue;
             }
+            System.out.println("  → " + scanner.getDisplayName());
         }
 
         log.info("Scanner execution summary: {} executed, {} disabled by config, {} not applicable",
             results.size(), disabledByConfigCount, notApplicableCount);
+        log.debug("Instantiated {} of {} scanners",
+            scanners.stream().filter(s -> !(s instanceof LazyScanner lazy) || lazy.isInstantiated()).count(),
+            scanners.size());
 
         // Warn if no scanners executed
         if (results.isEmpty()) {
+            ProjectConfig.ScannerMode mode = scannerMode(config);
             System.err.println();
             System.err.println("⚠ WARNING: 0 scanners executed!");
             System.err.println("  Possible causes:");
@@ -287,6 +446,41 @@ public class ScanCommand implements Callable<Integer> {
         return results;
     }
 
+    /**
+     * Filters scanners by the configured selection mode.
+     *
+     * @param scanners discovered scanners
+     * @param config project configuration
+     * @return scanners enabled by the configuration, in the given order
+     */
+    List<Scanner> selectScanners(List<Scanner> scanners, ProjectConfig config) {
+        ProjectConfig.ScannerMode mode = scannerMode(config);
+
+        log.info("Scanner selection mode: {}", mode);
+        System.out.println("Scanner mode: " + mode);
+
+        // Validate config and warn about unknown scanner IDs (EXPLICIT mode only)
+        if (mode == ProjectConfig.ScannerMode.EXPLICIT) {
+            validateScannerConfig(scanners, config);
+        }
+
+        List<Scanner> enabledScanners = new ArrayList<>();
+        for (Scanner scanner : scanners) {
+            if (isScannerEnabledByMode(scanner.getId(), mode, config)) {
+                enabledScanners.add(scanner);
+            } else {
+                log.debug("Scanner {} disabled by {} mode", scanner.getId(), mode);
+            }
+        }
+        return enabledScanners;
+    }
+
+    private static ProjectConfig.ScannerMode scannerMode(ProjectConfig config) {
+        return config.scanners() != null
+            ? config.scanners().getEffectiveMode()
+            : ProjectConfig.ScannerMode.AUTO;
+    }
+
     /**
      * Checks if a scanner is enabled based on the current mode.
      *
@@ -347,97 +541,106 @@ public class ScanCommand implements Callable<Integer> {
         }
     }
 
+    /**
+     * Opens the on-disk cache of per-file scanner results, unless disabled with --no-cache.
+     */
+    IncrementalScanCache openIncrementalCache() {
+        return openIncrementalCache(rebuildCache);
+    }
+
+    /**
+     * Opens the on-disk cache of per-file scanner results, unless disabled with --no-cache.
+     *
+     * @param rebuild whether to ignore the cached results and rewrite them
+     */
+    IncrementalScanCache openIncrementalCache(boolean rebuild) {
+        if (noCache) {
+            log.info("Incremental scan cache disabled");
+            return null;
+        }
+        Path directory = projectPath.toAbsolutePath().normalize().resolve(IncrementalScanCache.DEFAULT_DIRECTORY);
+        log.info("{} incremental scan cache: {}", rebuild ? "Rebuilding" : "Using", directory);
+        return rebuild ? IncrementalScanCache.rebuild(directory) : IncrementalScanCache.open(directory);
+    }
+
+    /**
+     * Writes the incremental scan cache and reports how many files were served from it.
+     */
+    void saveIncrementalCache(IncrementalScanCache incrementalCache, Map<String, ScanResult> results) {
+        if (incrementalCache == null) {
+            return;
+        }
+        int scanned = 0;
+        int cached = 0;
+        for (ScanResult result : results.values()) {
+            if (result.statistics() != null) {
+                scanned += result.statistics().filesScanned();
+                cached += result.statistics().filesFromCache();
+            }
+        }
+        log.info("Incremental scan cache: {} of {} scanned files reused", cached, scanned);
+
+        try {
+            incrementalCache.flush();
+        } catch (IOException e) {
+            log.warn("Failed to write incremental scan cache to {}: {}", incrementalCache.directory(), e.getMessage());
+        }
+    }
+
     /**
      * Creates a ScanContext for scanner execution.
+     *
+     * @param previousResults results of scanners that already ran
+     * @param compilationUnitCache Java AST cache shared by the scanners of this run, or null
+     * @param parsedSourceStore language AST store shared by the scanners of this run, or null
+     * @param incrementalCache persistent per-file result cache, or null
      */
-    private ScanContext createScanContext(Map<String, ScanResult> previousResults) {
+    ScanContext createScanContext(Map<String, ScanResult> previousResults,
+                                          CompilationUnitCache compilationUnitCache,
+                                          ParsedSourceStore parsedSourceStore,
+                                          IncrementalScanCache incrementalCache) {
         Path absolutePath = projectPath.toAbsolutePath().normalize();
         return new ScanContext(
             absolutePath,
             List.of(absolutePath),
-            Map.of(),
-            Map.of(),
-            previousResults
+            scannerConfiguration,
+            Map.of(ScanContext.PARALLELISM_SETTING, String.valueOf(parallelism)),
+            previousResults,
+            fileIndex,
+            compilationUnitCache,
+            parsedSourceStore,
+            incrementalCache,
+            profiler
         );
     }
 
     /**
-     * Aggregates all scan results into a unified ArchitectureModel.
+     * Builds the ArchitectureModel from the findings aggregated during the scan.
      */
-    private ArchitectureModel aggregateResults(Map<String, ScanResult> scanResults, ScanContext context) {
-        log.debug("Aggregating scan results into ArchitectureModel");
-
-        List<Component> allComponents = new ArrayList<>();
-        List<Dependency> allDependencies = new ArrayList<>();
-        List<ApiEndpoint> allApiEndpoints = new ArrayList<>();
-        List<MessageFlow> allMessageFlows = new ArrayList<>();
-        List<DataEntity> allDataEntities = new ArrayList<>();
-        List<Relationship> allRelationships = new ArrayList<>();
-
-        for (ScanResult result : scanResults.values()) {
-            if (result.success()) {
-                allComponents.addAll(result.components());
-                allDependencies.addAll(result.dependencies());
-                allApiEndpoints.addAll(result.apiEndpoints());
-                allMessageFlows.addAll(result.messageFlows());
-                allDataEntities.addAll(result.dataEntities());
-                allRelationships.addAll(result.relationships());
-            }
+    ArchitectureModel aggregateResults(ArchitectureModelBuilder modelBuilder,
+                                               Map<String, ScanResult> scanResults, ScanContext context) {
+        log.debug("Building ArchitectureModel from aggregated scan results");
+
+        // Calculate quality metrics from the raw finding counts; the results no longer hold findings
+        Map<FindingType, Integer> findingCounts = new EnumMap<>(FindingType.class);
+        for (FindingType type : FindingType.values()) {
+            findingCounts.put(type, modelBuilder.rawFindingCount(type));
         }
+        ScanQualityReport qualityReport =
+            com.docarchitect.core.util.QualityMetricsCalculator.calculateQualityReport(scanResults, context, findingCounts);
 
-        // Deduplicate components, dependencies, etc. by unique keys
-        allComponents = deduplicateByKey(allComponents, Component::id);
-        allDependencies = deduplicateByKey(allDependencies, d -> d.groupId() + ":" + d.artifactId() + ":" + d.version());
-        allApiEndpoints = deduplicateByKey(allApiEndpoints, e -> e.componentId() + ":" + e.method() + ":" + e.path());
-        allMessageFlows = deduplicateByKey(allMessageFlows, m -> m.topic() + ":" + m.publisherComponentId() + ":" + m.subscriberComponentId());
-        allDataEntities = deduplicateByKey(allDataEntities, e -> e.componentId() + ":" + e.name());
-        allRelationships = deduplicateByKey(allRelationships, r -> r.sourceId() + ":" + r.targetId() + ":" + r.type());
-
-        // Calculate quality metrics
-        com.docarchitect.core.model.ScanQualityReport qualityReport =
-            com.docarchitect.core.util.QualityMetricsCalculator.calculateQualityReport(scanResults, context);
-
-        // Collect per-scanner statistics
-        Map<String, com.docarchitect.core.scanner.ScanStatistics> scannerStats = scanResults.entrySet().stream()
-            .filter(e -> e.getValue().statistics() != null)
-            .collect(java.util.stream.Collectors.toMap(
-                Map.Entry::getKey,
-                e -> e.getValue().statistics()
-            ));
-
-        return new ArchitectureModel(
+        return modelBuilder.build(
             projectPath.getFileName() != null ? projectPath.getFileName().toString() : "project",
             "1.0.0",
             List.of(projectPath.toAbsolutePath().toString()),
-            allComponents,
-            allDependencies,
-            allRelationships,
-            allApiEndpoints,
-            allMessageFlows,
-            allDataEntities,
-            qualityReport,
-            scannerStats
+            qualityReport
         );
     }
 
-    /**
-     * Deduplicates a list by a key function, keeping the first occurrence.
-     */
-    private <T> List<T> deduplicateByKey(List<T> items, java.util.function.Function<T, String> keyExtractor) {
-        Map<String, T> seen = new LinkedHashMap<>();
-        for (T item : items) {
-            String key = keyExtractor.apply(item);
-            if (key != null) {
-                seen.putIfAbsent(key, item);
-            }
-        }
-        return new ArrayList<>(seen.values());
-    }
-
     /**
      * Prints a summary of the architecture model.
      */
-    private void printModelSummary(ArchitectureModel model) {
+    void printModelSummary(ArchitectureModel model) {
         System.out.println();
         System.out.println("Architecture Model Summary:");
         System.out.println("  Components:     " + model.components().size());
@@ -452,7 +655,7 @@ public class ScanCommand implements Callable<Integer> {
     /**
      * Generates diagrams from the architecture model.
      */
-    private List<GeneratedDiagram> generateDiagrams(ArchitectureModel model) {
+    List<GeneratedDiagram> generateDiagrams(ArchitectureModel model) {
         log.debug("Discovering diagram generators via ServiceLoader");
 
         ServiceLoader<DiagramGenerator> loader = ServiceLoader.load(DiagramGenerator.class);
@@ -490,7 +693,7 @@ public class ScanCommand implements Callable<Integer> {
     /**
      * Converts generated diagrams to GeneratedOutput.
      */
-    private GeneratedOutput convertToOutput(List<GeneratedDiagram> diagrams, ArchitectureModel model) {
+    GeneratedOutput convertToOutput(List<GeneratedDiagram> diagrams, ArchitectureModel model) {
         log.debug("Converting {} diagrams to output files", diagrams.size());
 
         List<GeneratedFile> files = new ArrayList<>();
@@ -509,6 +712,11 @@ public class ScanCommand implements Callable<Integer> {
         String indexContent = generateIndexContent(model);
         files.add(new GeneratedFile("index.md", indexContent, "text/markdown"));
 
+        // Add profile report
+        if (scanProfile != null) {
+            files.add(new GeneratedFile(PROFILE_FILE, scanProfile.toJson(), "application/json"));
+        }
+
         return new GeneratedOutput(files);
     }
 
@@ -598,6 +806,72 @@ public class ScanCommand implements Callable<Integer> {
             }
             sb.append("\n");
         }
+
+        // Scan profile
+        if (scanProfile != null) {
+            appendScanProfile(sb, scanProfile);
+        }
+    }
+
+    /**
+     * Appends the slowest scanners recorded with {@code --profile} to the markdown content.
+     */
+    private void appendScanProfile(StringBuilder sb, ScanProfile scanProfile) {
+        sb.append("### ⏱️ Scan Profile\n\n");
+
+        List<ScanProfile.ScannerProfile> scanned = scanProfile.scanners().stream()
+            .filter(scanner -> scanner.phase(ScanPhase.SCAN).count() > 0)
+            .toList();
+        long applicabilityNanos = scanProfile.scanners().stream()
+            .mapToLong(scanner -> scanner.phase(ScanPhase.APPLICABILITY).wallNanos())
+            .sum();
+        sb.append(String.format("%d scanners ran; applicability checks of %d scanners took %s. Full timings: [%s](%s)\n\n",
+            scanned.size(), scanProfile.scanners().size(), formatNanos(applicabilityNanos), PROFILE_FILE, PROFILE_FILE));
+        if (scanned.isEmpty()) {
+            return;
+        }
+
+        // Phases run on several threads at once can add up to more than the scan time
+        sb.append("| Scanner | Scan | CPU | Allocated | Discovery | Read | Parse | Extraction | Fallback |\n");
+        sb.append("|---------|------|-----|-----------|-----------|------|-------|------------|----------|\n");
+        List<ScanProfile.ScannerProfile> shown = scanned.stream().limit(PROFILED_SCANNERS_SHOWN).toList();
+        for (ScanProfile.ScannerProfile scanner : shown) {
+            ScanProfile.PhaseProfile scan = scanner.phase(ScanPhase.SCAN);
+            sb.append(String.format("| %s | %s | %s | %s | %s | %s | %s | %s | %s |\n",
+                scanner.scannerId(),
+                formatNanos(scan.wallNanos()),
+                formatNanos(scan.cpuNanos()),
+                formatBytes(scan.allocatedBytes()),
+                formatNanos(scanner.phase(ScanPhase.DISCOVERY).wallNanos()),
+                formatNanos(scanner.phase(ScanPhase.READ).wallNanos()),
+                formatNanos(scanner.phase(ScanPhase.PARSE).wallNanos()),
+                formatNanos(scanner.phase(ScanPhase.EXTRACTION).wallNanos()),
+                formatNanos(scanner.phase(ScanPhase.FALLBACK).wallNanos())));
+        }
+        sb.append("\n");
+
+        if (shown.stream().anyMatch(scanner -> !scanner.slowestFiles().isEmpty())) {
+            sb.append("**Slowest files:**\n\n");
+            for (ScanProfile.ScannerProfile scanner : shown) {
+                if (scanner.slowestFiles().isEmpty()) {
+                    continue;
+                }
+                StringJoiner files = new StringJoiner(", ");
+                scanner.slowestFiles().stream()
+                    .limit(PROFILED_FILES_SHOWN)
+                    .forEach(file -> files.add("`" + file.path() + "` (" + formatNanos(file.wallNanos()) + ")"));
+                sb.append(String.format("- **%s:** %s\n", scanner.scannerId(), files));
+            }
+            sb.append("\n");
+        }
+    }
+
+    private static String formatNanos(long nanos) {
+        return nanos < 0 ? "n/a" : String.format("%.1f ms", nanos / 1_000_000.0);
+    }
+
+    private static String formatBytes(long bytes) {
+        return bytes < 0 ? "n/a" : String.format("%.1f MB", bytes / (1024.0 * 1024.0));
     }
 
     /**
@@ -639,7 +913,7 @@ public class ScanCommand implements Callable<Integer> {
     /**
      * Renders output using configured renderers.
      */
-    private void renderOutput(GeneratedOutput output) {
+    void renderOutput(GeneratedOutput output) {
         log.debug("Discovering output renderers via ServiceLoader");
 
         ServiceLoader<OutputRenderer> loader = ServiceLoader.load(OutputRenderer.class);
@@ -666,7 +940,7 @@ public class ScanCommand implements Callable<Integer> {
     /**
      * Gets the output directory path.
      */
-    private String getOutputDirectory() {
+    String getOutputDirectory() {
         if (outputDir != null) {
             return outputDir.toAbsolutePath().toString();
         }
@@ -0,0 +1,157 @@
+package com.docarchitect.cli;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.docarchitect.core.scanner.ast.CompilationUnitCache;
+import com.docarchitect.core.scanner.ast.ParsedSourceStore;
+import com.docarchitect.core.scanner.cache.IncrementalScanCache;
+import com.docarchitect.core.scanner.ProjectFileIndex;
+import com.docarchitect.core.scanner.Scanner;
+import com.docarchitect.core.scanner.ScannerManifest;
+import com.docarchitect.core.scanner.SourceWatcher;
+import com.docarchitect.core.config.ProjectConfig;
+import com.docarchitect.core.util.IgnoreRules;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * State kept warm by the daemon between scan requests.
+ *
+ * <p>Holds what is expensive to set up and safe to reuse:
+ * <ul>
+ *   <li>the scanners discovered via SPI, discovered once</li>
+ *   <li>the Java AST cache and the store of other languages' parse results, whose entries are
+ *       keyed by file modification time and size</li>
+ *   <li>per project, the file index and a {@link SourceWatcher} reporting changes since the
+ *       previous request, so the index is refreshed instead of rebuilt</li>
+ * </ul>
+ *
+ * <p>At most {@value #MAX_WATCHED_PROJECTS} projects are watched; the watcher of the least
+ * recently scanned project is closed when another one is added, since every watcher holds
+ * native watch handles.
+ *
+ * <p><b>Thread Safety:</b> not thread-safe; the daemon serves one request at a time.
+ */
+final class WarmState implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(WarmState.class);
+
+    /**
+     * Number of projects whose file index is kept and watched.
+     */
+    static final int MAX_WATCHED_PROJECTS = 8;
+
+    private final CompilationUnitCache compilationUnitCache = CompilationUnitCache.withDefaultBudget();
+    private final ParsedSourceStore parsedSourceStore = ParsedSourceStore.withDefaultBudget();
+    private final Map<Path, WatchedIndex> indexes = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Path, WatchedIndex> eldest) {
+            if (size() <= MAX_WATCHED_PROJECTS) {
+                return false;
+            }
+            log.debug("No longer watching {}", eldest.getKey());
+            closeWatcher(eldest.getValue());
+            return true;
+        }
+    };
+    private List<Scanner> scanners;
+
+    /**
+     * File index of one project together with the watcher keeping it current.
+     */
+    private record WatchedIndex(ProjectConfig.FileConfig files, ProjectFileIndex index, SourceWatcher watcher) {
+    }
+
+    /**
+     * Returns the scanners discovered by the first request.
+     *
+     * <p>Scanners are instantiated lazily, so a daemon serving only Go projects never loads
+     * the Java or .NET scanners.
+     *
+     * @return discovered scanners, in discovery order
+     */
+    List<Scanner> scanners() {
+        if (scanners == null) {
+            scanners = List.copyOf(ScannerManifest.discoverScanners(WarmState.class.getClassLoader()));
+        }
+        return scanners;
+    }
+
+    /**
+     * Returns the Java AST cache shared by all requests.
+     *
+     * @return AST cache
+     */
+    CompilationUnitCache compilationUnitCache() {
+        return compilationUnitCache;
+    }
+
+    /**
+     * Returns the store of parse results of the language AST parsers shared by all requests.
+     *
+     * @return parsed source store
+     */
+    ParsedSourceStore parsedSourceStore() {
+        return parsedSourceStore;
+    }
+
+    /**
+     * Returns an up-to-date file index of a project.
+     *
+     * <p>The first request for a project, or one with a different {@code files} configuration,
+     * walks the project and starts watching it; later requests only apply the changes reported
+     * since.
+     *
+     * @param rootPath absolute project root
+     * @param files file configuration the index was built with, may be null
+     * @param ignoreRules ignore rules built from {@code files}
+     * @return current file index
+     */
+    ProjectFileIndex fileIndex(Path rootPath, ProjectConfig.FileConfig files, IgnoreRules ignoreRules) {
+        WatchedIndex cached = indexes.get(rootPath);
+        if (cached != null && Objects.equals(cached.files(), files)) {
+            Optional<SourceWatcher.Changes> changes = cached.watcher().pollChanges();
+            ProjectFileIndex index = changes.isEmpty() ? cached.index()
+                : changes.get().rescanAll() ? reindex(rootPath, ignoreRules)
+                : cached.index().refresh(changes.get().paths()).orElseGet(() -> reindex(rootPath, ignoreRules));
+            indexes.put(rootPath, new WatchedIndex(files, index, cached.watcher()));
+            return index;
+        }
+        closeWatcher(cached);
+
+        ProjectFileIndex index = reindex(rootPath, ignoreRules);
+        try {
+            SourceWatcher watcher = SourceWatcher.start(rootPath, List.of(rootPath), ignoreRules,
+                List.of(rootPath.resolve(IncrementalScanCache.DEFAULT_DIRECTORY)));
+            indexes.put(rootPath, new WatchedIndex(files, index, watcher));
+        } catch (IOException e) {
+            log.warn("Cannot watch {}, its file index will be rebuilt on every request: {}", rootPath, e.getMessage());
+            indexes.remove(rootPath);
+        }
+        return index;
+    }
+
+    @Override
+    public void close() {
+        indexes.values().forEach(WarmState::closeWatcher);
+        indexes.clear();
+    }
+
+    private static ProjectFileIndex reindex(Path rootPath, IgnoreRules ignoreRules) {
+        return ProjectFileIndex.build(rootPath, List.of(rootPath), ignoreRules);
+    }
+
+    private static void closeWatcher(WatchedIndex watched) {
+        if (watched == null) {
+            return;
+        }
+        try {
+            watched.watcher().close();
+        } catch (IOException e) {
+            log.debug("Failed to close watcher: {}", e.getMessage());
+        }
+    }
+}
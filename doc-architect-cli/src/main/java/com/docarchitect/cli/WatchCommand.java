@@ -0,0 +1,198 @@
+package com.docarchitect.cli;
+
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.docarchitect.core.scanner.ast.CompilationUnitCache;
+import com.docarchitect.core.scanner.ast.ParsedSourceStore;
+import com.docarchitect.core.scanner.cache.IncrementalScanCache;
+import com.docarchitect.core.scanner.Scanner;
+import com.docarchitect.core.scanner.ScanContext;
+import com.docarchitect.core.scanner.ScanResult;
+import com.docarchitect.core.scanner.ScannerScheduler;
+import com.docarchitect.core.scanner.SourceWatcher;
+import com.docarchitect.core.model.ArchitectureModel;
+import com.docarchitect.core.model.ArchitectureModelBuilder;
+import com.docarchitect.core.generator.GeneratedDiagram;
+import com.docarchitect.core.renderer.GeneratedFile;
+import com.docarchitect.core.renderer.GeneratedOutput;
+import com.docarchitect.core.config.ProjectConfig;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * Command that scans once and then keeps the documentation up to date while files change.
+ *
+ * <p>After the initial scan, the project's source directories are watched (see
+ * {@link SourceWatcher}). Each debounced batch of changes is handled incrementally:
+ * <ol>
+ *   <li>Refresh the file index, or rebuild it if files were created or deleted</li>
+ *   <li>Re-run only the scanners whose file patterns match a changed path, plus scanners
+ *       depending on findings that changed (see {@link ScannerScheduler#rescan})</li>
+ *   <li>Rebuild the ArchitectureModel from the new and the retained results</li>
+ *   <li>Regenerate diagrams if the architecture changed and render only the files whose
+ *       content differs from what was last written</li>
+ * </ol>
+ *
+ * <p>Unchanged files of re-run scanners are served from the incremental scan cache and the
+ * Java AST cache, which stays valid across rescans, so a rescan costs roughly the parsing of
+ * the changed files. Accepts all options of {@code scan}.
+ *
+ * <p><b>Usage:</b>
+ * <pre>{@code
+ * # Watch current directory
+ * docarchitect watch
+ *
+ * # Wait for 500 ms without changes before rescanning
+ * docarchitect watch --debounce 500
+ * }</pre>
+ */
+@Command(
+    name = "watch",
+    description = "Scan codebase, then re-scan and update documentation whenever files change",
+    mixinStandardHelpOptions = true
+)
+public class WatchCommand extends ScanCommand {
+
+    private static final Logger log = LoggerFactory.getLogger(WatchCommand.class);
+
+    @Option(
+        names = {"--debounce"},
+        description = "Milliseconds without further changes before a re-scan starts (default: 200)"
+    )
+    private long debounceMillis = 200;
+
+    /**
+     * Content of every output file as last rendered, by relative path.
+     */
+    private final Map<String, String> renderedFiles = new HashMap<>();
+
+    private ArchitectureModel currentModel;
+
+    @Override
+    public Integer call() {
+        try {
+            Path rootPath = projectPath.toAbsolutePath().normalize();
+            System.out.println("Watching project: " + rootPath);
+            System.out.println();
+
+            ProjectConfig config = loadConfiguration();
+            fileIndex = buildFileIndex(config);
+            List<Scanner> scanners = selectScanners(discoverScanners(), config);
+            ScannerScheduler scheduler = new ScannerScheduler(parallelism);
+            // Keyed by path, modification time and size, so entries of edited files are never served
+            CompilationUnitCache compilationUnitCache = CompilationUnitCache.withDefaultBudget();
+            ParsedSourceStore parsedSourceStore = ParsedSourceStore.withDefaultBudget();
+
+            long start = System.nanoTime();
+            IncrementalScanCache incrementalCache = openIncrementalCache();
+            Map<String, ScanResult> results = scheduler.execute(scanners,
+                createScanContext(Map.of(), compilationUnitCache, parsedSourceStore, incrementalCache));
+            saveIncrementalCache(incrementalCache, results);
+            publish(results);
+            printModelSummary(currentModel);
+            System.out.println("✓ Initial scan: " + results.size() + " scanners in " + elapsedMillis(start) + " ms");
+
+            List<Path> excludedPaths = List.of(
+                Path.of(getOutputDirectory()),
+                rootPath.resolve(IncrementalScanCache.DEFAULT_DIRECTORY));
+            try (SourceWatcher watcher = SourceWatcher.start(rootPath, List.of(rootPath), ignoreRules(config), excludedPaths)) {
+                System.out.println("✓ Watching " + watcher.watchedDirectoryCount() + " directories (Ctrl+C to stop)");
+                while (true) {
+                    SourceWatcher.Changes changes = watcher.awaitChanges(Duration.ofMillis(debounceMillis));
+                    results = rescan(scheduler, scanners, results, changes, config, compilationUnitCache, parsedSourceStore);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 0;
+        } catch (Exception e) {
+            log.error("Watch failed", e);
+            System.err.println("✗ Watch failed: " + e.getMessage());
+            if (log.isDebugEnabled()) {
+                e.printStackTrace();
+            }
+            return 1;
+        }
+    }
+
+    /**
+     * Handles one batch of changes and returns the results to keep for the next one.
+     */
+    private Map<String, ScanResult> rescan(ScannerScheduler scheduler, List<Scanner> scanners,
+                                           Map<String, ScanResult> results, SourceWatcher.Changes changes,
+                                           ProjectConfig config, CompilationUnitCache compilationUnitCache,
+                                           ParsedSourceStore parsedSourceStore) {
+        long start = System.nanoTime();
+        log.debug("Changed: {}{}", changes.paths(), changes.rescanAll() ? " (full rescan)" : "");
+
+        fileIndex = changes.rescanAll()
+            ? buildFileIndex(config)
+            : fileIndex.refresh(changes.paths()).orElseGet(() -> buildFileIndex(config));
+
+        Set<String> affected = changes.affectedScannerIds(scanners);
+        if (affected.isEmpty()) {
+            log.debug("No scanner handles the changed files");
+            return results;
+        }
+
+        IncrementalScanCache incrementalCache = openIncrementalCache(false);
+        Map<String, ScanResult> updated = scheduler.rescan(scanners,
+            createScanContext(Map.of(), compilationUnitCache, parsedSourceStore, incrementalCache), results, affected);
+        saveIncrementalCache(incrementalCache, updated);
+
+        int writtenFiles = publish(updated);
+        System.out.println("✓ " + changes.paths().size() + " changed files, " + affected.size()
+            + " scanners affected, " + writtenFiles + " output files updated in " + elapsedMillis(start) + " ms");
+        return updated;
+    }
+
+    /**
+     * Rebuilds the model from complete results and writes the output files whose content changed.
+     *
+     * @return number of files written
+     */
+    private int publish(Map<String, ScanResult> results) {
+        ArchitectureModelBuilder modelBuilder = new ArchitectureModelBuilder();
+        results.values().forEach(modelBuilder::add);
+        ArchitectureModel previousModel = currentModel;
+        currentModel = aggregateResults(modelBuilder, results, createScanContext(results, null, null, null));
+
+        if (dryRun || (previousModel != null && sameArchitecture(previousModel, currentModel))) {
+            return 0;
+        }
+
+        List<GeneratedDiagram> diagrams = generateDiagrams(currentModel);
+        List<GeneratedFile> changedFiles = new ArrayList<>();
+        for (GeneratedFile file : convertToOutput(diagrams, currentModel).files()) {
+            if (!file.content().equals(renderedFiles.get(file.relativePath()))) {
+                changedFiles.add(file);
+            }
+        }
+        if (!changedFiles.isEmpty()) {
+            renderOutput(new GeneratedOutput(changedFiles));
+            changedFiles.forEach(file -> renderedFiles.put(file.relativePath(), file.content()));
+        }
+        return changedFiles.size();
+    }
+
+    /**
+     * Compares the findings of two models; scan statistics are ignored.
+     */
+    private static boolean sameArchitecture(ArchitectureModel first, ArchitectureModel second) {
+        return first.components().equals(second.components())
+            && first.dependencies().equals(second.dependencies())
+            && first.relationships().equals(second.relationships())
+            && first.apiEndpoints().equals(second.apiEndpoints())
+            && first.messageFlows().equals(second.messageFlows())
+            && first.dataEntities().equals(second.dataEntities());
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+}
@@ -0,0 +1,87 @@
+#!/bin/bash
+# train-archive.sh
+# Creates the class-data archive the docarchitect launcher uses to start faster
+#
+# Runs one scan of the CLI fixtures, plus small Go, JavaScript and Ruby sources so
+# the scanners and parsers of those languages are loaded too, and archives the
+# loaded classes:
+#   JDK 25+: AOT cache <jar>.aot (-XX:AOTCacheOutput), which also keeps linked classes
+#   older:   dynamic AppCDS archive <jar>.jsa (-XX:ArchiveClassesAtExit)
+#
+# The archive only works with the JVM build that created it, so run this with the
+# JVM that will run the CLI (the Docker image trains in its runtime stage). The
+# docarchitect launcher, which picks the archive up, is installed next to the JAR.
+#
+# Usage: train-archive.sh <cli-jar> <fixtures-dir>
+
+set -euo pipefail
+
+JAR=${1:?usage: train-archive.sh <cli-jar> <fixtures-dir>}
+FIXTURES=${2:?usage: train-archive.sh <cli-jar> <fixtures-dir>}
+
+JAVA=java
+if [ -n "${JAVA_HOME:-}" ]; then
+    JAVA="$JAVA_HOME/bin/java"
+fi
+
+WORK_DIR=$(mktemp -d)
+trap 'rm -rf "$WORK_DIR"' EXIT
+
+# Scan a copy so the fixtures stay free of caches and output
+PROJECT="$WORK_DIR/project"
+cp -r "$FIXTURES" "$PROJECT"
+
+mkdir -p "$PROJECT/go-gin" "$PROJECT/node-express" "$PROJECT/ruby-rails/app/controllers"
+cat > "$PROJECT/go-gin/main.go" <<'EOF'
+package main
+
+import "github.com/gin-gonic/gin"
+
+type User struct {
+	ID   int64  `json:"id"`
+	Name string `json:"name"`
+}
+
+func main() {
+	router := gin.Default()
+	router.GET("/users/:id", getUser)
+	router.Run()
+}
+EOF
+cat > "$PROJECT/node-express/server.js" <<'EOF'
+const express = require('express');
+const app = express();
+
+app.get('/users/:id', (req, res) => res.json({ id: req.params.id }));
+app.listen(3000);
+EOF
+cat > "$PROJECT/ruby-rails/app/controllers/users_controller.rb" <<'EOF'
+class UsersController < ApplicationController
+  def show
+    render json: User.find(params[:id])
+  end
+end
+EOF
+
+if "$JAVA" -XX:+PrintFlagsFinal -version 2>/dev/null | grep -q AOTCacheOutput; then
+    ARCHIVE="${JAR%.jar}.aot"
+    ARCHIVE_OPT="-XX:AOTCacheOutput=$ARCHIVE"
+else
+    ARCHIVE="${JAR%.jar}.jsa"
+    ARCHIVE_OPT="-XX:ArchiveClassesAtExit=$ARCHIVE"
+fi
+
+rm -f "${JAR%.jar}.aot" "${JAR%.jar}.jsa"
+"$JAVA" "$ARCHIVE_OPT" -jar "$JAR" scan "$PROJECT" --output "$WORK_DIR/docs" --no-cache \
+    > "$WORK_DIR/training.log" 2>&1 \
+    || { cat "$WORK_DIR/training.log"; echo "✗ Training scan failed" >&2; exit 1; }
+
+[ -s "$ARCHIVE" ] || { echo "✗ No archive written to $ARCHIVE" >&2; exit 1; }
+echo "✓ Class-data archive written to $ARCHIVE ($(du -h "$ARCHIVE" | cut -f1))"
+
+LAUNCHER_DIR=$(cd "$(dirname "$0")" && pwd)
+JAR_DIR=$(cd "$(dirname "$JAR")" && pwd)
+if [ "$LAUNCHER_DIR" != "$JAR_DIR" ]; then
+    cp "$LAUNCHER_DIR/docarchitect" "$JAR_DIR/docarchitect"
+    chmod +x "$JAR_DIR/docarchitect"
+fi
@@ -0,0 +1,56 @@
+#!/bin/bash
+# smoke-test.sh
+# Scans the CLI test fixtures with the native DocArchitect binary
+#
+# Run by the 'native' Maven profile after the image is built:
+#   mvn -Pnative verify
+#
+# Checks that the binary starts, that the AST parser adapters loaded by class
+# name, the pooled Ruby ANTLR parser and the Jackson-bound configuration work
+# without a JVM, and that each fixture yields API endpoints and rendered
+# documentation.
+#
+# Usage: smoke-test.sh <native-binary> <fixtures-dir>
+
+set -euo pipefail
+
+BINARY=${1:?usage: smoke-test.sh <native-binary> <fixtures-dir>}
+FIXTURES=${2:?usage: smoke-test.sh <native-binary> <fixtures-dir>}
+
+RED='\033[0;31m'
+GREEN='\033[0;32m'
+NC='\033[0m' # No Color
+
+WORK_DIR=$(mktemp -d)
+trap 'rm -rf "$WORK_DIR"' EXIT
+
+fail() {
+    echo -e "${RED}✗ $1${NC}"
+    exit 1
+}
+
+[ -x "$BINARY" ] || fail "Native binary not found: $BINARY"
+
+start=$(date +%s%N)
+"$BINARY" --version > /dev/null || fail "'$BINARY --version' failed"
+echo "Cold start (--version): $(( ($(date +%s%N) - start) / 1000000 )) ms"
+
+for fixture in "$FIXTURES"/*/; do
+    name=$(basename "$fixture")
+    # Scan a copy so the fixtures stay free of caches and output
+    cp -r "$fixture" "$WORK_DIR/$name"
+    output="$WORK_DIR/$name-docs"
+
+    start=$(date +%s%N)
+    "$BINARY" scan "$WORK_DIR/$name" --output "$output" > "$WORK_DIR/$name.log" 2>&1 \
+        || { cat "$WORK_DIR/$name.log"; fail "$name: scan failed"; }
+    elapsed=$(( ($(date +%s%N) - start) / 1000000 ))
+
+    endpoints=$(grep -oE 'API Endpoints: +[0-9]+' "$WORK_DIR/$name.log" | grep -oE '[0-9]+$' || echo 0)
+    [ "$endpoints" -gt 0 ] || { cat "$WORK_DIR/$name.log"; fail "$name: no API endpoints found"; }
+    [ -s "$output/index.md" ] || fail "$name: index.md not rendered"
+
+    echo -e "${GREEN}✓ $name${NC}: $endpoints API endpoints in $elapsed ms"
+done
+
+echo -e "${GREEN}✓ Native smoke test passed${NC}"
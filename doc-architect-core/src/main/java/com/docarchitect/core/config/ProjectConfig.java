@@ -35,6 +35,12 @@ import java.util.Locale;
  * output:
  *   directory: "./docs/architecture"
  *   generateIndex: true
+ *
+ * files:
+ *   exclude:
+ *     - vendor/
+ *     - "**\/*.min.js"
+ *   respectIgnoreFiles: true
  * }</pre>
  *
  * @param project project metadata
@@ -42,6 +48,7 @@ import java.util.Locale;
  * @param scanners scanner configuration
  * @param generators generator configuration
  * @param output output configuration
+ * @param files file selection configuration (may be null)
  */
 @JsonIgnoreProperties(ignoreUnknown = true)
 public record ProjectConfig(
@@ -49,7 +56,8 @@ public record ProjectConfig(
     @JsonProperty("repositories") List<RepositoryConfig> repositories,
     @JsonProperty("scanners") ScannerConfig scanners,
     @JsonProperty("generators") GeneratorConfigSettings generators,
-    @JsonProperty("output") OutputConfig output
+    @JsonProperty("output") OutputConfig output,
+    @JsonProperty("files") FileConfig files
 ) {
     /**
      * Creates a default configuration with all scanners enabled in AUTO mode.
@@ -62,7 +70,8 @@ public record ProjectConfig(
             List.of(new RepositoryConfig("main", ".")),
             new ScannerConfig(null, List.of(), List.of(), Map.of()),  // AUTO mode (mode=null, no enabled/groups)
             new GeneratorConfigSettings("mermaid", List.of("mermaid", "markdown")),
-            new OutputConfig("./docs/architecture", true)
+            new OutputConfig("./docs/architecture", true),
+            new FileConfig(List.of(), true)
         );
     }
 
@@ -215,4 +224,29 @@ public record ProjectConfig(
         @JsonProperty("directory") String directory,
         @JsonProperty("generateIndex") Boolean generateIndex
     ) {}
+
+    /**
+     * File selection configuration.
+     *
+     * <p>Excludes use {@code .gitignore} syntax relative to the project root and are applied
+     * on top of the built-in excludes ({@code .git}, {@code node_modules}, ...); a
+     * {@code !pattern} re-includes a path excluded by a built-in rule or an ignore file.
+     *
+     * @param exclude additional paths to skip while indexing the project
+     * @param respectIgnoreFiles whether {@code .gitignore} and {@code .dockerignore} files are honoured (null = true)
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record FileConfig(
+        @JsonProperty("exclude") List<String> exclude,
+        @JsonProperty("respectIgnoreFiles") Boolean respectIgnoreFiles
+    ) {
+        /**
+         * Returns whether ignore files are honoured, defaulting to true.
+         *
+         * @return true unless explicitly disabled
+         */
+        public boolean shouldRespectIgnoreFiles() {
+            return respectIgnoreFiles == null || respectIgnoreFiles;
+        }
+    }
 }
@@ -15,6 +15,7 @@ import com.docarchitect.core.generator.GeneratedDiagram;
 import com.docarchitect.core.generator.GeneratorConfig;
 import com.docarchitect.core.model.ApiEndpoint;
 import com.docarchitect.core.model.ArchitectureModel;
+import com.docarchitect.core.model.ArchitectureModelIndex;
 import com.docarchitect.core.model.Component;
 import com.docarchitect.core.model.ComponentType;
 import com.docarchitect.core.model.DataEntity;
@@ -252,10 +253,11 @@ public class MarkdownGenerator implements DiagramGenerator {
 
         log.debug("Generating Markdown documentation for type: {}", type);
 
+        ArchitectureModelIndex index = ArchitectureModelIndex.of(model);
         String content = switch (type) {
-            case API_CATALOG -> generateApiCatalog(model, config);
-            case DEPENDENCY_GRAPH -> generateDependencyMatrix(model, config);
-            case C4_COMPONENT -> generateComponentCatalog(model, config);
+            case API_CATALOG -> generateApiCatalog(model, index, config);
+            case DEPENDENCY_GRAPH -> generateDependencyMatrix(model, index, config);
+            case C4_COMPONENT -> generateComponentCatalog(model, index, config);
             default -> throw new IllegalArgumentException("Unsupported diagram type: " + type);
         };
 
@@ -317,10 +319,11 @@ public class MarkdownGenerator implements DiagramGenerator {
      * </ul>
      *
      * @param model the architecture model containing API endpoints
+     * @param index index over the model
      * @param config generator configuration (currently unused)
      * @return Markdown-formatted API catalog
      */
-    private String generateApiCatalog(ArchitectureModel model, GeneratorConfig config) {
+    private String generateApiCatalog(ArchitectureModel model, ArchitectureModelIndex index, GeneratorConfig config) {
         StringBuilder sb = new StringBuilder();
 
         appendHeader(sb, 1, API_CATALOG_TITLE);
@@ -330,11 +333,10 @@ public class MarkdownGenerator implements DiagramGenerator {
         }
 
         // Group endpoints by component
-        Map<String, List<ApiEndpoint>> endpointsByComponent = model.apiEndpoints().stream()
-            .collect(Collectors.groupingBy(ApiEndpoint::componentId));
+        Map<String, List<ApiEndpoint>> endpointsByComponent = index.endpointsByComponent();
 
         for (Map.Entry<String, List<ApiEndpoint>> entry : endpointsByComponent.entrySet()) {
-            String componentName = getComponentName(model, entry.getKey());
+            String componentName = index.componentName(entry.getKey());
             appendHeader(sb, 2, componentName);
 
             appendTableRow(sb, METHOD, PATH, TYPE, AUTHENTICATION, DESCRIPTION);
@@ -368,10 +370,11 @@ public class MarkdownGenerator implements DiagramGenerator {
      * </ul>
      *
      * @param model the architecture model containing dependencies
+     * @param index index over the model
      * @param config generator configuration (currently unused)
      * @return Markdown-formatted dependency matrix
      */
-    private String generateDependencyMatrix(ArchitectureModel model, GeneratorConfig config) {
+    private String generateDependencyMatrix(ArchitectureModel model, ArchitectureModelIndex index, GeneratorConfig config) {
         StringBuilder sb = new StringBuilder();
 
         appendHeader(sb, 1, DEPENDENCY_MATRIX_TITLE);
@@ -381,11 +384,10 @@ public class MarkdownGenerator implements DiagramGenerator {
         }
 
         // Group by component
-        Map<String, List<Dependency>> depsByComponent = model.dependencies().stream()
-            .collect(Collectors.groupingBy(Dependency::sourceComponentId));
+        Map<String, List<Dependency>> depsByComponent = index.dependenciesByComponent();
 
         for (Map.Entry<String, List<Dependency>> entry : depsByComponent.entrySet()) {
-            String componentName = getComponentName(model, entry.getKey());
+            String componentName = index.componentName(entry.getKey());
             appendHeader(sb, 2, componentName);
 
             appendTableRow(sb, GROUP, ARTIFACT, VERSION, SCOPE, TYPE);
@@ -419,10 +421,11 @@ public class MarkdownGenerator implements DiagramGenerator {
      * </ul>
      *
      * @param model the architecture model containing components
+     * @param index index over the model
      * @param config generator configuration (currently unused)
      * @return Markdown-formatted component catalog
      */
-    private String generateComponentCatalog(ArchitectureModel model, GeneratorConfig config) {
+    private String generateComponentCatalog(ArchitectureModel model, ArchitectureModelIndex index, GeneratorConfig config) {
         StringBuilder sb = new StringBuilder();
 
         appendHeader(sb, 1, COMPONENT_CATALOG_TITLE);
@@ -456,7 +459,7 @@ public class MarkdownGenerator implements DiagramGenerator {
         sb.append(COMPONENT_DETAILS).append(DOUBLE_NEWLINE);
 
         for (Component comp : model.components()) {
-            appendComponentDetails(sb, model, comp);
+            appendComponentDetails(sb, index, comp);
         }
 
         return sb.toString();
@@ -485,6 +488,8 @@ public class MarkdownGenerator implements DiagramGenerator {
             return sb.toString();
         }
 
+        ArchitectureModelIndex index = ArchitectureModelIndex.of(model);
+
         for (DataEntity entity : model.dataEntities()) {
             appendHeader(sb, 2, entity.name());
 
@@ -497,7 +502,7 @@ public class MarkdownGenerator implements DiagramGenerator {
                 sb.append(PRIMARY_KEY_LABEL).append(entity.primaryKey()).append(NEWLINE);
             }
 
-            String componentName = getComponentName(model, entity.componentId());
+            String componentName = index.componentName(entity.componentId());
             sb.append(COMPONENT_LABEL).append(componentName).append(DOUBLE_NEWLINE);
 
             appendDataEntityFields(sb, entity);
@@ -529,8 +534,8 @@ public class MarkdownGenerator implements DiagramGenerator {
         }
 
         // Group by topic
-        Map<String, List<MessageFlow>> flowsByTopic = model.messageFlows().stream()
-            .collect(Collectors.groupingBy(MessageFlow::topic));
+        ArchitectureModelIndex index = ArchitectureModelIndex.of(model);
+        Map<String, List<MessageFlow>> flowsByTopic = index.flowsByTopic();
 
         for (Map.Entry<String, List<MessageFlow>> entry : flowsByTopic.entrySet()) {
             appendHeader(sb, 2, entry.getKey());
@@ -549,8 +554,8 @@ public class MarkdownGenerator implements DiagramGenerator {
 
             for (MessageFlow flow : entry.getValue()) {
                 appendTableRow(sb,
-                    getComponentNameOrDash(model, flow.publisherComponentId()),
-                    getComponentNameOrDash(model, flow.subscriberComponentId()),
+                    getComponentNameOrDash(index, flow.publisherComponentId()),
+                    getComponentNameOrDash(index, flow.subscriberComponentId()),
                     escapeMarkdown(nullSafeValue(flow.messageType(), DASH_VALUE)),
                     escapeMarkdown(nullSafeValue(flow.schema(), DASH_VALUE))
                 );
@@ -657,7 +662,7 @@ public class MarkdownGenerator implements DiagramGenerator {
         appendTableRow(sb, TRANSITIVE_DEPENDENCIES, String.valueOf(transitiveCount));
     }
 
-    private void appendComponentDetails(StringBuilder sb, ArchitectureModel model, Component comp) {
+    private void appendComponentDetails(StringBuilder sb, ArchitectureModelIndex index, Component comp) {
         appendHeader(sb, 3, comp.name());
 
         sb.append(TYPE_LABEL).append(comp.type()).append(NEWLINE);
@@ -679,18 +684,14 @@ public class MarkdownGenerator implements DiagramGenerator {
             }
         }
 
-        List<ApiEndpoint> apis = model.apiEndpoints().stream()
-            .filter(api -> api.componentId().equals(comp.id()))
-            .toList();
+        List<ApiEndpoint> apis = index.endpointsOf(comp.id());
 
         if (!apis.isEmpty()) {
             sb.append(DOUBLE_NEWLINE).append(EXPOSED_APIS_LABEL).append(apis.size())
                 .append(ENDPOINT_SUFFIX).append(NEWLINE);
         }
 
-        List<DataEntity> entities = model.dataEntities().stream()
-            .filter(entity -> entity.componentId().equals(comp.id()))
-            .toList();
+        List<DataEntity> entities = index.entitiesOf(comp.id());
 
         if (!entities.isEmpty()) {
             sb.append(DOUBLE_NEWLINE).append(DATA_ENTITIES_LABEL).append(entities.size())
@@ -723,8 +724,8 @@ public class MarkdownGenerator implements DiagramGenerator {
         return value != null ? value : defaultValue;
     }
 
-    private String getComponentNameOrDash(ArchitectureModel model, String componentId) {
-        return componentId != null ? getComponentName(model, componentId) : DASH_VALUE;
+    private String getComponentNameOrDash(ArchitectureModelIndex index, String componentId) {
+        return componentId != null ? index.componentName(componentId) : DASH_VALUE;
     }
 
     /**
@@ -737,17 +738,6 @@ public class MarkdownGenerator implements DiagramGenerator {
         return text.replace("|", "\\|").replace("\n", " ");
     }
 
-    /**
-     * Gets component name by ID.
-     */
-    private String getComponentName(ArchitectureModel model, String componentId) {
-        return model.components().stream()
-            .filter(c -> c.id().equals(componentId))
-            .findFirst()
-            .map(Component::name)
-            .orElse(componentId);
-    }
-
     private void appendTableRow(StringBuilder sb, String... columns) {
         sb.append(PIPE);
         for (String col : columns) {
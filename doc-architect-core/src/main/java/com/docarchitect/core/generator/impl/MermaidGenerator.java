@@ -6,7 +6,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -17,6 +16,7 @@ import com.docarchitect.core.generator.GeneratedDiagram;
 import com.docarchitect.core.generator.GeneratorConfig;
 import com.docarchitect.core.model.ApiEndpoint;
 import com.docarchitect.core.model.ArchitectureModel;
+import com.docarchitect.core.model.ArchitectureModelIndex;
 import com.docarchitect.core.model.Component;
 import com.docarchitect.core.model.ComponentType;
 import com.docarchitect.core.model.DataEntity;
@@ -142,14 +142,15 @@ public class MermaidGenerator implements DiagramGenerator {
 
         log.debug("Generating Mermaid diagram for type: {}", type);
 
+        ArchitectureModelIndex index = ArchitectureModelIndex.of(model);
         String content = switch (type) {
             case C4_CONTEXT -> generateC4Context(model, config);
             case C4_CONTAINER -> generateC4Container(model, config);
             case C4_COMPONENT -> generateC4Component(model, config);
-            case DEPENDENCY_GRAPH -> generateDependencyGraph(model, config);
-            case ER_DIAGRAM -> generateErDiagram(model, config);
-            case MESSAGE_FLOW -> generateMessageFlow(model, config);
-            case SEQUENCE -> generateSequenceDiagram(model, config);
+            case DEPENDENCY_GRAPH -> generateDependencyGraph(model, index, config);
+            case ER_DIAGRAM -> generateErDiagram(model, index, config);
+            case MESSAGE_FLOW -> generateMessageFlow(model, index, config);
+            case SEQUENCE -> generateSequenceDiagram(model, index, config);
             default -> throw new IllegalArgumentException("Unsupported diagram type: " + type);
         };
 
@@ -405,10 +406,12 @@ public class MermaidGenerator implements DiagramGenerator {
      * dotted for component relationships).
      *
      * @param model the architecture model containing components and dependencies
+     * @param index index over the model
      * @param config generator configuration (currently unused for dependency graphs)
      * @return Markdown-formatted Mermaid diagram
      */
-    private String generateDependencyGraph(ArchitectureModel model, GeneratorConfig config) {
+    private String generateDependencyGraph(ArchitectureModel model, ArchitectureModelIndex index,
+                                           GeneratorConfig config) {
         StringBuilder sb = new StringBuilder();
         sb.append(MARKDOWN_HEADER_PREFIX).append("Dependency Graph").append(MARKDOWN_NEWLINE.repeat(2));
         sb.append(CODE_BLOCK_START);
@@ -419,7 +422,7 @@ public class MermaidGenerator implements DiagramGenerator {
         } else {
             Set<String> addedNodes = new HashSet<>();
             appendComponentNodes(sb, model.components(), addedNodes);
-            appendDependencyEdges(sb, model.dependencies(), addedNodes);
+            appendDependencyEdges(sb, index.dependenciesByComponent(), addedNodes);
             appendComponentRelationshipEdges(sb, model.relationships());
         }
 
@@ -446,13 +449,11 @@ public class MermaidGenerator implements DiagramGenerator {
      * Appends dependency edges to the graph, creating nodes for external dependencies.
      *
      * @param sb the string builder
-     * @param dependencies list of dependencies to render as edges
+     * @param depsByComponent dependencies to render as edges, grouped by source component ID
      * @param addedNodes set to track which nodes have been added
      */
-    private void appendDependencyEdges(StringBuilder sb, List<Dependency> dependencies, Set<String> addedNodes) {
-        Map<String, List<Dependency>> depsByComponent = dependencies.stream()
-            .collect(Collectors.groupingBy(Dependency::sourceComponentId));
-
+    private void appendDependencyEdges(StringBuilder sb, Map<String, List<Dependency>> depsByComponent,
+                                       Set<String> addedNodes) {
         for (Map.Entry<String, List<Dependency>> entry : depsByComponent.entrySet()) {
             String sourceId = sanitizeId(entry.getKey());
             for (Dependency dep : entry.getValue()) {
@@ -489,10 +490,11 @@ public class MermaidGenerator implements DiagramGenerator {
      * conventions (_id or Id suffixes).
      *
      * @param model the architecture model containing data entities
+     * @param index index over the model
      * @param config generator configuration (currently unused for ER diagrams)
      * @return Markdown-formatted Mermaid diagram
      */
-    private String generateErDiagram(ArchitectureModel model, GeneratorConfig config) {
+    private String generateErDiagram(ArchitectureModel model, ArchitectureModelIndex index, GeneratorConfig config) {
         StringBuilder sb = new StringBuilder();
         sb.append(MARKDOWN_HEADER_PREFIX).append("Entity-Relationship Diagram").append(MARKDOWN_NEWLINE.repeat(2));
         sb.append(CODE_BLOCK_START);
@@ -502,7 +504,7 @@ public class MermaidGenerator implements DiagramGenerator {
             appendErPlaceholder(sb);
         } else {
             appendEntityDefinitions(sb, model.dataEntities());
-            appendInferredRelationships(sb, model.dataEntities());
+            appendInferredRelationships(sb, index);
         }
 
         sb.append(CODE_BLOCK_END);
@@ -575,13 +577,13 @@ public class MermaidGenerator implements DiagramGenerator {
      * to existing entities. Uses one-to-many cardinality (||--o{).
      *
      * @param sb the string builder
-     * @param entities list of data entities
+     * @param index index over the architecture model containing the data entities
      */
-    private void appendInferredRelationships(StringBuilder sb, List<DataEntity> entities) {
-        for (DataEntity entity : entities) {
+    private void appendInferredRelationships(StringBuilder sb, ArchitectureModelIndex index) {
+        for (DataEntity entity : index.model().dataEntities()) {
             for (DataEntity.Field field : entity.fields()) {
                 if (isForeignKeyField(field)) {
-                    String targetEntity = findRelatedEntity(field, entities);
+                    String targetEntity = findRelatedEntity(field, index);
                     if (targetEntity != null) {
                         sb.append("  ").append(sanitizeTableName(targetEntity))
                             .append(" ||--o{ ")
@@ -607,16 +609,13 @@ public class MermaidGenerator implements DiagramGenerator {
      * Finds the related entity for a foreign key field.
      *
      * @param field the foreign key field
-     * @param entities list of available entities
+     * @param index index over the available entities
      * @return the name of the related entity, or null if not found
      */
-    private String findRelatedEntity(DataEntity.Field field, List<DataEntity> entities) {
+    private String findRelatedEntity(DataEntity.Field field, ArchitectureModelIndex index) {
         String potentialTarget = field.name().replaceAll("(_id|Id)$", "");
 
-        return entities.stream()
-            .filter(e -> e.name().equalsIgnoreCase(potentialTarget) ||
-                        e.name().equalsIgnoreCase(potentialTarget + "s"))
-            .findFirst()
+        return index.dataEntityNamed(potentialTarget, potentialTarget + "s")
             .map(DataEntity::name)
             .orElse(null);
     }
@@ -629,10 +628,11 @@ public class MermaidGenerator implements DiagramGenerator {
      * rectangles, and message types are shown as edge labels.
      *
      * @param model the architecture model containing message flows
+     * @param index index over the model
      * @param config generator configuration (currently unused for message flows)
      * @return Markdown-formatted Mermaid diagram
      */
-    private String generateMessageFlow(ArchitectureModel model, GeneratorConfig config) {
+    private String generateMessageFlow(ArchitectureModel model, ArchitectureModelIndex index, GeneratorConfig config) {
         StringBuilder sb = new StringBuilder();
         sb.append(MARKDOWN_HEADER_PREFIX).append("Message Flow Diagram").append(MARKDOWN_NEWLINE.repeat(2));
         sb.append(CODE_BLOCK_START);
@@ -642,7 +642,7 @@ public class MermaidGenerator implements DiagramGenerator {
             sb.append(NO_MESSAGE_FLOWS_NODE);
         } else {
             Set<String> addedNodes = new HashSet<>();
-            appendMessageFlowNodes(sb, model, addedNodes);
+            appendMessageFlowNodes(sb, index, addedNodes);
             sb.append(MARKDOWN_NEWLINE);
             appendMessageFlowEdges(sb, model.messageFlows());
         }
@@ -655,13 +655,13 @@ public class MermaidGenerator implements DiagramGenerator {
      * Appends nodes for publishers, subscribers, and topics.
      *
      * @param sb the string builder
-     * @param model the architecture model
+     * @param index index over the architecture model
      * @param addedNodes set to track which nodes have been added
      */
-    private void appendMessageFlowNodes(StringBuilder sb, ArchitectureModel model, Set<String> addedNodes) {
-        for (MessageFlow flow : model.messageFlows()) {
-            appendPublisherNode(sb, model, flow, addedNodes);
-            appendSubscriberNode(sb, model, flow, addedNodes);
+    private void appendMessageFlowNodes(StringBuilder sb, ArchitectureModelIndex index, Set<String> addedNodes) {
+        for (MessageFlow flow : index.model().messageFlows()) {
+            appendPublisherNode(sb, index, flow, addedNodes);
+            appendSubscriberNode(sb, index, flow, addedNodes);
             appendTopicNode(sb, flow, addedNodes);
         }
     }
@@ -670,15 +670,15 @@ public class MermaidGenerator implements DiagramGenerator {
      * Appends a publisher component node if not already added.
      *
      * @param sb the string builder
-     * @param model the architecture model
+     * @param index index over the architecture model
      * @param flow the message flow
      * @param addedNodes set to track added nodes
      */
-    private void appendPublisherNode(StringBuilder sb, ArchitectureModel model, MessageFlow flow, Set<String> addedNodes) {
+    private void appendPublisherNode(StringBuilder sb, ArchitectureModelIndex index, MessageFlow flow, Set<String> addedNodes) {
         if (flow.publisherComponentId() != null) {
             String pubId = sanitizeId(flow.publisherComponentId());
             if (!addedNodes.contains(pubId)) {
-                String name = getComponentName(model, flow.publisherComponentId());
+                String name = index.componentName(flow.publisherComponentId());
                 sb.append("  ").append(pubId).append("[\"").append(escape(name)).append("\"]\n");
                 addedNodes.add(pubId);
             }
@@ -689,15 +689,15 @@ public class MermaidGenerator implements DiagramGenerator {
      * Appends a subscriber component node if not already added.
      *
      * @param sb the string builder
-     * @param model the architecture model
+     * @param index index over the architecture model
      * @param flow the message flow
      * @param addedNodes set to track added nodes
      */
-    private void appendSubscriberNode(StringBuilder sb, ArchitectureModel model, MessageFlow flow, Set<String> addedNodes) {
+    private void appendSubscriberNode(StringBuilder sb, ArchitectureModelIndex index, MessageFlow flow, Set<String> addedNodes) {
         if (flow.subscriberComponentId() != null) {
             String subId = sanitizeId(flow.subscriberComponentId());
             if (!addedNodes.contains(subId)) {
-                String name = getComponentName(model, flow.subscriberComponentId());
+                String name = index.componentName(flow.subscriberComponentId());
                 sb.append("  ").append(subId).append("[\"").append(escape(name)).append("\"]\n");
                 addedNodes.add(subId);
             }
@@ -751,10 +751,11 @@ public class MermaidGenerator implements DiagramGenerator {
      * optional notes for endpoint descriptions.
      *
      * @param model the architecture model containing API endpoints
+     * @param index index over the model
      * @param config generator configuration (currently unused for sequence diagrams)
      * @return Markdown-formatted Mermaid diagram
      */
-    private String generateSequenceDiagram(ArchitectureModel model, GeneratorConfig config) {
+    private String generateSequenceDiagram(ArchitectureModel model, ArchitectureModelIndex index, GeneratorConfig config) {
         StringBuilder sb = new StringBuilder();
         sb.append(MARKDOWN_HEADER_PREFIX).append("API Sequence Diagram").append(MARKDOWN_NEWLINE.repeat(2));
         sb.append(CODE_BLOCK_START);
@@ -763,10 +764,10 @@ public class MermaidGenerator implements DiagramGenerator {
         if (model.apiEndpoints().isEmpty()) {
             sb.append(NO_API_ENDPOINTS_NODE);
         } else {
-            Set<String> participants = collectParticipants(model);
+            Set<String> participants = collectParticipants(index);
             appendSequenceParticipants(sb, participants);
             sb.append(MARKDOWN_NEWLINE);
-            appendApiCallSequences(sb, model);
+            appendApiCallSequences(sb, index);
         }
 
         sb.append(CODE_BLOCK_END);
@@ -776,15 +777,15 @@ public class MermaidGenerator implements DiagramGenerator {
     /**
      * Collects all participants (Client + components with endpoints) for the sequence diagram.
      *
-     * @param model the architecture model
+     * @param index index over the architecture model
      * @return ordered set of participant names
      */
-    private Set<String> collectParticipants(ArchitectureModel model) {
+    private Set<String> collectParticipants(ArchitectureModelIndex index) {
         Set<String> participants = new LinkedHashSet<>();
         participants.add("Client");
 
-        for (ApiEndpoint endpoint : model.apiEndpoints()) {
-            String compName = getComponentName(model, endpoint.componentId());
+        for (ApiEndpoint endpoint : index.model().apiEndpoints()) {
+            String compName = index.componentName(endpoint.componentId());
             participants.add(compName);
         }
 
@@ -808,11 +809,11 @@ public class MermaidGenerator implements DiagramGenerator {
      * Appends API call sequences (request-response pairs) to the diagram.
      *
      * @param sb the string builder
-     * @param model the architecture model
+     * @param index index over the architecture model
      */
-    private void appendApiCallSequences(StringBuilder sb, ArchitectureModel model) {
-        for (ApiEndpoint endpoint : model.apiEndpoints()) {
-            String compName = getComponentName(model, endpoint.componentId());
+    private void appendApiCallSequences(StringBuilder sb, ArchitectureModelIndex index) {
+        for (ApiEndpoint endpoint : index.model().apiEndpoints()) {
+            String compName = index.componentName(endpoint.componentId());
             String method = endpoint.method() != null ? endpoint.method() : "CALL";
             String path = endpoint.path();
 
@@ -879,22 +880,4 @@ public class MermaidGenerator implements DiagramGenerator {
         }
         return text.replace("\"", "'").replace("\n", " ");
     }
-
-    /**
-     * Retrieves a component's display name by its ID.
-     *
-     * <p>Searches the architecture model for a component with the given ID
-     * and returns its name. If not found, returns the ID itself as fallback.
-     *
-     * @param model the architecture model to search
-     * @param componentId the component ID to look up
-     * @return component name, or the componentId if not found
-     */
-    private String getComponentName(ArchitectureModel model, String componentId) {
-        return model.components().stream()
-            .filter(c -> c.id().equals(componentId))
-            .findFirst()
-            .map(Component::name)
-            .orElse(componentId);
-    }
 }
@@ -0,0 +1,167 @@
+package com.docarchitect.core.model;
+
+import com.docarchitect.core.scanner.FindingType;
+import com.docarchitect.core.scanner.ScanResult;
+import com.docarchitect.core.scanner.ScanStatistics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Incrementally aggregates scan results into an {@link ArchitectureModel}.
+ *
+ * <p>Results are fed one at a time, typically as soon as each scanner finishes, and their
+ * findings are deduplicated on insert. The builder only ever holds the deduplicated model, so
+ * the caller can drop a result's finding lists right after adding it. Duplicates are detected
+ * with composite keys (record keys over the identifying fields) rather than concatenated
+ * strings:
+ * <ul>
+ *   <li>components by {@code id}</li>
+ *   <li>dependencies by {@code groupId}, {@code artifactId} and {@code version}</li>
+ *   <li>API endpoints by {@code componentId}, {@code method} and {@code path}</li>
+ *   <li>message flows by {@code topic}, publisher and subscriber</li>
+ *   <li>data entities by {@code componentId} and {@code name}</li>
+ *   <li>relationships by source, target and {@code type}</li>
+ * </ul>
+ *
+ * <p>The first occurrence of a key wins and findings keep the order in which they were first
+ * added, so adding results in scanner priority order yields the same model regardless of
+ * how the scanners were scheduled. Failed results only contribute their statistics.
+ *
+ * <p><b>Thread Safety:</b> not thread-safe; feed results from one thread at a time, as
+ * {@link com.docarchitect.core.scanner.ScannerScheduler} does.
+ *
+ * <p><b>Usage Example:</b></p>
+ * <pre>{@code
+ * ArchitectureModelBuilder builder = new ArchitectureModelBuilder();
+ * scheduler.execute(scanners, context, builder::add);
+ *
+ * ArchitectureModel model = builder.build("my-system", "1.0.0", List.of(root.toString()), qualityReport);
+ * }</pre>
+ *
+ * @since 1.0.0
+ */
+public final class ArchitectureModelBuilder {
+
+    private final Map<String, Component> components = new LinkedHashMap<>();
+    private final Map<DependencyKey, Dependency> dependencies = new LinkedHashMap<>();
+    private final Map<EndpointKey, ApiEndpoint> apiEndpoints = new LinkedHashMap<>();
+    private final Map<MessageFlowKey, MessageFlow> messageFlows = new LinkedHashMap<>();
+    private final Map<DataEntityKey, DataEntity> dataEntities = new LinkedHashMap<>();
+    private final Map<RelationshipKey, Relationship> relationships = new LinkedHashMap<>();
+    private final Map<FindingType, Integer> rawFindingCounts = new EnumMap<>(FindingType.class);
+    private final Map<String, ScanStatistics> scannerStatistics = new LinkedHashMap<>();
+
+    /**
+     * Adds the findings and statistics of one scan result.
+     *
+     * @param result scan result
+     * @return this builder
+     */
+    public ArchitectureModelBuilder add(ScanResult result) {
+        if (result.statistics() != null) {
+            scannerStatistics.put(result.scannerId(), result.statistics());
+        }
+        countRaw(FindingType.COMPONENTS, result.components());
+        countRaw(FindingType.DEPENDENCIES, result.dependencies());
+        countRaw(FindingType.API_ENDPOINTS, result.apiEndpoints());
+        countRaw(FindingType.MESSAGE_FLOWS, result.messageFlows());
+        countRaw(FindingType.DATA_ENTITIES, result.dataEntities());
+        countRaw(FindingType.RELATIONSHIPS, result.relationships());
+        if (!result.success()) {
+            return this;
+        }
+        addAll(components, result.components(), Component::id);
+        addAll(dependencies, result.dependencies(),
+            d -> new DependencyKey(d.groupId(), d.artifactId(), d.version()));
+        addAll(apiEndpoints, result.apiEndpoints(),
+            e -> new EndpointKey(e.componentId(), e.method(), e.path()));
+        addAll(messageFlows, result.messageFlows(),
+            m -> new MessageFlowKey(m.topic(), m.publisherComponentId(), m.subscriberComponentId()));
+        addAll(dataEntities, result.dataEntities(),
+            e -> new DataEntityKey(e.componentId(), e.name()));
+        addAll(relationships, result.relationships(),
+            r -> new RelationshipKey(r.sourceId(), r.targetId(), r.type()));
+        return this;
+    }
+
+    /**
+     * Returns how many findings of a category were added before deduplication.
+     *
+     * @param type finding category
+     * @return number of findings across all added results
+     */
+    public int rawFindingCount(FindingType type) {
+        return rawFindingCounts.getOrDefault(type, 0);
+    }
+
+    /**
+     * Returns the statistics of every added result, keyed by scanner ID in insertion order.
+     *
+     * @return unmodifiable view of the per-scanner statistics
+     */
+    public Map<String, ScanStatistics> scannerStatistics() {
+        return Collections.unmodifiableMap(scannerStatistics);
+    }
+
+    /**
+     * Builds the model from everything added so far.
+     *
+     * @param projectName project or system name
+     * @param projectVersion project version
+     * @param repositories scanned repositories
+     * @param qualityReport scan quality metrics, may be null
+     * @return architecture model
+     */
+    public ArchitectureModel build(String projectName, String projectVersion, List<String> repositories,
+                                   ScanQualityReport qualityReport) {
+        return new ArchitectureModel(
+            projectName,
+            projectVersion,
+            repositories,
+            new ArrayList<>(components.values()),
+            new ArrayList<>(dependencies.values()),
+            new ArrayList<>(relationships.values()),
+            new ArrayList<>(apiEndpoints.values()),
+            new ArrayList<>(messageFlows.values()),
+            new ArrayList<>(dataEntities.values()),
+            qualityReport,
+            new LinkedHashMap<>(scannerStatistics)
+        );
+    }
+
+    private void countRaw(FindingType type, List<?> items) {
+        if (!items.isEmpty()) {
+            rawFindingCounts.merge(type, items.size(), Integer::sum);
+        }
+    }
+
+    private static <K, T> void addAll(Map<K, T> target, List<T> items, Function<T, K> keyExtractor) {
+        for (T item : items) {
+            K key = keyExtractor.apply(item);
+            if (key != null) {
+                target.putIfAbsent(key, item);
+            }
+        }
+    }
+
+    private record DependencyKey(String groupId, String artifactId, String version) {
+    }
+
+    private record EndpointKey(String componentId, String method, String path) {
+    }
+
+    private record MessageFlowKey(String topic, String publisherComponentId, String subscriberComponentId) {
+    }
+
+    private record DataEntityKey(String componentId, String name) {
+    }
+
+    private record RelationshipKey(String sourceId, String targetId, RelationshipType type) {
+    }
+}
@@ -0,0 +1,191 @@
+package com.docarchitect.core.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * Read-only lookup structures over an {@link ArchitectureModel}.
+ *
+ * <p>Generators render per-component sections, resolve component names for every endpoint
+ * and flow, and match entities by name. Doing that by streaming over the model's lists is
+ * quadratic in the model size; this index builds the lookups once, in a single pass per list:
+ * <ul>
+ *   <li>components by ID (first occurrence wins)</li>
+ *   <li>API endpoints, data entities and dependencies by component ID</li>
+ *   <li>message flows by topic</li>
+ *   <li>data entities by name, ignoring case</li>
+ * </ul>
+ *
+ * <p>Groups keep model order, and group maps iterate in order of first appearance, so output
+ * built from the index is deterministic. All returned collections are unmodifiable.
+ *
+ * <p>Building an index takes one pass over each list of the model. Callers build it once per
+ * unit of work, such as one {@code generate(...)} call, and pass it to their helpers; the index
+ * does not track later changes to the model.
+ *
+ * <p><b>Thread Safety:</b> immutable and safe for concurrent use.
+ *
+ * <p><b>Usage Example:</b></p>
+ * <pre>{@code
+ * ArchitectureModelIndex index = ArchitectureModelIndex.of(model);
+ * for (Component component : model.components()) {
+ *     List<ApiEndpoint> endpoints = index.endpointsOf(component.id());
+ * }
+ * }</pre>
+ *
+ * @since 1.0.0
+ */
+public final class ArchitectureModelIndex {
+
+    private final ArchitectureModel model;
+    private final Map<String, Component> componentsById;
+    private final Map<String, List<ApiEndpoint>> endpointsByComponent;
+    private final Map<String, List<DataEntity>> entitiesByComponent;
+    private final Map<String, List<Dependency>> dependenciesByComponent;
+    private final Map<String, List<MessageFlow>> flowsByTopic;
+    private final Map<String, Integer> entityPositionsByName;
+
+    private ArchitectureModelIndex(ArchitectureModel model) {
+        this.model = model;
+
+        Map<String, Component> components = new HashMap<>();
+        for (Component component : model.components()) {
+            components.putIfAbsent(component.id(), component);
+        }
+        this.componentsById = Collections.unmodifiableMap(components);
+
+        this.endpointsByComponent = group(model.apiEndpoints(), ApiEndpoint::componentId);
+        this.entitiesByComponent = group(model.dataEntities(), DataEntity::componentId);
+        this.dependenciesByComponent = group(model.dependencies(), Dependency::sourceComponentId);
+        this.flowsByTopic = group(model.messageFlows(), MessageFlow::topic);
+
+        Map<String, Integer> entityPositions = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        List<DataEntity> entities = model.dataEntities();
+        for (int i = 0; i < entities.size(); i++) {
+            entityPositions.putIfAbsent(entities.get(i).name(), i);
+        }
+        this.entityPositionsByName = entityPositions;
+    }
+
+    /**
+     * Builds the index of a model.
+     *
+     * @param model architecture model
+     * @return new index over the model
+     */
+    public static ArchitectureModelIndex of(ArchitectureModel model) {
+        Objects.requireNonNull(model, "model must not be null");
+        return new ArchitectureModelIndex(model);
+    }
+
+    /**
+     * Returns the indexed model.
+     *
+     * @return architecture model
+     */
+    public ArchitectureModel model() {
+        return model;
+    }
+
+    /**
+     * Finds a component by ID.
+     *
+     * @param componentId component ID
+     * @return first component with that ID, or empty
+     */
+    public Optional<Component> component(String componentId) {
+        return Optional.ofNullable(componentsById.get(componentId));
+    }
+
+    /**
+     * Returns a component's display name.
+     *
+     * @param componentId component ID
+     * @return component name, or the ID itself if no such component exists
+     */
+    public String componentName(String componentId) {
+        Component component = componentsById.get(componentId);
+        return component != null ? component.name() : componentId;
+    }
+
+    /**
+     * Returns the API endpoints of a component.
+     *
+     * @param componentId component ID
+     * @return endpoints in model order, empty if none
+     */
+    public List<ApiEndpoint> endpointsOf(String componentId) {
+        return endpointsByComponent.getOrDefault(componentId, List.of());
+    }
+
+    /**
+     * Returns all API endpoints grouped by component ID.
+     *
+     * @return endpoints by component ID, in order of first appearance
+     */
+    public Map<String, List<ApiEndpoint>> endpointsByComponent() {
+        return endpointsByComponent;
+    }
+
+    /**
+     * Returns the data entities of a component.
+     *
+     * @param componentId component ID
+     * @return entities in model order, empty if none
+     */
+    public List<DataEntity> entitiesOf(String componentId) {
+        return entitiesByComponent.getOrDefault(componentId, List.of());
+    }
+
+    /**
+     * Returns all dependencies grouped by source component ID.
+     *
+     * @return dependencies by component ID, in order of first appearance
+     */
+    public Map<String, List<Dependency>> dependenciesByComponent() {
+        return dependenciesByComponent;
+    }
+
+    /**
+     * Returns all message flows grouped by topic.
+     *
+     * @return flows by topic, in order of first appearance
+     */
+    public Map<String, List<MessageFlow>> flowsByTopic() {
+        return flowsByTopic;
+    }
+
+    /**
+     * Finds the data entity that comes first in the model among those named like any candidate.
+     *
+     * @param candidateNames names to match, ignoring case
+     * @return first matching entity in model order, or empty
+     */
+    public Optional<DataEntity> dataEntityNamed(String... candidateNames) {
+        int first = Integer.MAX_VALUE;
+        for (String name : candidateNames) {
+            Integer position = name != null ? entityPositionsByName.get(name) : null;
+            if (position != null && position < first) {
+                first = position;
+            }
+        }
+        return first == Integer.MAX_VALUE ? Optional.empty() : Optional.of(model.dataEntities().get(first));
+    }
+
+    private static <T> Map<String, List<T>> group(List<T> items, Function<T, String> keyExtractor) {
+        Map<String, List<T>> groups = new LinkedHashMap<>();
+        for (T item : items) {
+            groups.computeIfAbsent(keyExtractor.apply(item), key -> new ArrayList<>()).add(item);
+        }
+        groups.replaceAll((key, group) -> Collections.unmodifiableList(group));
+        return Collections.unmodifiableMap(groups);
+    }
+}
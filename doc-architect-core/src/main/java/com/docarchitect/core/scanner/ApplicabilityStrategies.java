@@ -1,6 +1,7 @@
 package com.docarchitect.core.scanner;
 
 import java.util.Arrays;
+import java.util.Set;
 
 /**
  * Factory for common scanner applicability strategies.
@@ -98,14 +99,15 @@ public final class ApplicabilityStrategies {
      * @return strategy that tests for the dependency
      */
     public static ScannerApplicabilityStrategy hasDependency(String dependencyName) {
-        return context -> context.previousResults().values().stream()
-            .flatMap(result -> result.dependencies().stream())
-            .anyMatch(dep -> {
-                String lowerName = dependencyName.toLowerCase();
-                String lowerGroup = dep.groupId().toLowerCase();
-                String lowerArtifact = dep.artifactId().toLowerCase();
-                return lowerGroup.contains(lowerName) || lowerArtifact.contains(lowerName);
-            });
+        return ScannerApplicabilityStrategy.requiring(Set.of(FindingType.DEPENDENCIES), context ->
+            context.previousResults().values().stream()
+                .flatMap(result -> result.dependencies().stream())
+                .anyMatch(dep -> {
+                    String lowerName = dependencyName.toLowerCase();
+                    String lowerGroup = dep.groupId().toLowerCase();
+                    String lowerArtifact = dep.artifactId().toLowerCase();
+                    return lowerGroup.contains(lowerName) || lowerArtifact.contains(lowerName);
+                }));
     }
 
     /**
@@ -118,17 +120,18 @@ public final class ApplicabilityStrategies {
      * @return strategy that tests if any dependency matches
      */
     public static ScannerApplicabilityStrategy hasAnyDependency(String... dependencyNames) {
-        return context -> context.previousResults().values().stream()
-            .flatMap(result -> result.dependencies().stream())
-            .anyMatch(dep -> {
-                String lowerGroup = dep.groupId().toLowerCase();
-                String lowerArtifact = dep.artifactId().toLowerCase();
-                return Arrays.stream(dependencyNames)
-                    .anyMatch(depName -> {
-                        String lowerName = depName.toLowerCase();
-                        return lowerGroup.contains(lowerName) || lowerArtifact.contains(lowerName);
-                    });
-            });
+        return ScannerApplicabilityStrategy.requiring(Set.of(FindingType.DEPENDENCIES), context ->
+            context.previousResults().values().stream()
+                .flatMap(result -> result.dependencies().stream())
+                .anyMatch(dep -> {
+                    String lowerGroup = dep.groupId().toLowerCase();
+                    String lowerArtifact = dep.artifactId().toLowerCase();
+                    return Arrays.stream(dependencyNames)
+                        .anyMatch(depName -> {
+                            String lowerName = depName.toLowerCase();
+                            return lowerGroup.contains(lowerName) || lowerArtifact.contains(lowerName);
+                        });
+                }));
     }
 
     // ===== Java Framework Checks =====
@@ -0,0 +1,40 @@
+package com.docarchitect.core.scanner;
+
+/**
+ * Categories of findings a {@link ScanResult} can carry.
+ *
+ * <p>Scanners declare which categories they produce ({@link Scanner#getProducedFindings()})
+ * and which categories of earlier results they read ({@link Scanner#getRequiredFindings()}).
+ * The scheduler uses these declarations to decide which scanners must wait for each other
+ * and which can run concurrently.
+ *
+ * <p><b>Usage Example:</b></p>
+ * <pre>{@code
+ * @Override
+ * public Set<FindingType> getProducedFindings() {
+ *     return Set.of(FindingType.COMPONENTS, FindingType.DEPENDENCIES);
+ * }
+ * }</pre>
+ *
+ * @see ScannerScheduler
+ * @since 1.0.0
+ */
+public enum FindingType {
+    /** {@link ScanResult#components()} */
+    COMPONENTS,
+
+    /** {@link ScanResult#dependencies()} */
+    DEPENDENCIES,
+
+    /** {@link ScanResult#apiEndpoints()} */
+    API_ENDPOINTS,
+
+    /** {@link ScanResult#messageFlows()} */
+    MESSAGE_FLOWS,
+
+    /** {@link ScanResult#dataEntities()} */
+    DATA_ENTITIES,
+
+    /** {@link ScanResult#relationships()} */
+    RELATIONSHIPS
+}
@@ -0,0 +1,397 @@
+package com.docarchitect.core.scanner;
+
+import com.docarchitect.core.util.IgnoreRules;
+
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Immutable index of all regular files below a project's source paths.
+ *
+ * <p>The index is built with a single directory walk per scan and then shared by every
+ * scanner through {@link ScanContext#findFiles(String)}. Besides the flat file list it keeps
+ * buckets by extension and by file name, so the glob patterns scanners use most often
+ * ({@code **\/*.java}, {@code **\/pom.xml}, {@code *.cs}) resolve to a map lookup instead of
+ * matching every path in the project.
+ *
+ * <p>Matching semantics are identical to {@link java.nio.file.PathMatcher} glob matching
+ * against the path relative to the project root, and results are returned in directory
+ * walk order, so an indexed lookup yields exactly what a fresh walk would.
+ *
+ * <p>Directories excluded by the {@link IgnoreRules} ({@code .git}, {@code node_modules},
+ * {@code .gitignore}d build output, configured excludes, ...) are pruned during the walk and
+ * never listed.
+ *
+ * <p><b>Usage Example:</b></p>
+ * <pre>{@code
+ * ProjectFileIndex index = ProjectFileIndex.build(projectRoot, List.of(projectRoot));
+ * ScanContext context = new ScanContext(projectRoot, List.of(projectRoot),
+ *     Map.of(), Map.of(), Map.of(), index);
+ *
+ * List<Path> javaFiles = context.findFiles("**\/*.java").toList();
+ * }</pre>
+ *
+ * @see ScanContext
+ * @since 1.0.0
+ */
+public final class ProjectFileIndex {
+
+    private static final String ANY_DIRECTORY_PREFIX = "**/";
+    private static final String ANY_NAME_PREFIX = "*.";
+
+    /**
+     * Directories listed concurrently while building the index.
+     */
+    static final int LISTING_CONCURRENCY = 16;
+
+    private final Path rootPath;
+    private final List<IndexedFile> files;
+    private final Map<Path, IndexedFile> byPath;
+    private final Map<String, List<IndexedFile>> byExtension;
+    private final Map<String, List<IndexedFile>> byFileName;
+    private final Map<String, PathMatcher> matcherCache = new ConcurrentHashMap<>();
+
+    /**
+     * Metadata captured for every indexed file.
+     *
+     * @param path absolute path to the file
+     * @param relativePath path relative to the project root (used for glob matching)
+     * @param fileName file name without directories
+     * @param extension text after the last dot of the file name, or empty string if none
+     * @param size file size in bytes
+     * @param lastModified last modification time in epoch milliseconds
+     */
+    public record IndexedFile(
+        Path path,
+        Path relativePath,
+        String fileName,
+        String extension,
+        long size,
+        long lastModified
+    ) {
+        /**
+         * Compact constructor with validation.
+         */
+        public IndexedFile {
+            Objects.requireNonNull(path, "path must not be null");
+            Objects.requireNonNull(relativePath, "relativePath must not be null");
+            Objects.requireNonNull(fileName, "fileName must not be null");
+            if (extension == null) {
+                extension = "";
+            }
+        }
+    }
+
+    private ProjectFileIndex(Path rootPath, List<IndexedFile> files) {
+        this.rootPath = rootPath;
+        this.files = Collections.unmodifiableList(files);
+
+        Map<Path, IndexedFile> paths = new HashMap<>();
+        Map<String, List<IndexedFile>> extensions = new HashMap<>();
+        Map<String, List<IndexedFile>> fileNames = new HashMap<>();
+        for (IndexedFile file : files) {
+            paths.putIfAbsent(file.path(), file);
+            extensions.computeIfAbsent(file.extension(), key -> new ArrayList<>()).add(file);
+            fileNames.computeIfAbsent(file.fileName(), key -> new ArrayList<>()).add(file);
+        }
+        this.byPath = paths;
+        this.byExtension = extensions;
+        this.byFileName = fileNames;
+    }
+
+    /**
+     * Builds an index by walking each source path exactly once with
+     * {@link IgnoreRules#defaults() default ignore rules}.
+     *
+     * <p>Unreadable directories and files are skipped rather than aborting the walk.
+     *
+     * @param rootPath project root; indexed paths are matched relative to it
+     * @param sourcePaths directories (or files) to index
+     * @return populated index
+     */
+    public static ProjectFileIndex build(Path rootPath, List<Path> sourcePaths) {
+        return build(rootPath, sourcePaths, IgnoreRules.defaults());
+    }
+
+    /**
+     * Builds an index by walking each source path exactly once, skipping ignored files and
+     * directories.
+     *
+     * <p>Directories are listed on virtual threads, up to {@value #LISTING_CONCURRENCY} at a
+     * time; files are still indexed in sequential walk order. Unreadable directories and
+     * files are skipped rather than aborting the walk.
+     *
+     * @param rootPath project root; indexed paths and ignore rules are relative to it
+     * @param sourcePaths directories (or files) to index
+     * @param ignoreRules rules deciding which files and directories are skipped
+     * @return populated index
+     */
+    public static ProjectFileIndex build(Path rootPath, List<Path> sourcePaths, IgnoreRules ignoreRules) {
+        Objects.requireNonNull(rootPath, "rootPath must not be null");
+        Objects.requireNonNull(ignoreRules, "ignoreRules must not be null");
+        List<Path> roots = sourcePaths == null || sourcePaths.isEmpty() ? List.of(rootPath) : sourcePaths;
+
+        List<IndexedFile> files = new ArrayList<>();
+        for (Path sourcePath : roots) {
+            if (!Files.exists(sourcePath)) {
+                continue;
+            }
+            try {
+                ignoreRules.walk(rootPath, sourcePath, new IndexingVisitor(rootPath, files), LISTING_CONCURRENCY);
+            } catch (IOException e) {
+                // Same behaviour as an unreadable source path in a plain walk: contribute nothing
+            }
+        }
+        return new ProjectFileIndex(rootPath, files);
+    }
+
+    /**
+     * Returns an index with updated metadata for files that were modified in place.
+     *
+     * <p>Used by watch mode to avoid a full walk when files were only edited. Indexed files keep
+     * their position, so lookups still return walk order. If a changed path was created or
+     * deleted, or was a directory holding indexed files, the set of files is no longer known
+     * and the index has to be rebuilt instead.
+     *
+     * @param changedPaths absolute paths reported as changed
+     * @return refreshed index, or empty if the project must be indexed again
+     */
+    public Optional<ProjectFileIndex> refresh(Collection<Path> changedPaths) {
+        Objects.requireNonNull(changedPaths, "changedPaths must not be null");
+        Map<Path, IndexedFile> updated = new HashMap<>();
+        for (Path path : changedPaths) {
+            IndexedFile indexed = byPath.get(path);
+            BasicFileAttributes attrs;
+            try {
+                attrs = Files.readAttributes(path, BasicFileAttributes.class);
+            } catch (IOException e) {
+                attrs = null;
+            }
+            if (indexed == null) {
+                boolean created = attrs != null && attrs.isRegularFile();
+                boolean removedDirectory = attrs == null
+                    && files.stream().anyMatch(file -> file.path().startsWith(path));
+                if (created || removedDirectory) {
+                    return Optional.empty();
+                }
+            } else if (attrs == null || !attrs.isRegularFile()) {
+                return Optional.empty();
+            } else {
+                updated.put(path, new IndexedFile(indexed.path(), indexed.relativePath(), indexed.fileName(),
+                    indexed.extension(), attrs.size(), attrs.lastModifiedTime().toMillis()));
+            }
+        }
+        if (updated.isEmpty()) {
+            return Optional.of(this);
+        }
+        List<IndexedFile> refreshed = new ArrayList<>(files.size());
+        for (IndexedFile file : files) {
+            refreshed.add(updated.getOrDefault(file.path(), file));
+        }
+        return Optional.of(new ProjectFileIndex(rootPath, refreshed));
+    }
+
+    /**
+     * Returns the project root the index was built for.
+     *
+     * @return project root path
+     */
+    public Path rootPath() {
+        return rootPath;
+    }
+
+    /**
+     * Returns all indexed files in walk order.
+     *
+     * @return unmodifiable list of indexed files
+     */
+    public List<IndexedFile> files() {
+        return files;
+    }
+
+    /**
+     * Returns the number of indexed files.
+     *
+     * @return file count
+     */
+    public int size() {
+        return files.size();
+    }
+
+    /**
+     * Looks up the metadata recorded for a file.
+     *
+     * @param path absolute file path
+     * @return indexed metadata, or empty if the file is not part of the index
+     */
+    public Optional<IndexedFile> get(Path path) {
+        return Optional.ofNullable(byPath.get(path));
+    }
+
+    /**
+     * Finds files matching the given glob pattern.
+     *
+     * @param pattern glob pattern, matched against paths relative to the project root
+     * @return stream of matching absolute file paths in walk order
+     */
+    public Stream<Path> findFiles(String pattern) {
+        return findEntries(pattern).map(IndexedFile::path);
+    }
+
+    /**
+     * Finds indexed entries matching the given glob pattern.
+     *
+     * @param pattern glob pattern, matched against paths relative to the project root
+     * @return stream of matching entries in walk order
+     */
+    public Stream<IndexedFile> findEntries(String pattern) {
+        Objects.requireNonNull(pattern, "pattern must not be null");
+
+        // Braces, character classes and escapes can span segments; match those against everything
+        if (hasComplexSyntax(pattern)) {
+            PathMatcher matcher = matcherFor(pattern);
+            return files.stream().filter(file -> matcher.matches(file.relativePath()));
+        }
+
+        String lastSegment = pattern.substring(pattern.lastIndexOf('/') + 1);
+
+        // "**/name" and "**/*.ext" - bucket lookup, only nested files can match
+        if (pattern.startsWith(ANY_DIRECTORY_PREFIX) && pattern.lastIndexOf('/') == ANY_DIRECTORY_PREFIX.length() - 1) {
+            if (isLiteral(lastSegment)) {
+                return bucket(byFileName, lastSegment).stream().filter(ProjectFileIndex::isNested);
+            }
+            String extension = simpleExtension(lastSegment);
+            if (extension != null) {
+                return bucket(byExtension, extension).stream().filter(ProjectFileIndex::isNested);
+            }
+        }
+
+        // Narrow candidates through a bucket, then apply the exact glob
+        List<IndexedFile> candidates;
+        if (isLiteral(lastSegment)) {
+            candidates = bucket(byFileName, lastSegment);
+        } else {
+            String extension = literalExtension(lastSegment);
+            candidates = extension != null ? bucket(byExtension, extension) : files;
+        }
+
+        PathMatcher matcher = matcherFor(pattern);
+        return candidates.stream().filter(file -> matcher.matches(file.relativePath()));
+    }
+
+    private PathMatcher matcherFor(String pattern) {
+        return matcherCache.computeIfAbsent(pattern,
+            glob -> FileSystems.getDefault().getPathMatcher("glob:" + glob));
+    }
+
+    private static List<IndexedFile> bucket(Map<String, List<IndexedFile>> buckets, String key) {
+        return buckets.getOrDefault(key, List.of());
+    }
+
+    private static boolean isNested(IndexedFile file) {
+        return file.relativePath().getNameCount() > 1;
+    }
+
+    private static boolean hasComplexSyntax(String pattern) {
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c == '{' || c == '}' || c == '[' || c == ']' || c == '\\') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isLiteral(String segment) {
+        return !segment.isEmpty() && segment.indexOf('*') < 0 && segment.indexOf('?') < 0;
+    }
+
+    /**
+     * Returns {@code ext} when the segment is exactly {@code *.ext} with a literal, dot-free extension.
+     */
+    private static String simpleExtension(String segment) {
+        if (!segment.startsWith(ANY_NAME_PREFIX)) {
+            return null;
+        }
+        String extension = segment.substring(ANY_NAME_PREFIX.length());
+        return isLiteral(extension) && extension.indexOf('.') < 0 ? extension : null;
+    }
+
+    /**
+     * Returns the literal text after the last dot when every matching name must end with it.
+     */
+    private static String literalExtension(String segment) {
+        int lastDot = segment.lastIndexOf('.');
+        if (lastDot < 0) {
+            return null;
+        }
+        String extension = segment.substring(lastDot + 1);
+        return isLiteral(extension) ? extension : null;
+    }
+
+    private static String extensionOf(String fileName) {
+        int lastDot = fileName.lastIndexOf('.');
+        return lastDot >= 0 ? fileName.substring(lastDot + 1) : "";
+    }
+
+    /**
+     * Collects regular files (including symlinks to regular files) during the walk.
+     */
+    private static final class IndexingVisitor extends SimpleFileVisitor<Path> {
+        private final Path rootPath;
+        private final List<IndexedFile> files;
+
+        private IndexingVisitor(Path rootPath, List<IndexedFile> files) {
+            this.rootPath = rootPath;
+            this.files = files;
+        }
+
+        @Override
+        public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+            BasicFileAttributes effective = attrs;
+            if (attrs.isSymbolicLink()) {
+                if (!Files.isRegularFile(file)) {
+                    return FileVisitResult.CONTINUE;
+                }
+                try {
+                    effective = Files.readAttributes(file, BasicFileAttributes.class);
+                } catch (IOException e) {
+                    return FileVisitResult.CONTINUE;
+                }
+            }
+            if (effective.isRegularFile()) {
+                String fileName = file.getFileName().toString();
+                files.add(new IndexedFile(
+                    file,
+                    rootPath.relativize(file),
+                    fileName,
+                    extensionOf(fileName),
+                    effective.size(),
+                    effective.lastModifiedTime().toMillis()
+                ));
+            }
+            return FileVisitResult.CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult visitFileFailed(Path file, IOException exc) {
+            return FileVisitResult.CONTINUE;
+        }
+    }
+}
@@ -1,10 +1,19 @@
 package com.docarchitect.core.scanner;
 
+import com.docarchitect.core.scanner.ast.CompilationUnitCache;
+import com.docarchitect.core.scanner.ast.ParsedSourceStore;
+import com.docarchitect.core.scanner.cache.IncrementalScanCache;
+import com.docarchitect.core.scanner.profile.ScanPhase;
+import com.docarchitect.core.scanner.profile.ScanProfiler;
+import com.docarchitect.core.util.FileUtils;
+import com.docarchitect.core.util.IgnoreRules;
+
 import java.io.IOException;
 import java.nio.file.FileSystems;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.PathMatcher;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -17,17 +26,32 @@ import java.util.stream.Stream;
  *
  * @param rootPath project root directory
  * @param sourcePaths directories containing source code
- * @param configuration scanner-specific configuration
+ * @param configuration scanner-specific configuration (see {@link #configurationFor(Map, String)})
  * @param settings global settings from docarchitect.yaml
  * @param previousResults results from scanners that ran before this one (keyed by scanner ID)
+ * @param fileIndex shared index of project files built once per scan, or null to walk the file system on every lookup
+ * @param compilationUnitCache shared cache of parsed Java files for this scan, or null to parse on every request
+ * @param parsedSourceStore shared store of files parsed by the language AST parsers for this scan, or null to parse on every request
+ * @param incrementalCache persistent cache of per-file results from previous runs, or null to parse every file
+ * @param profiler profiler timing the scan, bound to the scanner by the scheduler, or null to disable profiling
  */
 public record ScanContext(
     Path rootPath,
     List<Path> sourcePaths,
     Map<String, Object> configuration,
     Map<String, String> settings,
-    Map<String, ScanResult> previousResults
+    Map<String, ScanResult> previousResults,
+    ProjectFileIndex fileIndex,
+    CompilationUnitCache compilationUnitCache,
+    ParsedSourceStore parsedSourceStore,
+    IncrementalScanCache incrementalCache,
+    ScanProfiler profiler
 ) {
+    /**
+     * Setting key for the number of files a scanner may process concurrently.
+     */
+    public static final String PARALLELISM_SETTING = "parallelism";
+
     /**
      * Compact constructor with validation.
      */
@@ -45,6 +69,87 @@ public record ScanContext(
         if (previousResults == null) {
             previousResults = Map.of();
         }
+        if (profiler == null) {
+            profiler = ScanProfiler.disabled();
+        }
+    }
+
+    /**
+     * Creates a context without a shared file index.
+     *
+     * <p>Every {@link #findFiles(String)} call walks the source paths. Prefer passing a
+     * {@link ProjectFileIndex} when several scanners share the context.
+     *
+     * @param rootPath project root directory
+     * @param sourcePaths directories containing source code
+     * @param configuration scanner-specific configuration
+     * @param settings global settings from docarchitect.yaml
+     * @param previousResults results from scanners that ran before this one
+     */
+    public ScanContext(
+        Path rootPath,
+        List<Path> sourcePaths,
+        Map<String, Object> configuration,
+        Map<String, String> settings,
+        Map<String, ScanResult> previousResults
+    ) {
+        this(rootPath, sourcePaths, configuration, settings, previousResults, null, null, null, null, null);
+    }
+
+    /**
+     * Creates a context with a shared file index but without caches.
+     *
+     * @param rootPath project root directory
+     * @param sourcePaths directories containing source code
+     * @param configuration scanner-specific configuration
+     * @param settings global settings from docarchitect.yaml
+     * @param previousResults results from scanners that ran before this one
+     * @param fileIndex shared index of project files, or null
+     */
+    public ScanContext(
+        Path rootPath,
+        List<Path> sourcePaths,
+        Map<String, Object> configuration,
+        Map<String, String> settings,
+        Map<String, ScanResult> previousResults,
+        ProjectFileIndex fileIndex
+    ) {
+        this(rootPath, sourcePaths, configuration, settings, previousResults, fileIndex, null, null, null, null);
+    }
+
+    /**
+     * Returns the configuration seen by one scanner.
+     *
+     * <p>The {@code scanners.config} section of {@code docarchitect.yaml} holds values for all
+     * scanners at the top level and per-scanner sections keyed by scanner ID. A scanner sees the
+     * top-level values, overridden by the values of its own section; other scanners' sections
+     * are dropped:
+     * <pre>{@code
+     * scanners:
+     *   config:
+     *     maxLines: 50000           # every scanner
+     *     graphql-schema:
+     *       maxLines: 100000        # graphql-schema only
+     * }</pre>
+     *
+     * @param configuration shared scanner configuration
+     * @param scannerId ID of the scanner
+     * @return unmodifiable configuration for the scanner
+     */
+    public static Map<String, Object> configurationFor(Map<String, Object> configuration, String scannerId) {
+        if (configuration == null || configuration.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, Object> scannerConfiguration = new LinkedHashMap<>();
+        configuration.forEach((key, value) -> {
+            if (!(value instanceof Map<?, ?>)) {
+                scannerConfiguration.put(key, value);
+            }
+        });
+        if (configuration.get(scannerId) instanceof Map<?, ?> section) {
+            section.forEach((key, value) -> scannerConfiguration.put(String.valueOf(key), value));
+        }
+        return Collections.unmodifiableMap(scannerConfiguration);
     }
 
     /**
@@ -52,17 +157,36 @@ public record ScanContext(
      *
      * <p>Example patterns: pom.xml files, Java files, Kotlin files in src/main.
      *
+     * <p>When a {@link ProjectFileIndex} is attached the lookup is answered from the index;
+     * otherwise the source paths are walked, pruning directories excluded by
+     * {@link IgnoreRules#defaults()}.
+     *
+     * <p>While profiling, the lookup is completed eagerly so it can be timed as
+     * {@link ScanPhase#DISCOVERY}.
+     *
      * @param pattern glob pattern
      * @return stream of matching file paths
      */
     public Stream<Path> findFiles(String pattern) {
+        if (profiler.isEnabled()) {
+            try (ScanProfiler.Span span = profiler.start(ScanPhase.DISCOVERY)) {
+                return lookupFiles(pattern).toList().stream();
+            }
+        }
+        return lookupFiles(pattern);
+    }
+
+    private Stream<Path> lookupFiles(String pattern) {
+        if (fileIndex != null) {
+            return fileIndex.findFiles(pattern);
+        }
+
         PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + pattern);
 
         return sourcePaths.stream()
             .flatMap(sourcePath -> {
                 try {
-                    return Files.walk(sourcePath)
-                        .filter(Files::isRegularFile)
+                    return FileUtils.walkFiles(rootPath, sourcePath, IgnoreRules.defaults()).stream()
                         .filter(path -> {
                             Path relativePath = rootPath.relativize(path);
                             return matcher.matches(relativePath);
@@ -119,4 +243,24 @@ public record ScanContext(
     public String getSettingOrDefault(String key, String defaultValue) {
         return settings.getOrDefault(key, defaultValue);
     }
+
+    /**
+     * Returns how many files a scanner may process concurrently.
+     *
+     * <p>Read from the {@value #PARALLELISM_SETTING} setting; defaults to {@code 1}
+     * (sequential) when the setting is absent or not a positive number.
+     *
+     * @return parallelism, at least 1
+     */
+    public int parallelism() {
+        String value = settings.get(PARALLELISM_SETTING);
+        if (value == null) {
+            return 1;
+        }
+        try {
+            return Math.max(1, Integer.parseInt(value.trim()));
+        } catch (NumberFormatException e) {
+            return 1;
+        }
+    }
 }
@@ -111,6 +111,46 @@ public record ScanResult(
         );
     }
 
+    /**
+     * Returns a copy of this result without findings, keeping its status, messages and statistics.
+     *
+     * <p>Used to release finding lists once they have been aggregated.
+     *
+     * @return result with empty finding lists
+     */
+    public ScanResult withoutFindings() {
+        return new ScanResult(
+            scannerId,
+            success,
+            List.of(),
+            List.of(),
+            List.of(),
+            List.of(),
+            List.of(),
+            List.of(),
+            warnings,
+            errors,
+            statistics
+        );
+    }
+
+    /**
+     * Returns true if another result holds exactly the same findings, ignoring status,
+     * messages and statistics.
+     *
+     * @param other result to compare with, may be null
+     * @return true if all finding lists are equal
+     */
+    public boolean hasSameFindings(ScanResult other) {
+        return other != null
+            && components.equals(other.components)
+            && dependencies.equals(other.dependencies)
+            && apiEndpoints.equals(other.apiEndpoints)
+            && messageFlows.equals(other.messageFlows)
+            && dataEntities.equals(other.dataEntities)
+            && relationships.equals(other.relationships);
+    }
+
     /**
      * Returns true if this result has any findings.
      *
@@ -37,6 +37,11 @@ import java.util.Objects;
  * @param filesFailed files that could not be parsed at all
  * @param errorCounts map of error types to their occurrence counts
  * @param topErrors list of most significant error messages (max 10)
+ * @param filesFromCache scanned files whose results were reused from the incremental scan cache
+ *                       instead of being parsed (already included in the parsed counts)
+ * @param filesSkipped files skipped or whose parse was aborted because they exceeded the
+ *                     scanner's {@link com.docarchitect.core.scanner.base.ScanLimits scan limits},
+ *                     unless the regex fallback parsed them instead
  *
  * @since 1.0.0
  */
@@ -47,8 +52,30 @@ public record ScanStatistics(
     int filesParsedWithFallback,
     int filesFailed,
     Map<String, Integer> errorCounts,
-    List<String> topErrors
+    List<String> topErrors,
+    int filesFromCache,
+    int filesSkipped
 ) {
+    /**
+     * Error type of files refused for exceeding the size limit.
+     */
+    public static final String FILE_TOO_LARGE_ERROR = "File too large";
+
+    /**
+     * Error type of files refused for exceeding the line limit.
+     */
+    public static final String TOO_MANY_LINES_ERROR = "Too many lines";
+
+    /**
+     * Error type of files whose parse exceeded the parse timeout.
+     */
+    public static final String PARSE_TIMEOUT_ERROR = "Parse timeout";
+
+    /**
+     * Error type of files not parsed because too many parses of the scanner timed out.
+     */
+    public static final String PARSER_DISABLED_ERROR = "Parser disabled";
+
     /**
      * Compact constructor with validation and defaults.
      */
@@ -74,6 +101,62 @@ public record ScanStatistics(
         if (topErrors == null) {
             topErrors = List.of();
         }
+        if (filesFromCache < 0) {
+            filesFromCache = 0;
+        }
+        if (filesSkipped < 0) {
+            filesSkipped = 0;
+        }
+    }
+
+    /**
+     * Creates statistics for a scan that did not skip files.
+     *
+     * @param filesDiscovered total files matching scanner's glob patterns
+     * @param filesScanned files actually examined (after pre-filtering)
+     * @param filesParsedSuccessfully files parsed via primary method (e.g., AST)
+     * @param filesParsedWithFallback files parsed via fallback method (e.g., regex)
+     * @param filesFailed files that could not be parsed at all
+     * @param errorCounts map of error types to their occurrence counts
+     * @param topErrors list of most significant error messages (max 10)
+     * @param filesFromCache scanned files whose results were reused from the incremental scan cache
+     */
+    public ScanStatistics(
+        int filesDiscovered,
+        int filesScanned,
+        int filesParsedSuccessfully,
+        int filesParsedWithFallback,
+        int filesFailed,
+        Map<String, Integer> errorCounts,
+        List<String> topErrors,
+        int filesFromCache
+    ) {
+        this(filesDiscovered, filesScanned, filesParsedSuccessfully, filesParsedWithFallback, filesFailed,
+            errorCounts, topErrors, filesFromCache, 0);
+    }
+
+    /**
+     * Creates statistics for a scan that did not use the incremental scan cache.
+     *
+     * @param filesDiscovered total files matching scanner's glob patterns
+     * @param filesScanned files actually examined (after pre-filtering)
+     * @param filesParsedSuccessfully files parsed via primary method (e.g., AST)
+     * @param filesParsedWithFallback files parsed via fallback method (e.g., regex)
+     * @param filesFailed files that could not be parsed at all
+     * @param errorCounts map of error types to their occurrence counts
+     * @param topErrors list of most significant error messages (max 10)
+     */
+    public ScanStatistics(
+        int filesDiscovered,
+        int filesScanned,
+        int filesParsedSuccessfully,
+        int filesParsedWithFallback,
+        int filesFailed,
+        Map<String, Integer> errorCounts,
+        List<String> topErrors
+    ) {
+        this(filesDiscovered, filesScanned, filesParsedSuccessfully, filesParsedWithFallback, filesFailed,
+            errorCounts, topErrors, 0, 0);
     }
 
     /**
@@ -139,13 +222,34 @@ public record ScanStatistics(
         return filesParsedWithFallback > 0;
     }
 
+    /**
+     * Returns true if files were skipped because of the scan limits.
+     *
+     * @return true if at least one file was skipped
+     */
+    public boolean hasSkippedFiles() {
+        return filesSkipped > 0;
+    }
+
+    /**
+     * Calculates the share of scanned files served from the incremental scan cache.
+     *
+     * @return cache hit rate as percentage (0.0 to 100.0), or 0 if no files scanned
+     */
+    public double getCacheHitRate() {
+        if (filesScanned == 0) {
+            return 0.0;
+        }
+        return (filesFromCache * 100.0) / filesScanned;
+    }
+
     /**
      * Returns a human-readable summary of the statistics.
      *
      * @return summary string
      */
     public String getSummary() {
-        return String.format(
+        String summary = String.format(
             "Discovered: %d, Scanned: %d, Success: %d (%.1f%%), Fallback: %d, Failed: %d (%.1f%%)",
             filesDiscovered,
             filesScanned,
@@ -155,54 +259,106 @@ public record ScanStatistics(
             filesFailed,
             getFailureRate()
         );
+        if (filesFromCache > 0) {
+            summary += String.format(", Cached: %d (%.1f%%)", filesFromCache, getCacheHitRate());
+        }
+        if (filesSkipped > 0) {
+            summary += String.format(", Skipped: %d", filesSkipped);
+        }
+        return summary;
     }
 
     /**
      * Builder for constructing ScanStatistics incrementally.
+     *
+     * <p>All methods are synchronized, so a single builder may be shared by worker threads.
+     * When the order of {@link ScanStatistics#topErrors()} matters, collect statistics per
+     * file and {@link #merge(ScanStatistics) merge} them in a stable order instead.
      */
     public static class Builder {
+        private static final int MAX_TOP_ERRORS = 10;
+
         private int filesDiscovered = 0;
         private int filesScanned = 0;
         private int filesParsedSuccessfully = 0;
         private int filesParsedWithFallback = 0;
         private int filesFailed = 0;
+        private int filesFromCache = 0;
+        private int filesSkipped = 0;
         private final Map<String, Integer> errorCounts = new java.util.HashMap<>();
         private final List<String> topErrors = new java.util.ArrayList<>();
 
-        public Builder filesDiscovered(int count) {
+        public synchronized Builder filesDiscovered(int count) {
             this.filesDiscovered = count;
             return this;
         }
 
-        public Builder incrementFilesScanned() {
+        public synchronized Builder incrementFilesScanned() {
             this.filesScanned++;
             return this;
         }
 
-        public Builder incrementFilesParsedSuccessfully() {
+        public synchronized Builder incrementFilesParsedSuccessfully() {
             this.filesParsedSuccessfully++;
             return this;
         }
 
-        public Builder incrementFilesParsedWithFallback() {
+        public synchronized Builder incrementFilesParsedWithFallback() {
             this.filesParsedWithFallback++;
             return this;
         }
 
-        public Builder incrementFilesFailed() {
+        public synchronized Builder incrementFilesFailed() {
             this.filesFailed++;
             return this;
         }
 
-        public Builder addError(String errorType, String errorDetail) {
+        public synchronized Builder incrementFilesFromCache() {
+            this.filesFromCache++;
+            return this;
+        }
+
+        public synchronized Builder incrementFilesSkipped() {
+            this.filesSkipped++;
+            return this;
+        }
+
+        public synchronized Builder addError(String errorType, String errorDetail) {
             errorCounts.merge(errorType, 1, Integer::sum);
-            if (topErrors.size() < 10) {
+            if (topErrors.size() < MAX_TOP_ERRORS) {
                 topErrors.add(errorDetail);
             }
             return this;
         }
 
-        public ScanStatistics build() {
+        /**
+         * Adds the counts and errors of another statistics instance to this builder.
+         *
+         * <p>Errors are appended after the ones already recorded, so merging per-file
+         * statistics in file order yields the same result as recording them sequentially.
+         *
+         * @param other statistics to add
+         * @return this builder
+         */
+        public synchronized Builder merge(ScanStatistics other) {
+            this.filesDiscovered += other.filesDiscovered();
+            this.filesScanned += other.filesScanned();
+            this.filesParsedSuccessfully += other.filesParsedSuccessfully();
+            this.filesParsedWithFallback += other.filesParsedWithFallback();
+            this.filesFailed += other.filesFailed();
+            this.filesFromCache += other.filesFromCache();
+            this.filesSkipped += other.filesSkipped();
+            other.errorCounts().forEach((type, count) -> errorCounts.merge(type, count, Integer::sum));
+            for (String error : other.topErrors()) {
+                if (topErrors.size() >= MAX_TOP_ERRORS) {
+                    break;
+                }
+                topErrors.add(error);
+            }
+            return this;
+        }
+
+        public synchronized ScanStatistics build() {
             return new ScanStatistics(
                 filesDiscovered,
                 filesScanned,
@@ -210,7 +366,9 @@ public record ScanStatistics(
                 filesParsedWithFallback,
                 filesFailed,
                 Map.copyOf(errorCounts),
-                List.copyOf(topErrors)
+                List.copyOf(topErrors),
+                filesFromCache,
+                filesSkipped
             );
         }
     }
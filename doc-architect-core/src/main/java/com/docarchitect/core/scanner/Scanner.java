@@ -1,5 +1,6 @@
 package com.docarchitect.core.scanner;
 
+import java.util.EnumSet;
 import java.util.Set;
 
 /**
@@ -11,6 +12,9 @@ import java.util.Set;
  *
  * <p>Scanners are executed in priority order (lower numbers first) and can access
  * results from previously executed scanners via {@link ScanContext#previousResults()}.
+ * Scanners whose declared {@link #getRequiredFindings() inputs} and
+ * {@link #getProducedFindings() outputs} do not overlap may run concurrently; see
+ * {@link ScannerScheduler}.
  *
  * <p><b>Registration:</b> Register implementations in
  * {@code META-INF/services/com.docarchitect.core.scanner.Scanner}
@@ -72,6 +76,51 @@ public interface Scanner {
      */
     int getPriority();
 
+    /**
+     * Returns the version of this scanner's extraction logic.
+     *
+     * <p>Part of the key of the incremental scan cache: results cached by a different
+     * version are discarded. Increment it whenever a change alters what the scanner
+     * extracts from an unchanged file.
+     *
+     * @return scanner version
+     * @since 1.0.0
+     */
+    default String getVersion() {
+        return "1";
+    }
+
+    /**
+     * Returns the categories of findings this scanner can produce.
+     *
+     * <p>Used by {@link ScannerScheduler} to decide which later scanners have to wait for
+     * this one. The default conservatively reports every category; scanners should narrow
+     * it so that unrelated scanners can run in parallel.
+     *
+     * @return finding categories this scanner may populate in its {@link ScanResult}
+     * @since 1.0.0
+     */
+    default Set<FindingType> getProducedFindings() {
+        return EnumSet.allOf(FindingType.class);
+    }
+
+    /**
+     * Returns the categories of findings this scanner reads from {@link ScanContext#previousResults()}.
+     *
+     * <p>A scanner only sees results of lower-priority scanners that produce one of these
+     * categories (directly or transitively). When an {@link #getApplicabilityStrategy()
+     * applicability strategy} is provided its declaration is used; otherwise the default
+     * conservatively requires every category, since {@link #appliesTo(ScanContext)} may
+     * inspect anything.
+     *
+     * @return finding categories read from previous results
+     * @since 1.0.0
+     */
+    default Set<FindingType> getRequiredFindings() {
+        ScannerApplicabilityStrategy strategy = getApplicabilityStrategy();
+        return strategy != null ? strategy.getRequiredFindings() : EnumSet.allOf(FindingType.class);
+    }
+
     /**
      * Get the applicability strategy for this scanner.
      *
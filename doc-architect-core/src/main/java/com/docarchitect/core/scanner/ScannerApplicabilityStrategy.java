@@ -1,5 +1,8 @@
 package com.docarchitect.core.scanner;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * Strategy for determining if a scanner should run on a given project.
  *
@@ -9,6 +12,11 @@ package com.docarchitect.core.scanner;
  * <p>This interface supports composition via {@link #and(ScannerApplicabilityStrategy)}
  * and {@link #or(ScannerApplicabilityStrategy)} for building complex applicability rules.</p>
  *
+ * <p>Strategies that read {@link ScanContext#previousResults()} declare the finding
+ * categories they depend on via {@link #getRequiredFindings()}, so the scheduler can order
+ * the scanner after the scanners producing them. Composed strategies carry the union of
+ * the declarations of their parts.</p>
+ *
  * <p><b>Example usage:</b></p>
  * <pre>{@code
  * ScannerApplicabilityStrategy strategy =
@@ -44,7 +52,7 @@ public interface ScannerApplicabilityStrategy {
      * @return a new strategy that is the logical AND of this and the other strategy
      */
     default ScannerApplicabilityStrategy and(ScannerApplicabilityStrategy other) {
-        return context -> this.test(context) && other.test(context);
+        return requiring(union(this, other), context -> this.test(context) && other.test(context));
     }
 
     /**
@@ -57,7 +65,7 @@ public interface ScannerApplicabilityStrategy {
      * @return a new strategy that is the logical OR of this and the other strategy
      */
     default ScannerApplicabilityStrategy or(ScannerApplicabilityStrategy other) {
-        return context -> this.test(context) || other.test(context);
+        return requiring(union(this, other), context -> this.test(context) || other.test(context));
     }
 
     /**
@@ -69,6 +77,51 @@ public interface ScannerApplicabilityStrategy {
      * @return a new strategy that is the logical negation of this strategy
      */
     default ScannerApplicabilityStrategy negate() {
-        return context -> !this.test(context);
+        return requiring(getRequiredFindings(), context -> !this.test(context));
+    }
+
+    /**
+     * Returns the categories of earlier scan results this strategy reads.
+     *
+     * <p>The default implementation returns an empty set, which is correct for strategies
+     * that only inspect files. Strategies reading {@link ScanContext#previousResults()} must
+     * be created with {@link #requiring(Set, ScannerApplicabilityStrategy)}.</p>
+     *
+     * @return finding categories read from previous results
+     */
+    default Set<FindingType> getRequiredFindings() {
+        return Set.of();
+    }
+
+    /**
+     * Wrap a strategy that reads previous scan results, declaring what it reads.
+     *
+     * @param findings finding categories the strategy reads from previous results
+     * @param strategy the strategy to wrap
+     * @return a strategy with the same behavior that reports {@code findings} as required
+     */
+    static ScannerApplicabilityStrategy requiring(Set<FindingType> findings, ScannerApplicabilityStrategy strategy) {
+        Set<FindingType> required = Set.copyOf(findings);
+        if (required.isEmpty()) {
+            return strategy;
+        }
+        return new ScannerApplicabilityStrategy() {
+            @Override
+            public boolean test(ScanContext context) {
+                return strategy.test(context);
+            }
+
+            @Override
+            public Set<FindingType> getRequiredFindings() {
+                return required;
+            }
+        };
+    }
+
+    private static Set<FindingType> union(ScannerApplicabilityStrategy first, ScannerApplicabilityStrategy second) {
+        Set<FindingType> findings = EnumSet.noneOf(FindingType.class);
+        findings.addAll(first.getRequiredFindings());
+        findings.addAll(second.getRequiredFindings());
+        return findings;
     }
 }
@@ -0,0 +1,248 @@
+package com.docarchitect.core.scanner;
+
+import com.docarchitect.core.scanner.base.LazyScanner;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.ServiceLoader;
+import java.util.Set;
+
+/**
+ * Lightweight description of the registered scanners, read from
+ * {@value #RESOURCE} instead of instantiating every scanner.
+ *
+ * <p>Instantiating a scanner loads its parsing stack (JavaParser, ANTLR grammars,
+ * graphql-java, Avro, Jackson XML, ...), which is wasted work for the many scanners that do not
+ * apply to a given project. The manifest records what the {@link ScannerScheduler} and the CLI
+ * need before a scanner runs - ID, name, priority, file patterns and finding dependencies -
+ * plus the file patterns its applicability check depends on. {@link #discoverScanners} wraps
+ * every described {@link ServiceLoader.Provider} in a {@link LazyScanner}, which only creates
+ * the scanner once a matching file exists; providers without an entry (for example from
+ * third-party JARs without a manifest) are instantiated as before.
+ *
+ * <p>Every JAR may ship its own manifest; entries of all manifests on the class path are merged.
+ *
+ * <p><b>Manifest format:</b> {@link Properties} keyed by scanner ID, lists separated by spaces:
+ * <pre>
+ * maven-dependencies.provider=com.docarchitect.core.scanner.impl.java.MavenDependencyScanner
+ * maven-dependencies.name=Maven Dependency Scanner
+ * maven-dependencies.priority=10
+ * maven-dependencies.languages=java kotlin
+ * maven-dependencies.filePatterns=**&#47;pom.xml
+ * maven-dependencies.appliesToFiles=**&#47;pom.xml
+ * maven-dependencies.produces=COMPONENTS DEPENDENCIES
+ * maven-dependencies.requires=
+ * </pre>
+ *
+ * <p><b>Usage Example:</b></p>
+ * <pre>{@code
+ * List<Scanner> scanners = ScannerManifest.discoverScanners(getClass().getClassLoader());
+ * Map<String, ScanResult> results = new ScannerScheduler(4).execute(scanners, context);
+ * }</pre>
+ *
+ * @see LazyScanner
+ * @since 1.0.0
+ */
+public final class ScannerManifest {
+
+    /**
+     * Class path resource holding the manifest.
+     */
+    public static final String RESOURCE = "META-INF/docarchitect/scanners.properties";
+
+    private static final Logger log = LoggerFactory.getLogger(ScannerManifest.class);
+
+    private final Map<String, Entry> entriesByProvider;
+
+    /**
+     * Manifest entry describing one scanner.
+     *
+     * @param id scanner ID ({@link Scanner#getId()})
+     * @param providerType fully qualified name of the implementation
+     * @param displayName {@link Scanner#getDisplayName()}
+     * @param priority {@link Scanner#getPriority()}
+     * @param languages {@link Scanner#getSupportedLanguages()}
+     * @param filePatterns {@link Scanner#getSupportedFilePatterns()}
+     * @param applicabilityPatterns patterns of which {@link Scanner#appliesTo(ScanContext)} needs
+     *                              at least one match; empty if applicability depends on more than files
+     * @param producedFindings {@link Scanner#getProducedFindings()}
+     * @param requiredFindings {@link Scanner#getRequiredFindings()}
+     */
+    public record Entry(
+        String id,
+        String providerType,
+        String displayName,
+        int priority,
+        Set<String> languages,
+        Set<String> filePatterns,
+        Set<String> applicabilityPatterns,
+        Set<FindingType> producedFindings,
+        Set<FindingType> requiredFindings
+    ) {
+        /**
+         * Compact constructor with validation.
+         */
+        public Entry {
+            Objects.requireNonNull(id, "id must not be null");
+            Objects.requireNonNull(providerType, "providerType must not be null");
+            Objects.requireNonNull(displayName, "displayName must not be null");
+            languages = languages != null ? Collections.unmodifiableSet(new LinkedHashSet<>(languages)) : Set.of();
+            filePatterns = filePatterns != null ? Collections.unmodifiableSet(new LinkedHashSet<>(filePatterns)) : Set.of();
+            applicabilityPatterns = applicabilityPatterns != null
+                ? Collections.unmodifiableSet(new LinkedHashSet<>(applicabilityPatterns))
+                : Set.of();
+            producedFindings = copyOf(producedFindings);
+            requiredFindings = copyOf(requiredFindings);
+        }
+
+        private static Set<FindingType> copyOf(Set<FindingType> findings) {
+            return findings == null || findings.isEmpty()
+                ? Collections.unmodifiableSet(EnumSet.noneOf(FindingType.class))
+                : Collections.unmodifiableSet(EnumSet.copyOf(findings));
+        }
+    }
+
+    private ScannerManifest(Map<String, Entry> entriesByProvider) {
+        this.entriesByProvider = entriesByProvider;
+    }
+
+    /**
+     * Discovers the scanners registered via {@link ServiceLoader}, instantiating only those the
+     * manifest does not describe.
+     *
+     * @param classLoader class loader to discover scanners and manifests with
+     * @return scanners in registration order; described ones are {@link LazyScanner}s
+     * @throws IllegalStateException if a manifest is malformed
+     */
+    public static List<Scanner> discoverScanners(ClassLoader classLoader) {
+        ScannerManifest manifest = load(classLoader);
+        List<Scanner> scanners = new ArrayList<>();
+        for (ServiceLoader.Provider<Scanner> provider : ServiceLoader.load(Scanner.class, classLoader).stream().toList()) {
+            Optional<Entry> entry = manifest.entryFor(provider.type().getName());
+            if (entry.isPresent()) {
+                scanners.add(new LazyScanner(entry.get(), provider));
+            } else {
+                log.debug("Scanner {} is not described by a manifest, instantiating it", provider.type().getName());
+                scanners.add(provider.get());
+            }
+        }
+        return scanners;
+    }
+
+    /**
+     * Loads and merges all manifests visible to a class loader.
+     *
+     * @param classLoader class loader to look up {@value #RESOURCE} with
+     * @return merged manifest, empty if there is none
+     * @throws IllegalStateException if a manifest is malformed
+     * @throws UncheckedIOException if a manifest cannot be read
+     */
+    public static ScannerManifest load(ClassLoader classLoader) {
+        Map<String, Entry> entries = new LinkedHashMap<>();
+        try {
+            Enumeration<URL> resources = classLoader.getResources(RESOURCE);
+            while (resources.hasMoreElements()) {
+                URL resource = resources.nextElement();
+                Properties properties = new Properties();
+                try (InputStream in = resource.openStream()) {
+                    properties.load(in);
+                }
+                entries.putAll(parse(properties, resource.toString()).entriesByProvider);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read scanner manifest", e);
+        }
+        return new ScannerManifest(entries);
+    }
+
+    /**
+     * Parses one manifest.
+     *
+     * @param properties manifest properties
+     * @param source name of the manifest, for error messages
+     * @return parsed manifest
+     * @throws IllegalStateException if an entry is incomplete or names an unknown finding type
+     */
+    static ScannerManifest parse(Properties properties, String source) {
+        Map<String, Entry> entries = new LinkedHashMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            if (!key.endsWith(".provider")) {
+                continue;
+            }
+            String id = key.substring(0, key.length() - ".provider".length());
+            try {
+                Entry entry = new Entry(
+                    id,
+                    properties.getProperty(key).trim(),
+                    required(properties, id, "name"),
+                    Integer.parseInt(required(properties, id, "priority")),
+                    list(properties, id, "languages"),
+                    list(properties, id, "filePatterns"),
+                    list(properties, id, "appliesToFiles"),
+                    findings(properties, id, "produces"),
+                    findings(properties, id, "requires"));
+                entries.put(entry.providerType(), entry);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalStateException("Invalid scanner manifest entry '" + id + "' in " + source + ": " + e.getMessage(), e);
+            }
+        }
+        return new ScannerManifest(entries);
+    }
+
+    /**
+     * Returns the entry describing an implementation.
+     *
+     * @param providerType fully qualified name of the scanner implementation
+     * @return entry, or empty if the implementation is not described
+     */
+    public Optional<Entry> entryFor(String providerType) {
+        return Optional.ofNullable(entriesByProvider.get(providerType));
+    }
+
+    /**
+     * Returns all entries.
+     *
+     * @return entries, in no particular order
+     */
+    public Collection<Entry> entries() {
+        return Collections.unmodifiableCollection(entriesByProvider.values());
+    }
+
+    private static String required(Properties properties, String id, String property) {
+        String value = properties.getProperty(id + "." + property);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("missing " + property);
+        }
+        return value.trim();
+    }
+
+    private static Set<String> list(Properties properties, String id, String property) {
+        String value = properties.getProperty(id + "." + property, "").trim();
+        return value.isEmpty() ? Set.of() : new LinkedHashSet<>(Arrays.asList(value.split("\\s+")));
+    }
+
+    private static Set<FindingType> findings(Properties properties, String id, String property) {
+        Set<FindingType> findings = EnumSet.noneOf(FindingType.class);
+        for (String name : list(properties, id, property)) {
+            findings.add(FindingType.valueOf(name));
+        }
+        return findings;
+    }
+}
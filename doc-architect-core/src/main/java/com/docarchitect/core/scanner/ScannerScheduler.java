@@ -0,0 +1,386 @@
+package com.docarchitect.core.scanner;
+
+import com.docarchitect.core.scanner.profile.ScanPhase;
+import com.docarchitect.core.scanner.profile.ScanProfiler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Executes scanners as a dependency graph, running independent scanners concurrently.
+ *
+ * <p>Scanners are ordered by {@link Scanner#getPriority() priority} (lower first, ties keep
+ * the given order). Scanner {@code B} depends on scanner {@code A} when {@code A} has a lower
+ * priority and produces at least one finding category that {@code B}
+ * {@linkplain Scanner#getRequiredFindings() requires}. Edges only point from lower to
+ * higher priority, so the graph is acyclic by construction. Typical result:
+ * <ol>
+ *   <li>dependency scanners (Maven, npm, NuGet, ...) run first, in parallel</li>
+ *   <li>framework scanners gated by {@code hasDependency(...)} start as soon as the
+ *       dependency scanners finish; scanners needing nothing start immediately</li>
+ *   <li>post-processing scanners such as {@code RestEventFlowScanner} run after all
+ *       endpoint producers</li>
+ * </ol>
+ *
+ * <p><b>Determinism:</b> every scanner sees exactly the results of its transitive
+ * dependencies in {@link ScanContext#previousResults()}, regardless of timing, and the
+ * returned map is ordered by priority. Output is therefore identical for any parallelism,
+ * including {@code 1}, which runs all scanners on the calling thread.
+ *
+ * <p>Applicability is checked by the scheduler; scanners that do not apply are absent from
+ * the result. A scanner throwing an exception yields a {@link ScanResult#failed failed}
+ * result instead of aborting the run.
+ *
+ * <p><b>Usage Example:</b></p>
+ * <pre>{@code
+ * ScannerScheduler scheduler = new ScannerScheduler(Runtime.getRuntime().availableProcessors());
+ * Map<String, ScanResult> results = scheduler.execute(scanners, context);
+ * }</pre>
+ *
+ * @see Scanner#getProducedFindings()
+ * @see Scanner#getRequiredFindings()
+ * @since 1.0.0
+ */
+public final class ScannerScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(ScannerScheduler.class);
+
+    private final int parallelism;
+
+    /**
+     * Creates a scheduler.
+     *
+     * @param parallelism maximum number of scanners running at the same time (at least 1)
+     * @throws IllegalArgumentException if parallelism is less than 1
+     */
+    public ScannerScheduler(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be at least 1, got: " + parallelism);
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Returns the maximum number of concurrently running scanners.
+     *
+     * @return parallelism
+     */
+    public int parallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Runs all applicable scanners.
+     *
+     * @param scanners scanners to run (already filtered by configuration)
+     * @param baseContext context providing project paths, configuration and file index;
+     *                    its previous results are ignored
+     * @return results of applicable scanners keyed by scanner ID, in priority order
+     */
+    public Map<String, ScanResult> execute(List<Scanner> scanners, ScanContext baseContext) {
+        return execute(scanners, baseContext, null);
+    }
+
+    /**
+     * Runs all applicable scanners, streaming each result to a sink as soon as possible.
+     *
+     * <p>The sink receives the results in priority order, one at a time, as soon as every
+     * higher-priority scanner has finished. Once a result has been delivered and no scanner
+     * that may read it is still pending, its findings are released: the returned map holds
+     * {@linkplain ScanResult#withoutFindings() results without findings}, so aggregation
+     * (e.g. {@link com.docarchitect.core.model.ArchitectureModelBuilder}) must happen in the sink.
+     *
+     * @param scanners scanners to run (already filtered by configuration)
+     * @param baseContext context providing project paths, configuration and file index;
+     *                    its previous results are ignored
+     * @param sink receives the result of every applicable scanner, or null to keep all findings
+     * @return results of applicable scanners keyed by scanner ID, in priority order
+     */
+    public Map<String, ScanResult> execute(List<Scanner> scanners, ScanContext baseContext,
+                                           Consumer<? super ScanResult> sink) {
+        return execute(scanners, baseContext, null, sink);
+    }
+
+    /**
+     * Re-runs the scanners affected by a change, reusing the previous results of all others.
+     *
+     * <p>A scanner runs again if its ID is in {@code changedScannerIds}, or if one of its
+     * transitive dependencies ran again and produced different findings than before. Every
+     * other scanner keeps its previous result without being called; a scanner that was not
+     * applicable before stays absent. The outcome is the same as a full {@link #execute} run
+     * as long as only the changed scanners could produce different results.
+     *
+     * @param scanners scanners of the previous run (already filtered by configuration)
+     * @param baseContext context providing project paths, configuration and file index;
+     *                    its previous results are ignored
+     * @param previousResults complete results of the previous run, including findings
+     * @param changedScannerIds IDs of scanners whose input changed
+     * @return results of applicable scanners keyed by scanner ID, in priority order
+     */
+    public Map<String, ScanResult> rescan(List<Scanner> scanners, ScanContext baseContext,
+                                          Map<String, ScanResult> previousResults, Set<String> changedScannerIds) {
+        Objects.requireNonNull(previousResults, "previousResults must not be null");
+        Objects.requireNonNull(changedScannerIds, "changedScannerIds must not be null");
+        return execute(scanners, baseContext, new Rescan(previousResults, changedScannerIds), null);
+    }
+
+    private Map<String, ScanResult> execute(List<Scanner> scanners, ScanContext baseContext,
+                                            Rescan rescan, Consumer<? super ScanResult> sink) {
+        Objects.requireNonNull(scanners, "scanners must not be null");
+        Objects.requireNonNull(baseContext, "baseContext must not be null");
+
+        List<Scanner> ordered = new ArrayList<>(scanners);
+        ordered.sort(Comparator.comparingInt(Scanner::getPriority));
+
+        List<List<Integer>> dependencies = buildDependencies(ordered);
+        List<BitSet> ancestors = computeAncestors(dependencies);
+        ScanResult[] results = new ScanResult[ordered.size()];
+        Completion completion = new Completion(results, ancestors, sink);
+        boolean[] ran = new boolean[ordered.size()];
+
+        if (parallelism == 1 || ordered.size() <= 1) {
+            for (int i = 0; i < ordered.size(); i++) {
+                completion.complete(i, runOrReuse(i, ordered, ancestors, results, ran, rescan, baseContext));
+            }
+        } else {
+            executeConcurrently(ordered, dependencies, ancestors, completion, ran, rescan, baseContext);
+        }
+
+        Map<String, ScanResult> executed = new LinkedHashMap<>();
+        for (int i = 0; i < ordered.size(); i++) {
+            if (results[i] != null) {
+                executed.put(ordered.get(i).getId(), results[i]);
+            }
+        }
+        return executed;
+    }
+
+    private void executeConcurrently(List<Scanner> ordered, List<List<Integer>> dependencies,
+                                     List<BitSet> ancestors, Completion completion, boolean[] ran,
+                                     Rescan rescan, ScanContext baseContext) {
+        ScanResult[] results = completion.results;
+        try (ExecutorService executor = Executors.newFixedThreadPool(parallelism, new ScannerThreadFactory())) {
+            List<CompletableFuture<Void>> futures = new ArrayList<>(ordered.size());
+            for (int i = 0; i < ordered.size(); i++) {
+                int index = i;
+                CompletableFuture<?>[] upstream = dependencies.get(i).stream()
+                    .map(futures::get)
+                    .toArray(CompletableFuture[]::new);
+
+                // Completion of the upstream futures happens-before this task, so their results are visible
+                futures.add(CompletableFuture.allOf(upstream).thenRunAsync(() ->
+                    completion.complete(index, runOrReuse(index, ordered, ancestors, results, ran, rescan, baseContext)),
+                    executor));
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Runs one scanner, or returns its previous result during a rescan when none of its inputs changed.
+     */
+    private ScanResult runOrReuse(int index, List<Scanner> ordered, List<BitSet> ancestors,
+                                  ScanResult[] results, boolean[] ran, Rescan rescan, ScanContext baseContext) {
+        Scanner scanner = ordered.get(index);
+        if (rescan != null && !rescan.mustRun(scanner, ordered, ancestors.get(index), results, ran)) {
+            log.debug("Scanner {} unaffected by change, reusing previous result", scanner.getId());
+            return rescan.previousResults().get(scanner.getId());
+        }
+        ran[index] = true;
+        return runScanner(scanner, contextFor(scanner, baseContext, ordered, ancestors.get(index), results));
+    }
+
+    private ScanResult runScanner(Scanner scanner, ScanContext context) {
+        try {
+            boolean applies;
+            try (ScanProfiler.Span span = context.profiler().start(ScanPhase.APPLICABILITY)) {
+                applies = scanner.appliesTo(context);
+            }
+            if (!applies) {
+                log.debug("Scanner {} does not apply to this project (applicability check failed)", scanner.getId());
+                return null;
+            }
+            log.info("Running scanner: {} ({})", scanner.getDisplayName(), scanner.getId());
+            long start = System.nanoTime();
+            ScanResult result;
+            try (ScanProfiler.Span span = context.profiler().start(ScanPhase.SCAN)) {
+                result = scanner.scan(context);
+            }
+            log.debug("Scanner {} finished in {} ms", scanner.getId(), (System.nanoTime() - start) / 1_000_000);
+            return result;
+        } catch (Exception e) {
+            log.error("Scanner {} failed: {}", scanner.getId(), e.getMessage(), e);
+            return ScanResult.failed(scanner.getId(), List.of(String.valueOf(e.getMessage())));
+        }
+    }
+
+    /**
+     * Builds the context for one scanner, exposing only the results of its transitive dependencies
+     * and its {@linkplain ScanContext#configurationFor(Map, String) own configuration}, with the
+     * profiler bound to the scanner.
+     */
+    private static ScanContext contextFor(Scanner scanner, ScanContext baseContext, List<Scanner> ordered,
+                                          BitSet ancestors, ScanResult[] results) {
+        Map<String, ScanResult> previousResults = new LinkedHashMap<>();
+        for (int i = ancestors.nextSetBit(0); i >= 0; i = ancestors.nextSetBit(i + 1)) {
+            if (results[i] != null) {
+                previousResults.put(ordered.get(i).getId(), results[i]);
+            }
+        }
+        return new ScanContext(
+            baseContext.rootPath(),
+            baseContext.sourcePaths(),
+            ScanContext.configurationFor(baseContext.configuration(), scanner.getId()),
+            baseContext.settings(),
+            Collections.unmodifiableMap(previousResults),
+            baseContext.fileIndex(),
+            baseContext.compilationUnitCache(),
+            baseContext.parsedSourceStore(),
+            baseContext.incrementalCache(),
+            baseContext.profiler().forScanner(scanner.getId())
+        );
+    }
+
+    /**
+     * Computes direct dependencies: lower-priority scanners producing a required finding category.
+     */
+    private static List<List<Integer>> buildDependencies(List<Scanner> ordered) {
+        List<Set<FindingType>> produced = ordered.stream().map(Scanner::getProducedFindings).toList();
+        List<List<Integer>> dependencies = new ArrayList<>(ordered.size());
+        for (int i = 0; i < ordered.size(); i++) {
+            Scanner scanner = ordered.get(i);
+            Set<FindingType> required = scanner.getRequiredFindings();
+            List<Integer> upstream = new ArrayList<>();
+            if (!required.isEmpty()) {
+                for (int j = 0; j < i; j++) {
+                    if (ordered.get(j).getPriority() < scanner.getPriority()
+                        && !Collections.disjoint(produced.get(j), required)) {
+                        upstream.add(j);
+                    }
+                }
+            }
+            dependencies.add(upstream);
+        }
+        return dependencies;
+    }
+
+    private static List<BitSet> computeAncestors(List<List<Integer>> dependencies) {
+        List<BitSet> ancestors = new ArrayList<>(dependencies.size());
+        for (List<Integer> upstream : dependencies) {
+            BitSet closure = new BitSet();
+            for (int j : upstream) {
+                closure.set(j);
+                closure.or(ancestors.get(j));
+            }
+            ancestors.add(closure);
+        }
+        return ancestors;
+    }
+
+    /**
+     * Previous run and changed scanners of a {@link #rescan}.
+     */
+    private record Rescan(Map<String, ScanResult> previousResults, Set<String> changedScannerIds) {
+
+        /**
+         * Decides whether a scanner must run again; its ancestors have completed at this point.
+         */
+        boolean mustRun(Scanner scanner, List<Scanner> ordered, BitSet ancestors, ScanResult[] results, boolean[] ran) {
+            if (changedScannerIds.contains(scanner.getId())) {
+                return true;
+            }
+            for (int i = ancestors.nextSetBit(0); i >= 0; i = ancestors.nextSetBit(i + 1)) {
+                ScanResult previous = previousResults.get(ordered.get(i).getId());
+                boolean unchanged = results[i] == null ? previous == null : results[i].hasSameFindings(previous);
+                if (ran[i] && !unchanged) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Names worker threads so scanner log lines can be attributed.
+     */
+    private static final class ScannerThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "scanner-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+    /**
+     * Records finished scanners, delivers results to the sink in priority order and releases
+     * findings nobody can read any more.
+     */
+    private static final class Completion {
+        private final ScanResult[] results;
+        private final Consumer<? super ScanResult> sink;
+        private final boolean[] finished;
+        private final int[] pendingReaders;
+        private final List<BitSet> ancestors;
+        private int nextDelivery;
+
+        private Completion(ScanResult[] results, List<BitSet> ancestors, Consumer<? super ScanResult> sink) {
+            this.results = results;
+            this.sink = sink;
+            this.ancestors = ancestors;
+            this.finished = new boolean[results.length];
+            this.pendingReaders = new int[results.length];
+            for (BitSet closure : ancestors) {
+                closure.stream().forEach(i -> pendingReaders[i]++);
+            }
+        }
+
+        private synchronized void complete(int index, ScanResult result) {
+            results[index] = result;
+            finished[index] = true;
+            if (sink == null) {
+                return;
+            }
+            ancestors.get(index).stream().forEach(i -> {
+                pendingReaders[i]--;
+                releaseIfUnused(i);
+            });
+            while (nextDelivery < results.length && finished[nextDelivery]) {
+                if (results[nextDelivery] != null) {
+                    sink.accept(results[nextDelivery]);
+                }
+                releaseIfUnused(nextDelivery++);
+            }
+        }
+
+        private void releaseIfUnused(int index) {
+            if (index < nextDelivery && pendingReaders[index] == 0
+                && results[index] != null && results[index].hasFindings()) {
+                results[index] = results[index].withoutFindings();
+            }
+        }
+    }
+}
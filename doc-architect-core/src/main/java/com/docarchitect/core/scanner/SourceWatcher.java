@@ -0,0 +1,317 @@
+package com.docarchitect.core.scanner;
+
+import com.docarchitect.core.util.IgnoreRules;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watches a project's source paths for file changes and reports them in debounced batches.
+ *
+ * <p>Every directory the {@link IgnoreRules} do not exclude is registered with a
+ * {@link WatchService}; directories created later are registered as they appear and the files
+ * already inside them are reported as changed. Bursts of events, such as an IDE saving many
+ * files or a {@code git checkout}, are collected until no event arrives for a quiet period and
+ * returned as one {@link Changes} batch.
+ *
+ * <p>Paths below {@code excludedPaths} (typically the documentation output directory and the
+ * scan cache) are never reported, so writing output does not trigger another scan.
+ *
+ * <p><b>Thread Safety:</b> not thread-safe; one thread waits for changes, any thread may
+ * {@link #close()} the watcher to stop it.
+ *
+ * <p><b>Usage Example:</b></p>
+ * <pre>{@code
+ * try (SourceWatcher watcher = SourceWatcher.start(root, List.of(root), IgnoreRules.defaults(), List.of(outputDir))) {
+ *     while (true) {
+ *         SourceWatcher.Changes changes = watcher.awaitChanges(Duration.ofMillis(200));
+ *         Set<String> affected = changes.affectedScannerIds(scanners);
+ *         // ... rescan ...
+ *     }
+ * }
+ * }</pre>
+ *
+ * @since 1.0.0
+ */
+public final class SourceWatcher implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(SourceWatcher.class);
+
+    private final Path rootPath;
+    private final IgnoreRules ignoreRules;
+    private final List<Path> excludedPaths;
+    private final WatchService watchService;
+    private final Map<WatchKey, Path> directories = new HashMap<>();
+
+    /**
+     * One debounced batch of file changes.
+     *
+     * @param rootPath project root the changed paths are relative to
+     * @param paths absolute paths of created, modified and deleted files
+     * @param rescanAll true if changes could not be attributed to files (events were lost, a
+     *                  directory was deleted or an ignore file changed); everything must be rescanned
+     */
+    public record Changes(Path rootPath, Set<Path> paths, boolean rescanAll) {
+
+        /**
+         * Compact constructor with validation.
+         */
+        public Changes {
+            Objects.requireNonNull(rootPath, "rootPath must not be null");
+            paths = paths != null ? Set.copyOf(paths) : Set.of();
+        }
+
+        /**
+         * Returns the scanners whose {@linkplain Scanner#getSupportedFilePatterns() file patterns}
+         * match a changed path, or all scanners if everything must be rescanned.
+         *
+         * <p>Patterns are matched against paths relative to the project root, exactly like
+         * {@link ProjectFileIndex#findFiles(String)}.
+         *
+         * @param scanners candidate scanners
+         * @return IDs of affected scanners
+         */
+        public Set<String> affectedScannerIds(Collection<? extends Scanner> scanners) {
+            Set<String> affected = new LinkedHashSet<>();
+            List<Path> relativePaths = paths.stream()
+                .filter(path -> path.startsWith(rootPath))
+                .map(rootPath::relativize)
+                .toList();
+            for (Scanner scanner : scanners) {
+                if (rescanAll || matchesAny(scanner.getSupportedFilePatterns(), relativePaths)) {
+                    affected.add(scanner.getId());
+                }
+            }
+            return affected;
+        }
+
+        private static boolean matchesAny(Set<String> patterns, List<Path> relativePaths) {
+            for (String pattern : patterns) {
+                PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + pattern);
+                for (Path relativePath : relativePaths) {
+                    if (matcher.matches(relativePath)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+    }
+
+    private SourceWatcher(Path rootPath, IgnoreRules ignoreRules, List<Path> excludedPaths,
+                          WatchService watchService) {
+        this.rootPath = rootPath;
+        this.ignoreRules = ignoreRules;
+        this.excludedPaths = excludedPaths;
+        this.watchService = watchService;
+    }
+
+    /**
+     * Starts watching the non-ignored directories below the source paths.
+     *
+     * @param rootPath project root; ignore rules are relative to it
+     * @param sourcePaths directories to watch
+     * @param ignoreRules rules deciding which directories and files are skipped
+     * @param excludedPaths paths whose changes are never reported
+     * @return running watcher
+     * @throws IOException if the watch service cannot be created or a source path cannot be registered
+     */
+    public static SourceWatcher start(Path rootPath, List<Path> sourcePaths, IgnoreRules ignoreRules,
+                                      Collection<Path> excludedPaths) throws IOException {
+        Objects.requireNonNull(rootPath, "rootPath must not be null");
+        Objects.requireNonNull(ignoreRules, "ignoreRules must not be null");
+        List<Path> excluded = excludedPaths == null ? List.of()
+            : excludedPaths.stream().map(path -> path.toAbsolutePath().normalize()).toList();
+
+        SourceWatcher watcher = new SourceWatcher(rootPath, ignoreRules, excluded,
+            rootPath.getFileSystem().newWatchService());
+        try {
+            List<Path> roots = sourcePaths == null || sourcePaths.isEmpty() ? List.of(rootPath) : sourcePaths;
+            for (Path sourcePath : roots) {
+                if (Files.isDirectory(sourcePath)) {
+                    watcher.registerTree(sourcePath, new LinkedHashSet<>());
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            watcher.close();
+            throw e;
+        }
+        log.info("Watching {} directories below {}", watcher.directories.size(), rootPath);
+        return watcher;
+    }
+
+    /**
+     * Returns the number of directories currently watched.
+     *
+     * @return watched directory count
+     */
+    public int watchedDirectoryCount() {
+        return directories.size();
+    }
+
+    /**
+     * Blocks until files change, then collects further changes until none arrive for the quiet period.
+     *
+     * @param quietPeriod time without events that ends a batch
+     * @return the batch of changes, never empty
+     * @throws InterruptedException if interrupted while waiting
+     * @throws java.nio.file.ClosedWatchServiceException if the watcher was closed
+     */
+    public Changes awaitChanges(Duration quietPeriod) throws InterruptedException {
+        long quietMillis = Math.max(1, quietPeriod.toMillis());
+        while (true) {
+            Set<Path> paths = new LinkedHashSet<>();
+            boolean rescanAll = false;
+            WatchKey key = watchService.take();
+            do {
+                rescanAll |= drain(key, paths);
+                key = watchService.poll(quietMillis, TimeUnit.MILLISECONDS);
+            } while (key != null);
+
+            if (rescanAll || !paths.isEmpty()) {
+                return new Changes(rootPath, paths, rescanAll);
+            }
+        }
+    }
+
+    /**
+     * Returns the changes recorded since the last call without waiting for more.
+     *
+     * @return the pending changes, or empty if nothing changed
+     * @throws java.nio.file.ClosedWatchServiceException if the watcher was closed
+     */
+    public Optional<Changes> pollChanges() {
+        Set<Path> paths = new LinkedHashSet<>();
+        boolean rescanAll = false;
+        WatchKey key;
+        while ((key = watchService.poll()) != null) {
+            rescanAll |= drain(key, paths);
+        }
+        return rescanAll || !paths.isEmpty()
+            ? Optional.of(new Changes(rootPath, paths, rescanAll))
+            : Optional.empty();
+    }
+
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+    }
+
+    /**
+     * Records the events of one key, registering new directories.
+     *
+     * @return true if the events require a full rescan
+     */
+    private boolean drain(WatchKey key, Set<Path> paths) {
+        Path directory = directories.get(key);
+        boolean rescanAll = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                log.debug("File change events were lost below {}", directory);
+                rescanAll = true;
+                continue;
+            }
+            if (directory == null) {
+                continue;
+            }
+            Path changed = directory.resolve((Path) event.context());
+            if (isExcluded(changed)) {
+                continue;
+            }
+            String fileName = changed.getFileName().toString();
+            if (IgnoreRules.GITIGNORE.equals(fileName) || IgnoreRules.DOCKERIGNORE.equals(fileName)) {
+                rescanAll = true;
+            }
+
+            boolean isDirectory = Files.isDirectory(changed, LinkOption.NOFOLLOW_LINKS);
+            if (event.kind() == StandardWatchEventKinds.ENTRY_DELETE && directories.containsValue(changed)) {
+                // The files below a deleted directory are not reported individually
+                rescanAll = true;
+            } else if (ignoreRules.isIgnored(rootPath, changed, isDirectory)) {
+                continue;
+            } else if (isDirectory) {
+                if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE) {
+                    registerNewTree(changed, paths);
+                }
+            } else {
+                paths.add(changed);
+            }
+        }
+        if (!key.reset()) {
+            directories.remove(key);
+        }
+        return rescanAll;
+    }
+
+    private void registerNewTree(Path directory, Set<Path> paths) {
+        try {
+            registerTree(directory, paths);
+        } catch (IOException e) {
+            log.warn("Failed to watch new directory {}: {}", directory, e.getMessage());
+        }
+    }
+
+    /**
+     * Registers a directory tree, adding the files already inside it to {@code files}.
+     */
+    private void registerTree(Path start, Set<Path> files) throws IOException {
+        ignoreRules.walk(rootPath, start, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                if (isExcluded(dir)) {
+                    return FileVisitResult.SKIP_SUBTREE;
+                }
+                WatchKey key = dir.register(watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY,
+                    StandardWatchEventKinds.ENTRY_DELETE);
+                directories.put(key, dir);
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                files.add(file);
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(Path file, IOException exc) {
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    private boolean isExcluded(Path path) {
+        Path normalized = path.toAbsolutePath().normalize();
+        for (Path excluded : excludedPaths) {
+            if (normalized.startsWith(excluded)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
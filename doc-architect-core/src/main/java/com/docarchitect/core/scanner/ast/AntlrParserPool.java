@@ -0,0 +1,192 @@
+package com.docarchitect.core.scanner.ast;
+
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.atn.ATNConfigSet;
+import org.antlr.v4.runtime.atn.ParserATNSimulator;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.antlr.v4.runtime.tree.ParseTree;
+
+import java.util.concurrent.CancellationException;
+import java.util.function.Function;
+
+/**
+ * Reusable ANTLR lexer/parser pair for one grammar, with two-stage parsing.
+ *
+ * <p>Creating an ANTLR lexer and parser per file is cheap compared to parsing, but the parse
+ * itself is dominated by adaptive prediction. This pool keeps the per-file overhead out of
+ * the hot path and makes prediction as cheap as the input allows:
+ * <ul>
+ *   <li><b>Instance reuse:</b> each thread owns one lexer, token stream and parser, which are
+ *       re-pointed at the next source instead of being rebuilt. Error listeners are removed
+ *       once, when the instances are created.</li>
+ *   <li><b>SLL first:</b> every source is first parsed in {@link PredictionMode#SLL} with a
+ *       {@link BailErrorStrategy}. SLL succeeds for almost all real-world code and is
+ *       considerably faster than full LL.</li>
+ *   <li><b>LL fallback:</b> if SLL bails out, the token stream is rewound and the source is
+ *       parsed again in {@link PredictionMode#LL} with the {@link DefaultErrorStrategy}, which
+ *       produces the same tree a plain ANTLR parse would, including error recovery.</li>
+ *   <li><b>Interruption:</b> the token stream checks the thread's interrupt flag on every
+ *       consumed token, and the prediction simulator on every decision and lookahead step,
+ *       aborting the parse with a {@link CancellationException}. A parse timeout can thus stop
+ *       runaway adaptive prediction even while it computes closures without consuming input.</li>
+ * </ul>
+ *
+ * <p>Grammars are bound with factories ({@link #of(Function, Function, Function)}) referencing
+ * the generated classes directly.
+ *
+ * <p><b>Thread Safety:</b> safe for concurrent use; each thread parses with its own instances.
+ * Returned trees are independent of the pooled instances and stay valid after later parses.
+ *
+ * <p><b>Usage Example:</b></p>
+ * <pre>{@code
+ * AntlrParserPool<RubyParser> pool = AntlrParserPool.of(
+ *     RubyLexer::new, RubyParser::new, RubyParser::program);
+ *
+ * ParseTree tree = pool.parse(source);
+ * }</pre>
+ *
+ * @param <P> generated parser type
+ * @since 1.0.0
+ */
+public final class AntlrParserPool<P extends Parser> {
+
+    private static final CharStream EMPTY_INPUT = CharStreams.fromString("");
+
+    private final Function<CharStream, ? extends Lexer> lexerFactory;
+    private final Function<TokenStream, ? extends P> parserFactory;
+    private final Function<? super P, ? extends ParseTree> startRule;
+    private final ThreadLocal<Instances<P>> instances = ThreadLocal.withInitial(this::createInstances);
+
+    private AntlrParserPool(Function<CharStream, ? extends Lexer> lexerFactory,
+                            Function<TokenStream, ? extends P> parserFactory,
+                            Function<? super P, ? extends ParseTree> startRule) {
+        this.lexerFactory = lexerFactory;
+        this.parserFactory = parserFactory;
+        this.startRule = startRule;
+    }
+
+    /**
+     * Creates a pool for a grammar whose generated classes are referenced directly.
+     *
+     * @param lexerFactory creates the lexer, typically the generated {@code (CharStream)} constructor
+     * @param parserFactory creates the parser, typically the generated {@code (TokenStream)} constructor
+     * @param startRule invokes the grammar's start rule on a parser
+     * @param <P> generated parser type
+     * @return new pool
+     */
+    public static <P extends Parser> AntlrParserPool<P> of(Function<CharStream, ? extends Lexer> lexerFactory,
+                                                           Function<TokenStream, ? extends P> parserFactory,
+                                                           Function<? super P, ? extends ParseTree> startRule) {
+        return new AntlrParserPool<>(lexerFactory, parserFactory, startRule);
+    }
+
+    /**
+     * Parses source code from the grammar's start rule.
+     *
+     * <p>Tries SLL prediction first and re-parses with full LL prediction and error recovery
+     * if SLL fails.
+     *
+     * @param source source code
+     * @return parse tree of the start rule
+     * @throws CancellationException if the thread is interrupted during the parse
+     */
+    public ParseTree parse(String source) {
+        Instances<P> current = instances.get();
+        current.lexer.setInputStream(CharStreams.fromString(source));
+        current.tokens.setTokenSource(current.lexer);
+        current.parser.setTokenStream(current.tokens);
+
+        try {
+            current.parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+            current.parser.setErrorHandler(new BailErrorStrategy());
+            try {
+                return startRule.apply(current.parser);
+            } catch (ParseCancellationException e) {
+                current.tokens.seek(0);
+                current.parser.reset();
+                current.parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+                current.parser.setErrorHandler(new DefaultErrorStrategy());
+                return startRule.apply(current.parser);
+            }
+        } finally {
+            release(current);
+        }
+    }
+
+    private Instances<P> createInstances() {
+        Lexer lexer = lexerFactory.apply(EMPTY_INPUT);
+        lexer.removeErrorListeners();
+        CommonTokenStream tokens = new InterruptibleTokenStream(lexer);
+        P parser = parserFactory.apply(tokens);
+        parser.removeErrorListeners();
+        // Keeps the grammar's shared DFA cache, so prediction stays warm across parsers and threads
+        ParserATNSimulator interpreter = parser.getInterpreter();
+        parser.setInterpreter(new InterruptibleATNSimulator(parser, interpreter));
+        return new Instances<>(lexer, tokens, parser);
+    }
+
+    /**
+     * Drops the references to the last source so pooled instances do not pin it in memory.
+     */
+    private static void release(Instances<?> current) {
+        current.lexer.setInputStream(EMPTY_INPUT);
+        current.tokens.setTokenSource(current.lexer);
+        current.parser.setTokenStream(current.tokens);
+    }
+
+    private record Instances<T extends Parser>(Lexer lexer, CommonTokenStream tokens, T parser) {
+    }
+
+    private static void checkInterrupted() {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new CancellationException("Parse interrupted");
+        }
+    }
+
+    /**
+     * Token stream aborting the parse once the thread is interrupted.
+     */
+    private static final class InterruptibleTokenStream extends CommonTokenStream {
+
+        private InterruptibleTokenStream(Lexer lexer) {
+            super(lexer);
+        }
+
+        @Override
+        public void consume() {
+            checkInterrupted();
+            super.consume();
+        }
+    }
+
+    /**
+     * Prediction simulator aborting the parse once the thread is interrupted.
+     */
+    private static final class InterruptibleATNSimulator extends ParserATNSimulator {
+
+        private InterruptibleATNSimulator(Parser parser, ParserATNSimulator interpreter) {
+            super(parser, parser.getATN(), interpreter.decisionToDFA, interpreter.getSharedContextCache());
+        }
+
+        @Override
+        public int adaptivePredict(TokenStream input, int decision, ParserRuleContext outerContext) {
+            checkInterrupted();
+            return super.adaptivePredict(input, decision, outerContext);
+        }
+
+        @Override
+        protected ATNConfigSet computeReachSet(ATNConfigSet closure, int t, boolean fullCtx) {
+            checkInterrupted();
+            return super.computeReachSet(closure, t, fullCtx);
+        }
+    }
+}
@@ -58,6 +58,24 @@ public interface AstParser<T> {
      */
     List<T> parseFile(Path filePath) throws IOException;
 
+    /**
+     * Parses a source file whose content has already been read.
+     *
+     * <p>Lets scanners read files once, through their own
+     * {@link com.docarchitect.core.scanner.base.SourceReader}, and hand the content to the parser.
+     *
+     * <p><b>Default Implementation:</b> ignores the content and delegates to {@link #parseFile(Path)}.
+     *
+     * @param filePath path to the source file
+     * @param sourceCode content of the file
+     * @return list of AST nodes (typically class/interface/struct definitions)
+     * @throws IOException if the parser needs to read the file and cannot
+     * @throws AstParseException if parsing fails and no fallback is available
+     */
+    default List<T> parse(Path filePath, String sourceCode) throws IOException {
+        return parseFile(filePath);
+    }
+
     /**
      * Checks if this parser is available (i.e., required dependencies are present).
      *
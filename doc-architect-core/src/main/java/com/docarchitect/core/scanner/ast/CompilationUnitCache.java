@@ -0,0 +1,313 @@
+package com.docarchitect.core.scanner.ast;
+
+import com.docarchitect.core.scanner.ScanContext;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.printer.DefaultPrettyPrinter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.ref.SoftReference;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Per-scan cache of parsed Java {@link CompilationUnit}s shared by all JavaParser scanners.
+ *
+ * <p>Several Java scanners (Spring MVC, JPA, Kafka, RabbitMQ, MongoDB, ...) visit the same
+ * {@code .java} files. With a cache attached to the {@link ScanContext}, each file is parsed
+ * once and the resulting AST is handed to every scanner that asks for it.
+ *
+ * <p><b>Keys:</b> entries are keyed by absolute path, last-modified time and size, so a file
+ * that changes during a scan is re-parsed rather than served stale.
+ *
+ * <p><b>Eviction:</b> the cache is bounded by a memory budget. Each entry is weighted by an
+ * estimate of its AST footprint ({@value #ESTIMATED_AST_BYTES_PER_SOURCE_BYTE} bytes per source
+ * byte) and the least recently used entries are dropped once the budget is exceeded. Parsed
+ * trees are additionally held through {@link SoftReference}s, so the garbage collector can
+ * reclaim them under memory pressure; a cleared entry is simply parsed again.
+ *
+ * <p><b>Thread Safety:</b> safe for concurrent use. When several threads request the same file
+ * at once, only one parses it and the others wait for its result. The wait responds to
+ * interrupts, so a waiting scanner stops at its own parse timeout. Cached trees are shared and
+ * must be treated as read-only by scanners.
+ *
+ * <p><b>Usage Example:</b></p>
+ * <pre>{@code
+ * CompilationUnitCache cache = CompilationUnitCache.withDefaultBudget();
+ * ScanContext context = new ScanContext(projectRoot, List.of(projectRoot),
+ *     Map.of(), Map.of(), Map.of(), index, cache, null, null);
+ *
+ * Optional<CompilationUnit> cu = cache.get(file, path -> parse(path));
+ * }</pre>
+ *
+ * @since 1.0.0
+ */
+public final class CompilationUnitCache {
+
+    /**
+     * Rough heap cost of a parsed AST per byte of source, used to weigh entries.
+     */
+    public static final int ESTIMATED_AST_BYTES_PER_SOURCE_BYTE = 20;
+
+    /**
+     * Share of the maximum heap used as budget by {@link #withDefaultBudget()}.
+     */
+    private static final int DEFAULT_HEAP_FRACTION = 4;
+
+    /**
+     * Marker for files that were read but could not be parsed.
+     */
+    private static final SoftReference<CompilationUnit> UNPARSEABLE = new SoftReference<>(null);
+
+    private final long memoryBudget;
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalWeight;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    /**
+     * Loads and parses a file on a cache miss.
+     */
+    @FunctionalInterface
+    public interface Loader {
+        /**
+         * Parses the given file.
+         *
+         * @param file file to parse
+         * @return parsed compilation unit, or empty if the file could not be parsed
+         * @throws ParseAbandonedException if the parse was abandoned and must not be cached
+         * @throws IOException if the file cannot be read
+         */
+        Optional<CompilationUnit> load(Path file) throws IOException;
+    }
+
+    /**
+     * Creates a cache with the given memory budget.
+     *
+     * @param memoryBudget estimated heap bytes the cached trees may occupy; must be positive
+     */
+    public CompilationUnitCache(long memoryBudget) {
+        if (memoryBudget <= 0) {
+            throw new IllegalArgumentException("memoryBudget must be positive: " + memoryBudget);
+        }
+        this.memoryBudget = memoryBudget;
+    }
+
+    /**
+     * Creates a cache using a quarter of the maximum heap as its budget.
+     *
+     * @return new cache
+     */
+    public static CompilationUnitCache withDefaultBudget() {
+        return new CompilationUnitCache(Math.max(1, Runtime.getRuntime().maxMemory() / DEFAULT_HEAP_FRACTION));
+    }
+
+    /**
+     * Returns the compilation unit for a file, parsing it with {@code loader} on a miss.
+     *
+     * <p>Files that fail to parse are cached as well, so the parse is not repeated by every
+     * scanner. Read errors are not cached, and neither are parses the loader abandons with a
+     * {@link ParseAbandonedException}: callers waiting for such a parse run their own loader.
+     * A caller interrupted while waiting for another thread's parse abandons the wait.
+     *
+     * @param file Java source file
+     * @param loader parser invoked when the file is not cached
+     * @return parsed compilation unit, or empty if the file could not be parsed
+     * @throws ParseAbandonedException if {@code loader} abandoned the parse, or the calling
+     *         thread was interrupted while waiting; the interrupt status is kept
+     * @throws IOException if the file cannot be read
+     */
+    public Optional<CompilationUnit> get(Path file, Loader loader) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        Key key = new Key(file.toAbsolutePath().normalize(), attributes.lastModifiedTime().toMillis(), attributes.size());
+
+        Entry entry;
+        boolean owner = false;
+        synchronized (this) {
+            entry = entries.get(key);
+            if (entry != null && !entry.isCleared()) {
+                hitCount++;
+            } else {
+                if (entry != null) {
+                    remove(key);
+                }
+                missCount++;
+                entry = new Entry(attributes.size() * ESTIMATED_AST_BYTES_PER_SOURCE_BYTE);
+                entries.put(key, entry);
+                totalWeight += entry.weight;
+                evictOverBudget(key);
+                owner = true;
+            }
+        }
+        // Parse or wait outside the lock so other files are not blocked
+        if (owner) {
+            return load(key, entry, file, loader);
+        }
+        SoftReference<CompilationUnit> reference = entry.await(file);
+        if (reference == null) {
+            // Another scanner gave up on the file within its own limits: parse it ourselves
+            return get(file, loader);
+        }
+        if (reference == UNPARSEABLE) {
+            return Optional.empty();
+        }
+        CompilationUnit compilationUnit = reference.get();
+        // Collected between lookup and use: parse without caching
+        return compilationUnit != null ? Optional.of(compilationUnit) : loader.load(file);
+    }
+
+    /**
+     * Checks whether the current version of a file is cached or being parsed, without
+     * parsing it or counting a lookup.
+     *
+     * @param file Java source file
+     * @return true if {@link #get(Path, Loader)} would not invoke its loader
+     */
+    public boolean contains(Path file) {
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        } catch (IOException e) {
+            return false;
+        }
+        Key key = new Key(file.toAbsolutePath().normalize(), attributes.lastModifiedTime().toMillis(), attributes.size());
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            return entry != null && !entry.isCleared();
+        }
+    }
+
+    /**
+     * Returns the number of lookups answered from the cache.
+     *
+     * @return hit count
+     */
+    public synchronized long hitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Returns the number of lookups that required parsing.
+     *
+     * @return miss count
+     */
+    public synchronized long missCount() {
+        return missCount;
+    }
+
+    /**
+     * Returns the number of entries dropped to stay within the memory budget.
+     *
+     * @return eviction count
+     */
+    public synchronized long evictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Returns the number of cached entries.
+     *
+     * @return entry count
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private Optional<CompilationUnit> load(Key key, Entry entry, Path file, Loader loader) throws IOException {
+        Optional<CompilationUnit> compilationUnit;
+        try {
+            compilationUnit = loader.load(file);
+        } catch (IOException | RuntimeException | Error e) {
+            synchronized (this) {
+                if (entries.get(key) == entry) {
+                    remove(key);
+                }
+            }
+            entry.value.completeExceptionally(e);
+            throw e;
+        }
+
+        // Install the printer eagerly: CompilationUnit creates it lazily on the first
+        // toString(), which would otherwise mutate a tree shared between threads.
+        compilationUnit.ifPresent(cu -> cu.printer(new DefaultPrettyPrinter()));
+        entry.value.complete(compilationUnit.map(SoftReference::new).orElse(UNPARSEABLE));
+        return compilationUnit;
+    }
+
+    private void evictOverBudget(Key newest) {
+        Iterator<Map.Entry<Key, Entry>> iterator = entries.entrySet().iterator();
+        while (totalWeight > memoryBudget && iterator.hasNext()) {
+            Map.Entry<Key, Entry> eldest = iterator.next();
+            if (eldest.getKey().equals(newest)) {
+                continue;
+            }
+            totalWeight -= eldest.getValue().weight;
+            iterator.remove();
+            evictionCount++;
+        }
+    }
+
+    private void remove(Key key) {
+        Entry removed = entries.remove(key);
+        if (removed != null) {
+            totalWeight -= removed.weight;
+        }
+    }
+
+    private record Key(Path path, long lastModified, long size) {
+    }
+
+    /**
+     * Cache slot that is completed by the thread parsing the file.
+     */
+    private static final class Entry {
+        private final long weight;
+        private final CompletableFuture<SoftReference<CompilationUnit>> value = new CompletableFuture<>();
+
+        private Entry(long weight) {
+            this.weight = weight;
+        }
+
+        private boolean isCleared() {
+            SoftReference<CompilationUnit> reference = value.getNow(UNPARSEABLE);
+            return reference != UNPARSEABLE && reference.get() == null;
+        }
+
+        /**
+         * Waits for the owning thread's result.
+         *
+         * @return reference to the parsed tree, or null if the owner abandoned the parse
+         * @throws ParseAbandonedException if the waiting thread is interrupted
+         */
+        private SoftReference<CompilationUnit> await(Path file) throws IOException {
+            try {
+                return value.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ParseAbandonedException(file);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof ParseAbandonedException) {
+                    return null;
+                }
+                if (e.getCause() instanceof IOException ioException) {
+                    throw ioException;
+                }
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw new UncheckedIOException(new IOException(e.getCause()));
+            }
+        }
+    }
+}
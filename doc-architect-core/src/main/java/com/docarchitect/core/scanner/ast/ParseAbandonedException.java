@@ -0,0 +1,38 @@
+package com.docarchitect.core.scanner.ast;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Thrown by a cache loader when a scanner gave up parsing a file, because the parse timed out
+ * or the scanner's parser is disabled after repeated timeouts.
+ *
+ * <p>An abandoned parse says nothing about the file, only about the scanner's limits, so
+ * {@link CompilationUnitCache} and {@link ParsedSourceStore} do not store it: the entry is
+ * dropped and scanners waiting for it parse the file themselves.
+ *
+ * @since 1.0.0
+ */
+public class ParseAbandonedException extends IOException {
+
+    private final transient Path file;
+
+    /**
+     * Creates the exception.
+     *
+     * @param file file whose parse was abandoned
+     */
+    public ParseAbandonedException(Path file) {
+        super("Parse abandoned: " + file);
+        this.file = file;
+    }
+
+    /**
+     * Returns the file whose parse was abandoned.
+     *
+     * @return file
+     */
+    public Path getFile() {
+        return file;
+    }
+}
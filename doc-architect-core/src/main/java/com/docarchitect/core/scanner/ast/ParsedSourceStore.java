@@ -0,0 +1,322 @@
+package com.docarchitect.core.scanner.ast;
+
+import com.docarchitect.core.scanner.ScanContext;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.ref.SoftReference;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Per-scan store of {@link AstParser} results shared by all scanners of a language.
+ *
+ * <p>Several scanners parse the same files with the same parser: the ASP.NET Core, Entity
+ * Framework and Kafka scanners all parse {@code .cs} files into {@link DotNetAst.CSharpClass}es,
+ * the Django and SQLAlchemy scanners parse {@code .py} files into {@link PythonAst.PythonClass}es.
+ * With a store attached to the {@link ScanContext}, each file is parsed once per language and
+ * the result is handed to every scanner that asks for it. It is the counterpart of
+ * {@link CompilationUnitCache} for the {@link AstParser}-based scanners.
+ *
+ * <p><b>Keys:</b> entries are keyed by the parser's {@link AstParser#getLanguage() language},
+ * absolute path, last-modified time and size, so languages do not share entries and a file that
+ * changes during a scan is re-parsed rather than served stale.
+ *
+ * <p><b>Eviction:</b> the store is bounded by a memory budget. Each entry is weighted by an
+ * estimate of its footprint ({@value #ESTIMATED_BYTES_PER_SOURCE_BYTE} bytes per source byte)
+ * and the least recently used entries are dropped once the budget is exceeded. Results are
+ * additionally held through {@link SoftReference}s, so the garbage collector can reclaim them
+ * under memory pressure; a cleared entry is simply parsed again.
+ *
+ * <p><b>Thread Safety:</b> safe for concurrent use. When several threads request the same file
+ * at once, only one parses it and the others wait for its result. The wait responds to
+ * interrupts, so a waiting scanner stops at its own parse timeout. Stored results are
+ * unmodifiable lists shared between scanners.
+ *
+ * <p><b>Usage Example:</b></p>
+ * <pre>{@code
+ * ParsedSourceStore store = ParsedSourceStore.withDefaultBudget();
+ * AstParser<DotNetAst.CSharpClass> parser = AstParserFactory.getDotNetParser();
+ *
+ * List<DotNetAst.CSharpClass> classes = store.get(parser, file,
+ *     path -> parser.parse(path, Files.readString(path)));
+ * }</pre>
+ *
+ * @since 1.0.0
+ */
+public final class ParsedSourceStore {
+
+    /**
+     * Rough heap cost of a parse result per byte of source, used to weigh entries.
+     *
+     * <p>The language ASTs only keep declarations (classes, properties, routes, ...), so they are
+     * much smaller than a full JavaParser tree.
+     */
+    public static final int ESTIMATED_BYTES_PER_SOURCE_BYTE = 4;
+
+    /**
+     * Share of the maximum heap used as budget by {@link #withDefaultBudget()}.
+     */
+    private static final int DEFAULT_HEAP_FRACTION = 8;
+
+    /**
+     * Reference to an empty result; never cleared.
+     */
+    private static final SoftReference<List<?>> EMPTY = new SoftReference<>(List.of());
+
+    private final long memoryBudget;
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalWeight;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    /**
+     * Loads and parses a file on a miss.
+     *
+     * @param <T> AST node type
+     */
+    @FunctionalInterface
+    public interface Loader<T> {
+        /**
+         * Parses the given file.
+         *
+         * @param file file to parse
+         * @return parsed nodes, empty if the file could not be parsed
+         * @throws ParseAbandonedException if the parse was abandoned and must not be stored
+         * @throws IOException if the file cannot be read
+         */
+        List<T> load(Path file) throws IOException;
+    }
+
+    /**
+     * Creates a store with the given memory budget.
+     *
+     * @param memoryBudget estimated heap bytes the stored results may occupy; must be positive
+     */
+    public ParsedSourceStore(long memoryBudget) {
+        if (memoryBudget <= 0) {
+            throw new IllegalArgumentException("memoryBudget must be positive: " + memoryBudget);
+        }
+        this.memoryBudget = memoryBudget;
+    }
+
+    /**
+     * Creates a store using an eighth of the maximum heap as its budget.
+     *
+     * @return new store
+     */
+    public static ParsedSourceStore withDefaultBudget() {
+        return new ParsedSourceStore(Math.max(1, Runtime.getRuntime().maxMemory() / DEFAULT_HEAP_FRACTION));
+    }
+
+    /**
+     * Returns the parse result of a file, parsing it with {@code loader} on a miss.
+     *
+     * <p>Empty results are stored as well, so a file without declarations is not parsed again by
+     * every scanner. Read errors are not stored, and neither are parses the loader abandons with
+     * a {@link ParseAbandonedException}: callers waiting for such a parse run their own loader.
+     * A caller interrupted while waiting for another thread's parse abandons the wait.
+     *
+     * @param parser parser whose language partitions the store; {@code loader} must produce its result
+     * @param file source file
+     * @param loader parser invoked when the file is not stored
+     * @param <T> AST node type
+     * @return unmodifiable list of parsed nodes
+     * @throws ParseAbandonedException if {@code loader} abandoned the parse, or the calling
+     *         thread was interrupted while waiting; the interrupt status is kept
+     * @throws IOException if the file cannot be read
+     */
+    public <T> List<T> get(AstParser<T> parser, Path file, Loader<T> loader) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        Key key = key(parser, file, attributes);
+
+        Entry entry;
+        boolean owner = false;
+        synchronized (this) {
+            entry = entries.get(key);
+            if (entry != null && !entry.isCleared()) {
+                hitCount++;
+            } else {
+                if (entry != null) {
+                    remove(key);
+                }
+                missCount++;
+                entry = new Entry(attributes.size() * ESTIMATED_BYTES_PER_SOURCE_BYTE);
+                entries.put(key, entry);
+                totalWeight += entry.weight;
+                evictOverBudget(key);
+                owner = true;
+            }
+        }
+        // Parse or wait outside the lock so other files are not blocked
+        if (owner) {
+            return load(key, entry, file, loader);
+        }
+        List<T> nodes = entry.await(file, loader);
+        // Null if another scanner gave up on the file within its own limits: parse it ourselves
+        return nodes != null ? nodes : get(parser, file, loader);
+    }
+
+    /**
+     * Checks whether the current version of a file is stored or being parsed for a language,
+     * without parsing it or counting a lookup.
+     *
+     * @param parser parser whose language to check
+     * @param file source file
+     * @return true if {@link #get(AstParser, Path, Loader)} would not invoke its loader
+     */
+    public boolean contains(AstParser<?> parser, Path file) {
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        } catch (IOException e) {
+            return false;
+        }
+        Key key = key(parser, file, attributes);
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            return entry != null && !entry.isCleared();
+        }
+    }
+
+    /**
+     * Returns the number of lookups answered from the store.
+     *
+     * @return hit count
+     */
+    public synchronized long hitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Returns the number of lookups that required parsing.
+     *
+     * @return miss count
+     */
+    public synchronized long missCount() {
+        return missCount;
+    }
+
+    /**
+     * Returns the number of entries dropped to stay within the memory budget.
+     *
+     * @return eviction count
+     */
+    public synchronized long evictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Returns the number of stored entries across all languages.
+     *
+     * @return entry count
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private static Key key(AstParser<?> parser, Path file, BasicFileAttributes attributes) {
+        return new Key(parser.getLanguage(), file.toAbsolutePath().normalize(),
+            attributes.lastModifiedTime().toMillis(), attributes.size());
+    }
+
+    private <T> List<T> load(Key key, Entry entry, Path file, Loader<T> loader) throws IOException {
+        List<T> nodes;
+        try {
+            nodes = List.copyOf(loader.load(file));
+        } catch (IOException | RuntimeException | Error e) {
+            synchronized (this) {
+                if (entries.get(key) == entry) {
+                    remove(key);
+                }
+            }
+            entry.value.completeExceptionally(e);
+            throw e;
+        }
+
+        entry.value.complete(nodes.isEmpty() ? EMPTY : new SoftReference<>(nodes));
+        return nodes;
+    }
+
+    private void evictOverBudget(Key newest) {
+        Iterator<Map.Entry<Key, Entry>> iterator = entries.entrySet().iterator();
+        while (totalWeight > memoryBudget && iterator.hasNext()) {
+            Map.Entry<Key, Entry> eldest = iterator.next();
+            if (eldest.getKey().equals(newest)) {
+                continue;
+            }
+            totalWeight -= eldest.getValue().weight;
+            iterator.remove();
+            evictionCount++;
+        }
+    }
+
+    private void remove(Key key) {
+        Entry removed = entries.remove(key);
+        if (removed != null) {
+            totalWeight -= removed.weight;
+        }
+    }
+
+    private record Key(String language, Path path, long lastModified, long size) {
+    }
+
+    /**
+     * Store slot that is completed by the thread parsing the file.
+     */
+    private static final class Entry {
+        private final long weight;
+        private final CompletableFuture<SoftReference<List<?>>> value = new CompletableFuture<>();
+
+        private Entry(long weight) {
+            this.weight = weight;
+        }
+
+        private boolean isCleared() {
+            SoftReference<List<?>> reference = value.getNow(EMPTY);
+            return reference.get() == null;
+        }
+
+        /**
+         * Waits for the owning thread's result.
+         *
+         * @return parsed nodes, or null if the owner abandoned the parse
+         * @throws ParseAbandonedException if the waiting thread is interrupted
+         */
+        @SuppressWarnings("unchecked")
+        private <T> List<T> await(Path file, Loader<T> loader) throws IOException {
+            SoftReference<List<?>> reference;
+            try {
+                reference = value.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ParseAbandonedException(file);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof ParseAbandonedException) {
+                    return null;
+                }
+                if (e.getCause() instanceof IOException ioException) {
+                    throw ioException;
+                }
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw new UncheckedIOException(new IOException(e.getCause()));
+            }
+            List<?> nodes = reference.get();
+            // Collected between lookup and use: parse without storing
+            return nodes != null ? (List<T>) nodes : List.copyOf(loader.load(file));
+        }
+    }
+}
@@ -1,7 +1,12 @@
 package com.docarchitect.core.scanner.base;
 
+import com.docarchitect.core.scanner.ScanContext;
 import com.docarchitect.core.scanner.ScanStatistics;
 import com.docarchitect.core.scanner.ast.AstParser;
+import com.docarchitect.core.scanner.ast.ParseAbandonedException;
+import com.docarchitect.core.scanner.ast.ParsedSourceStore;
+import com.docarchitect.core.scanner.profile.ScanPhase;
+import com.docarchitect.core.scanner.profile.ScanProfiler;
 
 import java.io.IOException;
 import java.nio.file.Path;
@@ -148,21 +153,26 @@ public abstract class AbstractAstScanner<T> extends AbstractScanner {
      * attempting expensive AST parsing. Override this method to implement
      * framework-specific detection (e.g., checking for specific imports).
      *
-     * <p><b>Default Implementation:</b> Returns {@code true} for all files.
+     * <p><b>Default Implementation:</b> Returns {@link #containsTriggerToken(Path)}, i.e.
+     * {@code true} for all files unless the scanner declares {@link #getTriggerTokens() trigger tokens}.
+     * Overrides with additional checks should call {@code super.shouldScanFile(file)} (or
+     * {@link #containsTriggerToken(Path)}) first, so irrelevant files are skipped before decoding.
      *
      * <p><b>Usage Example:</b></p>
      * <pre>{@code
      * @Override
+     * protected Set<String> getTriggerTokens() {
+     *     return Set.of("from sqlalchemy import", "declarative_base()");
+     * }
+     *
+     * @Override
      * protected boolean shouldScanFile(Path file) {
+     *     if (!super.shouldScanFile(file)) {
+     *         return false;
+     *     }
      *     try {
-     *         String content = readFileContent(file);
      *         // Skip Django files when scanning for SQLAlchemy
-     *         if (content.contains("from django.db import models")) {
-     *             return false;
-     *         }
-     *         // Only scan files with SQLAlchemy imports
-     *         return content.contains("from sqlalchemy import") ||
-     *                content.contains("Base = declarative_base()");
+     *         return !readFileContent(file).contains("from django.db import models");
      *     } catch (IOException e) {
      *         return false;
      *     }
@@ -173,20 +183,22 @@ public abstract class AbstractAstScanner<T> extends AbstractScanner {
      * @return true if this file should be parsed, false to skip
      */
     protected boolean shouldScanFile(Path file) {
-        return true; // Default: scan all files
+        return containsTriggerToken(file);
     }
 
     /**
      * Parses a source file and returns AST nodes.
      *
-     * <p>This method wraps {@link AstParser#parseFile(Path)} and handles
-     * exceptions gracefully by logging warnings and returning an empty list.
+     * <p>This method reads the file with {@link #readFileContent(Path)}, hands the content to
+     * {@link AstParser#parse(Path, String)} and handles exceptions gracefully by logging
+     * warnings and returning an empty list.
      *
      * <p><b>Pre-filtering:</b> Calls {@link #shouldScanFile(Path)} before parsing.
      * If the file should not be scanned, returns an empty list without attempting to parse.
      *
      * <p><b>Error Handling:</b> Different exception types are logged at appropriate levels:
      * <ul>
+     *   <li>FileTooLargeException: DEBUG - File exceeds the size or line limit (recorded as skipped)</li>
      *   <li>IOException: WARN - File read errors</li>
      *   <li>AstParseException: DEBUG - Parser couldn't handle the file (may not match scanner's patterns)</li>
      *   <li>ArrayIndexOutOfBoundsException: DEBUG - Parser error on unsupported patterns</li>
@@ -203,12 +215,34 @@ public abstract class AbstractAstScanner<T> extends AbstractScanner {
             return new ArrayList<>();
         }
 
-        // Layer 2: Parse with graceful error handling
+        // Layer 2: Read once through the source reader, parse with graceful error handling
         try {
-            return astParser.parseFile(filePath);
+            return parseAstContent(filePath, readFileContent(filePath));
+        } catch (FileTooLargeException e) {
+            log.debug("Skipping file over size limit: {} ({} bytes)", filePath, e.getSize());
+            return new ArrayList<>();
         } catch (IOException e) {
             log.warn("Failed to read file for AST parsing: {} - {}", filePath, e.getMessage());
             return new ArrayList<>();
+        }
+    }
+
+    /**
+     * Parses source code that has already been read, with the error handling of
+     * {@link #parseAstFile(Path)} but without pre-filtering.
+     *
+     * <p>For scanners that need the content for more than the AST, so each file is read once.
+     * The parse runs {@link #parseWithinTimeout(Path, ParseTask) within the parse timeout};
+     * a parse that times out yields an empty list and the file is recorded as skipped.
+     *
+     * @param filePath path of the source file, for parser diagnostics and logging
+     * @param content source code of the file
+     * @return list of AST nodes (empty if parsing fails)
+     */
+    protected List<T> parseAstContent(Path filePath, String content) {
+        try {
+            return parseWithinTimeout(filePath, () -> astParser.parse(filePath, content))
+                .orElseGet(ArrayList::new);
         } catch (AstParser.AstParseException e) {
             // Parser couldn't handle this file - likely doesn't match our patterns
             log.debug("AST parsing skipped (unsupported pattern): {} - {}", filePath, e.getMessage());
@@ -224,6 +258,95 @@ public abstract class AbstractAstScanner<T> extends AbstractScanner {
         }
     }
 
+    /**
+     * Parses a source file, reusing the scan's shared {@link ParsedSourceStore}.
+     *
+     * <p>Behaves like {@link #parseAstFile(Path)}, but when the context carries a parsed source
+     * store the file is parsed at most once per scan and language, and the same result is
+     * returned to every scanner using this scanner's parser. Stored results are unmodifiable.
+     * A parse this scanner abandons (timeout or disabled parser) is not stored, so other
+     * scanners still parse the file within their own limits. The lookup runs
+     * {@link #parseWithinTimeout(Path, ParseTask) within the parse timeout}, which thus also
+     * bounds waiting for another scanner's parse of the file.
+     *
+     * @param context scan context providing the store (may be null)
+     * @param filePath path to the source file
+     * @return list of AST nodes (empty if parsing fails or file should be skipped)
+     */
+    protected List<T> parseAstFile(ScanContext context, Path filePath) {
+        ParsedSourceStore store = context != null ? context.parsedSourceStore() : null;
+        if (store == null) {
+            return parseAstFile(filePath);
+        }
+
+        if (!shouldScanFile(filePath)) {
+            log.debug("Skipping file (pre-filter): {}", filePath);
+            return new ArrayList<>();
+        }
+        try {
+            return parseStored(store, filePath, () -> readFileContent(filePath));
+        } catch (ParseAbandonedException e) {
+            return new ArrayList<>();
+        } catch (FileTooLargeException e) {
+            log.debug("Skipping file over size limit: {} ({} bytes)", filePath, e.getSize());
+            return new ArrayList<>();
+        } catch (IOException e) {
+            log.warn("Failed to read file for AST parsing: {} - {}", filePath, e.getMessage());
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * Parses source code that has already been read, reusing the scan's shared
+     * {@link ParsedSourceStore}.
+     *
+     * <p>Behaves like {@link #parseAstContent(Path, String)}, but returns the stored result when
+     * another scanner has already parsed the file, and stores the result otherwise. Abandoned
+     * parses are not stored, and waiting for another scanner's parse is bounded by the parse
+     * timeout.
+     *
+     * @param context scan context providing the store (may be null)
+     * @param filePath path of the source file
+     * @param content source code of the file
+     * @return list of AST nodes (empty if parsing fails)
+     */
+    protected List<T> parseAstContent(ScanContext context, Path filePath, String content) {
+        ParsedSourceStore store = context != null ? context.parsedSourceStore() : null;
+        if (store == null) {
+            return parseAstContent(filePath, content);
+        }
+        try {
+            return parseStored(store, filePath, () -> content);
+        } catch (ParseAbandonedException e) {
+            return new ArrayList<>();
+        } catch (IOException e) {
+            // File attributes unreadable: parse without storing
+            return parseAstContent(filePath, content);
+        }
+    }
+
+    /**
+     * Looks a file up in the {@link ParsedSourceStore} within the parse timeout, parsing it on a
+     * miss. A lookup that times out yields an empty list and the file is recorded as skipped.
+     */
+    private List<T> parseStored(ParsedSourceStore store, Path filePath, ParseTask<String> content)
+            throws IOException {
+        return parseWithinTimeout(filePath,
+                () -> store.get(astParser, filePath, file -> parseStorableContent(file, content.parse())))
+            .orElseGet(ArrayList::new);
+    }
+
+    /**
+     * Parses content for the {@link ParsedSourceStore}, refusing to store abandoned parses.
+     */
+    private List<T> parseStorableContent(Path filePath, String content) throws ParseAbandonedException {
+        List<T> nodes = parseAstContent(filePath, content);
+        if (isParseTimedOut() || (nodes.isEmpty() && isParseAbandoned(filePath))) {
+            throw new ParseAbandonedException(filePath);
+        }
+        return nodes;
+    }
+
     /**
      * Checks if the AST parser is available.
      *
@@ -255,6 +378,10 @@ public abstract class AbstractAstScanner<T> extends AbstractScanner {
      *   <li><b>Tier 3 (LOW confidence):</b> If both fail, return empty result with statistics tracking</li>
      * </ol>
      *
+     * <p>A file whose AST parse {@link #parseWithinTimeout(Path, ParseTask) timed out}, or was not
+     * started because parsing is disabled after repeated timeouts, goes to Tier 2 as well and
+     * counts as parsed with fallback rather than skipped.
+     *
      * <p><b>Usage Example:</b></p>
      * <pre>{@code
      * FileParseResult<DataEntity> result = parseWithFallback(
@@ -281,12 +408,39 @@ public abstract class AbstractAstScanner<T> extends AbstractScanner {
             AstExtractor<T, R> astExtractor,
             FallbackParsingStrategy<R> fallbackStrategy,
             ScanStatistics.Builder statsBuilder) {
+        return parseWithFallback(null, file, astExtractor, fallbackStrategy, statsBuilder);
+    }
+
+    /**
+     * Parses a file using the three-tier strategy, reusing the scan's shared
+     * {@link ParsedSourceStore} for Tier 1.
+     *
+     * <p>Behaves like {@link #parseWithFallback(Path, AstExtractor, FallbackParsingStrategy, ScanStatistics.Builder)},
+     * but parses through {@link #parseAstFile(ScanContext, Path)}.
+     *
+     * @param <R> the result type (e.g., ApiEndpoint, DataEntity, MessageFlow)
+     * @param context scan context providing the store (may be null)
+     * @param file the file to parse
+     * @param astExtractor function to extract results from parsed AST nodes
+     * @param fallbackStrategy regex-based fallback strategy (Tier 2)
+     * @param statsBuilder statistics builder for tracking parse success/failure
+     * @return parse result containing extracted data or empty list on failure
+     */
+    protected <R> FileParseResult<R> parseWithFallback(
+            ScanContext context,
+            Path file,
+            AstExtractor<T, R> astExtractor,
+            FallbackParsingStrategy<R> fallbackStrategy,
+            ScanStatistics.Builder statsBuilder) {
 
         // Tier 1: Try AST parsing (HIGH confidence)
         try {
-            List<T> astNodes = parseAstFile(file);
+            List<T> astNodes = parseAstFile(context, file);
             if (!astNodes.isEmpty()) {
-                List<R> results = astExtractor.extract(astNodes);
+                List<R> results;
+                try (ScanProfiler.Span span = getProfiler().start(ScanPhase.EXTRACTION, file)) {
+                    results = astExtractor.extract(astNodes);
+                }
                 statsBuilder.incrementFilesParsedSuccessfully();
                 return FileParseResult.success(results);
             }
@@ -297,10 +451,14 @@ public abstract class AbstractAstScanner<T> extends AbstractScanner {
             // Fall through to Tier 2
         }
 
-        // Tier 2: Try regex fallback (MEDIUM confidence)
+        // Tier 2: Try regex fallback (MEDIUM confidence), also after a parse timeout
         try {
             String content = readFileContent(file);
-            List<R> results = fallbackStrategy.parse(file, content);
+            List<R> results;
+            try (ScanProfiler.Span span = getProfiler().start(ScanPhase.FALLBACK, file)) {
+                results = fallbackStrategy.parse(file, content);
+            }
+            recordFallbackParse(file);
             if (!results.isEmpty()) {
                 statsBuilder.incrementFilesParsedWithFallback();
                 return FileParseResult.success(results);
@@ -308,6 +466,9 @@ public abstract class AbstractAstScanner<T> extends AbstractScanner {
             // Fallback succeeded but found no matches - not an error
             statsBuilder.incrementFilesParsedWithFallback();
             return FileParseResult.success(new ArrayList<>());
+        } catch (FileTooLargeException e) {
+            // Recorded as skipped by the source reader guard, not as a parse failure
+            return FileParseResult.failure();
         } catch (IOException e) {
             log.warn("Failed to read file for fallback parsing: {} - {}", file, e.getMessage());
             statsBuilder.incrementFilesFailed();
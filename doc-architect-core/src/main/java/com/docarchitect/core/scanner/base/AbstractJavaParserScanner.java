@@ -1,9 +1,17 @@
 package com.docarchitect.core.scanner.base;
 
+import com.docarchitect.core.scanner.ast.CompilationUnitCache;
+import com.docarchitect.core.scanner.ast.ParseAbandonedException;
+import com.docarchitect.core.scanner.cache.IncrementalScanCache;
 import com.docarchitect.core.scanner.ConfidenceLevel;
+import com.docarchitect.core.scanner.ScanContext;
 import com.docarchitect.core.scanner.ScanStatistics;
+import com.docarchitect.core.scanner.profile.ScanPhase;
+import com.docarchitect.core.scanner.profile.ScanProfiler;
 import com.github.javaparser.JavaParser;
 import com.github.javaparser.ParseResult;
+import com.github.javaparser.ParseStart;
+import com.github.javaparser.Providers;
 import com.github.javaparser.ast.CompilationUnit;
 import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
 import com.github.javaparser.ast.body.FieldDeclaration;
@@ -11,6 +19,8 @@ import com.github.javaparser.ast.body.MethodDeclaration;
 import com.github.javaparser.ast.expr.AnnotationExpr;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.StringReader;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
@@ -49,17 +59,28 @@ import java.util.Optional;
 public abstract class AbstractJavaParserScanner extends AbstractScanner {
 
     /**
-     * JavaParser instance for parsing Java source files.
-     * Thread-safe and reusable across parse operations.
+     * JavaParser instances for parsing Java source files, one per thread.
+     *
+     * <p>A {@link JavaParser} keeps mutable parser state between calls and must not be shared
+     * across threads; confining one instance to each worker lets {@link #processFiles} parse
+     * files concurrently while still reusing parsers.
      */
-    protected final JavaParser javaParser;
+    private final ThreadLocal<JavaParser> javaParsers = ThreadLocal.withInitial(JavaParser::new);
 
     /**
-     * Constructor that initializes the JavaParser instance.
+     * Constructor that initializes the scanner.
      */
     protected AbstractJavaParserScanner() {
         super();
-        this.javaParser = new JavaParser();
+    }
+
+    /**
+     * Returns the JavaParser confined to the calling thread.
+     *
+     * @return parser instance owned by the current thread
+     */
+    protected JavaParser javaParser() {
+        return javaParsers.get();
     }
 
     // ==================== Java File Parsing ====================
@@ -71,21 +92,17 @@ public abstract class AbstractJavaParserScanner extends AbstractScanner {
      * attempting expensive AST parsing. Override this method to implement
      * framework-specific detection (e.g., checking for specific imports or annotations).
      *
-     * <p><b>Default Implementation:</b> Returns {@code true} for all files.
+     * <p><b>Default Implementation:</b> Returns {@link #containsTriggerToken(Path)}, i.e.
+     * {@code true} for all files unless the scanner declares {@link #getTriggerTokens() trigger tokens}.
+     * Overrides with additional checks should call {@link #containsTriggerToken(Path)} before
+     * reading the content, so irrelevant files are skipped before decoding.
      *
      * <p><b>Usage Example:</b></p>
      * <pre>{@code
      * @Override
-     * protected boolean shouldScanFile(Path file) {
-     *     try {
-     *         String content = readFileContent(file);
-     *         // Only scan files with Kafka imports
-     *         return content.contains("org.apache.kafka") ||
-     *                content.contains("org.springframework.kafka") ||
-     *                content.contains("@KafkaListener");
-     *     } catch (IOException e) {
-     *         return false;
-     *     }
+     * protected Set<String> getTriggerTokens() {
+     *     // Only files mentioning Kafka can contain listeners or templates
+     *     return Set.of("org.apache.kafka", "org.springframework.kafka", "@KafkaListener");
      * }
      * }</pre>
      *
@@ -93,7 +110,20 @@ public abstract class AbstractJavaParserScanner extends AbstractScanner {
      * @return true if this file should be parsed, false to skip
      */
     protected boolean shouldScanFile(Path file) {
-        return true; // Default: scan all files
+        return containsTriggerToken(file);
+    }
+
+    /**
+     * Skips the read-ahead of files whose AST another scanner has already cached.
+     *
+     * @param context scan context
+     * @param file file about to be processed
+     * @return true if the file passes the pre-filter and still has to be parsed
+     */
+    @Override
+    protected boolean shouldPrefetch(ScanContext context, Path file) {
+        CompilationUnitCache cache = context != null ? context.compilationUnitCache() : null;
+        return shouldScanFile(file) && (cache == null || !cache.contains(file));
     }
 
     /**
@@ -114,8 +144,79 @@ public abstract class AbstractJavaParserScanner extends AbstractScanner {
         }
 
         // Layer 2: Parse with error handling
-        String content = readFileContent(file);
-        com.github.javaparser.ParseResult<CompilationUnit> result = javaParser.parse(content);
+        return parseSource(file);
+    }
+
+    /**
+     * Parses a Java source file, reusing the scan's shared {@link CompilationUnitCache}.
+     *
+     * <p>Behaves like {@link #parseJavaFile(Path)}, but when the context carries a
+     * compilation unit cache the file is parsed at most once per scan and the same AST is
+     * returned to every scanner. Cached trees are shared between scanners and threads and
+     * must not be modified. A parse abandoned for this scanner's parse timeout is not cached,
+     * so other scanners still parse the file within their own limits. The lookup runs
+     * {@link #parseWithinTimeout(Path, ParseTask) within the parse timeout}, which thus also
+     * bounds waiting for another scanner's parse of the file.
+     *
+     * @param context scan context providing the cache (may be null)
+     * @param file path to Java source file
+     * @return CompilationUnit if parsing succeeded, empty if failed or file should be skipped
+     * @throws IOException if file cannot be read
+     */
+    protected Optional<CompilationUnit> parseJavaFile(ScanContext context, Path file) throws IOException {
+        CompilationUnitCache cache = context != null ? context.compilationUnitCache() : null;
+        if (cache == null) {
+            return parseJavaFile(file);
+        }
+
+        return parseJavaFile(context, file, null);
+    }
+
+    /**
+     * Parses a Java source file whose content may already have been read.
+     *
+     * @param content source code of the file, or null to read it
+     */
+    private Optional<CompilationUnit> parseJavaFile(ScanContext context, Path file, String content) throws IOException {
+        CompilationUnitCache cache = context != null ? context.compilationUnitCache() : null;
+        if (!shouldScanFile(file)) {
+            log.debug("Skipping file (pre-filter): {}", file);
+            return Optional.empty();
+        }
+        if (cache == null) {
+            return parseSource(file, content);
+        }
+        try {
+            return parseWithinTimeout(file, () -> cache.get(file, path -> parseCacheableSource(path, content)))
+                .flatMap(compilationUnit -> compilationUnit);
+        } catch (ParseAbandonedException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Loader for the {@link CompilationUnitCache}, keeping abandoned parses out of the cache.
+     */
+    private Optional<CompilationUnit> parseCacheableSource(Path file, String content) throws IOException {
+        Optional<CompilationUnit> compilationUnit = parseSource(file, content);
+        if (isParseTimedOut() || (compilationUnit.isEmpty() && isParseAbandoned(file))) {
+            throw new ParseAbandonedException(file);
+        }
+        return compilationUnit;
+    }
+
+    private Optional<CompilationUnit> parseSource(Path file) throws IOException {
+        return parseSource(file, null);
+    }
+
+    private Optional<CompilationUnit> parseSource(Path file, String source) throws IOException {
+        String content = source != null ? source : readFileContent(file);
+        Optional<ParseResult<CompilationUnit>> parsed = parseWithinTimeout(file, () -> javaParser().parse(
+            ParseStart.COMPILATION_UNIT, Providers.provider(new InterruptibleStringReader(content))));
+        if (parsed.isEmpty()) {
+            return Optional.empty();
+        }
+        ParseResult<CompilationUnit> result = parsed.get();
 
         if (result.isSuccessful() && result.getResult().isPresent()) {
             return result.getResult();
@@ -186,6 +287,10 @@ public abstract class AbstractJavaParserScanner extends AbstractScanner {
      *   <li><b>Tier 3:</b> Return empty with error tracking (statistics only)</li>
      * </ol>
      *
+     * <p>Files whose parse timed out, or was not started because parsing is disabled after
+     * repeated timeouts, go to Tier 2 as well. If the fallback finds nothing they count as
+     * skipped rather than failed.
+     *
      * <p><b>Statistics Tracking:</b></p>
      * <p>This method populates the statistics builder with:
      * <ul>
@@ -222,36 +327,162 @@ public abstract class AbstractJavaParserScanner extends AbstractScanner {
             java.util.function.Function<CompilationUnit, List<T>> astExtractor,
             FallbackParsingStrategy<T> fallbackStrategy,
             ScanStatistics.Builder statsBuilder) {
+        return parseWithFallback(null, file, astExtractor, fallbackStrategy, statsBuilder);
+    }
+
+    /**
+     * Parses a Java file with fallback strategy support, reusing the scan's shared AST cache.
+     *
+     * <p>Identical to {@link #parseWithFallback(Path, java.util.function.Function, FallbackParsingStrategy, ScanStatistics.Builder)}
+     * except that the AST comes from {@link #parseJavaFile(ScanContext, Path)}. Results are not
+     * kept in the {@link IncrementalScanCache}; use
+     * {@link #parseWithFallback(ScanContext, Path, Class, java.util.function.Function, FallbackParsingStrategy, ScanStatistics.Builder)}
+     * for that.
+     *
+     * @param <T> type of data extracted from file
+     * @param context scan context providing the cache (may be null)
+     * @param file path to Java file
+     * @param astExtractor function to extract data from CompilationUnit (Tier 1)
+     * @param fallbackStrategy fallback parser for when AST fails (Tier 2)
+     * @param statsBuilder statistics builder to track parse metrics
+     * @return parse result with data, confidence level, and error info
+     */
+    protected <T> FileParseResult<T> parseWithFallback(
+            ScanContext context,
+            Path file,
+            java.util.function.Function<CompilationUnit, List<T>> astExtractor,
+            FallbackParsingStrategy<T> fallbackStrategy,
+            ScanStatistics.Builder statsBuilder) {
+        return parseFile(context, file, null, astExtractor, fallbackStrategy, statsBuilder);
+    }
+
+    /**
+     * Parses a Java file with fallback strategy support, reusing the scan's shared caches.
+     *
+     * <p>Identical to {@link #parseWithFallback(ScanContext, Path, java.util.function.Function, FallbackParsingStrategy, ScanStatistics.Builder)}
+     * except that, when the context carries an {@link IncrementalScanCache}, results extracted
+     * from the same file content in a previous run are returned without parsing, and successful
+     * results of this run are stored for the next one. Cache hits are counted like the original
+     * parse and additionally in {@link ScanStatistics#filesFromCache()}. The file is read once
+     * through the {@link #getSourceReader() source reader}, so the scan limits apply, and fallback
+     * results of a parse abandoned for the parse timeout are not stored.
+     *
+     * <p>Cached results are only ever restored as {@code resultType}, never as a type named by
+     * the cache file, since the cache lives inside the scanned repository.
+     *
+     * @param <T> type of data extracted from file
+     * @param context scan context providing the caches (may be null)
+     * @param file path to Java file
+     * @param resultType exact class of the extracted elements
+     * @param astExtractor function to extract data from CompilationUnit (Tier 1)
+     * @param fallbackStrategy fallback parser for when AST fails (Tier 2)
+     * @param statsBuilder statistics builder to track parse metrics
+     * @return parse result with data, confidence level, and error info
+     */
+    protected <T> FileParseResult<T> parseWithFallback(
+            ScanContext context,
+            Path file,
+            Class<T> resultType,
+            java.util.function.Function<CompilationUnit, List<T>> astExtractor,
+            FallbackParsingStrategy<T> fallbackStrategy,
+            ScanStatistics.Builder statsBuilder) {
+
+        IncrementalScanCache incrementalCache = context != null ? context.incrementalCache() : null;
+        if (incrementalCache == null) {
+            return parseFile(context, file, null, astExtractor, fallbackStrategy, statsBuilder);
+        }
+
+        // Read once, within the scan limits; the content is hashed and then parsed on a miss
+        String content;
+        try {
+            content = readFileContent(file);
+        } catch (IOException e) {
+            // Let the regular path record the read error or the skipped file
+            return parseFile(context, file, null, astExtractor, fallbackStrategy, statsBuilder);
+        }
+        String contentHash = IncrementalScanCache.contentHash(content);
+
+        String cacheKey = context.rootPath().relativize(file).toString().replace('\\', '/');
+        Optional<IncrementalScanCache.CachedResult<T>> cached =
+            incrementalCache.lookup(getId(), getVersion(), cacheKey, contentHash, resultType);
+        if (cached.isPresent()) {
+            ConfidenceLevel confidence = cached.get().confidence();
+            statsBuilder.incrementFilesScanned();
+            if (confidence == ConfidenceLevel.HIGH) {
+                statsBuilder.incrementFilesParsedSuccessfully();
+            } else {
+                statsBuilder.incrementFilesParsedWithFallback();
+            }
+            statsBuilder.incrementFilesFromCache();
+            return FileParseResult.success(cached.get().data(), confidence);
+        }
+
+        FileParseResult<T> result = parseFile(context, file, content, astExtractor, fallbackStrategy, statsBuilder);
+        // Fallback results of an abandoned parse would hide a successful parse on the next run
+        boolean abandonedFallback = result.getConfidence() != ConfidenceLevel.HIGH && wasParseAbandoned(file);
+        if (result.isSuccess() && !abandonedFallback) {
+            incrementalCache.store(getId(), getVersion(), cacheKey, contentHash, resultType,
+                result.getData(), result.getConfidence());
+        }
+        return result;
+    }
+
+    private <T> FileParseResult<T> parseFile(
+            ScanContext context,
+            Path file,
+            String content,
+            java.util.function.Function<CompilationUnit, List<T>> astExtractor,
+            FallbackParsingStrategy<T> fallbackStrategy,
+            ScanStatistics.Builder statsBuilder) {
 
         statsBuilder.incrementFilesScanned();
 
         try {
             // Tier 1: Try full AST parsing
-            Optional<CompilationUnit> cuOpt = parseJavaFile(file);
+            Optional<CompilationUnit> cuOpt = content != null
+                ? parseJavaFile(context, file, content)
+                : parseJavaFile(context, file);
 
             if (cuOpt.isPresent()) {
                 // AST parsing succeeded
-                List<T> data = astExtractor.apply(cuOpt.get());
+                List<T> data;
+                try (ScanProfiler.Span span = getProfiler().start(ScanPhase.EXTRACTION, file)) {
+                    data = astExtractor.apply(cuOpt.get());
+                }
                 statsBuilder.incrementFilesParsedSuccessfully();
                 return FileParseResult.success(data, ConfidenceLevel.HIGH);
             }
 
             // Tier 2: AST failed, try fallback (regex)
             log.debug("AST parsing failed for {}, attempting fallback", file);
-            String content = readFileContent(file);
-            List<T> fallbackData = fallbackStrategy.parse(file, content);
+            String source = content != null ? content : readFileContent(file);
+            List<T> fallbackData;
+            try (ScanProfiler.Span span = getProfiler().start(ScanPhase.FALLBACK, file)) {
+                fallbackData = fallbackStrategy.parse(file, source);
+            }
 
             if (!fallbackData.isEmpty()) {
                 statsBuilder.incrementFilesParsedWithFallback();
+                recordFallbackParse(file);
                 return FileParseResult.success(fallbackData, ConfidenceLevel.MEDIUM);
             }
 
+            if (isParseAbandoned(file)) {
+                // Parse timed out or parsing is disabled: recorded as skipped, not as a failure
+                return FileParseResult.failure(ScanStatistics.PARSE_TIMEOUT_ERROR, file.getFileName() + ": parse abandoned");
+            }
+
             // Tier 3: Both methods failed
             statsBuilder.incrementFilesFailed();
             String errorMsg = file.getFileName() + ": AST parsing failed, no fallback data extracted";
             statsBuilder.addError("AST parsing failure", errorMsg);
             return FileParseResult.failure("AST parsing failure", errorMsg);
 
+        } catch (FileTooLargeException e) {
+            // Generated or minified sources are skipped rather than parsed; the source reader
+            // guard records them in ScanStatistics#filesSkipped
+            log.debug("Skipping file over scan limits: {}", e.getMessage());
+            return FileParseResult.failure(ScanStatistics.FILE_TOO_LARGE_ERROR, e.getMessage());
         } catch (IOException e) {
             // File read error
             statsBuilder.incrementFilesFailed();
@@ -494,4 +725,25 @@ public abstract class AbstractJavaParserScanner extends AbstractScanner {
             .replaceAll("([A-Z])([A-Z][a-z])", "$1_$2")
             .toLowerCase();
     }
+
+    /**
+     * Source reader that stops the parse once the thread is interrupted by a {@link ParseDeadline}.
+     *
+     * <p>JavaParser pulls the source in chunks while parsing, so the check runs regularly
+     * without touching the parser itself.
+     */
+    private static final class InterruptibleStringReader extends StringReader {
+
+        private InterruptibleStringReader(String content) {
+            super(content);
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) throws IOException {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new InterruptedIOException("Parse interrupted");
+            }
+            return super.read(buffer, offset, length);
+        }
+    }
 }
@@ -14,6 +14,7 @@ import java.util.regex.Pattern;
  * <ul>
  *   <li>Precompiled regex pattern storage and matching</li>
  *   <li>Line-by-line and multi-line matching modes</li>
+ *   <li>Single-pass matching of several tagged patterns with {@link MultiPatternMatcher}</li>
  *   <li>Match extraction with named groups</li>
  *   <li>File content utilities (lines, full content)</li>
  * </ul>
@@ -177,6 +178,38 @@ public abstract class AbstractRegexScanner extends AbstractScanner {
         return findMatches(pattern, content);
     }
 
+    // ==================== Multi-Pattern Processing ====================
+
+    /**
+     * Reads a file once and matches all patterns of a {@link MultiPatternMatcher} line by line.
+     *
+     * <p>Prefer this over calling {@link #findMatchesPerLine(Path, Pattern)} once per pattern,
+     * which reads and walks the file again for every pattern.
+     *
+     * @param file path to file
+     * @param matcher patterns to match
+     * @return tagged matches ordered by line, pattern registration order and position
+     * @throws IOException if file cannot be read
+     */
+    protected List<MultiPatternMatcher.Match> findAllMatchesPerLine(Path file, MultiPatternMatcher matcher)
+            throws IOException {
+        return matcher.matchLines(readFileLines(file));
+    }
+
+    /**
+     * Reads a file once and matches all patterns of a {@link MultiPatternMatcher} against the
+     * entire content.
+     *
+     * @param file path to file
+     * @param matcher patterns to match (may span multiple lines)
+     * @return tagged matches ordered by line, pattern registration order and position
+     * @throws IOException if file cannot be read
+     */
+    protected List<MultiPatternMatcher.Match> findAllMatches(Path file, MultiPatternMatcher matcher)
+            throws IOException {
+        return matcher.matchContent(readFileContent(file));
+    }
+
     // ==================== String Utilities ====================
 
     /**
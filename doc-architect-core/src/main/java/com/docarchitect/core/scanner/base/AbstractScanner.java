@@ -1,17 +1,26 @@
 package com.docarchitect.core.scanner.base;
 
+import com.docarchitect.core.scanner.FindingType;
 import com.docarchitect.core.scanner.Scanner;
 import com.docarchitect.core.scanner.ScanContext;
 import com.docarchitect.core.scanner.ScanResult;
 import com.docarchitect.core.scanner.ScanStatistics;
 import com.docarchitect.core.scanner.ScannerApplicabilityStrategy;
+import com.docarchitect.core.scanner.profile.ScanPhase;
+import com.docarchitect.core.scanner.profile.ScanProfiler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 /**
  * Abstract base class for scanner implementations providing common functionality.
@@ -20,6 +29,8 @@ import java.util.List;
  * <ul>
  *   <li>Logger initialization (one logger per scanner class)</li>
  *   <li>File reading utilities ({@link #readFileContent(Path)}, {@link #readFileLines(Path)})</li>
+ *   <li>Guard rails against pathological files ({@link #setScanLimits(ScanLimits)})</li>
+ *   <li>Timing of reads and parses ({@link #setProfiler(ScanProfiler)})</li>
  *   <li>appliesTo() helper ({@link #hasAnyFiles(ScanContext, String...)})</li>
  *   <li>ScanResult creation helpers ({@link #emptyResult()}, {@link #failedResult(List)})</li>
  * </ul>
@@ -46,6 +57,48 @@ public abstract class AbstractScanner implements Scanner {
      */
     protected final Logger log;
 
+    /**
+     * Compiled trigger tokens, built on first use (null when no tokens are declared).
+     * Racing threads may each compile it once; the results are equivalent.
+     */
+    private volatile TriggerTokenMatcher triggerTokenMatcher;
+    private volatile boolean triggerTokenMatcherInitialized;
+
+    /**
+     * Reader enforcing the size and line limits of {@link ScanLimits#DEFAULT}.
+     */
+    private static final SourceReader DEFAULT_READER = ScanLimits.DEFAULT.sourceReader();
+
+    /**
+     * Reader used for all file content reads of this scanner.
+     */
+    private volatile SourceReader sourceReader = DEFAULT_READER;
+
+    /**
+     * Limits applied to the files of this scanner.
+     */
+    private volatile ScanLimits scanLimits = ScanLimits.DEFAULT;
+
+    /**
+     * Profiler timing the reads and parses of this scanner.
+     */
+    private volatile ScanProfiler profiler = ScanProfiler.disabled();
+
+    /**
+     * Files skipped because of the scan limits, keyed by path, until the next result is built.
+     */
+    private final Map<Path, SkippedFile> skippedFiles = new ConcurrentHashMap<>();
+
+    /**
+     * Disables parsing once too many parses time out, until the next result is built.
+     */
+    private final ParseCircuitBreaker parseCircuitBreaker = new ParseCircuitBreaker();
+
+    /**
+     * Deadline of the parse this scanner runs on each thread, shared by nested parses.
+     */
+    private final ThreadLocal<ParseDeadline> activeDeadline = new ThreadLocal<>();
+
     /**
      * Constructor that initializes the logger for the concrete scanner class.
      */
@@ -58,23 +111,375 @@ public abstract class AbstractScanner implements Scanner {
     /**
      * Reads the entire content of a file as a single string.
      *
+     * <p>Reads through this scanner's {@link #getSourceReader() source reader}, or returns the
+     * content already read ahead when called from a {@link #processFiles} task.
+     *
+     * <p>Files refused by the reader's limits are recorded as skipped in the statistics of
+     * the next result this scanner builds.
+     *
      * @param file path to the file to read
      * @return file content as string
+     * @throws FileTooLargeException if the file exceeds the reader's size or line limit
      * @throws IOException if file cannot be read
      */
     protected String readFileContent(Path file) throws IOException {
-        return Files.readString(file);
+        String prefetched = ParallelFileProcessor.prefetchedContent(file);
+        if (prefetched != null) {
+            return prefetched;
+        }
+        try (ScanProfiler.Span span = profiler.start(ScanPhase.READ, file)) {
+            return sourceReader.read(file);
+        } catch (FileTooLargeException e) {
+            recordSkippedFile(e);
+            throw e;
+        }
     }
 
     /**
      * Reads all lines from a file.
      *
+     * <p>Reads through this scanner's {@link #getSourceReader() source reader}, or splits the
+     * content already read ahead when called from a {@link #processFiles} task.
+     *
      * @param file path to the file to read
      * @return list of lines
+     * @throws FileTooLargeException if the file exceeds the reader's size or line limit
      * @throws IOException if file cannot be read
      */
     protected List<String> readFileLines(Path file) throws IOException {
-        return Files.readAllLines(file);
+        String prefetched = ParallelFileProcessor.prefetchedContent(file);
+        if (prefetched != null) {
+            return prefetched.lines().collect(Collectors.toCollection(ArrayList::new));
+        }
+        try (ScanProfiler.Span span = profiler.start(ScanPhase.READ, file)) {
+            return sourceReader.readLines(file);
+        } catch (FileTooLargeException e) {
+            recordSkippedFile(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Replaces the reader used for all file content reads of this scanner.
+     *
+     * <p>The reader decides which files are too large; {@link #setScanLimits(ScanLimits)}
+     * installs a reader enforcing the configured limits.
+     *
+     * @param sourceReader reader to use
+     */
+    public void setSourceReader(SourceReader sourceReader) {
+        this.sourceReader = Objects.requireNonNull(sourceReader, "sourceReader must not be null");
+    }
+
+    /**
+     * Returns the reader used for all file content reads of this scanner.
+     *
+     * @return source reader, enforcing {@link ScanLimits#DEFAULT} unless replaced
+     */
+    protected SourceReader getSourceReader() {
+        return sourceReader;
+    }
+
+    // ==================== Scan Limits ====================
+
+    /**
+     * Sets the limits applied to the files of this scanner.
+     *
+     * <p>Installs a {@link MappedSourceReader} enforcing the size and line limits, replacing
+     * the current {@link #setSourceReader(SourceReader) source reader}, and applies the parse
+     * timeout to {@link #parseWithinTimeout(Path, ParseTask)}.
+     *
+     * @param scanLimits limits to apply
+     */
+    public void setScanLimits(ScanLimits scanLimits) {
+        this.scanLimits = Objects.requireNonNull(scanLimits, "scanLimits must not be null");
+        this.sourceReader = scanLimits.sourceReader();
+    }
+
+    /**
+     * Returns the limits applied to the files of this scanner.
+     *
+     * @return scan limits, {@link ScanLimits#DEFAULT} unless replaced
+     */
+    protected ScanLimits getScanLimits() {
+        return scanLimits;
+    }
+
+    // ==================== Profiling ====================
+
+    /**
+     * Sets the profiler timing the reads and parses of this scanner.
+     *
+     * <p>Reads are timed as {@link ScanPhase#READ} and {@link #parseWithinTimeout(Path, ParseTask)}
+     * as {@link ScanPhase#PARSE}; subclasses time further phases with {@link #getProfiler()}.
+     *
+     * @param profiler profiler bound to this scanner
+     */
+    public void setProfiler(ScanProfiler profiler) {
+        this.profiler = Objects.requireNonNull(profiler, "profiler must not be null");
+    }
+
+    /**
+     * Returns the profiler timing the work of this scanner.
+     *
+     * @return profiler, {@link ScanProfiler#disabled()} unless replaced
+     */
+    protected ScanProfiler getProfiler() {
+        return profiler;
+    }
+
+    /**
+     * Parse of a single file, run by {@link #parseWithinTimeout(Path, ParseTask)}.
+     *
+     * @param <R> parse result type
+     */
+    @FunctionalInterface
+    protected interface ParseTask<R> {
+        /**
+         * Parses the file.
+         *
+         * @return parse result
+         * @throws IOException if the parser needs to read the file and cannot
+         */
+        R parse() throws IOException;
+    }
+
+    /**
+     * Runs a parse on the calling thread, interrupting it once the
+     * {@link ScanLimits#parseTimeout() parse timeout} elapses.
+     *
+     * <p>A parse that times out is discarded, whether it stopped at the interrupt or ran to
+     * completion, and the file is recorded as skipped. Failures of parses that did not time
+     * out are rethrown.
+     *
+     * <p><b>Circuit breaker:</b> once too many parses of this scanner timed out (see
+     * {@link ScanLimits#maxParseTimeoutRate()}), further parses are not started until the next
+     * result is built; they return empty and the files are recorded as skipped with
+     * {@link ScanStatistics#PARSER_DISABLED_ERROR}. Scanners with a {@link FallbackParsingStrategy}
+     * thus continue regex-only, and report files it parsed with {@link #recordFallbackParse(Path)}.
+     *
+     * <p><b>Nesting:</b> a parse started from within another parse of this scanner on the same
+     * thread, such as a shared cache's loader run inside a timed lookup, runs under the outer
+     * deadline. Its result and timeout are accounted for once, by the outer parse; use
+     * {@link #isParseTimedOut()} to tell whether the outer deadline has expired.
+     *
+     * @param file file being parsed, for statistics and logging
+     * @param parse parse to run
+     * @param <R> parse result type
+     * @return parse result, or empty if the parse timed out or returned null
+     * @throws IOException if the parse fails to read the file in time
+     */
+    protected <R> Optional<R> parseWithinTimeout(Path file, ParseTask<R> parse) throws IOException {
+        ParseDeadline outer = activeDeadline.get();
+        if (outer != null) {
+            try {
+                return Optional.ofNullable(parse.parse());
+            } catch (IOException | RuntimeException e) {
+                if (!outer.isExpired()) {
+                    throw e;
+                }
+                return Optional.empty();
+            }
+        }
+
+        if (parseCircuitBreaker.isOpen()) {
+            skippedFiles.putIfAbsent(file, new SkippedFile(ScanStatistics.PARSER_DISABLED_ERROR,
+                file.getFileName() + ": not parsed after repeated parse timeouts", false));
+            return Optional.empty();
+        }
+
+        ScanLimits limits = scanLimits;
+        R result = null;
+        boolean timedOut;
+        try (ScanProfiler.Span span = profiler.start(ScanPhase.PARSE, file);
+             ParseDeadline deadline = ParseDeadline.start(limits.parseTimeout())) {
+            activeDeadline.set(deadline);
+            try {
+                result = parse.parse();
+            } catch (IOException | RuntimeException e) {
+                if (!deadline.isExpired()) {
+                    recordParse(false, limits);
+                    throw e;
+                }
+            } finally {
+                activeDeadline.remove();
+            }
+            timedOut = deadline.isExpired();
+        }
+
+        recordParse(timedOut, limits);
+        if (timedOut) {
+            recordSkippedFile(file, ScanStatistics.PARSE_TIMEOUT_ERROR,
+                file.getFileName() + ": parsing took longer than " + limits.parseTimeout().toMillis() + " ms");
+            return Optional.empty();
+        }
+        return Optional.ofNullable(result);
+    }
+
+    private void recordParse(boolean timedOut, ScanLimits limits) {
+        if (parseCircuitBreaker.record(timedOut, limits.maxParseTimeoutRate())) {
+            log.warn("{} of {} parses timed out in {}; parsing remaining files with regex fallback only",
+                parseCircuitBreaker.timeouts(), parseCircuitBreaker.parses(), getId());
+        }
+    }
+
+    /**
+     * Checks whether the parse this scanner is running on the current thread has exceeded the
+     * parse timeout.
+     *
+     * @return true if called within {@link #parseWithinTimeout(Path, ParseTask)} after its
+     *         timeout elapsed
+     */
+    protected boolean isParseTimedOut() {
+        ParseDeadline deadline = activeDeadline.get();
+        return deadline != null && deadline.isExpired();
+    }
+
+    /**
+     * Checks whether the parse of a file was abandoned because of the parse timeout, either
+     * because it timed out or because parsing was disabled.
+     *
+     * @param file parsed file
+     * @return true if the file is recorded as skipped for a timeout and not yet recovered
+     */
+    protected boolean isParseAbandoned(Path file) {
+        SkippedFile skipped = skippedFiles.get(file);
+        return skipped != null && !skipped.recovered() && skipped.abandonedParse();
+    }
+
+    /**
+     * Checks whether the parse of a file was abandoned because of the parse timeout, whether
+     * or not the regex fallback recovered it since.
+     *
+     * @param file parsed file
+     * @return true if the file is recorded with a timeout or disabled-parser error
+     */
+    protected boolean wasParseAbandoned(Path file) {
+        SkippedFile skipped = skippedFiles.get(file);
+        return skipped != null && skipped.abandonedParse();
+    }
+
+    /**
+     * Records that a file whose parse was abandoned has been parsed by the regex fallback.
+     *
+     * <p>The file keeps its {@link ScanStatistics#PARSE_TIMEOUT_ERROR} or
+     * {@link ScanStatistics#PARSER_DISABLED_ERROR} error but no longer counts as skipped.
+     * Does nothing for other files.
+     *
+     * @param file file parsed with the fallback strategy
+     */
+    protected void recordFallbackParse(Path file) {
+        skippedFiles.computeIfPresent(file,
+            (path, skipped) -> skipped.abandonedParse() ? skipped.asRecovered() : skipped);
+    }
+
+    /**
+     * Records a file skipped because of the scan limits.
+     *
+     * <p>Skipped files are added to the statistics of the next result built with
+     * {@link #emptyResult()}, {@link #failedResult(List)} or {@code buildSuccessResult(...)},
+     * as {@link ScanStatistics#filesSkipped()} and an error of the given type. A file is
+     * recorded once per result, however often it is read.
+     *
+     * @param file skipped file
+     * @param errorType error type, e.g. {@link ScanStatistics#PARSE_TIMEOUT_ERROR}
+     * @param detail message naming the file and the exceeded limit
+     */
+    protected void recordSkippedFile(Path file, String errorType, String detail) {
+        if (skippedFiles.putIfAbsent(file, new SkippedFile(errorType, detail, false)) == null) {
+            log.info("Skipping file exceeding scan limits: {}", detail);
+        }
+    }
+
+    private void recordSkippedFile(FileTooLargeException e) {
+        boolean lines = e.getMeasure() == FileTooLargeException.Measure.LINES;
+        recordSkippedFile(e.getFile(),
+            lines ? ScanStatistics.TOO_MANY_LINES_ERROR : ScanStatistics.FILE_TOO_LARGE_ERROR,
+            e.getFile().getFileName() + ": " + e.getSize() + (lines ? " lines" : " bytes")
+                + " exceeds limit of " + e.getLimit());
+    }
+
+    /**
+     * Adds the skipped files recorded since the last result to the given statistics and
+     * closes the parse circuit breaker for the next scan.
+     */
+    private ScanStatistics withSkippedFiles(ScanStatistics statistics) {
+        parseCircuitBreaker.reset();
+        if (skippedFiles.isEmpty()) {
+            return statistics;
+        }
+        ScanStatistics.Builder builder = new ScanStatistics.Builder()
+            .merge(statistics != null ? statistics : ScanStatistics.empty());
+        // Path order keeps the reported errors independent of thread timing
+        for (Path file : skippedFiles.keySet().stream().sorted().toList()) {
+            SkippedFile skipped = skippedFiles.remove(file);
+            if (skipped != null) {
+                if (!skipped.recovered()) {
+                    builder.incrementFilesSkipped();
+                }
+                builder.addError(skipped.errorType(), skipped.detail());
+            }
+        }
+        return builder.build();
+    }
+
+    private record SkippedFile(String errorType, String detail, boolean recovered) {
+
+        boolean abandonedParse() {
+            return ScanStatistics.PARSE_TIMEOUT_ERROR.equals(errorType)
+                || ScanStatistics.PARSER_DISABLED_ERROR.equals(errorType);
+        }
+
+        SkippedFile asRecovered() {
+            return new SkippedFile(errorType, detail, true);
+        }
+    }
+
+    // ==================== Content Pre-Filtering ====================
+
+    /**
+     * Returns tokens of which at least one must occur in a file for this scanner to find
+     * anything in it.
+     *
+     * <p>Files without any trigger token are skipped by {@link #containsTriggerToken(Path)}
+     * using a byte-level search, before the content is decoded or parsed. Tokens must be a
+     * necessary condition only: a file containing one may still be skipped by later checks.
+     *
+     * <p><b>Default Implementation:</b> returns an empty set, which disables the pre-filter.
+     *
+     * @return trigger tokens (ASCII), or an empty set to consider every file
+     */
+    protected Set<String> getTriggerTokens() {
+        return Set.of();
+    }
+
+    /**
+     * Checks whether a file contains at least one of the {@link #getTriggerTokens() trigger tokens}.
+     *
+     * @param file path to the file to check
+     * @return true if the file contains a trigger token or no tokens are declared;
+     *         false if it contains none or cannot be read
+     */
+    protected boolean containsTriggerToken(Path file) {
+        TriggerTokenMatcher matcher = triggerTokenMatcher();
+        if (matcher == null) {
+            return true;
+        }
+        try {
+            return matcher.matches(file);
+        } catch (IOException e) {
+            log.debug("Failed to read file for pre-filtering: {}", file);
+            return false;
+        }
+    }
+
+    private TriggerTokenMatcher triggerTokenMatcher() {
+        if (!triggerTokenMatcherInitialized) {
+            Set<String> tokens = getTriggerTokens();
+            triggerTokenMatcher = tokens.isEmpty() ? null : TriggerTokenMatcher.of(tokens);
+            triggerTokenMatcherInitialized = true;
+        }
+        return triggerTokenMatcher;
     }
 
     // ==================== Applicability ====================
@@ -98,6 +503,21 @@ public abstract class AbstractScanner implements Scanner {
         return hasAnyFiles(context, getSupportedFilePatterns().toArray(new String[0]));
     }
 
+    /**
+     * Returns the finding categories read by the applicability strategy.
+     *
+     * <p>The fallback {@link #appliesTo(ScanContext)} only checks files, so without a strategy
+     * nothing is required. Subclasses that inspect {@link ScanContext#previousResults()}
+     * directly must override this method.</p>
+     *
+     * @return finding categories read from previous results
+     */
+    @Override
+    public Set<FindingType> getRequiredFindings() {
+        ScannerApplicabilityStrategy strategy = getApplicabilityStrategy();
+        return strategy != null ? strategy.getRequiredFindings() : Set.of();
+    }
+
     /**
      * Checks if any files matching the given glob patterns exist in the scan context.
      *
@@ -117,6 +537,57 @@ public abstract class AbstractScanner implements Scanner {
         return false;
     }
 
+    // ==================== File Processing ====================
+
+    /**
+     * Applies a per-file task to all files, in parallel when the context allows it.
+     *
+     * <p>Results and statistics are merged in file order, so the outcome does not depend on
+     * {@link ScanContext#parallelism()}. See {@link ParallelFileProcessor} for the thread-safety
+     * requirements on the task.
+     *
+     * <p>Files accepted by {@link #shouldPrefetch(ScanContext, Path)} are read ahead on virtual
+     * threads while earlier files are processed; the task gets their content from
+     * {@link #readFileContent(Path)} and {@link #readFileLines(Path)} without waiting for I/O.
+     *
+     * @param context scan context providing the parallelism
+     * @param files files to process
+     * @param statsBuilder builder receiving the statistics of all files
+     * @param task per-file task
+     * @param <T> type of extracted data
+     * @return data extracted from all files, in file order
+     */
+    protected <T> List<T> processFiles(ScanContext context, List<Path> files,
+                                       ScanStatistics.Builder statsBuilder,
+                                       ParallelFileProcessor.FileTask<T> task) {
+        return ParallelFileProcessor.process(files, context.parallelism(),
+            file -> shouldPrefetch(context, file) ? prefetch(file) : null,
+            statsBuilder, task);
+    }
+
+    private String prefetch(Path file) throws IOException {
+        try (ScanProfiler.Span span = profiler.start(ScanPhase.READ, file)) {
+            return sourceReader.read(file);
+        }
+    }
+
+    /**
+     * Decides whether {@link #processFiles} reads a file ahead of its task.
+     *
+     * <p>Runs on a read-ahead thread, so it may perform I/O itself. Returning false for files
+     * the task will not read saves the read and the memory it would occupy.
+     *
+     * <p><b>Default Implementation:</b> prefetches files containing a
+     * {@link #getTriggerTokens() trigger token}.
+     *
+     * @param context scan context
+     * @param file file about to be processed
+     * @return true if the task is expected to read the file's content
+     */
+    protected boolean shouldPrefetch(ScanContext context, Path file) {
+        return containsTriggerToken(file);
+    }
+
     // ==================== ScanResult Creation Helpers ====================
 
     /**
@@ -128,7 +599,10 @@ public abstract class AbstractScanner implements Scanner {
      * @return empty ScanResult with this scanner's ID
      */
     protected ScanResult emptyResult() {
-        return ScanResult.empty(getId());
+        ScanResult empty = ScanResult.empty(getId());
+        ScanStatistics statistics = withSkippedFiles(empty.statistics());
+        return statistics == empty.statistics() ? empty : new ScanResult(getId(), true,
+            List.of(), List.of(), List.of(), List.of(), List.of(), List.of(), List.of(), List.of(), statistics);
     }
 
     /**
@@ -140,7 +614,10 @@ public abstract class AbstractScanner implements Scanner {
      * @return failed ScanResult with this scanner's ID and errors
      */
     protected ScanResult failedResult(List<String> errors) {
-        return ScanResult.failed(getId(), errors);
+        ScanResult failed = ScanResult.failed(getId(), errors);
+        ScanStatistics statistics = withSkippedFiles(failed.statistics());
+        return statistics == failed.statistics() ? failed : new ScanResult(getId(), false,
+            List.of(), List.of(), List.of(), List.of(), List.of(), List.of(), List.of(), errors, statistics);
     }
 
     /**
@@ -180,7 +657,7 @@ public abstract class AbstractScanner implements Scanner {
             (List) relationships,
             warnings,
             List.of(), // No errors for successful results
-            statistics
+            withSkippedFiles(statistics)
         );
     }
 
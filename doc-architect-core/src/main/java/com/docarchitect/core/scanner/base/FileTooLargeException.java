@@ -0,0 +1,88 @@
+package com.docarchitect.core.scanner.base;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Thrown by a {@link SourceReader} for files above its size or line limit.
+ *
+ * <p>Such files are typically generated code or minified bundles that would be expensive to
+ * decode and parse without adding architectural information. Callers treat them like other
+ * unreadable files and skip them.
+ *
+ * @since 1.0.0
+ */
+public class FileTooLargeException extends IOException {
+
+    /**
+     * What the exceeded limit counts.
+     */
+    public enum Measure {
+        /** File size in bytes. */
+        BYTES,
+        /** Number of lines. */
+        LINES
+    }
+
+    private final transient Path file;
+    private final long size;
+    private final long limit;
+    private final Measure measure;
+
+    /**
+     * Creates the exception for a file above the size limit.
+     *
+     * @param file file that was refused
+     * @param size file size in bytes
+     * @param limit size limit in bytes
+     */
+    public FileTooLargeException(Path file, long size, long limit) {
+        this(file, size, limit, Measure.BYTES);
+    }
+
+    /**
+     * Creates the exception.
+     *
+     * @param file file that was refused
+     * @param size file size, in the given measure
+     * @param limit limit, in the given measure
+     * @param measure what {@code size} and {@code limit} count
+     */
+    public FileTooLargeException(Path file, long size, long limit, Measure measure) {
+        super("File exceeds " + (measure == Measure.LINES ? "line" : "size") + " limit ("
+            + size + " > " + limit + " " + measure.name().toLowerCase(Locale.ROOT) + "): " + file);
+        this.file = file;
+        this.size = size;
+        this.limit = limit;
+        this.measure = measure;
+    }
+
+    /**
+     * @return file that was refused
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * @return file size in bytes, or line count for {@link Measure#LINES}
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * @return limit in bytes, or in lines for {@link Measure#LINES}
+     */
+    public long getLimit() {
+        return limit;
+    }
+
+    /**
+     * @return what {@link #getSize()} and {@link #getLimit()} count
+     */
+    public Measure getMeasure() {
+        return measure;
+    }
+}
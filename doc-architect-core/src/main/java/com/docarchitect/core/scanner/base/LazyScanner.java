@@ -0,0 +1,174 @@
+package com.docarchitect.core.scanner.base;
+
+import com.docarchitect.core.scanner.FindingType;
+import com.docarchitect.core.scanner.ScanContext;
+import com.docarchitect.core.scanner.ScanResult;
+import com.docarchitect.core.scanner.Scanner;
+import com.docarchitect.core.scanner.ScannerApplicabilityStrategy;
+import com.docarchitect.core.scanner.ScannerManifest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Scanner described by a {@link ScannerManifest} entry and instantiated on first use.
+ *
+ * <p>ID, name, priority, file patterns and finding dependencies come from the manifest, so
+ * scheduling, selection by configuration and listing never create the scanner. The scanner is
+ * instantiated when its applicability has to be decided by the scanner itself: if the manifest
+ * lists {@linkplain ScannerManifest.Entry#applicabilityPatterns() applicability patterns} and
+ * no file of the project matches one of them, {@link #appliesTo(ScanContext)} returns false
+ * without instantiating it.
+ *
+ * <p><b>Thread Safety:</b> thread-safe; the scanner is instantiated at most once.
+ *
+ * @see ScannerManifest
+ * @since 1.0.0
+ */
+public final class LazyScanner implements Scanner {
+
+    private static final Logger log = LoggerFactory.getLogger(LazyScanner.class);
+
+    private final ScannerManifest.Entry entry;
+    private final Supplier<? extends Scanner> factory;
+    private Scanner instance;
+    private Consumer<? super Scanner> configurer = scanner -> { };
+
+    /**
+     * Creates a lazy scanner.
+     *
+     * @param entry manifest entry describing the scanner
+     * @param factory creates the scanner, e.g. a {@link java.util.ServiceLoader.Provider}
+     */
+    public LazyScanner(ScannerManifest.Entry entry, Supplier<? extends Scanner> factory) {
+        this.entry = Objects.requireNonNull(entry, "entry must not be null");
+        this.factory = Objects.requireNonNull(factory, "factory must not be null");
+    }
+
+    /**
+     * Returns the manifest entry describing this scanner.
+     *
+     * @return manifest entry
+     */
+    public ScannerManifest.Entry entry() {
+        return entry;
+    }
+
+    /**
+     * Returns whether the scanner has been instantiated.
+     *
+     * @return true once the scanner exists
+     */
+    public synchronized boolean isInstantiated() {
+        return instance != null;
+    }
+
+    /**
+     * Sets the action applied to the scanner when it is instantiated, replacing the previous one;
+     * applies it right away if the scanner already exists.
+     *
+     * @param configurer action configuring the scanner, e.g. setting its source reader
+     */
+    public synchronized void configure(Consumer<? super Scanner> configurer) {
+        this.configurer = Objects.requireNonNull(configurer, "configurer must not be null");
+        if (instance != null) {
+            configurer.accept(instance);
+        }
+    }
+
+    /**
+     * Returns the scanner, instantiating and configuring it on first call.
+     *
+     * @return the scanner
+     * @throws IllegalStateException if the created scanner's ID differs from the manifest
+     */
+    public synchronized Scanner instance() {
+        if (instance == null) {
+            Scanner created = factory.get();
+            if (!entry.id().equals(created.getId())) {
+                throw new IllegalStateException("Scanner manifest declares ID '" + entry.id() + "' for "
+                    + entry.providerType() + ", but the scanner reports '" + created.getId() + "'");
+            }
+            configurer.accept(created);
+            instance = created;
+            log.debug("Instantiated scanner {}", entry.id());
+        }
+        return instance;
+    }
+
+    @Override
+    public String getId() {
+        return entry.id();
+    }
+
+    @Override
+    public String getDisplayName() {
+        return entry.displayName();
+    }
+
+    @Override
+    public Set<String> getSupportedLanguages() {
+        return entry.languages();
+    }
+
+    @Override
+    public Set<String> getSupportedFilePatterns() {
+        return entry.filePatterns();
+    }
+
+    @Override
+    public int getPriority() {
+        return entry.priority();
+    }
+
+    @Override
+    public String getVersion() {
+        return instance().getVersion();
+    }
+
+    @Override
+    public Set<FindingType> getProducedFindings() {
+        return entry.producedFindings();
+    }
+
+    @Override
+    public Set<FindingType> getRequiredFindings() {
+        return entry.requiredFindings();
+    }
+
+    @Override
+    public ScannerApplicabilityStrategy getApplicabilityStrategy() {
+        return instance().getApplicabilityStrategy();
+    }
+
+    @Override
+    public boolean appliesTo(ScanContext context) {
+        if (!entry.applicabilityPatterns().isEmpty() && !hasAnyFiles(context)) {
+            return false;
+        }
+        return instance().appliesTo(context);
+    }
+
+    @Override
+    public ScanResult scan(ScanContext context) {
+        return instance().scan(context);
+    }
+
+    @Override
+    public String toString() {
+        return "LazyScanner[" + entry.id() + (isInstantiated() ? ", instantiated" : "") + "]";
+    }
+
+    private boolean hasAnyFiles(ScanContext context) {
+        for (String pattern : entry.applicabilityPatterns()) {
+            if (context.findFiles(pattern).findAny().isPresent()) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,259 @@
+package com.docarchitect.core.scanner.base;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Default {@link SourceReader}: size- and line-limited, memory-mapped for large files and
+ * tolerant of non-UTF-8 input.
+ *
+ * <p><b>I/O:</b> files below {@value #MMAP_THRESHOLD} bytes are read into a per-thread byte
+ * buffer that is reused across files; larger files are memory-mapped, so their bytes are never
+ * copied onto the heap. Files above the configured size limit are refused with a
+ * {@link FileTooLargeException} before any content is read; files with more lines than the
+ * line limit are refused after decoding, before the {@code String} is allocated.
+ *
+ * <p><b>Decoding:</b> bytes are decoded into a per-thread {@link CharBuffer}, and only the
+ * final {@code String} is allocated per file.
+ * <ul>
+ *   <li>A UTF-8 byte order mark is skipped; UTF-16 BE/LE byte order marks select UTF-16.</li>
+ *   <li>Otherwise the content is decoded as UTF-8.</li>
+ *   <li>Content that is not valid UTF-8 is decoded as ISO-8859-1 (Latin-1) instead of
+ *       failing, so legacy sources are still scanned.</li>
+ * </ul>
+ *
+ * <p><b>Thread Safety:</b> instances are immutable and may be shared between threads.
+ *
+ * @since 1.0.0
+ */
+public final class MappedSourceReader implements SourceReader {
+
+    /**
+     * Default size limit: larger files are usually generated code or minified bundles.
+     */
+    public static final long DEFAULT_MAX_FILE_SIZE = 10L * 1024 * 1024;
+
+    /**
+     * Files of at least this size are memory-mapped instead of copied into a buffer.
+     */
+    static final int MMAP_THRESHOLD = 1024 * 1024;
+
+    /** Buffers above this many chars are not kept per thread, to bound retained memory. */
+    private static final int MAX_RETAINED_CHARS = MMAP_THRESHOLD;
+
+    static final MappedSourceReader DEFAULT = new MappedSourceReader(DEFAULT_MAX_FILE_SIZE);
+
+    private static final ThreadLocal<Buffers> BUFFERS = ThreadLocal.withInitial(Buffers::new);
+
+    private final long maxFileSize;
+    private final int maxLines;
+
+    /**
+     * Creates a reader with the given size limit and no line limit.
+     *
+     * @param maxFileSize maximum file size in bytes; larger files are refused
+     */
+    public MappedSourceReader(long maxFileSize) {
+        this(maxFileSize, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates a reader with the given size and line limits.
+     *
+     * @param maxFileSize maximum file size in bytes; larger files are refused
+     * @param maxLines maximum number of lines; files with more lines are refused
+     */
+    public MappedSourceReader(long maxFileSize, int maxLines) {
+        if (maxFileSize <= 0) {
+            throw new IllegalArgumentException("maxFileSize must be positive: " + maxFileSize);
+        }
+        if (maxLines <= 0) {
+            throw new IllegalArgumentException("maxLines must be positive: " + maxLines);
+        }
+        this.maxFileSize = maxFileSize;
+        this.maxLines = maxLines;
+    }
+
+    /**
+     * Returns the size limit of this reader.
+     *
+     * @return maximum file size in bytes
+     */
+    public long maxFileSize() {
+        return maxFileSize;
+    }
+
+    /**
+     * Returns the line limit of this reader.
+     *
+     * @return maximum number of lines, {@link Integer#MAX_VALUE} if unlimited
+     */
+    public int maxLines() {
+        return maxLines;
+    }
+
+    @Override
+    public String read(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > maxFileSize) {
+                throw new FileTooLargeException(file, size, maxFileSize);
+            }
+
+            Buffers buffers = BUFFERS.get();
+            ByteBuffer bytes = size >= MMAP_THRESHOLD
+                ? channel.map(FileChannel.MapMode.READ_ONLY, 0, size)
+                : buffers.readFully(channel, (int) size);
+            CharBuffer chars = decode(bytes, buffers);
+            if (maxLines < Integer.MAX_VALUE) {
+                long lines = countLines(chars);
+                if (lines > maxLines) {
+                    throw new FileTooLargeException(file, lines, maxLines, FileTooLargeException.Measure.LINES);
+                }
+            }
+            return chars.toString();
+        }
+    }
+
+    /**
+     * Counts lines like {@link String#lines()}: a final line without terminator counts as well.
+     */
+    private static long countLines(CharBuffer chars) {
+        char[] array = chars.array();
+        int start = chars.arrayOffset() + chars.position();
+        int end = start + chars.remaining();
+        long lines = 0;
+        for (int i = start; i < end; i++) {
+            char c = array[i];
+            if (c == '\n') {
+                lines++;
+            } else if (c == '\r') {
+                lines++;
+                if (i + 1 < end && array[i + 1] == '\n') {
+                    i++;
+                }
+            }
+        }
+        if (end > start && array[end - 1] != '\n' && array[end - 1] != '\r') {
+            lines++;
+        }
+        return lines;
+    }
+
+    /**
+     * Decodes content bytes, honoring byte order marks and falling back to Latin-1.
+     */
+    private static CharBuffer decode(ByteBuffer bytes, Buffers buffers) {
+        Charset charset = StandardCharsets.UTF_8;
+        if (startsWith(bytes, 0xEF, 0xBB, 0xBF)) {
+            bytes.position(bytes.position() + 3);
+        } else if (startsWith(bytes, 0xFE, 0xFF)) {
+            bytes.position(bytes.position() + 2);
+            charset = StandardCharsets.UTF_16BE;
+        } else if (startsWith(bytes, 0xFF, 0xFE)) {
+            bytes.position(bytes.position() + 2);
+            charset = StandardCharsets.UTF_16LE;
+        }
+
+        int start = bytes.position();
+        try {
+            return buffers.decode(charset, bytes);
+        } catch (CharacterCodingException e) {
+            // Not valid UTF-8: Latin-1 maps every byte to a char and cannot fail
+            bytes.position(start);
+            try {
+                return buffers.decode(StandardCharsets.ISO_8859_1, bytes);
+            } catch (CharacterCodingException impossible) {
+                throw new IllegalStateException(impossible);
+            }
+        }
+    }
+
+    private static boolean startsWith(ByteBuffer bytes, int... prefix) {
+        if (bytes.remaining() < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if ((bytes.get(bytes.position() + i) & 0xFF) != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Per-thread buffers and decoders reused across files.
+     */
+    private static final class Buffers {
+        private ByteBuffer bytes = ByteBuffer.allocate(8 * 1024);
+        private CharBuffer chars = CharBuffer.allocate(8 * 1024);
+        private final CharsetDecoder utf8 = strict(StandardCharsets.UTF_8);
+        private final CharsetDecoder latin1 = strict(StandardCharsets.ISO_8859_1);
+
+        private ByteBuffer readFully(FileChannel channel, int size) throws IOException {
+            if (bytes.capacity() < size) {
+                bytes = ByteBuffer.allocate(size);
+            }
+            bytes.clear().limit(size);
+            while (bytes.hasRemaining() && channel.read(bytes) > 0) {
+                // keep reading until the buffer is full or the file ends
+            }
+            return bytes.flip();
+        }
+
+        private CharBuffer decode(Charset charset, ByteBuffer input) throws CharacterCodingException {
+            CharsetDecoder decoder = decoderFor(charset);
+            // UTF-8 and Latin-1 never produce more chars than bytes, UTF-16 half as many
+            CharBuffer output = charBuffer(input.remaining());
+            decoder.reset();
+            CoderResult result = decoder.decode(input, output, true);
+            if (!result.isUnderflow()) {
+                result.throwException();
+            }
+            result = decoder.flush(output);
+            if (!result.isUnderflow()) {
+                result.throwException();
+            }
+            return output.flip();
+        }
+
+        private CharsetDecoder decoderFor(Charset charset) {
+            if (charset == StandardCharsets.UTF_8) {
+                return utf8;
+            }
+            if (charset == StandardCharsets.ISO_8859_1) {
+                return latin1;
+            }
+            // Rare (UTF-16 with BOM): replace unpaired surrogates rather than failing
+            return charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        }
+
+        private CharBuffer charBuffer(int capacity) {
+            if (capacity > MAX_RETAINED_CHARS) {
+                return CharBuffer.allocate(capacity);
+            }
+            if (chars.capacity() < capacity) {
+                chars = CharBuffer.allocate(capacity);
+            }
+            return chars.clear();
+        }
+
+        private static CharsetDecoder strict(Charset charset) {
+            return charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPORT)
+                .onUnmappableCharacter(CodingErrorAction.REPORT);
+        }
+    }
+}
@@ -0,0 +1,364 @@
+package com.docarchitect.core.scanner.base;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.regex.MatchResult;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Matches a fixed set of tagged regex patterns against a file in a single traversal.
+ *
+ * <p>Scanners that look for several constructs in the same file (route decorators, router
+ * calls, group prefixes, ...) register all their patterns once and get back one list of
+ * tagged {@link Match matches} per file instead of reading and walking the file once per
+ * pattern:
+ *
+ * <pre>{@code
+ * private static final MultiPatternMatcher ROUTES = MultiPatternMatcher.builder()
+ *     .add("gin", GIN_ROUTE, GIN_IMPORT)
+ *     .add("netHttp", NET_HTTP_ROUTE, "net/http")
+ *     .build();
+ *
+ * for (MultiPatternMatcher.Match match : findAllMatches(file, ROUTES)) {
+ *     switch (match.patternId()) { ... }
+ * }
+ * }</pre>
+ *
+ * <p><b>Matching modes:</b>
+ * <ul>
+ *   <li>{@link #matchLines(List)} walks the lines once and tries every pattern on each line,
+ *       equivalent to running each pattern with {@code find()} on every line.</li>
+ *   <li>{@link #matchContent(String)} finds all matches of each pattern in the whole content,
+ *       for patterns that may span lines; line numbers are resolved from a single line index.</li>
+ * </ul>
+ *
+ * <p><b>Work avoided:</b>
+ * <ul>
+ *   <li>Patterns may declare required literals. A pattern is only run on text that contains
+ *       all of them, which is a plain {@code indexOf} scan instead of a regex run; for line
+ *       matching this skips most lines without invoking the regex engine at all.</li>
+ *   <li>Patterns registered more than once (same expression and flags), e.g. for frameworks
+ *       with identical call syntax, are run once and each match is reported under every id
+ *       whose required literals are present.</li>
+ *   <li>Each {@link Matcher} is created once per call and reset per line.</li>
+ * </ul>
+ *
+ * <p><b>Result order:</b> matches are ordered by line number, then by pattern registration
+ * order, then by position. Taking the first match of a line therefore gives the match of the
+ * highest-priority pattern on that line.
+ *
+ * <p><b>Thread Safety:</b> instances are immutable and may be shared between threads, so
+ * scanners typically keep them in {@code static final} fields.
+ *
+ * @see AbstractRegexScanner#findAllMatches(java.nio.file.Path, MultiPatternMatcher)
+ * @see AbstractRegexScanner#findAllMatchesPerLine(java.nio.file.Path, MultiPatternMatcher)
+ * @since 1.0.0
+ */
+public final class MultiPatternMatcher {
+
+    private static final Comparator<Match> RESULT_ORDER = Comparator
+        .comparingInt(Match::lineNumber)
+        .thenComparingInt(Match::patternIndex)
+        .thenComparingInt(Match::start);
+
+    private final List<Entry> entries;
+    private final Set<String> patternIds;
+
+    private MultiPatternMatcher(List<Entry> entries, Set<String> patternIds) {
+        this.entries = entries;
+        this.patternIds = patternIds;
+    }
+
+    /**
+     * Creates a builder for a new matcher.
+     *
+     * @return empty builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the ids of the registered patterns in registration order.
+     *
+     * @return unmodifiable set of pattern ids
+     */
+    public Set<String> patternIds() {
+        return patternIds;
+    }
+
+    /**
+     * Matches all patterns line by line.
+     *
+     * <p>Every occurrence of each pattern on each line is reported. Anchors such as {@code ^}
+     * and {@code $} apply to the line, as if the pattern were run on the line alone.
+     *
+     * @param lines lines to match, e.g. from {@link AbstractScanner#readFileLines}
+     * @return matches ordered by line, pattern registration order and position
+     */
+    public List<Match> matchLines(List<String> lines) {
+        Objects.requireNonNull(lines, "lines must not be null");
+
+        List<Match> matches = new ArrayList<>();
+        Matcher[] matchers = new Matcher[entries.size()];
+
+        for (int lineIndex = 0; lineIndex < lines.size(); lineIndex++) {
+            String line = lines.get(lineIndex);
+            int lineNumber = lineIndex + 1;
+
+            for (int i = 0; i < entries.size(); i++) {
+                Entry entry = entries.get(i);
+                if (!entry.isApplicable(line)) {
+                    continue;
+                }
+                Matcher matcher = matchers[i] == null
+                    ? (matchers[i] = entry.pattern.matcher(line))
+                    : matchers[i].reset(line);
+                while (matcher.find()) {
+                    entry.report(matcher.toMatchResult(), lineNumber, line, matches);
+                }
+            }
+        }
+
+        if (patternIds.size() > 1) {
+            // Patterns are tried in turn per line; restore registration and position order
+            matches.sort(RESULT_ORDER);
+        }
+        return matches;
+    }
+
+    /**
+     * Matches all patterns against the whole content.
+     *
+     * <p>Each pattern reports all of its non-overlapping matches in the content, so patterns
+     * may span multiple lines (use {@link Pattern#DOTALL} or {@link Pattern#MULTILINE} as
+     * needed). The line number of a match is the line of its first character.
+     *
+     * @param content file content
+     * @return matches ordered by line, pattern registration order and position
+     */
+    public List<Match> matchContent(String content) {
+        Objects.requireNonNull(content, "content must not be null");
+
+        List<Match> matches = new ArrayList<>();
+        LineIndex lineIndex = null;
+
+        for (Entry entry : entries) {
+            if (!entry.isApplicable(content)) {
+                continue;
+            }
+            Matcher matcher = entry.pattern.matcher(content);
+            while (matcher.find()) {
+                if (lineIndex == null) {
+                    lineIndex = new LineIndex(content);
+                }
+                entry.report(matcher.toMatchResult(), lineIndex.lineNumber(matcher.start()), content, matches);
+            }
+        }
+
+        matches.sort(RESULT_ORDER);
+        return matches;
+    }
+
+    /**
+     * A match of one registered pattern.
+     *
+     * @param patternId id the pattern was registered with
+     * @param patternIndex registration index of the pattern (0-based)
+     * @param lineNumber line of the first matched character (1-based)
+     * @param result captured groups and offsets; offsets are relative to the matched line in
+     *               line mode and to the content in content mode
+     */
+    public record Match(String patternId, int patternIndex, int lineNumber, MatchResult result) {
+
+        /**
+         * @return start offset of the match
+         */
+        public int start() {
+            return result.start();
+        }
+
+        /**
+         * @return end offset of the match (exclusive)
+         */
+        public int end() {
+            return result.end();
+        }
+
+        /**
+         * @return the matched text
+         */
+        public String text() {
+            return result.group();
+        }
+
+        /**
+         * Returns a numbered capture group.
+         *
+         * @param group group index (1-based)
+         * @return captured text, or null if the group did not participate in the match
+         */
+        public String group(int group) {
+            return result.group(group);
+        }
+
+        /**
+         * Returns a named capture group.
+         *
+         * @param name group name
+         * @return captured text, or null if the group did not participate in the match
+         * @throws IllegalArgumentException if the pattern has no group with that name
+         */
+        public String group(String name) {
+            return result.group(name);
+        }
+    }
+
+    /**
+     * Builder for {@link MultiPatternMatcher}.
+     */
+    public static final class Builder {
+
+        private final Map<String, Registration> registrations = new LinkedHashMap<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Registers a pattern.
+         *
+         * @param id unique id reported with every match of this pattern
+         * @param pattern compiled pattern
+         * @param requiredLiterals literals that must all occur in the searched text (the line,
+         *                         or the content) for the pattern to be run at all
+         * @return this builder
+         * @throws IllegalArgumentException if the id is already registered
+         */
+        public Builder add(String id, Pattern pattern, String... requiredLiterals) {
+            Objects.requireNonNull(id, "id must not be null");
+            Objects.requireNonNull(pattern, "pattern must not be null");
+            if (registrations.containsKey(id)) {
+                throw new IllegalArgumentException("Duplicate pattern id: " + id);
+            }
+            registrations.put(id, new Registration(registrations.size(), pattern, requiredLiterals.clone()));
+            return this;
+        }
+
+        /**
+         * Builds the matcher.
+         *
+         * @return immutable matcher
+         */
+        public MultiPatternMatcher build() {
+            // Registrations with the same expression and flags share one regex run
+            Map<PatternKey, Entry> entriesByPattern = new LinkedHashMap<>();
+            registrations.forEach((id, registration) -> entriesByPattern
+                .computeIfAbsent(new PatternKey(registration.pattern), key -> new Entry(registration.pattern))
+                .tags.add(new Tag(id, registration.index, registration.requiredLiterals)));
+
+            return new MultiPatternMatcher(
+                List.copyOf(entriesByPattern.values()),
+                Collections.unmodifiableSet(new LinkedHashSet<>(registrations.keySet()))
+            );
+        }
+
+        private record Registration(int index, Pattern pattern, String[] requiredLiterals) {
+        }
+
+        private record PatternKey(String expression, int flags) {
+            PatternKey(Pattern pattern) {
+                this(pattern.pattern(), pattern.flags());
+            }
+        }
+    }
+
+    /**
+     * A registered pattern id with its required literals.
+     */
+    private record Tag(String id, int index, String[] requiredLiterals) {
+
+        boolean isApplicable(String text) {
+            for (String literal : requiredLiterals) {
+                if (!text.contains(literal)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * One distinct pattern and the ids it was registered under.
+     */
+    private static final class Entry {
+        private final Pattern pattern;
+        private final List<Tag> tags = new ArrayList<>(1);
+
+        private Entry(Pattern pattern) {
+            this.pattern = pattern;
+        }
+
+        private boolean isApplicable(String text) {
+            for (Tag tag : tags) {
+                if (tag.isApplicable(text)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void report(MatchResult result, int lineNumber, String text, List<Match> matches) {
+            if (tags.size() == 1) {
+                // Already checked by isApplicable
+                Tag tag = tags.get(0);
+                matches.add(new Match(tag.id(), tag.index(), lineNumber, result));
+                return;
+            }
+            for (Tag tag : tags) {
+                if (tag.isApplicable(text)) {
+                    matches.add(new Match(tag.id(), tag.index(), lineNumber, result));
+                }
+            }
+        }
+    }
+
+    /**
+     * Offsets of line starts in a content string, for resolving offsets to line numbers.
+     */
+    private static final class LineIndex {
+        private int[] lineStarts = new int[64];
+        private int lineCount;
+
+        private LineIndex(String content) {
+            add(0);
+            int length = content.length();
+            for (int i = 0; i < length; i++) {
+                char c = content.charAt(i);
+                if (c == '\n' || (c == '\r' && (i + 1 == length || content.charAt(i + 1) != '\n'))) {
+                    add(i + 1);
+                }
+            }
+        }
+
+        private void add(int offset) {
+            if (lineCount == lineStarts.length) {
+                lineStarts = Arrays.copyOf(lineStarts, lineCount * 2);
+            }
+            lineStarts[lineCount++] = offset;
+        }
+
+        private int lineNumber(int offset) {
+            int index = Arrays.binarySearch(lineStarts, 0, lineCount, offset);
+            return index >= 0 ? index + 1 : -index - 1;
+        }
+    }
+}
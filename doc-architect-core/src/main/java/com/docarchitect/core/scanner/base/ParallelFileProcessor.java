@@ -0,0 +1,328 @@
+package com.docarchitect.core.scanner.base;
+
+import com.docarchitect.core.scanner.ScanStatistics;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs a per-file task over many files, optionally in parallel, with deterministic output.
+ *
+ * <p>Each file is processed with its own {@link ScanStatistics.Builder}. Once all files are
+ * done, results are concatenated and statistics merged in the order of the input list, so
+ * the outcome is identical to processing the files one after another - regardless of which
+ * worker finished first.
+ *
+ * <p>Work runs on a shared pool of daemon threads per parallelism level. Pools are reused by
+ * all scanners of a run, so scanners executing concurrently share the same bounded set of
+ * workers instead of each creating its own threads.
+ *
+ * <h2>Read-Ahead Pipeline</h2>
+ * <p>With a {@link Prefetcher} ({@link #process(List, int, Prefetcher, ScanStatistics.Builder, FileTask)}),
+ * processing becomes a two-stage pipeline: {@value #READ_AHEAD_THREADS} virtual threads read
+ * files ahead into a bounded queue of {@value #QUEUE_CAPACITY_PER_WORKER} entries per worker,
+ * and the CPU workers take files from that queue. Reading blocks while the queue is full, so
+ * at most a fixed number of files is held in memory regardless of how many are processed,
+ * while slow storage (e.g. network volumes) is read concurrently instead of leaving the
+ * workers waiting. While the task runs, the prefetched content is available to it through
+ * {@link #prefetchedContent(Path)}; {@link AbstractScanner#readFileContent(Path)} uses it
+ * automatically.
+ *
+ * <h2>Thread Safety Requirements</h2>
+ * <p>With parallelism above 1 the task runs concurrently for different files. It must only
+ * touch the statistics builder it is given and must not share mutable state across files
+ * (e.g. deduplication sets); deduplicate the merged result instead.
+ *
+ * <h2>Usage Example</h2>
+ * <pre>{@code
+ * List<ApiEndpoint> endpoints = ParallelFileProcessor.process(
+ *     javaFiles, context.parallelism(), statsBuilder,
+ *     (file, fileStats) -> parseWithFallback(file, this::extract, fallback, fileStats).getData());
+ * }</pre>
+ *
+ * @since 1.0.0
+ */
+public final class ParallelFileProcessor {
+
+    /**
+     * Virtual threads reading files ahead of the workers.
+     */
+    static final int READ_AHEAD_THREADS = 16;
+
+    /**
+     * Prefetched files queued per worker before reading blocks.
+     */
+    static final int QUEUE_CAPACITY_PER_WORKER = 4;
+
+    private static final Map<Integer, ExecutorService> POOLS = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Prefetched> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Task applied to a single file.
+     *
+     * @param <T> type of extracted data
+     */
+    @FunctionalInterface
+    public interface FileTask<T> {
+        /**
+         * Processes one file.
+         *
+         * @param file file to process
+         * @param statsBuilder statistics builder for this file only
+         * @return data extracted from the file (empty if nothing was found or the file was skipped)
+         */
+        List<T> process(Path file, ScanStatistics.Builder statsBuilder);
+    }
+
+    /**
+     * Reads a file ahead of its task, on a virtual thread.
+     */
+    @FunctionalInterface
+    public interface Prefetcher {
+        /**
+         * Reads the content a task will need.
+         *
+         * @param file file to read
+         * @return file content, or null if the task does not need it (e.g. pre-filtered)
+         * @throws IOException if the file cannot be read; the task then reads it itself
+         */
+        String read(Path file) throws IOException;
+    }
+
+    // Private constructor to prevent instantiation
+    private ParallelFileProcessor() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * Processes files and returns the extracted data in file order.
+     *
+     * @param files files to process, in the order results should appear
+     * @param parallelism maximum number of files processed concurrently ({@code 1} = sequential)
+     * @param statsBuilder builder receiving the merged statistics of all files
+     * @param task per-file task
+     * @param <T> type of extracted data
+     * @return concatenated data of all files, in file order
+     */
+    public static <T> List<T> process(List<Path> files, int parallelism,
+                                      ScanStatistics.Builder statsBuilder, FileTask<T> task) {
+        List<T> results = new ArrayList<>();
+        if (parallelism <= 1 || files.size() <= 1) {
+            for (Path file : files) {
+                results.addAll(task.process(file, statsBuilder));
+            }
+            return results;
+        }
+
+        List<Callable<FileOutcome<T>>> tasks = new ArrayList<>(files.size());
+        for (Path file : files) {
+            tasks.add(() -> {
+                ScanStatistics.Builder fileStats = new ScanStatistics.Builder();
+                List<T> data = task.process(file, fileStats);
+                return new FileOutcome<>(data, fileStats.build());
+            });
+        }
+
+        for (Future<FileOutcome<T>> future : invokeAll(poolFor(parallelism), tasks)) {
+            FileOutcome<T> outcome = join(future);
+            results.addAll(outcome.data());
+            statsBuilder.merge(outcome.statistics());
+        }
+        return results;
+    }
+
+    /**
+     * Processes files through the read-ahead pipeline and returns the extracted data in file order.
+     *
+     * <p>Results and statistics are identical to {@link #process(List, int, ScanStatistics.Builder, FileTask)};
+     * only the reads are moved ahead onto virtual threads. Prefetch failures are not reported:
+     * the task reads the file itself and sees the error as it would without prefetching.
+     *
+     * @param files files to process, in the order results should appear
+     * @param parallelism number of CPU workers ({@code 1} = the calling thread)
+     * @param prefetcher reads a file's content ahead of its task
+     * @param statsBuilder builder receiving the merged statistics of all files
+     * @param task per-file task
+     * @param <T> type of extracted data
+     * @return concatenated data of all files, in file order
+     */
+    public static <T> List<T> process(List<Path> files, int parallelism, Prefetcher prefetcher,
+                                      ScanStatistics.Builder statsBuilder, FileTask<T> task) {
+        if (files.isEmpty()) {
+            return new ArrayList<>();
+        }
+        int workers = Math.max(1, Math.min(parallelism, files.size()));
+        BlockingQueue<Prefetched> queue = new ArrayBlockingQueue<>(workers * QUEUE_CAPACITY_PER_WORKER);
+        List<FileOutcome<T>> outcomes = new ArrayList<>(files.size());
+        for (int i = 0; i < files.size(); i++) {
+            outcomes.add(null);
+        }
+
+        try (ExecutorService readers = Executors.newVirtualThreadPerTaskExecutor()) {
+            AtomicInteger nextRead = new AtomicInteger();
+            for (int i = 0; i < Math.min(READ_AHEAD_THREADS, files.size()); i++) {
+                readers.submit(() -> {
+                    readAhead(files, nextRead, prefetcher, queue);
+                    return null;
+                });
+            }
+
+            AtomicInteger nextTake = new AtomicInteger();
+            Callable<Void> worker = () -> {
+                while (nextTake.getAndIncrement() < files.size()) {
+                    Prefetched prefetched = queue.take();
+                    outcomes.set(prefetched.index(), runTask(prefetched, task));
+                }
+                return null;
+            };
+
+            boolean completed = false;
+            try {
+                if (workers == 1) {
+                    worker.call();
+                } else {
+                    List<Callable<Void>> loops = new ArrayList<>(workers);
+                    for (int i = 0; i < workers; i++) {
+                        loops.add(worker);
+                    }
+                    for (Future<Void> future : invokeAll(poolFor(parallelism), loops)) {
+                        join(future);
+                    }
+                }
+                completed = true;
+            } finally {
+                if (!completed) {
+                    // Unblock readers waiting on a queue nobody drains any more
+                    readers.shutdownNow();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while processing files", e);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+
+        List<T> results = new ArrayList<>();
+        for (FileOutcome<T> outcome : outcomes) {
+            outcome.rethrowFailure();
+            results.addAll(outcome.data());
+            statsBuilder.merge(outcome.statistics());
+        }
+        return results;
+    }
+
+    /**
+     * Returns the content prefetched for the file whose task runs on the current thread.
+     *
+     * @param file file being read
+     * @return prefetched content, or null if the file was not prefetched
+     */
+    public static String prefetchedContent(Path file) {
+        Prefetched current = CURRENT.get();
+        return current != null && current.content() != null && current.file().equals(file)
+            ? current.content()
+            : null;
+    }
+
+    private static void readAhead(List<Path> files, AtomicInteger nextRead, Prefetcher prefetcher,
+                                  BlockingQueue<Prefetched> queue) throws InterruptedException {
+        int index;
+        while ((index = nextRead.getAndIncrement()) < files.size()) {
+            Path file = files.get(index);
+            String content = null;
+            try {
+                content = prefetcher.read(file);
+            } catch (IOException | RuntimeException e) {
+                // The task reads the file again and handles the failure itself
+            } finally {
+                // Every index must reach the queue, or a worker would wait forever
+                queue.put(new Prefetched(index, file, content));
+            }
+        }
+    }
+
+    private static <T> FileOutcome<T> runTask(Prefetched prefetched, FileTask<T> task) {
+        ScanStatistics.Builder fileStats = new ScanStatistics.Builder();
+        CURRENT.set(prefetched);
+        try {
+            List<T> data = task.process(prefetched.file(), fileStats);
+            return new FileOutcome<>(data, fileStats.build());
+        } catch (RuntimeException | Error e) {
+            return new FileOutcome<>(List.of(), fileStats.build(), e);
+        } finally {
+            CURRENT.remove();
+        }
+    }
+
+    private static ExecutorService poolFor(int parallelism) {
+        return POOLS.computeIfAbsent(parallelism, size -> {
+            AtomicInteger counter = new AtomicInteger();
+            return Executors.newFixedThreadPool(size, runnable -> {
+                Thread thread = new Thread(runnable, "file-worker-" + size + "-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        });
+    }
+
+    private static <T> List<Future<T>> invokeAll(ExecutorService pool, List<Callable<T>> tasks) {
+        try {
+            return pool.invokeAll(tasks);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while processing files", e);
+        }
+    }
+
+    private static <T> T join(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while processing files", e);
+        } catch (ExecutionException e) {
+            // Surface task failures exactly like the sequential path would
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private record FileOutcome<T>(List<T> data, ScanStatistics statistics, Throwable failure) {
+
+        private FileOutcome(List<T> data, ScanStatistics statistics) {
+            this(data, statistics, null);
+        }
+
+        private void rethrowFailure() {
+            if (failure instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (failure instanceof Error error) {
+                throw error;
+            }
+        }
+    }
+
+    private record Prefetched(int index, Path file, String content) {
+    }
+}
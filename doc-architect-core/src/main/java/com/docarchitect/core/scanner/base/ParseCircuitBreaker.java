@@ -0,0 +1,83 @@
+package com.docarchitect.core.scanner.base;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Disables parsing for a scanner whose parses keep timing out.
+ *
+ * <p>Inputs that make a parser's prediction go exponential tend to come in batches, e.g. a
+ * directory of generated sources. Each of them costs a full {@link ScanLimits#parseTimeout()
+ * parse timeout}, so a scan can stall for minutes on files whose results are discarded anyway.
+ * Once at least {@value #MIN_TIMEOUTS} parses and more than the configured share of all parses
+ * of a scan timed out, the breaker opens and the scanner extracts the remaining files with its
+ * regex fallback only. It closes again when the scanner builds its result.
+ *
+ * <p><b>Thread Safety:</b> safe for concurrent use by the threads of one scanner.
+ *
+ * @since 1.0.0
+ */
+final class ParseCircuitBreaker {
+
+    /**
+     * Timed-out parses needed before the breaker can open, so a single slow file in a small
+     * project does not disable parsing.
+     */
+    static final int MIN_TIMEOUTS = 3;
+
+    private final AtomicInteger parses = new AtomicInteger();
+    private final AtomicInteger timeouts = new AtomicInteger();
+    private final AtomicBoolean open = new AtomicBoolean();
+
+    /**
+     * Checks whether parsing is disabled.
+     *
+     * @return true once the timeout rate was exceeded
+     */
+    boolean isOpen() {
+        return open.get();
+    }
+
+    /**
+     * Records a finished parse.
+     *
+     * @param timedOut whether the parse exceeded the parse timeout
+     * @param maxTimeoutRate share of timed-out parses above which the breaker opens
+     * @return true if this parse opened the breaker
+     */
+    boolean record(boolean timedOut, double maxTimeoutRate) {
+        int total = parses.incrementAndGet();
+        if (!timedOut) {
+            return false;
+        }
+        int failed = timeouts.incrementAndGet();
+        return failed >= MIN_TIMEOUTS && failed > maxTimeoutRate * total && open.compareAndSet(false, true);
+    }
+
+    /**
+     * Returns the number of parses recorded since the last reset.
+     *
+     * @return recorded parses
+     */
+    int parses() {
+        return parses.get();
+    }
+
+    /**
+     * Returns the number of timed-out parses recorded since the last reset.
+     *
+     * @return timed-out parses
+     */
+    int timeouts() {
+        return timeouts.get();
+    }
+
+    /**
+     * Closes the breaker and forgets all recorded parses.
+     */
+    void reset() {
+        open.set(false);
+        parses.set(0);
+        timeouts.set(0);
+    }
+}
@@ -0,0 +1,92 @@
+package com.docarchitect.core.scanner.base;
+
+import java.time.Duration;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Interrupts the current thread if a parse runs past its timeout.
+ *
+ * <p>The parse stays on the calling thread, so thread-confined parsers and prefetched content
+ * keep working. A shared watchdog thread interrupts the thread once the timeout elapses;
+ * parsers stop at their next interruption check (ANTLR parsers on every consumed token, the
+ * Java parser on every chunk of source read). Parsers without such checks run to completion,
+ * and their result is discarded by the caller because {@link #isExpired()} is true.
+ *
+ * <p>Closing the deadline cancels the watchdog and clears an interrupt it delivered, so the
+ * thread can be reused for further files.
+ *
+ * <p><b>Usage Example:</b></p>
+ * <pre>{@code
+ * try (ParseDeadline deadline = ParseDeadline.start(Duration.ofSeconds(30))) {
+ *     List<T> nodes = parser.parse(file, content);
+ *     return deadline.isExpired() ? List.of() : nodes;
+ * }
+ * }</pre>
+ *
+ * @since 1.0.0
+ */
+final class ParseDeadline implements AutoCloseable {
+
+    private static final ScheduledThreadPoolExecutor WATCHDOG = createWatchdog();
+
+    private final Thread thread;
+    private final ScheduledFuture<?> expiry;
+    private boolean expired;
+    private boolean closed;
+
+    private ParseDeadline(Duration timeout) {
+        this.thread = Thread.currentThread();
+        this.expiry = WATCHDOG.schedule(this::expire, timeout.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Starts a deadline for the current thread.
+     *
+     * @param timeout time until the thread is interrupted
+     * @return running deadline; must be closed on the same thread
+     */
+    static ParseDeadline start(Duration timeout) {
+        return new ParseDeadline(timeout);
+    }
+
+    /**
+     * Checks whether the timeout elapsed before the deadline was closed.
+     *
+     * @return true if the thread was interrupted by this deadline
+     */
+    synchronized boolean isExpired() {
+        return expired;
+    }
+
+    @Override
+    public void close() {
+        expiry.cancel(false);
+        synchronized (this) {
+            closed = true;
+            if (expired) {
+                // Clear our interrupt so it does not hit the next file or a blocking call
+                Thread.interrupted();
+            }
+        }
+    }
+
+    private synchronized void expire() {
+        if (!closed) {
+            expired = true;
+            thread.interrupt();
+        }
+    }
+
+    private static ScheduledThreadPoolExecutor createWatchdog() {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "parse-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Most deadlines are cancelled long before they expire; do not keep them queued
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    }
+}
@@ -0,0 +1,189 @@
+package com.docarchitect.core.scanner.base;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Per-scanner guard rails against pathological source files.
+ *
+ * <p>Generated code and minified bundles can be tens of megabytes large or make a parser
+ * backtrack for minutes. {@link AbstractScanner} applies these limits to every file it reads
+ * and parses:
+ * <ul>
+ *   <li><b>Size and lines:</b> larger files are refused by the scanner's {@link SourceReader}
+ *       before they reach a parser.</li>
+ *   <li><b>Parse timeout:</b> parses running longer are interrupted and their result discarded.</li>
+ *   <li><b>Timeout rate:</b> once at least {@value ParseCircuitBreaker#MIN_TIMEOUTS} parses
+ *       and more than this share of a scanner's parses timed out, the scanner stops parsing
+ *       and extracts the remaining files with its regex fallback only.</li>
+ * </ul>
+ * Files skipped this way are reported in the scanner's
+ * {@link com.docarchitect.core.scanner.ScanStatistics#filesSkipped() statistics}.
+ *
+ * <p><b>Configuration:</b> limits are read from {@code scanners.config} in
+ * {@code docarchitect.yaml}. Top-level values apply to all scanners, values in a scanner's
+ * section override them for that scanner:
+ * <pre>{@code
+ * scanners:
+ *   config:
+ *     maxFileSizeBytes: 5000000    # all scanners (default: 10 MB)
+ *     maxLines: 50000              # all scanners (default: 100k)
+ *     parseTimeoutMillis: 10000    # all scanners (default: 30 s)
+ *     maxParseTimeoutRate: 0.25    # all scanners (default: 0.1)
+ *     aspnetcore-rest:
+ *       parseTimeoutMillis: 60000  # one scanner
+ * }</pre>
+ *
+ * @param maxFileSizeBytes maximum file size in bytes
+ * @param maxLines maximum number of lines per file
+ * @param parseTimeout maximum time a single file may take to parse
+ * @param maxParseTimeoutRate share of timed-out parses, between 0 and 1, above which parsing is disabled
+ * @since 1.0.0
+ */
+public record ScanLimits(long maxFileSizeBytes, int maxLines, Duration parseTimeout, double maxParseTimeoutRate) {
+
+    /**
+     * Configuration key for {@link #maxFileSizeBytes()}.
+     */
+    public static final String MAX_FILE_SIZE_BYTES_KEY = "maxFileSizeBytes";
+
+    /**
+     * Configuration key for {@link #maxLines()}.
+     */
+    public static final String MAX_LINES_KEY = "maxLines";
+
+    /**
+     * Configuration key for {@link #parseTimeout()}, in milliseconds.
+     */
+    public static final String PARSE_TIMEOUT_MILLIS_KEY = "parseTimeoutMillis";
+
+    /**
+     * Configuration key for {@link #maxParseTimeoutRate()}.
+     */
+    public static final String MAX_PARSE_TIMEOUT_RATE_KEY = "maxParseTimeoutRate";
+
+    /**
+     * Default line limit: larger files are almost always generated.
+     */
+    public static final int DEFAULT_MAX_LINES = 100_000;
+
+    /**
+     * Default parse timeout.
+     */
+    public static final Duration DEFAULT_PARSE_TIMEOUT = Duration.ofSeconds(30);
+
+    /**
+     * Default timeout rate: one timed-out parse in ten.
+     */
+    public static final double DEFAULT_MAX_PARSE_TIMEOUT_RATE = 0.1;
+
+    /**
+     * Limits used when none are configured.
+     */
+    public static final ScanLimits DEFAULT = new ScanLimits(
+        MappedSourceReader.DEFAULT_MAX_FILE_SIZE, DEFAULT_MAX_LINES, DEFAULT_PARSE_TIMEOUT,
+        DEFAULT_MAX_PARSE_TIMEOUT_RATE);
+
+    /**
+     * Compact constructor with validation.
+     */
+    public ScanLimits {
+        if (maxFileSizeBytes <= 0) {
+            throw new IllegalArgumentException("maxFileSizeBytes must be positive: " + maxFileSizeBytes);
+        }
+        if (maxLines <= 0) {
+            throw new IllegalArgumentException("maxLines must be positive: " + maxLines);
+        }
+        Objects.requireNonNull(parseTimeout, "parseTimeout must not be null");
+        if (parseTimeout.isNegative() || parseTimeout.isZero()) {
+            throw new IllegalArgumentException("parseTimeout must be positive: " + parseTimeout);
+        }
+        if (!(maxParseTimeoutRate > 0 && maxParseTimeoutRate <= 1)) {
+            throw new IllegalArgumentException("maxParseTimeoutRate must be between 0 and 1: " + maxParseTimeoutRate);
+        }
+    }
+
+    /**
+     * Creates limits with the {@link #DEFAULT_MAX_PARSE_TIMEOUT_RATE default timeout rate}.
+     *
+     * @param maxFileSizeBytes maximum file size in bytes
+     * @param maxLines maximum number of lines per file
+     * @param parseTimeout maximum time a single file may take to parse
+     */
+    public ScanLimits(long maxFileSizeBytes, int maxLines, Duration parseTimeout) {
+        this(maxFileSizeBytes, maxLines, parseTimeout, DEFAULT_MAX_PARSE_TIMEOUT_RATE);
+    }
+
+    /**
+     * Returns these limits with a different size limit.
+     *
+     * @param maxFileSizeBytes maximum file size in bytes
+     * @return new limits
+     */
+    public ScanLimits withMaxFileSizeBytes(long maxFileSizeBytes) {
+        return new ScanLimits(maxFileSizeBytes, maxLines, parseTimeout, maxParseTimeoutRate);
+    }
+
+    /**
+     * Returns these limits overridden by the limit keys present in a configuration map.
+     *
+     * <p>Values may be numbers or numeric strings; other keys are ignored.
+     *
+     * @param configuration scanner configuration, e.g. {@link com.docarchitect.core.scanner.ScanContext#configuration()}
+     * @return new limits
+     * @throws IllegalArgumentException if a limit value is not a positive number
+     */
+    public ScanLimits withOverrides(Map<String, Object> configuration) {
+        if (configuration == null || configuration.isEmpty()) {
+            return this;
+        }
+        long size = longValue(configuration, MAX_FILE_SIZE_BYTES_KEY, maxFileSizeBytes);
+        long lines = longValue(configuration, MAX_LINES_KEY, maxLines);
+        long timeoutMillis = longValue(configuration, PARSE_TIMEOUT_MILLIS_KEY, parseTimeout.toMillis());
+        double timeoutRate = rateValue(configuration, MAX_PARSE_TIMEOUT_RATE_KEY, maxParseTimeoutRate);
+        return new ScanLimits(size, (int) Math.min(lines, Integer.MAX_VALUE), Duration.ofMillis(timeoutMillis),
+            timeoutRate);
+    }
+
+    /**
+     * Creates the source reader enforcing the size and line limits.
+     *
+     * @return new reader
+     */
+    public SourceReader sourceReader() {
+        return new MappedSourceReader(maxFileSizeBytes, maxLines);
+    }
+
+    private static long longValue(Map<String, Object> configuration, String key, long defaultValue) {
+        Object value = configuration.get(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            long parsed = value instanceof Number number ? number.longValue() : Long.parseLong(value.toString().trim());
+            if (parsed > 0) {
+                return parsed;
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        throw new IllegalArgumentException("Scan limit " + key + " must be a positive number: " + value);
+    }
+
+    private static double rateValue(Map<String, Object> configuration, String key, double defaultValue) {
+        Object value = configuration.get(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            double parsed = value instanceof Number number ? number.doubleValue() : Double.parseDouble(value.toString().trim());
+            if (parsed > 0 && parsed <= 1) {
+                return parsed;
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        throw new IllegalArgumentException("Scan limit " + key + " must be a number between 0 and 1: " + value);
+    }
+}
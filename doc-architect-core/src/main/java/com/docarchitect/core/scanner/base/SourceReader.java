@@ -0,0 +1,58 @@
+package com.docarchitect.core.scanner.base;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Reads source files into text for scanners.
+ *
+ * <p>All file reads of {@link AbstractScanner#readFileContent(Path)} and
+ * {@link AbstractScanner#readFileLines(Path)} go through the scanner's reader, so how files are
+ * decoded and which files are refused (e.g. because of their size) is decided in one place.
+ * Readers are plugged in with {@link AbstractScanner#setSourceReader(SourceReader)}.
+ *
+ * <p>Implementations must be thread-safe; scanners read files from several threads.
+ *
+ * @see MappedSourceReader
+ * @since 1.0.0
+ */
+public interface SourceReader {
+
+    /**
+     * Reads the entire content of a file.
+     *
+     * @param file path to the file to read
+     * @return file content
+     * @throws FileTooLargeException if the file exceeds the reader's size limit
+     * @throws IOException if the file cannot be read
+     */
+    String read(Path file) throws IOException;
+
+    /**
+     * Reads all lines of a file.
+     *
+     * <p>Lines are split like {@link java.nio.file.Files#readAllLines(Path)}: on {@code \n},
+     * {@code \r} and {@code \r\n}, without the terminators.
+     *
+     * @param file path to the file to read
+     * @return modifiable list of lines
+     * @throws FileTooLargeException if the file exceeds the reader's size limit
+     * @throws IOException if the file cannot be read
+     */
+    default List<String> readLines(Path file) throws IOException {
+        return read(file).lines().collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    /**
+     * Returns the reader used when none is configured: a {@link MappedSourceReader} with
+     * the {@link MappedSourceReader#DEFAULT_MAX_FILE_SIZE default size limit}.
+     *
+     * @return shared default reader
+     */
+    static SourceReader defaultReader() {
+        return MappedSourceReader.DEFAULT;
+    }
+}
@@ -0,0 +1,215 @@
+package com.docarchitect.core.scanner.base;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+
+/**
+ * Byte-level multi-token search used to skip files before they are decoded or parsed.
+ *
+ * <p>The tokens are compiled into an Aho–Corasick automaton over their UTF-8 bytes, so a file
+ * is checked for all tokens in a single pass without decoding it into a {@code String}. The
+ * search stops at the first match, which usually means only a prefix of a relevant file is
+ * read. Byte-level matching is exact for UTF-8 and ASCII-compatible encodings (such as
+ * ISO-8859-1) as long as the tokens are ASCII, which all scanner tokens are.
+ *
+ * <p><b>I/O:</b> files up to {@value #MMAP_THRESHOLD} bytes are streamed through a small
+ * per-thread buffer; larger files are memory-mapped.
+ *
+ * <p><b>Thread Safety:</b> instances are immutable and may be shared between threads.
+ *
+ * <p><b>Usage Example:</b></p>
+ * <pre>{@code
+ * TriggerTokenMatcher matcher = TriggerTokenMatcher.of(List.of("@RabbitListener", "RabbitTemplate"));
+ * if (!matcher.matches(file)) {
+ *     return; // no trigger token - nothing to find in this file
+ * }
+ * }</pre>
+ *
+ * @see AbstractScanner#getTriggerTokens()
+ * @since 1.0.0
+ */
+public final class TriggerTokenMatcher {
+
+    /**
+     * Files of at least this size are memory-mapped instead of streamed.
+     */
+    static final int MMAP_THRESHOLD = 1024 * 1024;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final ThreadLocal<ByteBuffer> BUFFERS = ThreadLocal.withInitial(() -> ByteBuffer.allocate(BUFFER_SIZE));
+
+    /** Maps each byte value to its input class; bytes not used by any token share class 0. */
+    private final int[] byteClasses;
+    private final int classCount;
+    /** Complete DFA: next state = transitions[state * classCount + class]. */
+    private final int[] transitions;
+    private final boolean[] accepting;
+
+    private TriggerTokenMatcher(int[] byteClasses, int classCount, int[] transitions, boolean[] accepting) {
+        this.byteClasses = byteClasses;
+        this.classCount = classCount;
+        this.transitions = transitions;
+        this.accepting = accepting;
+    }
+
+    /**
+     * Compiles a matcher for the given tokens.
+     *
+     * @param tokens tokens to search for; must not be empty or contain empty tokens
+     * @return compiled matcher
+     */
+    public static TriggerTokenMatcher of(Collection<String> tokens) {
+        if (tokens.isEmpty()) {
+            throw new IllegalArgumentException("At least one trigger token is required");
+        }
+        List<byte[]> patterns = new ArrayList<>(tokens.size());
+        for (String token : tokens) {
+            if (token == null || token.isEmpty()) {
+                throw new IllegalArgumentException("Trigger tokens must not be empty");
+            }
+            patterns.add(token.getBytes(StandardCharsets.UTF_8));
+        }
+
+        // Alphabet compression keeps the transition table small
+        int[] byteClasses = new int[256];
+        int classCount = 1;
+        for (byte[] pattern : patterns) {
+            for (byte b : pattern) {
+                if (byteClasses[b & 0xFF] == 0) {
+                    byteClasses[b & 0xFF] = classCount++;
+                }
+            }
+        }
+
+        // Build the trie
+        List<int[]> next = new ArrayList<>();
+        List<Boolean> accept = new ArrayList<>();
+        next.add(newRow(classCount));
+        accept.add(false);
+        for (byte[] pattern : patterns) {
+            int state = 0;
+            for (byte b : pattern) {
+                int inputClass = byteClasses[b & 0xFF];
+                if (next.get(state)[inputClass] < 0) {
+                    next.get(state)[inputClass] = next.size();
+                    next.add(newRow(classCount));
+                    accept.add(false);
+                }
+                state = next.get(state)[inputClass];
+            }
+            accept.set(state, true);
+        }
+
+        // Add failure transitions breadth-first to turn the trie into a complete DFA
+        int[] failure = new int[next.size()];
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int inputClass = 0; inputClass < classCount; inputClass++) {
+            int child = next.get(0)[inputClass];
+            if (child < 0) {
+                next.get(0)[inputClass] = 0;
+            } else {
+                failure[child] = 0;
+                queue.add(child);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.remove();
+            if (accept.get(failure[state])) {
+                accept.set(state, true);
+            }
+            for (int inputClass = 0; inputClass < classCount; inputClass++) {
+                int child = next.get(state)[inputClass];
+                if (child < 0) {
+                    next.get(state)[inputClass] = next.get(failure[state])[inputClass];
+                } else {
+                    failure[child] = next.get(failure[state])[inputClass];
+                    queue.add(child);
+                }
+            }
+        }
+
+        int[] transitions = new int[next.size() * classCount];
+        boolean[] accepting = new boolean[next.size()];
+        for (int state = 0; state < next.size(); state++) {
+            System.arraycopy(next.get(state), 0, transitions, state * classCount, classCount);
+            accepting[state] = accept.get(state);
+        }
+        return new TriggerTokenMatcher(byteClasses, classCount, transitions, accepting);
+    }
+
+    /**
+     * Returns true if the content contains at least one token.
+     *
+     * @param content content bytes
+     * @return true if a token occurs in the content
+     */
+    public boolean matches(byte[] content) {
+        return advance(0, ByteBuffer.wrap(content)) < 0;
+    }
+
+    /**
+     * Returns true if the file contains at least one token.
+     *
+     * @param file file to search
+     * @return true if a token occurs in the file
+     * @throws IOException if the file cannot be read
+     */
+    public boolean matches(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size >= MMAP_THRESHOLD) {
+                MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+                return advance(0, mapped) < 0;
+            }
+
+            ByteBuffer buffer = BUFFERS.get();
+            int state = 0;
+            buffer.clear();
+            while (channel.read(buffer) > 0) {
+                buffer.flip();
+                state = advance(state, buffer);
+                if (state < 0) {
+                    return true;
+                }
+                buffer.clear();
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Runs the automaton over the remaining bytes of a buffer.
+     *
+     * @return the state after the last byte, or {@code -1} as soon as a token matched
+     */
+    private int advance(int state, ByteBuffer buffer) {
+        int[] classes = byteClasses;
+        int[] table = transitions;
+        int width = classCount;
+        for (int i = buffer.position(), limit = buffer.limit(); i < limit; i++) {
+            state = table[state * width + classes[buffer.get(i) & 0xFF]];
+            if (accepting[state]) {
+                return -1;
+            }
+        }
+        return state;
+    }
+
+    private static int[] newRow(int classCount) {
+        int[] row = new int[classCount];
+        Arrays.fill(row, -1);
+        return row;
+    }
+}
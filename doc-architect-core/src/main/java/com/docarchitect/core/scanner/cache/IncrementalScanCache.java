@@ -0,0 +1,326 @@
+package com.docarchitect.core.scanner.cache;
+
+import com.docarchitect.core.scanner.ConfidenceLevel;
+import com.docarchitect.core.util.IdGenerator;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * On-disk cache of per-file scanner results, reused across scan runs.
+ *
+ * <p>Scanners store the data they extract from each file together with the file's content
+ * hash. On the next run a file whose content hash is unchanged is not parsed again; its
+ * previous results are returned instead. This turns re-scans after small changes into work
+ * proportional to the number of changed files.
+ *
+ * <p><b>Layout:</b> one JSON file per scanner in the cache directory (by default
+ * {@value #DEFAULT_DIRECTORY} below the project root), named {@code <scannerId>.cache}. A file
+ * is discarded as a whole when its format version, the build, the {@link IdGenerator} mode or
+ * the scanner version differ from the current ones.
+ *
+ * <p><b>Keys:</b> scanner ID + scanner version + build + ID mode (per file) and project-relative
+ * path + SHA-256 content hash (per entry). The build is identified by the
+ * {@value #BUILD_RESOURCE} that Maven writes into every build, since scanner versions rarely
+ * change with the extraction code. Without it, as when running from unfiltered resources,
+ * stored entries are never reused.
+ *
+ * <p><b>Lifecycle:</b> entries are loaded lazily per scanner on first lookup. {@link #flush()}
+ * rewrites the file of every scanner that used the cache during this run with exactly the
+ * entries looked up or stored, so results of deleted files are pruned automatically. It also
+ * places a {@value #GITIGNORE} in the cache directory so the cache is never committed.
+ *
+ * <p><b>Trust:</b> cache files live inside the scanned repository and are treated as
+ * untrusted input. Entries are only ever restored as the element type the scanner passes to
+ * {@link #lookup}; the files name no classes.
+ *
+ * <p><b>Thread Safety:</b> safe for concurrent use by multiple scanners and worker threads.
+ *
+ * <p><b>Usage Example:</b></p>
+ * <pre>{@code
+ * IncrementalScanCache cache = IncrementalScanCache.open(projectRoot.resolve(IncrementalScanCache.DEFAULT_DIRECTORY));
+ * ScanContext context = new ScanContext(projectRoot, List.of(projectRoot),
+ *     Map.of(), Map.of(), Map.of(), index, astCache, null, cache);
+ * // ... run scanners ...
+ * cache.flush();
+ * }</pre>
+ *
+ * @since 1.0.0
+ */
+public final class IncrementalScanCache {
+
+    /**
+     * Default cache location, relative to the project root.
+     */
+    public static final String DEFAULT_DIRECTORY = ".docarchitect/cache";
+
+    private static final Logger log = LoggerFactory.getLogger(IncrementalScanCache.class);
+
+    /**
+     * Class path resource identifying the build.
+     */
+    static final String BUILD_RESOURCE = "META-INF/docarchitect/build.properties";
+
+    private static final int FORMAT_VERSION = 3;
+    private static final String GITIGNORE = ".gitignore";
+    private static final String FILE_SUFFIX = ".cache";
+    private static final String TOOL_VERSION = toolVersion();
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+        .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private final Path directory;
+    private final boolean loadExisting;
+    private final IdGenerator.Mode idMode = IdGenerator.mode();
+    private final Map<String, ScannerEntries> scanners = new ConcurrentHashMap<>();
+
+    private IncrementalScanCache(Path directory, boolean loadExisting) {
+        this.directory = directory;
+        this.loadExisting = loadExisting;
+    }
+
+    /**
+     * Opens the cache in the given directory, reusing entries from previous runs.
+     *
+     * @param directory cache directory (created on {@link #flush()} if missing)
+     * @return cache instance
+     */
+    public static IncrementalScanCache open(Path directory) {
+        return new IncrementalScanCache(directory, true);
+    }
+
+    /**
+     * Opens the cache in the given directory while ignoring existing entries.
+     *
+     * <p>Every file is parsed again and {@link #flush()} replaces the stored entries.
+     *
+     * @param directory cache directory
+     * @return cache instance
+     */
+    public static IncrementalScanCache rebuild(Path directory) {
+        return new IncrementalScanCache(directory, false);
+    }
+
+    /**
+     * Computes the content hash used as cache key.
+     *
+     * @param content file content
+     * @return lowercase hex SHA-256 digest
+     */
+    public static String contentHash(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Computes the content hash of decoded source code, as read by a scanner.
+     *
+     * @param content file content
+     * @return lowercase hex SHA-256 digest of the UTF-8 encoded content
+     */
+    public static String contentHash(String content) {
+        return contentHash(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns the cache directory.
+     *
+     * @return cache directory
+     */
+    public Path directory() {
+        return directory;
+    }
+
+    /**
+     * Looks up the results a scanner previously extracted from a file.
+     *
+     * @param scannerId scanner ID
+     * @param scannerVersion scanner version; entries of other versions are ignored
+     * @param file project-relative file path
+     * @param contentHash current {@link #contentHash(byte[]) content hash} of the file
+     * @param elementType type the scanner extracts; cached data is only restored as this type
+     * @param <T> type of extracted data
+     * @return cached results, or empty on a miss or if the entry does not fit the type
+     */
+    public <T> Optional<CachedResult<T>> lookup(String scannerId, String scannerVersion, String file,
+                                               String contentHash, Class<T> elementType) {
+        ScannerEntries entries = entriesFor(scannerId, scannerVersion);
+        Entry entry = entries.previous.get(file);
+        if (entry == null || !entry.hash().equals(contentHash)) {
+            return Optional.empty();
+        }
+
+        try {
+            JavaType listType = MAPPER.getTypeFactory().constructCollectionType(List.class, elementType);
+            List<T> data = entry.data() == null || entry.data().isNull()
+                ? List.of()
+                : MAPPER.convertValue(entry.data(), listType);
+            entries.current.put(file, entry);
+            return Optional.of(new CachedResult<>(data, entry.confidence()));
+        } catch (IllegalArgumentException e) {
+            log.debug("Ignoring unreadable cache entry for {} in {}: {}", file, scannerId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Stores the results a scanner extracted from a file.
+     *
+     * <p>Results with elements of another class than the element type, including subclasses,
+     * cannot be restored by {@link #lookup} and are not cached.
+     *
+     * @param scannerId scanner ID
+     * @param scannerVersion scanner version
+     * @param file project-relative file path
+     * @param contentHash {@link #contentHash(byte[]) content hash} of the parsed content
+     * @param elementType type the scanner extracts
+     * @param data extracted data
+     * @param confidence confidence level of the extraction
+     * @param <T> type of extracted data
+     */
+    public <T> void store(String scannerId, String scannerVersion, String file, String contentHash,
+                          Class<T> elementType, List<? extends T> data, ConfidenceLevel confidence) {
+        if (data.stream().anyMatch(element -> element == null || element.getClass() != elementType)) {
+            return;
+        }
+
+        try {
+            JsonNode json = MAPPER.valueToTree(data);
+            entriesFor(scannerId, scannerVersion).current.put(file, new Entry(contentHash, confidence, json));
+        } catch (IllegalArgumentException e) {
+            log.debug("Not caching results of {} for {}: {}", scannerId, file, e.getMessage());
+        }
+    }
+
+    /**
+     * Writes the entries used during this run to disk.
+     *
+     * @throws IOException if the cache directory or a cache file cannot be written
+     */
+    public void flush() throws IOException {
+        Files.createDirectories(directory);
+        Path gitignore = directory.resolve(GITIGNORE);
+        if (!Files.exists(gitignore)) {
+            Files.writeString(gitignore, "# Created by DocArchitect\n*\n");
+        }
+        for (Map.Entry<String, ScannerEntries> scanner : new TreeMap<>(scanners).entrySet()) {
+            ScannerEntries entries = scanner.getValue();
+            CacheFile cacheFile = new CacheFile(FORMAT_VERSION, TOOL_VERSION, idMode.name(), entries.version,
+                new TreeMap<>(entries.current));
+
+            Path target = directory.resolve(scanner.getKey() + FILE_SUFFIX);
+            Path temp = directory.resolve(scanner.getKey() + FILE_SUFFIX + ".tmp");
+            MAPPER.writeValue(temp.toFile(), cacheFile);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+    }
+
+    private ScannerEntries entriesFor(String scannerId, String scannerVersion) {
+        return scanners.computeIfAbsent(scannerId, id -> new ScannerEntries(scannerVersion, load(id, scannerVersion)));
+    }
+
+    private Map<String, Entry> load(String scannerId, String scannerVersion) {
+        Path file = directory.resolve(scannerId + FILE_SUFFIX);
+        if (!loadExisting || TOOL_VERSION == null || !Files.isRegularFile(file)) {
+            return Map.of();
+        }
+        try {
+            CacheFile cacheFile = MAPPER.readValue(file.toFile(), CacheFile.class);
+            if (cacheFile.formatVersion() != FORMAT_VERSION
+                    || !TOOL_VERSION.equals(cacheFile.toolVersion())
+                    || !idMode.name().equals(cacheFile.idMode())
+                    || !scannerVersion.equals(cacheFile.scannerVersion())
+                    || cacheFile.entries() == null) {
+                log.debug("Discarding outdated cache file: {}", file);
+                return Map.of();
+            }
+            return cacheFile.entries();
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable cache file {}: {}", file, e.getMessage());
+            return Map.of();
+        }
+    }
+
+    /**
+     * Identifies the running build: implementation version plus the build ID.
+     *
+     * @return tool version, or null if the build cannot be identified
+     */
+    private static String toolVersion() {
+        String version = Optional.ofNullable(IncrementalScanCache.class.getPackage().getImplementationVersion())
+            .orElse("dev");
+        Properties build = new Properties();
+        try (InputStream in = IncrementalScanCache.class.getClassLoader().getResourceAsStream(BUILD_RESOURCE)) {
+            if (in != null) {
+                build.load(in);
+            }
+        } catch (IOException e) {
+            log.debug("Cannot read {}: {}", BUILD_RESOURCE, e.getMessage());
+        }
+        String buildId = build.getProperty("build.id", "");
+        if (buildId.isBlank() || buildId.startsWith("${")) {
+            log.debug("No build ID in {}; cached scan results will not be reused", BUILD_RESOURCE);
+            return null;
+        }
+        return version + "+" + buildId;
+    }
+
+    /**
+     * Results restored from the cache.
+     *
+     * @param data extracted data
+     * @param confidence confidence level of the original extraction
+     * @param <T> type of extracted data
+     */
+    public record CachedResult<T>(List<T> data, ConfidenceLevel confidence) {
+    }
+
+    /**
+     * Cached results of one file.
+     */
+    private record Entry(String hash, ConfidenceLevel confidence, JsonNode data) {
+    }
+
+    /**
+     * Serialized form of one scanner's cache file.
+     */
+    private record CacheFile(int formatVersion, String toolVersion, String idMode, String scannerVersion,
+                             Map<String, Entry> entries) {
+    }
+
+    /**
+     * Entries of one scanner: those loaded from disk and those used during this run.
+     */
+    private static final class ScannerEntries {
+        private final String version;
+        private final Map<String, Entry> previous;
+        private final Map<String, Entry> current = new ConcurrentHashMap<>();
+
+        private ScannerEntries(String version, Map<String, Entry> previous) {
+            this.version = version;
+            this.previous = previous;
+        }
+    }
+}
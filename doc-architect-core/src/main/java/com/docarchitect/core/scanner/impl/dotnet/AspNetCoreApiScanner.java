@@ -3,6 +3,7 @@ package com.docarchitect.core.scanner.impl.dotnet;
 import com.docarchitect.core.model.ApiEndpoint;
 import com.docarchitect.core.model.ApiType;
 import com.docarchitect.core.scanner.ApplicabilityStrategies;
+import com.docarchitect.core.scanner.FindingType;
 import com.docarchitect.core.scanner.ScanContext;
 import com.docarchitect.core.scanner.ScanResult;
 import com.docarchitect.core.scanner.ScanStatistics;
@@ -111,6 +112,21 @@ public class AspNetCoreApiScanner extends AbstractAstScanner<DotNetAst.CSharpCla
     private static final String SCANNER_ID = "aspnetcore-rest";
     private static final String SCANNER_DISPLAY_NAME = "ASP.NET Core API Scanner";
 
+    // Pre-filter tokens: every ASP.NET Core pattern below requires at least one of them
+    private static final Set<String> ASP_NET_TRIGGER_TOKENS = Set.of(
+        "AspNetCore",
+        "RazorPages",
+        "[Http",
+        "[ApiController]",
+        "[Route",
+        ".Map",
+        ": PageModel",
+        "OnGet(",
+        "OnPost(",
+        "OnPut(",
+        "OnDelete("
+    );
+
     /**
      * Constructs a new AspNetCoreApiScanner with the DotNet AST parser.
      *
@@ -260,6 +276,11 @@ public class AspNetCoreApiScanner extends AbstractAstScanner<DotNetAst.CSharpCla
         return 50;
     }
 
+    @Override
+    public Set<FindingType> getProducedFindings() {
+        return Set.of(FindingType.API_ENDPOINTS);
+    }
+
     @Override
     public ScannerApplicabilityStrategy getApplicabilityStrategy() {
         return ApplicabilityStrategies.hasCSharpFiles()
@@ -306,6 +327,11 @@ public class AspNetCoreApiScanner extends AbstractAstScanner<DotNetAst.CSharpCla
             return true;
         }
 
+        // Cheap byte-level check before the file is decoded
+        if (!containsTriggerToken(file)) {
+            return false;
+        }
+
         // Skip test files unless they contain ASP.NET patterns
         String filePath = file.toString();
         boolean isTestFile = filePath.contains("/test/") || filePath.contains("\\test\\") ||
@@ -387,6 +413,11 @@ public class AspNetCoreApiScanner extends AbstractAstScanner<DotNetAst.CSharpCla
         }
     }
 
+    @Override
+    protected Set<String> getTriggerTokens() {
+        return ASP_NET_TRIGGER_TOKENS;
+    }
+
     @Override
     public ScanResult scan(ScanContext context) {
         log.info("Scanning ASP.NET Core API endpoints in: {}", context.rootPath());
@@ -419,6 +450,7 @@ public class AspNetCoreApiScanner extends AbstractAstScanner<DotNetAst.CSharpCla
 
             // Use three-tier parsing with fallback
             FileParseResult<ApiEndpoint> result = parseWithFallback(
+                context,
                 csFile,
                 classes -> extractEndpointsFromAST(classes, csFile),
                 createFallbackStrategy(),
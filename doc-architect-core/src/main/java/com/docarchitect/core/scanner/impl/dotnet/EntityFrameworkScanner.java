@@ -4,6 +4,7 @@ import com.docarchitect.core.model.DataEntity;
 import com.docarchitect.core.model.Relationship;
 import com.docarchitect.core.model.RelationshipType;
 import com.docarchitect.core.scanner.ApplicabilityStrategies;
+import com.docarchitect.core.scanner.FindingType;
 import com.docarchitect.core.scanner.ScanContext;
 import com.docarchitect.core.scanner.ScanResult;
 import com.docarchitect.core.scanner.ScanStatistics;
@@ -11,7 +12,7 @@ import com.docarchitect.core.scanner.ScannerApplicabilityStrategy;
 import com.docarchitect.core.scanner.ast.AstParserFactory;
 import com.docarchitect.core.scanner.ast.DotNetAst;
 import com.docarchitect.core.scanner.base.AbstractAstScanner;
-import com.docarchitect.core.scanner.base.FallbackParsingStrategy;
+import com.docarchitect.core.scanner.base.FileTooLargeException;
 import com.docarchitect.core.util.Technologies;
 
 import java.io.IOException;
@@ -58,6 +59,16 @@ import java.util.regex.Pattern;
  *   <li>{@code public T} - Many-to-one or one-to-one relationship</li>
  * </ul>
  *
+ * <p><b>Scan Phases</b></p>
+ * <ol>
+ *   <li>Each C# file is read and parsed once into a compact summary: its classes with base types
+ *       and properties, the {@code DbSet<>} types of a DbContext and the fluent {@code Entity<>} calls.
+ *       Files without parsed classes keep a regex-based summary of their first class instead.</li>
+ *   <li>Entity names are resolved in memory from the summaries: DbSet and fluent declarations,
+ *       common base entity classes and inheritance from other entities.</li>
+ *   <li>Entities and relationships are built from the summaries of the entity classes.</li>
+ * </ol>
+ *
  * <p><b>Regex Patterns</b></p>
  * <ul>
  *   <li>DBCONTEXT_PATTERN: Matches DbContext class declarations</li>
@@ -92,6 +103,7 @@ public class EntityFrameworkScanner extends AbstractAstScanner<DotNetAst.CSharpC
     private static final String PROPERTY_REGEX = "public\\s+(\\w+(?:<[^>]+>)?)\\s+(\\w+)\\s*\\{[^}]*get;[^}]*set;[^}]*\\}";
     private static final String COLLECTION_NAV_REGEX = "public\\s+(?:ICollection|List)<(\\w+)>\\s+(\\w+)\\s*\\{[^}]*get;[^}]*set;[^}]*\\}";
     private static final String SINGLE_NAV_REGEX = "public\\s+(\\w+)\\s+(\\w+)\\s*\\{[^}]*get;[^}]*set;[^}]*\\}";
+    private static final String FLUENT_API_REGEX = "modelBuilder\\.Entity<(\\w+)>";
     
     // Relationship type constants
     private static final String ONE_TO_MANY_DESCRIPTION = "One-to-Many relationship";
@@ -142,6 +154,20 @@ public class EntityFrameworkScanner extends AbstractAstScanner<DotNetAst.CSharpC
      */
     private static final Pattern SINGLE_NAV_PATTERN = Pattern.compile(SINGLE_NAV_REGEX, REGEX_FLAGS);
 
+    /**
+     * Regex to match Fluent API entity configuration: modelBuilder.Entity&lt;User&gt;().
+     * Captures: (1) entity type.
+     */
+    private static final Pattern FLUENT_API_PATTERN = Pattern.compile(FLUENT_API_REGEX, REGEX_FLAGS);
+
+    /**
+     * Common base class names of entities.
+     */
+    private static final Set<String> COMMON_BASE_ENTITY_NAMES = Set.of(
+        "BaseEntity", "Entity", "AuditableEntity", "EntityBase",
+        "BaseAuditableEntity", "AuditEntity", "DomainEntity"
+    );
+
     @Override
     public String getId() {
         return SCANNER_ID;
@@ -167,6 +193,11 @@ public class EntityFrameworkScanner extends AbstractAstScanner<DotNetAst.CSharpC
         return SCANNER_PRIORITY;
     }
 
+    @Override
+    public Set<FindingType> getProducedFindings() {
+        return Set.of(FindingType.DATA_ENTITIES, FindingType.RELATIONSHIPS);
+    }
+
     @Override
     public ScannerApplicabilityStrategy getApplicabilityStrategy() {
         return ApplicabilityStrategies.hasCSharpFiles()
@@ -180,8 +211,6 @@ public class EntityFrameworkScanner extends AbstractAstScanner<DotNetAst.CSharpC
 
         List<DataEntity> dataEntities = new ArrayList<>();
         List<Relationship> relationships = new ArrayList<>();
-        Set<String> entityNames = new HashSet<>();
-        Map<String, String> baseClassMap = new HashMap<>(); // Maps entity name to base class name
         ScanStatistics.Builder statsBuilder = new ScanStatistics.Builder();
 
         List<Path> csFiles = context.findFiles(CS_FILE_PATTERN).toList();
@@ -191,65 +220,21 @@ public class EntityFrameworkScanner extends AbstractAstScanner<DotNetAst.CSharpC
             return emptyResult();
         }
 
-        // First pass: Find DbContext and collect entity names from DbSet properties
-        for (Path csFile : csFiles) {
-            try {
-                collectEntityNamesFromDbContext(csFile, entityNames);
-            } catch (Exception e) {
-                log.warn("Failed to parse DbContext file: {} - {}", csFile, e.getMessage());
-            }
-        }
-
-        // Second pass: Find entities from OnModelCreating Fluent API
-        for (Path csFile : csFiles) {
-            try {
-                collectEntityNamesFromFluentApi(csFile, entityNames);
-            } catch (Exception e) {
-                log.warn("Failed to parse Fluent API in file: {} - {}", csFile, e.getMessage());
-            }
-        }
-
-        // Third pass: Build inheritance map for all classes (using AST)
-        for (Path csFile : csFiles) {
-            try {
-                buildInheritanceMap(csFile, baseClassMap);
-            } catch (Exception e) {
-                log.warn("Failed to build inheritance map from file: {} - {}", csFile, e.getMessage());
-            }
-        }
-
-        // Fourth pass: Detect entities through inheritance (e.g., classes inheriting from BaseEntity)
-        for (Path csFile : csFiles) {
-            try {
-                collectEntityNamesFromInheritance(csFile, entityNames, baseClassMap);
-            } catch (Exception e) {
-                log.warn("Failed to detect entities by inheritance in file: {} - {}", csFile, e.getMessage());
-            }
-        }
+        // Single pass: read and parse every file once
+        List<CSharpFileSummary> summaries = processFiles(context, csFiles, statsBuilder,
+            (csFile, fileStats) -> summarizeFile(context, csFile, fileStats));
 
+        // Resolve entity names across files in memory
+        Set<String> entityNames = resolveEntityNames(summaries);
         log.debug("Discovered {} potential entity types", entityNames.size());
 
-        // Final pass: Parse entity classes with three-tier fallback
-        for (Path csFile : csFiles) {
-            if (!shouldScanFile(csFile)) {
-                continue;
-            }
-
-            statsBuilder.incrementFilesScanned();
-
-            // Use three-tier parsing with fallback
-            FileParseResult<EntityResult> result = parseWithFallback(
-                csFile,
-                classes -> extractEntitiesFromAST(classes, entityNames),
-                createFallbackStrategy(entityNames),
-                statsBuilder
-            );
-
-            if (result.isSuccess()) {
-                for (EntityResult entityResult : result.getData()) {
-                    dataEntities.add(entityResult.entity());
-                    relationships.addAll(entityResult.relationships());
-                }
+        for (CSharpFileSummary summary : summaries) {
+            List<EntityResult> results = summary.fallbackClass() != null
+                ? extractEntityFromFallback(summary.fallbackClass(), entityNames)
+                : extractEntitiesFromAST(summary.classes(), entityNames);
+            for (EntityResult entityResult : results) {
+                dataEntities.add(entityResult.entity());
+                relationships.addAll(entityResult.relationships());
             }
         }
 
@@ -275,154 +260,110 @@ public class EntityFrameworkScanner extends AbstractAstScanner<DotNetAst.CSharpC
     private record EntityResult(DataEntity entity, List<Relationship> relationships) {}
 
     /**
-     * Extracts entities from parsed AST classes using AST analysis.
-     * This is the Tier 1 (HIGH confidence) parsing strategy.
+     * What the scan needs from one C# file, kept in memory between the parse and resolution phases.
      *
-     * @param classes the parsed C# classes
-     * @param entityNames set of known entity names
-     * @return list of entity results (entity + relationships)
+     * @param dbSetTypes entity types of the DbSet properties, if the file declares a DbContext
+     * @param fluentEntityTypes entity types configured via {@code modelBuilder.Entity<T>}
+     * @param classes parsed classes, reduced to name, base classes and properties
+     * @param fallbackClass regex-based summary if the file was parsed with the fallback, otherwise null
      */
-    private List<EntityResult> extractEntitiesFromAST(List<DotNetAst.CSharpClass> classes, Set<String> entityNames) {
-        List<EntityResult> results = new ArrayList<>();
-        Set<String> processedEntities = new HashSet<>();
-
-        for (DotNetAst.CSharpClass csharpClass : classes) {
-            String className = csharpClass.name();
-
-            // Only process if this is a known entity
-            if (!entityNames.contains(className)) {
-                continue;
-            }
-
-            // Skip if already processed (avoid duplicates from multiple files)
-            if (processedEntities.contains(className)) {
-                continue;
-            }
-            processedEntities.add(className);
-
-            // Extract properties and detect primary key
-            List<DataEntity.Field> fields = extractEntityFieldsFromAst(csharpClass, entityNames);
-            String primaryKey = findPrimaryKeyFromProperties(csharpClass);
-
-            // Extract relationships
-            List<Relationship> relationships = new ArrayList<>();
-            extractNavigationRelationshipsFromAst(csharpClass, entityNames, relationships);
-
-            // Create DataEntity (even if no fields, as it might have inherited fields)
-            String tableName = toPlural(className);
-
-            DataEntity entity = new DataEntity(
-                className,
-                tableName,
-                ENTITY_TYPE,
-                fields,
-                primaryKey,
-                "Entity Framework Entity: " + className
-            );
-
-            results.add(new EntityResult(entity, relationships));
-            log.debug("Found Entity Framework entity: {} -> table: {} with {} fields and PK: {}",
-                className, tableName, fields.size(), primaryKey != null ? primaryKey : "none");
-        }
-
-        return results;
-    }
+    private record CSharpFileSummary(
+        List<String> dbSetTypes,
+        List<String> fluentEntityTypes,
+        List<DotNetAst.CSharpClass> classes,
+        FallbackClass fallbackClass
+    ) {}
 
     /**
-     * Creates a regex-based fallback parsing strategy for when AST parsing fails.
-     * This is the Tier 2 (MEDIUM confidence) parsing strategy.
+     * First class of a file as found by the regex fallback (Tier 2, MEDIUM confidence).
      *
-     * @param entityNames set of known entity names
-     * @return fallback parsing strategy
+     * @param name class name
+     * @param properties properties with getter and setter
+     * @param primaryKey primary key by naming convention, or null
      */
-    private FallbackParsingStrategy<EntityResult> createFallbackStrategy(Set<String> entityNames) {
-        return (file, content) -> {
-            List<EntityResult> results = new ArrayList<>();
-
-            // Extract class name from content
-            Matcher classMatcher = CLASS_PATTERN.matcher(content);
-            if (!classMatcher.find()) {
-                return results;
-            }
+    private record FallbackClass(String name, List<DotNetAst.Property> properties, String primaryKey) {}
 
-            String className = classMatcher.group(1);
+    /**
+     * Reads and parses one file into its summary.
+     *
+     * <p>DbSet and Fluent API declarations are collected from every file; classes only from
+     * files accepted by {@link #shouldScanFile(Path)}, with AST parsing first and the regex
+     * fallback second.
+     *
+     * @param context scan context providing the shared parse results
+     * @param file the C# file
+     * @param fileStats statistics builder for this file
+     * @return the file's summary, or an empty list if it cannot be read
+     */
+    private List<CSharpFileSummary> summarizeFile(ScanContext context, Path file, ScanStatistics.Builder fileStats) {
+        boolean scanned = shouldScanFile(file);
+        if (scanned) {
+            fileStats.incrementFilesScanned();
+        }
 
-            // Only process if this is a known entity
-            if (!entityNames.contains(className)) {
-                return results;
+        String content;
+        try {
+            content = readFileContent(file);
+        } catch (FileTooLargeException e) {
+            log.debug("Skipping file over size limit: {} ({} bytes)", file, e.getSize());
+            if (scanned) {
+                fileStats.incrementFilesFailed();
             }
-
-            // Extract properties using regex
-            List<DataEntity.Field> fields = new ArrayList<>();
-            List<Relationship> relationships = new ArrayList<>();
-
-            Matcher propertyMatcher = PROPERTY_PATTERN.matcher(content);
-            while (propertyMatcher.find()) {
-                String type = propertyMatcher.group(1);
-                String name = propertyMatcher.group(2);
-
-                // Skip navigation properties
-                if (type.startsWith(ICOLLECTION_TYPE) || type.startsWith(LIST_TYPE) || entityNames.contains(type)) {
-                    // This is a navigation property - create relationship
-                    if (type.startsWith(ICOLLECTION_TYPE) || type.startsWith(LIST_TYPE)) {
-                        String targetEntity = extractGenericType(type);
-                        if (targetEntity != null && entityNames.contains(targetEntity)) {
-                            addRelationship(className, targetEntity, ONE_TO_MANY_DESCRIPTION, relationships);
-                        }
-                    } else if (entityNames.contains(type)) {
-                        addRelationship(className, type, MANY_TO_ONE_DESCRIPTION, relationships);
-                    }
-                } else {
-                    // Regular field
-                    String sqlType = mapCSharpTypeToSql(type);
-                    boolean nullable = type.contains("?");
-                    fields.add(new DataEntity.Field(name, sqlType, nullable, null));
-                }
+            return List.of();
+        } catch (IOException e) {
+            log.warn("Failed to read C# file: {} - {}", file, e.getMessage());
+            if (scanned) {
+                fileStats.incrementFilesFailed();
             }
+            return List.of();
+        }
 
-            // Try to find primary key
-            String primaryKey = null;
-            if (content.matches("(?s).*\\bpublic\\s+int\\s+Id\\s*\\{.*")) {
-                primaryKey = "Id";
-            } else if (content.matches("(?s).*\\bpublic\\s+int\\s+" + className + "Id\\s*\\{.*")) {
-                primaryKey = className + "Id";
-            }
+        List<String> dbSetTypes = collectDbSetTypes(content);
+        List<String> fluentEntityTypes = collectFluentEntityTypes(content);
+        if (!scanned) {
+            return List.of(new CSharpFileSummary(dbSetTypes, fluentEntityTypes, List.of(), null));
+        }
 
-            String tableName = toPlural(className);
-            DataEntity entity = new DataEntity(
-                className,
-                tableName,
-                ENTITY_TYPE,
-                fields,
-                primaryKey,
-                "Entity Framework Entity: " + className
-            );
+        // Tier 1: AST parsing (HIGH confidence)
+        List<DotNetAst.CSharpClass> classes = parseAstContent(context, file, content);
+        if (!classes.isEmpty()) {
+            fileStats.incrementFilesParsedSuccessfully();
+            List<DotNetAst.CSharpClass> compactClasses = classes.stream()
+                .map(c -> new DotNetAst.CSharpClass(c.name(), c.baseClasses(), c.properties(), List.of(), List.of(), null))
+                .toList();
+            return List.of(new CSharpFileSummary(dbSetTypes, fluentEntityTypes, compactClasses, null));
+        }
 
-            results.add(new EntityResult(entity, relationships));
-            log.debug("Fallback parsing found entity: {} -> {}", className, tableName);
-            return results;
-        };
+        // Tier 2: Regex fallback (MEDIUM confidence)
+        try {
+            FallbackClass fallbackClass = parseFallbackClass(content);
+            fileStats.incrementFilesParsedWithFallback();
+            return List.of(new CSharpFileSummary(dbSetTypes, fluentEntityTypes, List.of(), fallbackClass));
+        } catch (Exception e) {
+            log.warn("Fallback parsing failed for {}: {}", file.getFileName(), e.getMessage());
+            fileStats.incrementFilesFailed();
+            return List.of(new CSharpFileSummary(dbSetTypes, fluentEntityTypes, List.of(), null));
+        }
     }
 
     /**
-     * Collects entity names from DbContext's DbSet properties.
+     * Collects entity types from the DbSet properties of a DbContext.
      */
-    private void collectEntityNamesFromDbContext(Path file, Set<String> entityNames) throws IOException {
-        String content = readFileContent(file);
-
-        Matcher dbContextMatcher = DBCONTEXT_PATTERN.matcher(content);
-        if (dbContextMatcher.find()) {
-            Matcher dbSetMatcher = DBSET_PATTERN.matcher(content);
-            while (dbSetMatcher.find()) {
-                String entityType = dbSetMatcher.group(1);
-                entityNames.add(entityType);
-                log.debug("Found entity from DbContext: {}", entityType);
-            }
+    private List<String> collectDbSetTypes(String content) {
+        if (!DBCONTEXT_PATTERN.matcher(content).find()) {
+            return List.of();
         }
+        List<String> entityTypes = new ArrayList<>();
+        Matcher dbSetMatcher = DBSET_PATTERN.matcher(content);
+        while (dbSetMatcher.find()) {
+            entityTypes.add(dbSetMatcher.group(1));
+            log.debug("Found entity from DbContext: {}", dbSetMatcher.group(1));
+        }
+        return entityTypes;
     }
 
     /**
-     * Collects entity names from OnModelCreating Fluent API configurations.
+     * Collects entity types from OnModelCreating Fluent API configurations.
      *
      * <p>Patterns detected:</p>
      * <ul>
@@ -430,46 +371,49 @@ public class EntityFrameworkScanner extends AbstractAstScanner<DotNetAst.CSharpC
      *   <li>{@code modelBuilder.Entity<Order>(entity => {...})}</li>
      * </ul>
      */
-    private void collectEntityNamesFromFluentApi(Path file, Set<String> entityNames) throws IOException {
-        String content = readFileContent(file);
-
-        // Pattern: modelBuilder.Entity<EntityName>
-        Pattern fluentApiPattern = Pattern.compile("modelBuilder\\.Entity<(\\w+)>", Pattern.DOTALL);
-        Matcher matcher = fluentApiPattern.matcher(content);
-
+    private List<String> collectFluentEntityTypes(String content) {
+        List<String> entityTypes = new ArrayList<>();
+        Matcher matcher = FLUENT_API_PATTERN.matcher(content);
         while (matcher.find()) {
-            String entityType = matcher.group(1);
-            entityNames.add(entityType);
-            log.debug("Found entity from Fluent API: {}", entityType);
+            entityTypes.add(matcher.group(1));
+            log.debug("Found entity from Fluent API: {}", matcher.group(1));
         }
+        return entityTypes;
     }
 
     /**
-     * Builds a map of class names to their base classes.
+     * Extracts the first class of a file with regex patterns.
      *
-     * @param file the C# file to parse
-     * @param baseClassMap map to populate with class-to-base-class relationships
+     * @param content file content
+     * @return the class, or null if the file declares none
      */
-    private void buildInheritanceMap(Path file, Map<String, String> baseClassMap) throws IOException {
-        List<DotNetAst.CSharpClass> classes = parseAstFile(file);
+    private FallbackClass parseFallbackClass(String content) {
+        Matcher classMatcher = CLASS_PATTERN.matcher(content);
+        if (!classMatcher.find()) {
+            return null;
+        }
+        String className = classMatcher.group(1);
 
-        for (DotNetAst.CSharpClass csharpClass : classes) {
-            String className = csharpClass.name();
-            List<String> baseClasses = csharpClass.baseClasses();
+        List<DotNetAst.Property> properties = new ArrayList<>();
+        Matcher propertyMatcher = PROPERTY_PATTERN.matcher(content);
+        while (propertyMatcher.find()) {
+            properties.add(new DotNetAst.Property(propertyMatcher.group(2), propertyMatcher.group(1), true, true, List.of()));
+        }
 
-            if (!baseClasses.isEmpty()) {
-                // Store the first base class (C# only supports single inheritance for classes)
-                String baseClass = baseClasses.get(0);
-                baseClassMap.put(className, baseClass);
-                log.debug("Inheritance: {} extends {}", className, baseClass);
-            }
+        String primaryKey = null;
+        if (content.matches("(?s).*\\bpublic\\s+int\\s+Id\\s*\\{.*")) {
+            primaryKey = "Id";
+        } else if (content.matches("(?s).*\\bpublic\\s+int\\s+" + className + "Id\\s*\\{.*")) {
+            primaryKey = className + "Id";
         }
+        return new FallbackClass(className, properties, primaryKey);
     }
 
     /**
-     * Detects entities through inheritance patterns.
+     * Resolves the names of all entity types from the file summaries.
      *
-     * <p>Common patterns in EF Core projects:</p>
+     * <p>Entities are the DbSet and Fluent API types plus classes that inherit from a common base
+     * entity class or from another entity. Common patterns in EF Core projects:</p>
      * <ul>
      *   <li>Classes inheriting from BaseEntity</li>
      *   <li>Classes inheriting from AuditableEntity</li>
@@ -477,65 +421,74 @@ public class EntityFrameworkScanner extends AbstractAstScanner<DotNetAst.CSharpC
      *   <li>Any class that inherits from a class already identified as an entity</li>
      * </ul>
      *
-     * @param file the C# file to parse
-     * @param entityNames set of known entity names (will be updated)
-     * @param baseClassMap map of class-to-base-class relationships
+     * <p>Inheritance is resolved until no more entities are found, so the order of files does
+     * not matter.
+     *
+     * @param summaries summaries of all files
+     * @return entity names
      */
-    private void collectEntityNamesFromInheritance(Path file, Set<String> entityNames,
-                                                   Map<String, String> baseClassMap) throws IOException {
-        List<DotNetAst.CSharpClass> classes = parseAstFile(file);
-
-        // Common base entity class names
-        Set<String> commonBaseEntityNames = Set.of(
-            "BaseEntity", "Entity", "AuditableEntity", "EntityBase",
-            "BaseAuditableEntity", "AuditEntity", "DomainEntity"
-        );
-
-        for (DotNetAst.CSharpClass csharpClass : classes) {
-            String className = csharpClass.name();
-            List<String> baseClasses = csharpClass.baseClasses();
+    private Set<String> resolveEntityNames(List<CSharpFileSummary> summaries) {
+        Set<String> entityNames = new HashSet<>();
+        for (CSharpFileSummary summary : summaries) {
+            entityNames.addAll(summary.dbSetTypes());
+            entityNames.addAll(summary.fluentEntityTypes());
+        }
 
-            // Skip if already identified as an entity
-            if (entityNames.contains(className)) {
-                continue;
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (CSharpFileSummary summary : summaries) {
+                for (DotNetAst.CSharpClass csharpClass : summary.classes()) {
+                    if (!entityNames.contains(csharpClass.name()) && isEntityByInheritance(csharpClass, entityNames)) {
+                        entityNames.add(csharpClass.name());
+                        changed = true;
+                    }
+                }
             }
+        }
+        return entityNames;
+    }
 
-            // Skip DbContext classes
-            if (baseClasses.stream().anyMatch(base -> base.contains("DbContext"))) {
-                continue;
-            }
+    /**
+     * Checks whether a class is an entity because of its base classes.
+     *
+     * @param csharpClass class that is not yet known as an entity
+     * @param entityNames known entity names
+     * @return true if the class inherits from a common base entity class or a known entity
+     */
+    private boolean isEntityByInheritance(DotNetAst.CSharpClass csharpClass, Set<String> entityNames) {
+        List<String> baseClasses = csharpClass.baseClasses();
 
-            // Check if inherits from a common base entity class
-            for (String baseClass : baseClasses) {
-                if (commonBaseEntityNames.contains(baseClass) ||
-                    commonBaseEntityNames.stream().anyMatch(baseClass::endsWith)) {
-                    entityNames.add(className);
-                    log.debug("Found entity by inheritance: {} extends {}", className, baseClass);
-                    break;
-                }
-            }
+        // Skip DbContext classes
+        if (baseClasses.stream().anyMatch(base -> base.contains("DbContext"))) {
+            return false;
+        }
 
-            // Check if inherits from an already-known entity
-            for (String baseClass : baseClasses) {
-                if (entityNames.contains(baseClass)) {
-                    entityNames.add(className);
-                    log.debug("Found entity by entity inheritance: {} extends {}", className, baseClass);
-                    break;
-                }
+        for (String baseClass : baseClasses) {
+            if (COMMON_BASE_ENTITY_NAMES.contains(baseClass) ||
+                COMMON_BASE_ENTITY_NAMES.stream().anyMatch(baseClass::endsWith)) {
+                log.debug("Found entity by inheritance: {} extends {}", csharpClass.name(), baseClass);
+                return true;
+            }
+            if (entityNames.contains(baseClass)) {
+                log.debug("Found entity by entity inheritance: {} extends {}", csharpClass.name(), baseClass);
+                return true;
             }
         }
+        return false;
     }
 
     /**
-     * Parses entity classes and extracts properties and relationships.
+     * Extracts entities from parsed AST classes using AST analysis.
+     * This is the Tier 1 (HIGH confidence) parsing strategy.
      *
-     * @deprecated Use {@link #extractEntitiesFromAST(List, Set)} instead
+     * @param classes the parsed C# classes
+     * @param entityNames set of known entity names
+     * @return list of entity results (entity + relationships)
      */
-    @Deprecated
-    private void parseEntityClasses(Path file, Set<String> entityNames,
-                                    List<DataEntity> dataEntities, List<Relationship> relationships) throws IOException {
-        // Use AST parser to parse C# file
-        List<DotNetAst.CSharpClass> classes = parseAstFile(file);
+    private List<EntityResult> extractEntitiesFromAST(List<DotNetAst.CSharpClass> classes, Set<String> entityNames) {
+        List<EntityResult> results = new ArrayList<>();
+        Set<String> processedEntities = new HashSet<>();
 
         for (DotNetAst.CSharpClass csharpClass : classes) {
             String className = csharpClass.name();
@@ -546,15 +499,17 @@ public class EntityFrameworkScanner extends AbstractAstScanner<DotNetAst.CSharpC
             }
 
             // Skip if already processed (avoid duplicates from multiple files)
-            if (dataEntities.stream().anyMatch(e -> e.name().equals(className))) {
+            if (processedEntities.contains(className)) {
                 continue;
             }
+            processedEntities.add(className);
 
             // Extract properties and detect primary key
             List<DataEntity.Field> fields = extractEntityFieldsFromAst(csharpClass, entityNames);
             String primaryKey = findPrimaryKeyFromProperties(csharpClass);
 
             // Extract relationships
+            List<Relationship> relationships = new ArrayList<>();
             extractNavigationRelationshipsFromAst(csharpClass, entityNames, relationships);
 
             // Create DataEntity (even if no fields, as it might have inherited fields)
@@ -569,10 +524,67 @@ public class EntityFrameworkScanner extends AbstractAstScanner<DotNetAst.CSharpC
                 "Entity Framework Entity: " + className
             );
 
-            dataEntities.add(entity);
+            results.add(new EntityResult(entity, relationships));
             log.debug("Found Entity Framework entity: {} -> table: {} with {} fields and PK: {}",
                 className, tableName, fields.size(), primaryKey != null ? primaryKey : "none");
         }
+
+        return results;
+    }
+
+    /**
+     * Builds the entity of a class found by the regex fallback.
+     * This is the Tier 2 (MEDIUM confidence) parsing strategy.
+     *
+     * @param fallbackClass class extracted with regex patterns
+     * @param entityNames set of known entity names
+     * @return the entity result, or an empty list if the class is not an entity
+     */
+    private List<EntityResult> extractEntityFromFallback(FallbackClass fallbackClass, Set<String> entityNames) {
+        String className = fallbackClass.name();
+
+        // Only process if this is a known entity
+        if (!entityNames.contains(className)) {
+            return List.of();
+        }
+
+        List<DataEntity.Field> fields = new ArrayList<>();
+        List<Relationship> relationships = new ArrayList<>();
+
+        for (DotNetAst.Property property : fallbackClass.properties()) {
+            String type = property.type();
+
+            // Skip navigation properties
+            if (type.startsWith(ICOLLECTION_TYPE) || type.startsWith(LIST_TYPE) || entityNames.contains(type)) {
+                // This is a navigation property - create relationship
+                if (type.startsWith(ICOLLECTION_TYPE) || type.startsWith(LIST_TYPE)) {
+                    String targetEntity = extractGenericType(type);
+                    if (targetEntity != null && entityNames.contains(targetEntity)) {
+                        addRelationship(className, targetEntity, ONE_TO_MANY_DESCRIPTION, relationships);
+                    }
+                } else if (entityNames.contains(type)) {
+                    addRelationship(className, type, MANY_TO_ONE_DESCRIPTION, relationships);
+                }
+            } else {
+                // Regular field
+                String sqlType = mapCSharpTypeToSql(type);
+                boolean nullable = type.contains("?");
+                fields.add(new DataEntity.Field(property.name(), sqlType, nullable, null));
+            }
+        }
+
+        String tableName = toPlural(className);
+        DataEntity entity = new DataEntity(
+            className,
+            tableName,
+            ENTITY_TYPE,
+            fields,
+            fallbackClass.primaryKey(),
+            "Entity Framework Entity: " + className
+        );
+
+        log.debug("Fallback parsing found entity: {} -> {}", className, tableName);
+        return List.of(new EntityResult(entity, relationships));
     }
 
     /**
@@ -10,6 +10,7 @@ import java.util.regex.Pattern;
 
 import com.docarchitect.core.model.ApiEndpoint;
 import com.docarchitect.core.model.ApiType;
+import com.docarchitect.core.scanner.FindingType;
 import com.docarchitect.core.scanner.ScanContext;
 import com.docarchitect.core.scanner.ScanResult;
 import com.docarchitect.core.scanner.base.AbstractRegexScanner;
@@ -81,6 +82,11 @@ public class GrpcServiceScanner extends AbstractRegexScanner {
         return SCANNER_PRIORITY;
     }
 
+    @Override
+    public Set<FindingType> getProducedFindings() {
+        return Set.of(FindingType.API_ENDPOINTS);
+    }
+
     @Override
     public boolean appliesTo(ScanContext context) {
         return hasAnyFiles(context, FILE_PATTERN_NESTED, FILE_PATTERN_ROOT);
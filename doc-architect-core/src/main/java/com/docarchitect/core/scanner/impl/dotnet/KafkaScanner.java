@@ -7,6 +7,7 @@ import java.util.List;
 import java.util.Set;
 
 import com.docarchitect.core.model.MessageFlow;
+import com.docarchitect.core.scanner.FindingType;
 import com.docarchitect.core.scanner.ScanContext;
 import com.docarchitect.core.scanner.ScanResult;
 import com.docarchitect.core.scanner.ScanStatistics;
@@ -39,6 +40,17 @@ public class KafkaScanner extends AbstractAstScanner<DotNetAst.CSharpClass> {
     private static final int SCANNER_PRIORITY = 70;
     private static final String TECHNOLOGY = "kafka";
 
+    // Pre-filter tokens: files without any of them cannot contain Kafka code
+    private static final Set<String> KAFKA_TRIGGER_TOKENS = Set.of(
+        "using Confluent.Kafka",
+        "IConsumer<",
+        "IProducer<",
+        "[KafkaConsumer",
+        "[Topic",
+        "ProduceAsync",
+        ".Consume("
+    );
+
     // Kafka attribute names
     private static final String KAFKA_CONSUMER_ATTRIBUTE = "KafkaConsumer";
     private static final String TOPIC_ATTRIBUTE = "Topic";
@@ -85,6 +97,11 @@ public class KafkaScanner extends AbstractAstScanner<DotNetAst.CSharpClass> {
         return SCANNER_PRIORITY;
     }
 
+    @Override
+    public Set<FindingType> getProducedFindings() {
+        return Set.of(FindingType.MESSAGE_FLOWS);
+    }
+
     @Override
     public boolean appliesTo(ScanContext context) {
         return hasAnyFiles(context, FILE_PATTERN_NESTED, FILE_PATTERN_ROOT);
@@ -96,40 +113,11 @@ public class KafkaScanner extends AbstractAstScanner<DotNetAst.CSharpClass> {
      * <p>This avoids attempting to parse files that don't contain Kafka code,
      * reducing unnecessary WARN logs and improving performance.
      *
-     * @param file path to C# source file
-     * @return true if file contains Kafka patterns, false otherwise
+     * @return Kafka imports and patterns, at least one of which a file must contain
      */
     @Override
-    protected boolean shouldScanFile(Path file) {
-        // Skip test files unless they contain Kafka patterns
-        String filePath = file.toString();
-        boolean isTestFile = filePath.contains("/test/") || filePath.contains("\\test\\") ||
-                           filePath.contains("/Test/") || filePath.contains("\\Test\\") ||
-                           filePath.contains(".Tests/") || filePath.contains(".Tests\\");
-
-        try {
-            String content = readFileContent(file);
-
-            // Check for Kafka imports and patterns
-            boolean hasKafkaPatterns = content.contains("using Confluent.Kafka") ||
-                                      content.contains("IConsumer<") ||
-                                      content.contains("IProducer<") ||
-                                      content.contains("[KafkaConsumer") ||
-                                      content.contains("[Topic") ||
-                                      content.contains("ProduceAsync") ||
-                                      content.contains(".Consume(");
-
-            // For test files, require Kafka patterns
-            // For non-test files, allow if they have Kafka patterns
-            if (isTestFile) {
-                return hasKafkaPatterns;
-            }
-
-            return hasKafkaPatterns;
-        } catch (IOException e) {
-            log.debug("Failed to read file for pre-filtering: {}", file);
-            return false;
-        }
+    protected Set<String> getTriggerTokens() {
+        return KAFKA_TRIGGER_TOKENS;
     }
 
     @Override
@@ -162,6 +150,7 @@ public class KafkaScanner extends AbstractAstScanner<DotNetAst.CSharpClass> {
 
             // Use three-tier parsing with fallback
             FileParseResult<MessageFlow> result = parseWithFallback(
+                context,
                 csFile,
                 classes -> extractMessageFlowsFromAST(csFile, classes),
                 createFallbackStrategy(),
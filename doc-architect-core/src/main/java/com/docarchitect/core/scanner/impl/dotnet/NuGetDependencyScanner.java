@@ -10,6 +10,7 @@ import java.util.Set;
 import com.docarchitect.core.model.Component;
 import com.docarchitect.core.model.ComponentType;
 import com.docarchitect.core.model.Dependency;
+import com.docarchitect.core.scanner.FindingType;
 import com.docarchitect.core.scanner.ScanContext;
 import com.docarchitect.core.scanner.ScanResult;
 import com.docarchitect.core.scanner.base.AbstractJacksonScanner;
@@ -166,6 +167,11 @@ public class NuGetDependencyScanner extends AbstractJacksonScanner {
         return 10;
     }
 
+    @Override
+    public Set<FindingType> getProducedFindings() {
+        return Set.of(FindingType.COMPONENTS, FindingType.DEPENDENCIES);
+    }
+
     @Override
     public boolean appliesTo(ScanContext context) {
         return hasAnyFiles(context, CSPROJ_PATTERN, PACKAGES_CONFIG_PATTERN, BUILD_PROPS_PATTERN, PACKAGES_PROPS_PATTERN, ROOT_PACKAGES_PROPS_PATTERN);
@@ -3,6 +3,7 @@ package com.docarchitect.core.scanner.impl.dotnet;
 import com.docarchitect.core.model.Component;
 import com.docarchitect.core.model.ComponentType;
 import com.docarchitect.core.model.Relationship;
+import com.docarchitect.core.scanner.FindingType;
 import com.docarchitect.core.scanner.ScanContext;
 import com.docarchitect.core.scanner.ScanResult;
 import com.docarchitect.core.scanner.base.AbstractRegexScanner;
@@ -90,6 +91,11 @@ public class SolutionFileScanner extends AbstractRegexScanner {
         return SCANNER_PRIORITY;
     }
 
+    @Override
+    public Set<FindingType> getProducedFindings() {
+        return Set.of(FindingType.COMPONENTS);
+    }
+
     @Override
     public boolean appliesTo(ScanContext context) {
         return hasAnyFiles(context, SLN_FILE_PATTERN_NESTED, SLN_FILE_PATTERN_ROOT);
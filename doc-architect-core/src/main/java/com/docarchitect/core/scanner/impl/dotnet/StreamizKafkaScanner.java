@@ -9,6 +9,7 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import com.docarchitect.core.model.MessageFlow;
+import com.docarchitect.core.scanner.FindingType;
 import com.docarchitect.core.scanner.ScanContext;
 import com.docarchitect.core.scanner.ScanResult;
 import com.docarchitect.core.scanner.base.AbstractRegexScanner;
@@ -108,6 +109,11 @@ public class StreamizKafkaScanner extends AbstractRegexScanner {
         return SCANNER_PRIORITY;
     }
 
+    @Override
+    public Set<FindingType> getProducedFindings() {
+        return Set.of(FindingType.MESSAGE_FLOWS);
+    }
+
     @Override
     public boolean appliesTo(ScanContext context) {
         return hasAnyFiles(context, FILE_PATTERN_NESTED, FILE_PATTERN_ROOT);
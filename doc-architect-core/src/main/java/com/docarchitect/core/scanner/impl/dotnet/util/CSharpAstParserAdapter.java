@@ -22,6 +22,11 @@ public class CSharpAstParserAdapter implements AstParser<DotNetAst.CSharpClass>
         return CSharpAstParser.parseFile(filePath);
     }
 
+    @Override
+    public List<DotNetAst.CSharpClass> parse(Path filePath, String sourceCode) {
+        return CSharpAstParser.parseSource(sourceCode);
+    }
+
     @Override
     public boolean isAvailable() {
         return true; // Always available with regex fallback
@@ -13,9 +13,11 @@ import java.util.regex.Pattern;
 
 import com.docarchitect.core.model.ApiEndpoint;
 import com.docarchitect.core.model.ApiType;
+import com.docarchitect.core.scanner.FindingType;
 import com.docarchitect.core.scanner.ScanContext;
 import com.docarchitect.core.scanner.ScanResult;
 import com.docarchitect.core.scanner.base.AbstractRegexScanner;
+import com.docarchitect.core.scanner.base.MultiPatternMatcher;
 import com.docarchitect.core.util.Technologies;
 
 /**
@@ -109,6 +111,10 @@ public class GoHttpRouterScanner extends AbstractRegexScanner {
     private static final String FIBER_IMPORT = "github.com/gofiber/fiber";
     private static final String NET_HTTP_IMPORT = "net/http";
 
+    private static final Set<String> ROUTER_TRIGGER_TOKENS = Set.of(
+        GIN_IMPORT, ECHO_IMPORT, CHI_IMPORT, MUX_IMPORT, FIBER_IMPORT, NET_HTTP_IMPORT
+    );
+
     /**
      * Gin route pattern: r.GET("/users/:id", getUser).
      * Captures: (1) router variable, (2) path, (3) handler.
@@ -173,6 +179,36 @@ public class GoHttpRouterScanner extends AbstractRegexScanner {
         "(\\w+)\\.Route\\(\"([^\"]+)\",\\s*func"
     );
 
+    /**
+     * Package declaration: package handlers.
+     * Captures: (1) package name.
+     */
+    private static final Pattern PACKAGE_PATTERN = Pattern.compile("^package\\s+(\\w+)", Pattern.MULTILINE);
+
+    private static final String GROUP_ASSIGNMENT_ID = "group";
+    private static final String CHI_ROUTE_GROUP_ID = "chiGroup";
+    private static final String GIN_ROUTE_ID = "gin";
+    private static final String ECHO_ROUTE_ID = "echo";
+    private static final String CHI_ROUTE_ID = "chi";
+    private static final String MUX_ROUTE_ID = "mux";
+    private static final String FIBER_ROUTE_ID = "fiber";
+    private static final String NET_HTTP_ROUTE_ID = "netHttp";
+
+    /**
+     * All group and route patterns. Route patterns only run on files importing their framework;
+     * Gin/Echo and Chi/Fiber share a call syntax, so each of those regexes runs once per file.
+     */
+    private static final MultiPatternMatcher ROUTE_PATTERNS = MultiPatternMatcher.builder()
+        .add(GROUP_ASSIGNMENT_ID, GROUP_ASSIGNMENT)
+        .add(CHI_ROUTE_GROUP_ID, CHI_ROUTE_GROUP)
+        .add(GIN_ROUTE_ID, GIN_ROUTE, GIN_IMPORT)
+        .add(ECHO_ROUTE_ID, ECHO_ROUTE, ECHO_IMPORT)
+        .add(CHI_ROUTE_ID, CHI_ROUTE, CHI_IMPORT)
+        .add(MUX_ROUTE_ID, MUX_ROUTE, MUX_IMPORT)
+        .add(FIBER_ROUTE_ID, FIBER_ROUTE, FIBER_IMPORT)
+        .add(NET_HTTP_ROUTE_ID, NET_HTTP_ROUTE, NET_HTTP_IMPORT, "HandleFunc")
+        .build();
+
     @Override
     public String getId() {
         return SCANNER_ID;
@@ -198,6 +234,11 @@ public class GoHttpRouterScanner extends AbstractRegexScanner {
         return PRIORITY;
     }
 
+    @Override
+    public Set<FindingType> getProducedFindings() {
+        return Set.of(FindingType.API_ENDPOINTS);
+    }
+
     @Override
     public boolean appliesTo(ScanContext context) {
         return hasAnyFiles(context, GO_FILE_PATTERNS.toArray(new String[0]));
@@ -213,6 +254,11 @@ public class GoHttpRouterScanner extends AbstractRegexScanner {
      * @return true if file contains HTTP framework imports, false otherwise
      */
     protected boolean shouldScanFile(Path file) {
+        // Cheap byte-level check before the file is decoded
+        if (!containsTriggerToken(file)) {
+            return false;
+        }
+
         try {
             String content = readFileContent(file);
 
@@ -236,6 +282,11 @@ public class GoHttpRouterScanner extends AbstractRegexScanner {
         }
     }
 
+    @Override
+    protected Set<String> getTriggerTokens() {
+        return ROUTER_TRIGGER_TOKENS;
+    }
+
     @Override
     public ScanResult scan(ScanContext context) {
         log.info("Scanning Go HTTP routes in: {}", context.rootPath());
@@ -295,19 +346,25 @@ public class GoHttpRouterScanner extends AbstractRegexScanner {
         String content = readFileContent(goFile);
         String componentId = extractComponentId(goFile, content);
 
+        // Match all route and group patterns in one pass, then process them per pattern
+        Map<String, List<MultiPatternMatcher.Match>> matchesByPattern = new HashMap<>();
+        for (MultiPatternMatcher.Match match : ROUTE_PATTERNS.matchContent(content)) {
+            matchesByPattern.computeIfAbsent(match.patternId(), id -> new ArrayList<>()).add(match);
+        }
+
         // Track route group prefixes (variable name -> prefix)
         Map<String, String> groupPrefixes = new HashMap<>();
 
         // Extract route groups first
-        extractRouteGroups(content, groupPrefixes);
+        extractRouteGroups(matchesByPattern, groupPrefixes);
 
         // Extract routes from each framework
-        extractGinRoutes(content, componentId, apiEndpoints, groupPrefixes);
-        extractEchoRoutes(content, componentId, apiEndpoints, groupPrefixes);
-        extractChiRoutes(content, componentId, apiEndpoints, groupPrefixes);
-        extractMuxRoutes(content, componentId, apiEndpoints, groupPrefixes);
-        extractFiberRoutes(content, componentId, apiEndpoints, groupPrefixes);
-        extractNetHttpRoutes(content, componentId, apiEndpoints);
+        extractGinRoutes(matchesByPattern.getOrDefault(GIN_ROUTE_ID, List.of()), componentId, apiEndpoints, groupPrefixes);
+        extractEchoRoutes(matchesByPattern.getOrDefault(ECHO_ROUTE_ID, List.of()), componentId, apiEndpoints, groupPrefixes);
+        extractChiRoutes(matchesByPattern.getOrDefault(CHI_ROUTE_ID, List.of()), componentId, apiEndpoints, groupPrefixes);
+        extractMuxRoutes(matchesByPattern.getOrDefault(MUX_ROUTE_ID, List.of()), componentId, apiEndpoints, groupPrefixes);
+        extractFiberRoutes(matchesByPattern.getOrDefault(FIBER_ROUTE_ID, List.of()), componentId, apiEndpoints, groupPrefixes);
+        extractNetHttpRoutes(matchesByPattern.getOrDefault(NET_HTTP_ROUTE_ID, List.of()), componentId, apiEndpoints);
     }
 
     /**
@@ -319,8 +376,7 @@ public class GoHttpRouterScanner extends AbstractRegexScanner {
      */
     private String extractComponentId(Path goFile, String content) {
         // Extract package name from Go file
-        Pattern packagePattern = Pattern.compile("^package\\s+(\\w+)", Pattern.MULTILINE);
-        Matcher matcher = packagePattern.matcher(content);
+        Matcher matcher = PACKAGE_PATTERN.matcher(content);
 
         if (matcher.find()) {
             return matcher.group(1);
@@ -333,16 +389,16 @@ public class GoHttpRouterScanner extends AbstractRegexScanner {
     /**
      * Extracts route group definitions and stores their prefixes.
      *
-     * @param content file content
+     * @param matchesByPattern matches of the file, by pattern id
      * @param groupPrefixes map to store group variable -> prefix mappings
      */
-    private void extractRouteGroups(String content, Map<String, String> groupPrefixes) {
+    private void extractRouteGroups(Map<String, List<MultiPatternMatcher.Match>> matchesByPattern,
+                                    Map<String, String> groupPrefixes) {
         // Extract standard group assignments: v1 := r.Group("/api/v1")
-        Matcher groupMatcher = GROUP_ASSIGNMENT.matcher(content);
-        while (groupMatcher.find()) {
-            String groupVar = groupMatcher.group(1);
-            String parentVar = groupMatcher.group(2);
-            String prefix = groupMatcher.group(3);
+        for (MultiPatternMatcher.Match groupMatch : matchesByPattern.getOrDefault(GROUP_ASSIGNMENT_ID, List.of())) {
+            String groupVar = groupMatch.group(1);
+            String parentVar = groupMatch.group(2);
+            String prefix = groupMatch.group(3);
 
             // If parent has a prefix, concatenate them
             String parentPrefix = groupPrefixes.getOrDefault(parentVar, "");
@@ -353,10 +409,9 @@ public class GoHttpRouterScanner extends AbstractRegexScanner {
         }
 
         // Extract Chi-style Route groups: r.Route("/api", func(r chi.Router) { ... })
-        Matcher chiRouteMatcher = CHI_ROUTE_GROUP.matcher(content);
-        while (chiRouteMatcher.find()) {
-            String routerVar = chiRouteMatcher.group(1);
-            String prefix = chiRouteMatcher.group(2);
+        for (MultiPatternMatcher.Match chiRouteMatch : matchesByPattern.getOrDefault(CHI_ROUTE_GROUP_ID, List.of())) {
+            String routerVar = chiRouteMatch.group(1);
+            String prefix = chiRouteMatch.group(2);
 
             // Store the prefix for this router (Chi reuses variable names in nested scopes)
             groupPrefixes.put(routerVar + "_route", prefix);
@@ -367,18 +422,13 @@ public class GoHttpRouterScanner extends AbstractRegexScanner {
     /**
      * Extracts Gin framework routes.
      */
-    private void extractGinRoutes(String content, String componentId, List<ApiEndpoint> apiEndpoints,
+    private void extractGinRoutes(List<MultiPatternMatcher.Match> matches, String componentId, List<ApiEndpoint> apiEndpoints,
                                    Map<String, String> groupPrefixes) {
-        if (!content.contains(GIN_IMPORT)) {
-            return;
-        }
-
-        Matcher matcher = GIN_ROUTE.matcher(content);
-        while (matcher.find()) {
-            String routerVar = matcher.group(1);
-            String method = matcher.group(2);
-            String path = matcher.group(3);
-            String handler = matcher.group(4);
+        for (MultiPatternMatcher.Match match : matches) {
+            String routerVar = match.group(1);
+            String method = match.group(2);
+            String path = match.group(3);
+            String handler = match.group(4);
 
             // Apply group prefix if router is a group
             String prefix = groupPrefixes.getOrDefault(routerVar, "");
@@ -402,18 +452,13 @@ public class GoHttpRouterScanner extends AbstractRegexScanner {
     /**
      * Extracts Echo framework routes.
      */
-    private void extractEchoRoutes(String content, String componentId, List<ApiEndpoint> apiEndpoints,
+    private void extractEchoRoutes(List<MultiPatternMatcher.Match> matches, String componentId, List<ApiEndpoint> apiEndpoints,
                                     Map<String, String> groupPrefixes) {
-        if (!content.contains(ECHO_IMPORT)) {
-            return;
-        }
-
-        Matcher matcher = ECHO_ROUTE.matcher(content);
-        while (matcher.find()) {
-            String routerVar = matcher.group(1);
-            String method = matcher.group(2);
-            String path = matcher.group(3);
-            String handler = matcher.group(4);
+        for (MultiPatternMatcher.Match match : matches) {
+            String routerVar = match.group(1);
+            String method = match.group(2);
+            String path = match.group(3);
+            String handler = match.group(4);
 
             String prefix = groupPrefixes.getOrDefault(routerVar, "");
             String fullPath = combinePaths(prefix, path);
@@ -436,18 +481,13 @@ public class GoHttpRouterScanner extends AbstractRegexScanner {
     /**
      * Extracts Chi framework routes.
      */
-    private void extractChiRoutes(String content, String componentId, List<ApiEndpoint> apiEndpoints,
+    private void extractChiRoutes(List<MultiPatternMatcher.Match> matches, String componentId, List<ApiEndpoint> apiEndpoints,
                                    Map<String, String> groupPrefixes) {
-        if (!content.contains(CHI_IMPORT)) {
-            return;
-        }
-
-        Matcher matcher = CHI_ROUTE.matcher(content);
-        while (matcher.find()) {
-            String routerVar = matcher.group(1);
-            String method = matcher.group(2).toUpperCase(); // Chi uses capitalized methods
-            String path = matcher.group(3);
-            String handler = matcher.group(4);
+        for (MultiPatternMatcher.Match match : matches) {
+            String routerVar = match.group(1);
+            String method = match.group(2).toUpperCase(); // Chi uses capitalized methods
+            String path = match.group(3);
+            String handler = match.group(4);
 
             // Check both direct prefix and Chi route group prefix
             String prefix = groupPrefixes.getOrDefault(routerVar,
@@ -472,18 +512,13 @@ public class GoHttpRouterScanner extends AbstractRegexScanner {
     /**
      * Extracts Gorilla Mux framework routes.
      */
-    private void extractMuxRoutes(String content, String componentId, List<ApiEndpoint> apiEndpoints,
+    private void extractMuxRoutes(List<MultiPatternMatcher.Match> matches, String componentId, List<ApiEndpoint> apiEndpoints,
                                    Map<String, String> groupPrefixes) {
-        if (!content.contains(MUX_IMPORT)) {
-            return;
-        }
-
-        Matcher matcher = MUX_ROUTE.matcher(content);
-        while (matcher.find()) {
-            String routerVar = matcher.group(1);
-            String path = matcher.group(2);
-            String handler = matcher.group(3);
-            String method = matcher.group(4);
+        for (MultiPatternMatcher.Match match : matches) {
+            String routerVar = match.group(1);
+            String path = match.group(2);
+            String handler = match.group(3);
+            String method = match.group(4);
 
             String prefix = groupPrefixes.getOrDefault(routerVar, "");
             String fullPath = combinePaths(prefix, path);
@@ -506,18 +541,13 @@ public class GoHttpRouterScanner extends AbstractRegexScanner {
     /**
      * Extracts Fiber framework routes.
      */
-    private void extractFiberRoutes(String content, String componentId, List<ApiEndpoint> apiEndpoints,
+    private void extractFiberRoutes(List<MultiPatternMatcher.Match> matches, String componentId, List<ApiEndpoint> apiEndpoints,
                                      Map<String, String> groupPrefixes) {
-        if (!content.contains(FIBER_IMPORT)) {
-            return;
-        }
-
-        Matcher matcher = FIBER_ROUTE.matcher(content);
-        while (matcher.find()) {
-            String appVar = matcher.group(1);
-            String method = matcher.group(2).toUpperCase();
-            String path = matcher.group(3);
-            String handler = matcher.group(4);
+        for (MultiPatternMatcher.Match match : matches) {
+            String appVar = match.group(1);
+            String method = match.group(2).toUpperCase();
+            String path = match.group(3);
+            String handler = match.group(4);
 
             String prefix = groupPrefixes.getOrDefault(appVar, "");
             String fullPath = combinePaths(prefix, path);
@@ -540,15 +570,10 @@ public class GoHttpRouterScanner extends AbstractRegexScanner {
     /**
      * Extracts net/http standard library routes.
      */
-    private void extractNetHttpRoutes(String content, String componentId, List<ApiEndpoint> apiEndpoints) {
-        if (!content.contains(NET_HTTP_IMPORT) || !content.contains("HandleFunc")) {
-            return;
-        }
-
-        Matcher matcher = NET_HTTP_ROUTE.matcher(content);
-        while (matcher.find()) {
-            String path = matcher.group(1);
-            String handler = matcher.group(2);
+    private void extractNetHttpRoutes(List<MultiPatternMatcher.Match> matches, String componentId, List<ApiEndpoint> apiEndpoints) {
+        for (MultiPatternMatcher.Match match : matches) {
+            String path = match.group(1);
+            String handler = match.group(2);
 
             ApiEndpoint endpoint = new ApiEndpoint(
                 componentId,
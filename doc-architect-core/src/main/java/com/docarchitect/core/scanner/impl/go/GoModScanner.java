@@ -14,6 +14,7 @@ import java.util.regex.Pattern;
 import com.docarchitect.core.model.Component;
 import com.docarchitect.core.model.ComponentType;
 import com.docarchitect.core.model.Dependency;
+import com.docarchitect.core.scanner.FindingType;
 import com.docarchitect.core.scanner.ScanContext;
 import com.docarchitect.core.scanner.ScanResult;
 import com.docarchitect.core.scanner.base.AbstractRegexScanner;
@@ -162,6 +163,11 @@ public class GoModScanner extends AbstractRegexScanner {
         return PRIORITY;
     }
 
+    @Override
+    public Set<FindingType> getProducedFindings() {
+        return Set.of(FindingType.COMPONENTS, FindingType.DEPENDENCIES);
+    }
+
     @Override
     public boolean appliesTo(ScanContext context) {
         return hasAnyFiles(context, GO_MOD_PATTERNS.toArray(new String[0]));
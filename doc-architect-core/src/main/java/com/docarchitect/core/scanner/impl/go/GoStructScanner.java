@@ -10,6 +10,7 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import com.docarchitect.core.model.DataEntity;
+import com.docarchitect.core.scanner.FindingType;
 import com.docarchitect.core.scanner.ScanContext;
 import com.docarchitect.core.scanner.ScanResult;
 import com.docarchitect.core.scanner.base.AbstractRegexScanner;
@@ -110,6 +111,10 @@ public class GoStructScanner extends AbstractRegexScanner {
     private static final String SQL_TAG_MARKER = "`sql:";
     private static final String GORM_MODEL_EMBED = "gorm.Model";
 
+    private static final Set<String> ORM_TRIGGER_TOKENS = Set.of(
+        XORM_TAG_MARKER, GORM_TAG_MARKER, DB_TAG_MARKER, SQL_TAG_MARKER, GORM_MODEL_EMBED
+    );
+
     /**
      * Struct definition pattern (multi-line).
      * Captures: (1) struct name, (2) struct body.
@@ -213,41 +218,27 @@ public class GoStructScanner extends AbstractRegexScanner {
         return PRIORITY;
     }
 
+    @Override
+    public Set<FindingType> getProducedFindings() {
+        return Set.of(FindingType.DATA_ENTITIES);
+    }
+
     @Override
     public boolean appliesTo(ScanContext context) {
         return hasAnyFiles(context, GO_FILE_PATTERNS.toArray(new String[0]));
     }
 
     /**
-     * Pre-filter files to only scan those containing ORM struct tags.
+     * Pre-filter tokens: files without ORM struct tags or an embedded GORM model are skipped.
      *
      * <p>This avoids scanning Go files that don't contain database models,
      * reducing unnecessary processing and improving performance.
      *
-     * @param file path to Go source file
-     * @return true if file contains ORM struct tags, false otherwise
+     * @return ORM markers, at least one of which a file must contain
      */
-    protected boolean shouldScanFile(Path file) {
-        try {
-            String content = readFileContent(file);
-
-            // Check for ORM tags or embedded GORM model
-            boolean hasOrmTags =
-                content.contains(XORM_TAG_MARKER) ||
-                content.contains(GORM_TAG_MARKER) ||
-                content.contains(DB_TAG_MARKER) ||
-                content.contains(SQL_TAG_MARKER) ||
-                content.contains(GORM_MODEL_EMBED);
-
-            if (hasOrmTags) {
-                log.debug("Including file with ORM struct tags: {}", file.getFileName());
-            }
-
-            return hasOrmTags;
-        } catch (IOException e) {
-            log.debug("Failed to read file for pre-filtering: {}", file);
-            return false;
-        }
+    @Override
+    protected Set<String> getTriggerTokens() {
+        return ORM_TRIGGER_TOKENS;
     }
 
     @Override
@@ -269,7 +260,7 @@ public class GoStructScanner extends AbstractRegexScanner {
 
         for (Path goFile : goFiles) {
             // Pre-filter files before attempting to parse
-            if (!shouldScanFile(goFile)) {
+            if (!containsTriggerToken(goFile)) {
                 skippedFiles++;
                 continue;
             }
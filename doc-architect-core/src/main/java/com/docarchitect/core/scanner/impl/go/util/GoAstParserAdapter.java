@@ -23,6 +23,11 @@ public class GoAstParserAdapter implements AstParser<GoAst.GoStruct> {
         return GoAstParser.parseFile(filePath);
     }
 
+    @Override
+    public List<GoAst.GoStruct> parse(Path filePath, String sourceCode) {
+        return GoAstParser.parseSource(sourceCode);
+    }
+
     @Override
     public boolean isAvailable() {
         return true; // Always available with regex fallback
@@ -13,6 +13,7 @@ import java.util.regex.Pattern;
 import com.docarchitect.core.model.Component;
 import com.docarchitect.core.model.ComponentType;
 import com.docarchitect.core.model.Dependency;
+import com.docarchitect.core.scanner.FindingType;
 import com.docarchitect.core.scanner.ScanContext;
 import com.docarchitect.core.scanner.ScanResult;
 import com.docarchitect.core.scanner.base.AbstractRegexScanner;
@@ -131,6 +132,11 @@ public class GradleDependencyScanner extends AbstractRegexScanner {
         return PRIORITY;
     }
 
+    @Override
+    public Set<FindingType> getProducedFindings() {
+        return Set.of(FindingType.COMPONENTS, FindingType.DEPENDENCIES);
+    }
+
     @Override
     public boolean appliesTo(ScanContext context) {
         return hasAnyFiles(context, BUILD_GRADLE_GROOVY_PATTERN, BUILD_GRADLE_KTS_PATTERN);
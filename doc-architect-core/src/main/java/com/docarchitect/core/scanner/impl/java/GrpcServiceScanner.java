@@ -1,16 +1,17 @@
 package com.docarchitect.core.scanner.impl.java;
 
-import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import com.docarchitect.core.model.ApiEndpoint;
 import com.docarchitect.core.model.ApiType;
+import com.docarchitect.core.scanner.FindingType;
 import com.docarchitect.core.scanner.ScanContext;
 import com.docarchitect.core.scanner.ScanResult;
 import com.docarchitect.core.scanner.ScanStatistics;
@@ -62,6 +63,15 @@ public class GrpcServiceScanner extends AbstractJavaParserScanner {
     private static final String FILE_PATTERN = "**/*.java";
     private static final int SCANNER_PRIORITY = 55;
 
+    // Pre-filter tokens for files not matched by their name
+    private static final Set<String> GRPC_TRIGGER_TOKENS = Set.of(
+        "@GrpcService",
+        "ImplBase",
+        "io.grpc.",
+        "StreamObserver",
+        "BindableService"
+    );
+
     private static final String GRPC_SERVICE_ANNOTATION = "GrpcService";
     private static final String GRPC_BASE_SUFFIX = "ImplBase";
     private static final String OVERRIDE_ANNOTATION = "Override";
@@ -98,6 +108,11 @@ public class GrpcServiceScanner extends AbstractJavaParserScanner {
         return SCANNER_PRIORITY;
     }
 
+    @Override
+    public Set<FindingType> getProducedFindings() {
+        return Set.of(FindingType.API_ENDPOINTS);
+    }
+
     @Override
     public boolean appliesTo(ScanContext context) {
         return hasAnyFiles(context, FILE_PATTERN);
@@ -112,17 +127,12 @@ public class GrpcServiceScanner extends AbstractJavaParserScanner {
             return true;
         }
 
-        try {
-            String content = readFileContent(file);
-            return content.contains("@GrpcService") ||
-                   content.contains("ImplBase") ||
-                   content.contains("io.grpc.") ||
-                   content.contains("StreamObserver") ||
-                   content.contains("BindableService");
-        } catch (IOException e) {
-            log.debug("Failed to read file for pre-filtering: {}", file);
-            return false;
-        }
+        return containsTriggerToken(file);
+    }
+
+    @Override
+    protected Set<String> getTriggerTokens() {
+        return GRPC_TRIGGER_TOKENS;
     }
 
     @Override
@@ -139,31 +149,31 @@ public class GrpcServiceScanner extends AbstractJavaParserScanner {
             return emptyResult();
         }
 
-        int skippedCount = 0;
+        AtomicInteger skippedCount = new AtomicInteger();
 
-        for (Path javaFile : javaFiles) {
+        apiEndpoints.addAll(processFiles(context, javaFiles, statsBuilder, (javaFile, fileStats) -> {
             if (!shouldScanFile(javaFile)) {
-                skippedCount++;
-                continue;
+                skippedCount.incrementAndGet();
+                return List.of();
             }
 
-            statsBuilder.incrementFilesScanned();
+            fileStats.incrementFilesScanned();
 
             FileParseResult<ApiEndpoint> result = parseWithFallback(
+                context,
                 javaFile,
+                ApiEndpoint.class,
                 cu -> extractApiEndpointsFromAST(cu),
                 createFallbackStrategy(),
-                statsBuilder
+                fileStats
             );
 
-            if (result.isSuccess()) {
-                apiEndpoints.addAll(result.getData());
-            }
-        }
+            return result.isSuccess() ? result.getData() : List.of();
+        }));
 
         ScanStatistics statistics = statsBuilder.build();
         log.info("Found {} gRPC service endpoints (success rate: {:.1f}%, overall parse rate: {:.1f}%, skipped {} files)",
-                 apiEndpoints.size(), statistics.getSuccessRate(), statistics.getOverallParseRate(), skippedCount);
+                 apiEndpoints.size(), statistics.getSuccessRate(), statistics.getOverallParseRate(), skippedCount.get());
 
         return buildSuccessResult(
             List.of(),
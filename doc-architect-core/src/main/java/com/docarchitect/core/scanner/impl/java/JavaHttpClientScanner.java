@@ -2,6 +2,7 @@ package com.docarchitect.core.scanner.impl.java;
 
 import com.docarchitect.core.model.Relationship;
 import com.docarchitect.core.model.RelationshipType;
+import com.docarchitect.core.scanner.FindingType;
 import com.docarchitect.core.scanner.ScanContext;
 import com.docarchitect.core.scanner.ScanResult;
 import com.docarchitect.core.scanner.ScanStatistics;
@@ -22,6 +23,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -70,6 +72,20 @@ public class JavaHttpClientScanner extends AbstractJavaParserScanner {
     private static final String JAVA_FILE_PATTERN = "**/*.java";
     private static final int DEFAULT_PRIORITY = 60;
 
+    // Pre-filter tokens: Feign, RestTemplate, WebClient and plain URLs (could be string templates)
+    private static final Set<String> HTTP_CLIENT_TRIGGER_TOKENS = Set.of(
+        "FeignClient",
+        "org.springframework.cloud.openfeign",
+        "RestTemplate",
+        "getForObject",
+        "postForObject",
+        "exchange(",
+        "WebClient",
+        "org.springframework.web.reactive.function.client",
+        "http://",
+        "https://"
+    );
+
     private static final String FEIGN_CLIENT_ANNOTATION = "FeignClient";
     private static final String NAME_ATTRIBUTE = "name";
     private static final String VALUE_ATTRIBUTE = "value";
@@ -133,6 +149,11 @@ public class JavaHttpClientScanner extends AbstractJavaParserScanner {
         return DEFAULT_PRIORITY;
     }
 
+    @Override
+    public Set<FindingType> getProducedFindings() {
+        return Set.of(FindingType.RELATIONSHIPS);
+    }
+
     @Override
     public boolean appliesTo(ScanContext context) {
         return hasAnyFiles(context, JAVA_FILE_PATTERN);
@@ -152,56 +173,11 @@ public class JavaHttpClientScanner extends AbstractJavaParserScanner {
      *   <li>Generic HTTP patterns: http://, https:// URLs in string literals</li>
      * </ol>
      *
-     * @param file path to Java source file
-     * @return true if file contains HTTP client patterns, false otherwise
+     * @return HTTP client patterns, at least one of which a file must contain
      */
     @Override
-    protected boolean shouldScanFile(Path file) {
-        try {
-            String content = readFileContent(file);
-
-            // Check for Feign imports and annotations
-            boolean hasFeignPatterns =
-                content.contains("FeignClient") ||
-                content.contains("org.springframework.cloud.openfeign");
-
-            // Check for RestTemplate usage
-            boolean hasRestTemplatePatterns =
-                content.contains("RestTemplate") ||
-                content.contains("getForObject") ||
-                content.contains("postForObject") ||
-                content.contains("exchange(");
-
-            // Check for WebClient usage
-            boolean hasWebClientPatterns =
-                content.contains("WebClient") ||
-                content.contains("org.springframework.web.reactive.function.client");
-
-            // Check for HTTP URLs (basic heuristic)
-            boolean hasHttpUrls =
-                content.contains("http://") || content.contains("https://");
-
-            boolean hasHttpClientPatterns =
-                hasFeignPatterns || hasRestTemplatePatterns || hasWebClientPatterns;
-
-            if (hasHttpClientPatterns) {
-                log.debug("Including file with HTTP client patterns: {} (feign={}, restTemplate={}, webClient={})",
-                    file.getFileName(), hasFeignPatterns, hasRestTemplatePatterns, hasWebClientPatterns);
-                return true;
-            }
-
-            // If no specific patterns but has HTTP URLs, still scan (could be string templates)
-            if (hasHttpUrls) {
-                log.trace("Including file with HTTP URLs: {}", file.getFileName());
-                return true;
-            }
-
-            log.trace("Skipping file without HTTP client patterns: {}", file.getFileName());
-            return false;
-        } catch (IOException e) {
-            log.debug("Failed to read file for pre-filtering: {}", file);
-            return false;
-        }
+    protected Set<String> getTriggerTokens() {
+        return HTTP_CLIENT_TRIGGER_TOKENS;
     }
 
     @Override
@@ -209,7 +185,6 @@ public class JavaHttpClientScanner extends AbstractJavaParserScanner {
         log.info("Scanning Java HTTP client relationships in: {}", context.rootPath());
 
         List<Relationship> relationships = new ArrayList<>();
-        Set<String> processedRelationships = new HashSet<>();
         ScanStatistics.Builder statsBuilder = new ScanStatistics.Builder();
 
         // Find all Java files
@@ -221,31 +196,38 @@ public class JavaHttpClientScanner extends AbstractJavaParserScanner {
             return emptyResult();
         }
 
-        int skippedFiles = 0;
+        AtomicInteger skippedFiles = new AtomicInteger();
 
-        for (Path javaFile : javaFiles) {
+        relationships.addAll(processFiles(context, javaFiles, statsBuilder, (javaFile, fileStats) -> {
             // Pre-filter files before attempting to parse
             if (!shouldScanFile(javaFile)) {
-                skippedFiles++;
-                continue;
+                skippedFiles.incrementAndGet();
+                return List.of();
             }
 
-            statsBuilder.incrementFilesScanned();
+            // Files may be parsed concurrently, so deduplication state is per file
+            Set<String> processedRelationships = new HashSet<>();
+            fileStats.incrementFilesScanned();
 
             // Use three-tier parsing with fallback
             FileParseResult<Relationship> result = parseWithFallback(
+                context,
                 javaFile,
+                Relationship.class,
                 cu -> extractRelationshipsFromAST(cu, processedRelationships),
                 createFallbackStrategy(processedRelationships),
-                statsBuilder
+                fileStats
             );
 
-            if (result.isSuccess()) {
-                relationships.addAll(result.getData());
-            }
-        }
+            return result.isSuccess() ? result.getData() : List.of();
+        }));
+
+        // Keep the first relationship per key, in file order (same key as addRelationship)
+        Set<String> processedRelationships = new HashSet<>();
+        relationships.removeIf(relationship -> !processedRelationships.add(
+            relationship.sourceId() + "->" + relationship.targetId() + ":" + relationship.technology()));
 
-        log.debug("Pre-filtered {} files (not HTTP client code)", skippedFiles);
+        log.debug("Pre-filtered {} files (not HTTP client code)", skippedFiles.get());
 
         ScanStatistics statistics = statsBuilder.build();
         log.info("Found {} HTTP client relationships (success rate: {:.1f}%, overall parse rate: {:.1f}%)",
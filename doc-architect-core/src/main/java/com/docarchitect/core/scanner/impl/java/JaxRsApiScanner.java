@@ -6,6 +6,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -13,6 +14,7 @@ import com.docarchitect.core.model.ApiEndpoint;
 import com.docarchitect.core.model.ApiType;
 import com.docarchitect.core.model.Component;
 import com.docarchitect.core.scanner.ApplicabilityStrategies;
+import com.docarchitect.core.scanner.FindingType;
 import com.docarchitect.core.scanner.ScanContext;
 import com.docarchitect.core.scanner.ScanResult;
 import com.docarchitect.core.scanner.ScanStatistics;
@@ -93,6 +95,23 @@ public class JaxRsApiScanner extends AbstractJavaParserScanner {
 
     private static final String SCANNER_ID = "jaxrs-api";
     private static final String DISPLAY_NAME = "JAX-RS API Scanner";
+
+    // Pre-filter tokens: every JAX-RS pattern below requires at least one of them
+    private static final Set<String> JAX_RS_TRIGGER_TOKENS = Set.of(
+        "jakarta",
+        "javax",
+        "@Path",
+        "@GET",
+        "@POST",
+        "@PUT",
+        "@DELETE",
+        "@PATCH",
+        "@Produces",
+        "@Consumes",
+        "Response",
+        "MediaType",
+        "UriInfo"
+    );
     private static final String JAVA_FILE_PATTERN = "**/*.java";
     private static final int DEFAULT_PRIORITY = 50;
 
@@ -162,6 +181,11 @@ public class JaxRsApiScanner extends AbstractJavaParserScanner {
         return DEFAULT_PRIORITY;
     }
 
+    @Override
+    public Set<FindingType> getProducedFindings() {
+        return Set.of(FindingType.API_ENDPOINTS);
+    }
+
     @Override
     public ScannerApplicabilityStrategy getApplicabilityStrategy() {
         return ApplicabilityStrategies.hasJavaFiles()
@@ -199,6 +223,11 @@ public class JaxRsApiScanner extends AbstractJavaParserScanner {
             return true;
         }
 
+        // Cheap byte-level check before the file is decoded
+        if (!containsTriggerToken(file)) {
+            return false;
+        }
+
         // Skip test files unless they contain JAX-RS patterns
         String filePath = file.toString();
         boolean isTestFile = filePath.contains("/test/") || filePath.contains("\\test\\");
@@ -251,6 +280,11 @@ public class JaxRsApiScanner extends AbstractJavaParserScanner {
         }
     }
 
+    @Override
+    protected Set<String> getTriggerTokens() {
+        return JAX_RS_TRIGGER_TOKENS;
+    }
+
     @Override
     public ScanResult scan(ScanContext context) {
         log.info("Scanning JAX-RS APIs in: {}", context.rootPath());
@@ -267,30 +301,30 @@ public class JaxRsApiScanner extends AbstractJavaParserScanner {
             return emptyResult();
         }
 
-        int skippedFiles = 0;
-        for (Path javaFile : javaFiles) {
+        AtomicInteger skippedFiles = new AtomicInteger();
+        apiEndpoints.addAll(processFiles(context, javaFiles, statsBuilder, (javaFile, fileStats) -> {
             // Pre-filter files before attempting to parse
             if (!shouldScanFile(javaFile)) {
-                skippedFiles++;
-                continue;
+                skippedFiles.incrementAndGet();
+                return List.of();
             }
 
-            statsBuilder.incrementFilesScanned();
+            fileStats.incrementFilesScanned();
 
             // Use three-tier parsing with fallback
             FileParseResult<ApiEndpoint> result = parseWithFallback(
+                context,
                 javaFile,
+                ApiEndpoint.class,
                 cu -> extractEndpointsFromAST(cu),
                 createFallbackStrategy(),
-                statsBuilder
+                fileStats
             );
 
-            if (result.isSuccess()) {
-                apiEndpoints.addAll(result.getData());
-            }
-        }
+            return result.isSuccess() ? result.getData() : List.of();
+        }));
 
-        log.debug("Pre-filtered {} files (not JAX-RS resources)", skippedFiles);
+        log.debug("Pre-filtered {} files (not JAX-RS resources)", skippedFiles.get());
 
         ScanStatistics statistics = statsBuilder.build();
         log.info("Found {} JAX-RS API endpoints (success rate: {:.1f}%, overall parse rate: {:.1f}%)",
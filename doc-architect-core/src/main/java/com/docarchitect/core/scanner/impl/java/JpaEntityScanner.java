@@ -13,6 +13,7 @@ import com.docarchitect.core.model.DataEntity;
 import com.docarchitect.core.model.Relationship;
 import com.docarchitect.core.model.RelationshipType;
 import com.docarchitect.core.scanner.ApplicabilityStrategies;
+import com.docarchitect.core.scanner.FindingType;
 import com.docarchitect.core.scanner.ScanContext;
 import com.docarchitect.core.scanner.ScanResult;
 import com.docarchitect.core.scanner.ScanStatistics;
@@ -102,6 +103,11 @@ public class JpaEntityScanner extends AbstractJavaParserScanner {
         return SCANNER_PRIORITY;
     }
 
+    @Override
+    public Set<FindingType> getProducedFindings() {
+        return Set.of(FindingType.DATA_ENTITIES, FindingType.RELATIONSHIPS);
+    }
+
     @Override
     public ScannerApplicabilityStrategy getApplicabilityStrategy() {
         return ApplicabilityStrategies.hasJavaFiles()
@@ -129,23 +135,25 @@ public class JpaEntityScanner extends AbstractJavaParserScanner {
             return emptyResult();
         }
 
-        for (Path javaFile : javaFiles) {
-            statsBuilder.incrementFilesScanned();
+        List<EntityResult> entityResults = processFiles(context, javaFiles, statsBuilder, (javaFile, fileStats) -> {
+            fileStats.incrementFilesScanned();
 
             // Use three-tier parsing with fallback
             FileParseResult<EntityResult> result = parseWithFallback(
+                context,
                 javaFile,
+                EntityResult.class,
                 cu -> extractEntitiesFromAST(cu),
                 createFallbackStrategy(),
-                statsBuilder
+                fileStats
             );
 
-            if (result.isSuccess()) {
-                for (EntityResult entityResult : result.getData()) {
-                    dataEntities.add(entityResult.entity());
-                    relationships.addAll(entityResult.relationships());
-                }
-            }
+            return result.isSuccess() ? result.getData() : List.of();
+        });
+
+        for (EntityResult entityResult : entityResults) {
+            dataEntities.add(entityResult.entity());
+            relationships.addAll(entityResult.relationships());
         }
 
         ScanStatistics statistics = statsBuilder.build();
@@ -7,11 +7,13 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import com.docarchitect.core.model.MessageFlow;
 import com.docarchitect.core.scanner.ApplicabilityStrategies;
+import com.docarchitect.core.scanner.FindingType;
 import com.docarchitect.core.scanner.ScanContext;
 import com.docarchitect.core.scanner.ScanResult;
 import com.docarchitect.core.scanner.ScanStatistics;
@@ -44,6 +46,16 @@ public class KafkaScanner extends AbstractJavaParserScanner {
     private static final String FILE_PATTERN = "**/*.java";
     private static final int SCANNER_PRIORITY = 70;
     private static final String TECHNOLOGY = "kafka";
+
+    // Pre-filter tokens: Kafka imports, annotations and classes
+    private static final Set<String> KAFKA_TRIGGER_TOKENS = Set.of(
+        "org.apache.kafka",
+        "org.springframework.kafka",
+        "@KafkaListener",
+        "@EnableKafka",
+        "@SendTo",
+        "KafkaTemplate"
+    );
     
     private static final String KAFKA_LISTENER_ANNOTATION = "KafkaListener";
     private static final String SEND_TO_ANNOTATION = "SendTo";
@@ -97,6 +109,11 @@ public class KafkaScanner extends AbstractJavaParserScanner {
         return SCANNER_PRIORITY;
     }
 
+    @Override
+    public Set<FindingType> getProducedFindings() {
+        return Set.of(FindingType.MESSAGE_FLOWS);
+    }
+
     @Override
     public ScannerApplicabilityStrategy getApplicabilityStrategy() {
         return ApplicabilityStrategies.hasJavaFiles()
@@ -136,43 +153,13 @@ public class KafkaScanner extends AbstractJavaParserScanner {
             return true;
         }
 
-        // Skip test files unless they contain Kafka patterns
-        String filePath = file.toString();
-        boolean isTestFile = filePath.contains("/test/") || filePath.contains("\\test\\");
-
-        try {
-            String content = readFileContent(file);
-
-            // Priority 2-5: Check for Kafka imports, annotations, and classes
-            boolean hasApacheKafkaImport = content.contains("org.apache.kafka");
-            boolean hasSpringKafkaImport = content.contains("org.springframework.kafka");
-            boolean hasKafkaAnnotations =
-                content.contains("@KafkaListener") ||
-                content.contains("@EnableKafka") ||
-                content.contains("@SendTo");
-            boolean hasKafkaClasses = content.contains("KafkaTemplate");
-
-            boolean hasKafkaPatterns = hasApacheKafkaImport || hasSpringKafkaImport ||
-                                      hasKafkaAnnotations || hasKafkaClasses;
-
-            if (hasKafkaPatterns) {
-                log.debug("Including file with Kafka patterns: {} (apacheImport={}, springImport={}, annotations={}, classes={})",
-                    fileName, hasApacheKafkaImport, hasSpringKafkaImport, hasKafkaAnnotations, hasKafkaClasses);
-            } else {
-                log.debug("Skipping file without Kafka patterns: {}", fileName);
-            }
-
-            // For test files, require Kafka patterns
-            // For non-test files, allow if they have Kafka patterns
-            if (isTestFile) {
-                return hasKafkaPatterns;
-            }
+        // Priority 2-5: Kafka imports, annotations and classes, matched on the raw bytes
+        return containsTriggerToken(file);
+    }
 
-            return hasKafkaPatterns;
-        } catch (IOException e) {
-            log.debug("Failed to read file for pre-filtering: {}", file);
-            return false;
-        }
+    @Override
+    protected Set<String> getTriggerTokens() {
+        return KAFKA_TRIGGER_TOKENS;
     }
 
     @Override
@@ -192,32 +179,32 @@ public class KafkaScanner extends AbstractJavaParserScanner {
             return emptyResult();
         }
 
-        int skippedCount = 0;
+        AtomicInteger skippedCount = new AtomicInteger();
 
-        for (Path javaFile : javaFiles) {
+        messageFlows.addAll(processFiles(context, javaFiles, statsBuilder, (javaFile, fileStats) -> {
             if (!shouldScanFile(javaFile)) {
-                skippedCount++;
-                continue;
+                skippedCount.incrementAndGet();
+                return List.of();
             }
 
-            statsBuilder.incrementFilesScanned();
+            fileStats.incrementFilesScanned();
 
             // Use three-tier parsing with fallback
             FileParseResult<MessageFlow> result = parseWithFallback(
+                context,
                 javaFile,
+                MessageFlow.class,
                 cu -> extractMessageFlowsFromAST(cu),
                 createFallbackStrategy(),
-                statsBuilder
+                fileStats
             );
 
-            if (result.isSuccess()) {
-                messageFlows.addAll(result.getData());
-            }
-        }
+            return result.isSuccess() ? result.getData() : List.of();
+        }));
 
         ScanStatistics statistics = statsBuilder.build();
         log.info("Found {} Kafka message flows (success rate: {:.1f}%, overall parse rate: {:.1f}%, skipped {} files)",
-                 messageFlows.size(), statistics.getSuccessRate(), statistics.getOverallParseRate(), skippedCount);
+                 messageFlows.size(), statistics.getSuccessRate(), statistics.getOverallParseRate(), skippedCount.get());
 
         return buildSuccessResult(
             List.of(),
@@ -1,16 +1,17 @@
 package com.docarchitect.core.scanner.impl.java;
 
-import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import com.docarchitect.core.model.MessageFlow;
 import com.docarchitect.core.scanner.ApplicabilityStrategies;
+import com.docarchitect.core.scanner.FindingType;
 import com.docarchitect.core.scanner.ScanContext;
 import com.docarchitect.core.scanner.ScanResult;
 import com.docarchitect.core.scanner.ScanStatistics;
@@ -84,6 +85,18 @@ public class KafkaStreamsScanner extends AbstractJavaParserScanner {
     private static final int SCANNER_PRIORITY = 75;
     private static final String TECHNOLOGY = "kafka-streams";
 
+    // Pre-filter tokens: Kafka Streams imports, classes and methods
+    private static final Set<String> STREAMS_TRIGGER_TOKENS = Set.of(
+        "org.apache.kafka.streams",
+        "StreamsBuilder",
+        "KStream",
+        "KTable",
+        "Topology",
+        ".stream(",
+        ".table(",
+        ".to("
+    );
+
     // Kafka Streams API methods
     private static final String METHOD_STREAM = "stream";
     private static final String METHOD_TABLE = "table";
@@ -137,6 +150,11 @@ public class KafkaStreamsScanner extends AbstractJavaParserScanner {
         return SCANNER_PRIORITY;
     }
 
+    @Override
+    public Set<FindingType> getProducedFindings() {
+        return Set.of(FindingType.MESSAGE_FLOWS);
+    }
+
     @Override
     public ScannerApplicabilityStrategy getApplicabilityStrategy() {
         return ApplicabilityStrategies.hasJavaFiles()
@@ -173,45 +191,13 @@ public class KafkaStreamsScanner extends AbstractJavaParserScanner {
             return true;
         }
 
-        // Skip test files unless they contain Kafka Streams patterns
-        String filePath = file.toString();
-        boolean isTestFile = filePath.contains("/test/") || filePath.contains("\\test\\");
-
-        try {
-            String content = readFileContent(file);
-
-            // Priority 2-4: Check for Kafka Streams imports, classes, and methods
-            boolean hasStreamsImport = content.contains("org.apache.kafka.streams");
-            boolean hasStreamsClasses =
-                content.contains("StreamsBuilder") ||
-                content.contains("KStream") ||
-                content.contains("KTable") ||
-                content.contains("Topology");
-            boolean hasStreamsMethods =
-                content.contains(".stream(") ||
-                content.contains(".table(") ||
-                content.contains(".to(");
-
-            boolean hasStreamsPatterns = hasStreamsImport || hasStreamsClasses || hasStreamsMethods;
-
-            if (hasStreamsPatterns) {
-                log.debug("Including file with Kafka Streams patterns: {} (import={}, classes={}, methods={})",
-                    fileName, hasStreamsImport, hasStreamsClasses, hasStreamsMethods);
-            } else {
-                log.debug("Skipping file without Kafka Streams patterns: {}", fileName);
-            }
-
-            // For test files, require Kafka Streams patterns
-            // For non-test files, allow if they have Kafka Streams patterns
-            if (isTestFile) {
-                return hasStreamsPatterns;
-            }
+        // Priority 2-4: Kafka Streams imports, classes and methods, matched on the raw bytes
+        return containsTriggerToken(file);
+    }
 
-            return hasStreamsPatterns;
-        } catch (IOException e) {
-            log.debug("Failed to read file for pre-filtering: {}", file);
-            return false;
-        }
+    @Override
+    protected Set<String> getTriggerTokens() {
+        return STREAMS_TRIGGER_TOKENS;
     }
 
     @Override
@@ -231,32 +217,32 @@ public class KafkaStreamsScanner extends AbstractJavaParserScanner {
             return emptyResult();
         }
 
-        int skippedCount = 0;
+        AtomicInteger skippedCount = new AtomicInteger();
 
-        for (Path javaFile : javaFiles) {
+        messageFlows.addAll(processFiles(context, javaFiles, statsBuilder, (javaFile, fileStats) -> {
             if (!shouldScanFile(javaFile)) {
-                skippedCount++;
-                continue;
+                skippedCount.incrementAndGet();
+                return List.of();
             }
 
-            statsBuilder.incrementFilesScanned();
+            fileStats.incrementFilesScanned();
 
             // Use three-tier parsing with fallback
             FileParseResult<MessageFlow> result = parseWithFallback(
+                context,
                 javaFile,
+                MessageFlow.class,
                 cu -> extractMessageFlowsFromAST(cu),
                 createFallbackStrategy(),
-                statsBuilder
+                fileStats
             );
 
-            if (result.isSuccess()) {
-                messageFlows.addAll(result.getData());
-            }
-        }
+            return result.isSuccess() ? result.getData() : List.of();
+        }));
 
         ScanStatistics statistics = statsBuilder.build();
         log.info("Found {} Kafka Streams message flows (success rate: {:.1f}%, overall parse rate: {:.1f}%, skipped {} files)",
-                 messageFlows.size(), statistics.getSuccessRate(), statistics.getOverallParseRate(), skippedCount);
+                 messageFlows.size(), statistics.getSuccessRate(), statistics.getOverallParseRate(), skippedCount.get());
 
         return buildSuccessResult(
             List.of(),
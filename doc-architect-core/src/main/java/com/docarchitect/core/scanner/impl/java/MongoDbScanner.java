@@ -6,6 +6,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -13,6 +14,7 @@ import com.docarchitect.core.model.DataEntity;
 import com.docarchitect.core.model.Relationship;
 import com.docarchitect.core.model.RelationshipType;
 import com.docarchitect.core.scanner.ApplicabilityStrategies;
+import com.docarchitect.core.scanner.FindingType;
 import com.docarchitect.core.scanner.ScanContext;
 import com.docarchitect.core.scanner.ScanResult;
 import com.docarchitect.core.scanner.ScanStatistics;
@@ -127,6 +129,11 @@ public class MongoDbScanner extends AbstractJavaParserScanner {
         return SCANNER_PRIORITY;
     }
 
+    @Override
+    public Set<FindingType> getProducedFindings() {
+        return Set.of(FindingType.DATA_ENTITIES, FindingType.RELATIONSHIPS);
+    }
+
     @Override
     public ScannerApplicabilityStrategy getApplicabilityStrategy() {
         return ApplicabilityStrategies.hasJavaFiles()
@@ -135,15 +142,9 @@ public class MongoDbScanner extends AbstractJavaParserScanner {
     }
 
     @Override
-    protected boolean shouldScanFile(Path file) {
-        try {
-            String content = readFileContent(file);
-            // Pre-filter: Only scan files with Spring Data MongoDB imports
-            return MONGODB_IMPORTS.stream().anyMatch(content::contains);
-        } catch (IOException e) {
-            log.debug("Failed to read file for pre-filtering: {}", file);
-            return false;
-        }
+    protected Set<String> getTriggerTokens() {
+        // Pre-filter: Only scan files with Spring Data MongoDB imports
+        return MONGODB_IMPORTS;
     }
 
     @Override
@@ -161,33 +162,35 @@ public class MongoDbScanner extends AbstractJavaParserScanner {
             return emptyResult();
         }
 
-        int skippedFiles = 0;
+        AtomicInteger skippedFiles = new AtomicInteger();
 
-        for (Path javaFile : javaFiles) {
+        List<EntityResult> entityResults = processFiles(context, javaFiles, statsBuilder, (javaFile, fileStats) -> {
             if (!shouldScanFile(javaFile)) {
-                skippedFiles++;
-                continue;
+                skippedFiles.incrementAndGet();
+                return List.of();
             }
 
-            statsBuilder.incrementFilesScanned();
+            fileStats.incrementFilesScanned();
 
             // Use three-tier parsing with fallback
             FileParseResult<EntityResult> result = parseWithFallback(
+                context,
                 javaFile,
+                EntityResult.class,
                 cu -> extractEntitiesFromAST(cu),
                 createFallbackStrategy(),
-                statsBuilder
+                fileStats
             );
 
-            if (result.isSuccess()) {
-                for (EntityResult entityResult : result.getData()) {
-                    dataEntities.add(entityResult.entity());
-                    relationships.addAll(entityResult.relationships());
-                }
-            }
+            return result.isSuccess() ? result.getData() : List.of();
+        });
+
+        for (EntityResult entityResult : entityResults) {
+            dataEntities.add(entityResult.entity());
+            relationships.addAll(entityResult.relationships());
         }
 
-        log.debug("Pre-filtered {} files (not MongoDB documents)", skippedFiles);
+        log.debug("Pre-filtered {} files (not MongoDB documents)", skippedFiles.get());
 
         ScanStatistics statistics = statsBuilder.build();
         log.info("Found {} MongoDB documents and {} relationships (success rate: {:.1f}%, overall parse rate: {:.1f}%)",
@@ -7,9 +7,11 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.docarchitect.core.model.MessageFlow;
 import com.docarchitect.core.scanner.ApplicabilityStrategies;
+import com.docarchitect.core.scanner.FindingType;
 import com.docarchitect.core.scanner.ScanContext;
 import com.docarchitect.core.scanner.ScanResult;
 import com.docarchitect.core.scanner.ScanStatistics;
@@ -41,6 +43,20 @@ public class RabbitMQScanner extends AbstractJavaParserScanner {
     private static final String SCANNER_DISPLAY_NAME = "RabbitMQ Message Flow Scanner";
     private static final String FILE_PATTERN = "**/*.java";
     private static final int SCANNER_PRIORITY = 70;
+
+    // Pre-filter tokens: every RabbitMQ pattern below requires at least one of them
+    private static final Set<String> RABBITMQ_TRIGGER_TOKENS = Set.of(
+        "amqp",
+        "rabbit",
+        "@RabbitListener",
+        "@RabbitHandler",
+        "@EnableRabbit",
+        "@Queue",
+        "@Exchange",
+        "RabbitTemplate",
+        "SimpleMessageListenerContainer",
+        "RabbitAdmin"
+    );
     private static final String TECHNOLOGY = "rabbitmq";
 
     private static final String RABBIT_LISTENER_ANNOTATION = "RabbitListener";
@@ -95,6 +111,11 @@ public class RabbitMQScanner extends AbstractJavaParserScanner {
         return SCANNER_PRIORITY;
     }
 
+    @Override
+    public Set<FindingType> getProducedFindings() {
+        return Set.of(FindingType.MESSAGE_FLOWS);
+    }
+
     @Override
     public ScannerApplicabilityStrategy getApplicabilityStrategy() {
         return ApplicabilityStrategies.hasJavaFiles()
@@ -135,6 +156,11 @@ public class RabbitMQScanner extends AbstractJavaParserScanner {
             return true;
         }
 
+        // Cheap byte-level check before the file is decoded
+        if (!containsTriggerToken(file)) {
+            return false;
+        }
+
         // Skip test files unless they contain RabbitMQ patterns
         String filePath = file.toString();
         boolean isTestFile = filePath.contains("/test/") || filePath.contains("\\test\\");
@@ -194,6 +220,11 @@ public class RabbitMQScanner extends AbstractJavaParserScanner {
         }
     }
 
+    @Override
+    protected Set<String> getTriggerTokens() {
+        return RABBITMQ_TRIGGER_TOKENS;
+    }
+
     @Override
     public ScanResult scan(ScanContext context) {
         log.info("Scanning RabbitMQ message flows in: {}", context.rootPath());
@@ -211,32 +242,32 @@ public class RabbitMQScanner extends AbstractJavaParserScanner {
             return emptyResult();
         }
 
-        int skippedCount = 0;
+        AtomicInteger skippedCount = new AtomicInteger();
 
-        for (Path javaFile : javaFiles) {
+        messageFlows.addAll(processFiles(context, javaFiles, statsBuilder, (javaFile, fileStats) -> {
             if (!shouldScanFile(javaFile)) {
-                skippedCount++;
-                continue;
+                skippedCount.incrementAndGet();
+                return List.of();
             }
 
-            statsBuilder.incrementFilesScanned();
+            fileStats.incrementFilesScanned();
 
             // Use three-tier parsing with fallback
             FileParseResult<MessageFlow> result = parseWithFallback(
+                context,
                 javaFile,
+                MessageFlow.class,
                 cu -> extractMessageFlowsFromAST(cu),
                 createFallbackStrategy(),
-                statsBuilder
+                fileStats
             );
 
-            if (result.isSuccess()) {
-                messageFlows.addAll(result.getData());
-            }
-        }
+            return result.isSuccess() ? result.getData() : List.of();
+        }));
 
         ScanStatistics statistics = statsBuilder.build();
         log.info("Found {} RabbitMQ message flows (success rate: {:.1f}%, overall parse rate: {:.1f}%, skipped {} files)",
-                 messageFlows.size(), statistics.getSuccessRate(), statistics.getOverallParseRate(), skippedCount);
+                 messageFlows.size(), statistics.getSuccessRate(), statistics.getOverallParseRate(), skippedCount.get());
 
         return buildSuccessResult(
             List.of(),
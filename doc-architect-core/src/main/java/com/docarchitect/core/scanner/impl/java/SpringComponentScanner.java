@@ -2,6 +2,7 @@ package com.docarchitect.core.scanner.impl.java;
 
 import com.docarchitect.core.model.Component;
 import com.docarchitect.core.model.ComponentType;
+import com.docarchitect.core.scanner.FindingType;
 import com.docarchitect.core.scanner.ScanContext;
 import com.docarchitect.core.scanner.ScanResult;
 import com.docarchitect.core.scanner.ScanStatistics;
@@ -115,6 +116,16 @@ public class SpringComponentScanner extends AbstractJavaParserScanner {
         return SCANNER_PRIORITY;
     }
 
+    @Override
+    public Set<FindingType> getProducedFindings() {
+        return Set.of(FindingType.COMPONENTS);
+    }
+
+    @Override
+    public Set<FindingType> getRequiredFindings() {
+        return Set.of(FindingType.DEPENDENCIES);
+    }
+
     @Override
     public boolean appliesTo(ScanContext context) {
         // Only apply if Maven/Gradle dependency scanner found Spring dependencies
@@ -128,7 +139,6 @@ public class SpringComponentScanner extends AbstractJavaParserScanner {
         log.info("Scanning Spring Framework components in: {}", context.rootPath());
 
         List<Component> components = new ArrayList<>();
-        Set<String> processedComponents = new HashSet<>();
         ScanStatistics.Builder statsBuilder = new ScanStatistics.Builder();
 
         // Find all Java files
@@ -140,21 +150,27 @@ public class SpringComponentScanner extends AbstractJavaParserScanner {
             return emptyResult();
         }
 
-        for (Path javaFile : javaFiles) {
-            statsBuilder.incrementFilesScanned();
+        components.addAll(processFiles(context, javaFiles, statsBuilder, (javaFile, fileStats) -> {
+            // Files may be parsed concurrently, so deduplication state is per file
+            Set<String> processedComponents = new HashSet<>();
+            fileStats.incrementFilesScanned();
 
             // Use three-tier parsing with fallback
             FileParseResult<Component> result = parseWithFallback(
+                context,
                 javaFile,
+                Component.class,
                 cu -> extractSpringComponentsFromAST(cu, javaFile, context, processedComponents),
                 createFallbackStrategy(javaFile, context, processedComponents),
-                statsBuilder
+                fileStats
             );
 
-            if (result.isSuccess()) {
-                components.addAll(result.getData());
-            }
-        }
+            return result.isSuccess() ? result.getData() : List.of();
+        }));
+
+        // Keep the first component per class name, in file order
+        Set<String> processedComponents = new HashSet<>();
+        components.removeIf(component -> !processedComponents.add(component.name()));
 
         ScanStatistics statistics = statsBuilder.build();
         log.info("Found {} Spring components (success rate: {:.1f}%, overall parse rate: {:.1f}%)",
@@ -6,6 +6,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -13,6 +14,7 @@ import com.docarchitect.core.model.ApiEndpoint;
 import com.docarchitect.core.model.ApiType;
 import com.docarchitect.core.model.Component;
 import com.docarchitect.core.scanner.ApplicabilityStrategies;
+import com.docarchitect.core.scanner.FindingType;
 import com.docarchitect.core.scanner.ScanContext;
 import com.docarchitect.core.scanner.ScanResult;
 import com.docarchitect.core.scanner.ScanStatistics;
@@ -76,6 +78,19 @@ public class SpringRestApiScanner extends AbstractJavaParserScanner {
 
     private static final String SCANNER_ID = "spring-rest-api";
     private static final String DISPLAY_NAME = "Spring REST API Scanner";
+
+    // Pre-filter tokens: every Spring MVC pattern below requires at least one of them
+    private static final Set<String> SPRING_MVC_TRIGGER_TOKENS = Set.of(
+        "springframework",
+        "@RestController",
+        "@Controller",
+        "@RequestMapping",
+        "@GetMapping",
+        "@PostMapping",
+        "@PutMapping",
+        "@DeleteMapping",
+        "@PatchMapping"
+    );
     private static final String JAVA_FILE_PATTERN = "**/*.java";
     private static final int DEFAULT_PRIORITY = 50;
 
@@ -135,6 +150,11 @@ public class SpringRestApiScanner extends AbstractJavaParserScanner {
         return DEFAULT_PRIORITY;
     }
 
+    @Override
+    public Set<FindingType> getProducedFindings() {
+        return Set.of(FindingType.API_ENDPOINTS);
+    }
+
     @Override
     public ScannerApplicabilityStrategy getApplicabilityStrategy() {
         return ApplicabilityStrategies.hasJavaFiles()
@@ -170,6 +190,11 @@ public class SpringRestApiScanner extends AbstractJavaParserScanner {
             return true;
         }
 
+        // Cheap byte-level check before the file is decoded
+        if (!containsTriggerToken(file)) {
+            return false;
+        }
+
         // Skip test files unless they contain Spring MVC patterns
         String filePath = file.toString();
         boolean isTestFile = filePath.contains("/test/") || filePath.contains("\\test\\");
@@ -223,6 +248,11 @@ public class SpringRestApiScanner extends AbstractJavaParserScanner {
         }
     }
 
+    @Override
+    protected Set<String> getTriggerTokens() {
+        return SPRING_MVC_TRIGGER_TOKENS;
+    }
+
     @Override
     public ScanResult scan(ScanContext context) {
         log.info("Scanning Spring REST APIs in: {}", context.rootPath());
@@ -240,30 +270,30 @@ public class SpringRestApiScanner extends AbstractJavaParserScanner {
             return emptyResult();
         }
 
-        int skippedFiles = 0;
-        for (Path javaFile : javaFiles) {
+        AtomicInteger skippedFiles = new AtomicInteger();
+        apiEndpoints.addAll(processFiles(context, javaFiles, statsBuilder, (javaFile, fileStats) -> {
             // Pre-filter files before attempting to parse
             if (!shouldScanFile(javaFile)) {
-                skippedFiles++;
-                continue;
+                skippedFiles.incrementAndGet();
+                return List.of();
             }
 
-            statsBuilder.incrementFilesScanned();
+            fileStats.incrementFilesScanned();
 
             // Use three-tier parsing with fallback
             FileParseResult<ApiEndpoint> result = parseWithFallback(
+                context,
                 javaFile,
+                ApiEndpoint.class,
                 cu -> extractEndpointsFromAST(cu),
                 createFallbackStrategy(),
-                statsBuilder
+                fileStats
             );
 
-            if (result.isSuccess()) {
-                apiEndpoints.addAll(result.getData());
-            }
-        }
+            return result.isSuccess() ? result.getData() : List.of();
+        }));
 
-        log.debug("Pre-filtered {} files (not Spring MVC controllers)", skippedFiles);
+        log.debug("Pre-filtered {} files (not Spring MVC controllers)", skippedFiles.get());
 
         ScanStatistics statistics = statsBuilder.build();
         log.info("Found {} REST API endpoints (success rate: {:.1f}%, overall parse rate: {:.1f}%)",
@@ -8,6 +8,7 @@ import java.util.Set;
 
 import com.docarchitect.core.model.ApiEndpoint;
 import com.docarchitect.core.model.ApiType;
+import com.docarchitect.core.scanner.FindingType;
 import com.docarchitect.core.scanner.ScanContext;
 import com.docarchitect.core.scanner.ScanResult;
 import com.docarchitect.core.scanner.ScanStatistics;
@@ -112,6 +113,11 @@ public class ExpressScanner extends AbstractAstScanner<JavaScriptAst.ExpressRout
         return SCANNER_PRIORITY;
     }
 
+    @Override
+    public Set<FindingType> getProducedFindings() {
+        return Set.of(FindingType.API_ENDPOINTS);
+    }
+
     @Override
     public boolean appliesTo(ScanContext context) {
         // Check if any JavaScript or TypeScript files exist (both root and subdirectories)
@@ -148,6 +154,7 @@ public class ExpressScanner extends AbstractAstScanner<JavaScriptAst.ExpressRout
 
             // Use three-tier parsing with fallback
             FileParseResult<ApiEndpoint> result = parseWithFallback(
+                context,
                 file,
                 routes -> extractEndpointsFromAST(file, routes),
                 createFallbackStrategy(),
@@ -24,6 +24,11 @@ public class JavaScriptAstParserAdapter implements AstParser<JavaScriptAst.Expre
         return JavaScriptAstParser.parseFile(filePath);
     }
 
+    @Override
+    public List<JavaScriptAst.ExpressRoute> parse(Path filePath, String sourceCode) {
+        return JavaScriptAstParser.parseSource(sourceCode);
+    }
+
     @Override
     public boolean isAvailable() {
         return true; // Always available with regex fallback
@@ -12,6 +12,7 @@ import java.util.regex.Pattern;
 
 import com.docarchitect.core.model.MessageFlow;
 import com.docarchitect.core.scanner.ApplicabilityStrategies;
+import com.docarchitect.core.scanner.FindingType;
 import com.docarchitect.core.scanner.ScanContext;
 import com.docarchitect.core.scanner.ScanResult;
 import com.docarchitect.core.scanner.ScannerApplicabilityStrategy;
@@ -160,6 +161,11 @@ public class CeleryScanner extends AbstractRegexScanner {
         return 50;
     }
 
+    @Override
+    public Set<FindingType> getProducedFindings() {
+        return Set.of(FindingType.MESSAGE_FLOWS);
+    }
+
     @Override
     public ScannerApplicabilityStrategy getApplicabilityStrategy() {
         return ApplicabilityStrategies.hasPythonFiles()
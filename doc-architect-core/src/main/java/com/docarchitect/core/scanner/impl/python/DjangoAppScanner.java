@@ -2,6 +2,7 @@ package com.docarchitect.core.scanner.impl.python;
 
 import com.docarchitect.core.model.Component;
 import com.docarchitect.core.model.ComponentType;
+import com.docarchitect.core.scanner.FindingType;
 import com.docarchitect.core.scanner.ScanContext;
 import com.docarchitect.core.scanner.ScanResult;
 import com.docarchitect.core.scanner.base.AbstractRegexScanner;
@@ -102,6 +103,11 @@ public class DjangoAppScanner extends AbstractRegexScanner {
         return SCANNER_PRIORITY;
     }
 
+    @Override
+    public Set<FindingType> getProducedFindings() {
+        return Set.of(FindingType.COMPONENTS);
+    }
+
     @Override
     public boolean appliesTo(ScanContext context) {
         return hasAnyFiles(context, SETTINGS_PATTERN, SETTINGS_DIR_PATTERN);
@@ -9,6 +9,7 @@ import java.util.Set;
 import com.docarchitect.core.model.DataEntity;
 import com.docarchitect.core.model.Relationship;
 import com.docarchitect.core.model.RelationshipType;
+import com.docarchitect.core.scanner.FindingType;
 import com.docarchitect.core.scanner.ScanContext;
 import com.docarchitect.core.scanner.ScanResult;
 import com.docarchitect.core.scanner.ScanStatistics;
@@ -58,6 +59,13 @@ public class DjangoOrmScanner extends AbstractAstScanner<PythonAst.PythonClass>
     private static final String PATTERN_MODELS_PY = "**/models.py";
     private static final String PATTERN_MODELS_SUFFIX = "**/*_models.py";
     private static final String DJANGO_SOURCE = "Django";
+
+    // Pre-filter tokens: Django imports or model base class
+    private static final Set<String> DJANGO_TRIGGER_TOKENS = Set.of(
+        "from django.db import",
+        "django.db.models",
+        "models.Model"
+    );
     
     private static final String BASE_CLASS_MODELS_MODEL = "models.Model";
     private static final String BASE_CLASS_MODEL = "Model";
@@ -143,6 +151,11 @@ public class DjangoOrmScanner extends AbstractAstScanner<PythonAst.PythonClass>
         return 61;
     }
 
+    @Override
+    public Set<FindingType> getProducedFindings() {
+        return Set.of(FindingType.DATA_ENTITIES, FindingType.RELATIONSHIPS);
+    }
+
     @Override
     public boolean appliesTo(ScanContext context) {
         return hasAnyFiles(context, PATTERN_MODELS_PY, PATTERN_MODELS_SUFFIX);
@@ -168,6 +181,11 @@ public class DjangoOrmScanner extends AbstractAstScanner<PythonAst.PythonClass>
      */
     @Override
     protected boolean shouldScanFile(Path file) {
+        // Cheap byte-level check before the file is decoded
+        if (!containsTriggerToken(file)) {
+            return false;
+        }
+
         try {
             String content = readFileContent(file);
 
@@ -198,6 +216,11 @@ public class DjangoOrmScanner extends AbstractAstScanner<PythonAst.PythonClass>
         }
     }
 
+    @Override
+    protected Set<String> getTriggerTokens() {
+        return DJANGO_TRIGGER_TOKENS;
+    }
+
     @Override
     public ScanResult scan(ScanContext context) {
         log.info("Scanning Django models in: {}", context.rootPath());
@@ -228,6 +251,7 @@ public class DjangoOrmScanner extends AbstractAstScanner<PythonAst.PythonClass>
 
             // Use three-tier parsing with fallback
             FileParseResult<EntityResult> result = parseWithFallback(
+                context,
                 modelFile,
                 classes -> extractEntitiesFromAST(classes),
                 createFallbackStrategy(),
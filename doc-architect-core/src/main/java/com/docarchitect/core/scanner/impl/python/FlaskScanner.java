@@ -11,10 +11,12 @@ import java.util.regex.Pattern;
 import com.docarchitect.core.model.ApiEndpoint;
 import com.docarchitect.core.model.ApiType;
 import com.docarchitect.core.scanner.ApplicabilityStrategies;
+import com.docarchitect.core.scanner.FindingType;
 import com.docarchitect.core.scanner.ScanContext;
 import com.docarchitect.core.scanner.ScanResult;
 import com.docarchitect.core.scanner.ScannerApplicabilityStrategy;
 import com.docarchitect.core.scanner.base.AbstractRegexScanner;
+import com.docarchitect.core.scanner.base.MultiPatternMatcher;
 import com.docarchitect.core.util.Technologies;
 
 /**
@@ -115,6 +117,19 @@ public class FlaskScanner extends AbstractRegexScanner {
         "@(\\w+)\\.route\\s*\\(\\s*['\"](.+?)['\"]"
     );
 
+    private static final String MODERN_DECORATOR_ID = "modern";
+    private static final String LEGACY_DECORATOR_ID = "legacy";
+    private static final String SIMPLE_ROUTE_ID = "simple";
+
+    /**
+     * All route decorator styles in priority order, matched in a single pass over the lines.
+     */
+    private static final MultiPatternMatcher ROUTE_DECORATORS = MultiPatternMatcher.builder()
+        .add(MODERN_DECORATOR_ID, MODERN_DECORATOR, "@")
+        .add(LEGACY_DECORATOR_ID, LEGACY_DECORATOR, ".route", "methods")
+        .add(SIMPLE_ROUTE_ID, SIMPLE_ROUTE, ".route")
+        .build();
+
     /**
      * Regex for function definition: def get_user(user_id):.
      * Captures: (1) function name, (2) parameters.
@@ -156,6 +171,11 @@ public class FlaskScanner extends AbstractRegexScanner {
         return SCANNER_PRIORITY;
     }
 
+    @Override
+    public Set<FindingType> getProducedFindings() {
+        return Set.of(FindingType.API_ENDPOINTS);
+    }
+
     @Override
     public ScannerApplicabilityStrategy getApplicabilityStrategy() {
         return ApplicabilityStrategies.hasPythonFiles()
@@ -199,36 +219,34 @@ public class FlaskScanner extends AbstractRegexScanner {
         List<String> lines = readFileLines(file);
         String componentId = extractModuleName(file);
 
-        for (int i = 0; i < lines.size(); i++) {
-            String line = lines.get(i).trim();
-
-            // Try modern decorator style first
-            Matcher modernMatcher = MODERN_DECORATOR.matcher(line);
-            if (modernMatcher.find()) {
-                String httpMethod = modernMatcher.group(DECORATOR_METHOD_GROUP).toUpperCase();
-                String path = modernMatcher.group(DECORATOR_PATH_GROUP);
-                extractEndpoint(lines, i, componentId, httpMethod, path, apiEndpoints);
+        // Decorators are registered by priority, so the first match of a line wins
+        int lastLineNumber = 0;
+        for (MultiPatternMatcher.Match match : ROUTE_DECORATORS.matchLines(lines)) {
+            int lineNumber = match.lineNumber();
+            if (lineNumber == lastLineNumber) {
                 continue;
             }
-
-            // Try legacy decorator with methods
-            Matcher legacyMatcher = LEGACY_DECORATOR.matcher(line);
-            if (legacyMatcher.find()) {
-                String path = legacyMatcher.group(LEGACY_DECORATOR_PATH_GROUP);
-                String methodsStr = legacyMatcher.group(LEGACY_DECORATOR_METHODS_GROUP);
-                List<String> methods = extractMethods(methodsStr);
-
-                for (String method : methods) {
-                    extractEndpoint(lines, i, componentId, method, path, apiEndpoints);
+            lastLineNumber = lineNumber;
+            int lineIndex = lineNumber - 1;
+
+            switch (match.patternId()) {
+                case MODERN_DECORATOR_ID -> {
+                    String httpMethod = match.group(DECORATOR_METHOD_GROUP).toUpperCase();
+                    String path = match.group(DECORATOR_PATH_GROUP);
+                    extractEndpoint(lines, lineIndex, componentId, httpMethod, path, apiEndpoints);
+                }
+                case LEGACY_DECORATOR_ID -> {
+                    String path = match.group(LEGACY_DECORATOR_PATH_GROUP);
+                    List<String> methods = extractMethods(match.group(LEGACY_DECORATOR_METHODS_GROUP));
+                    for (String method : methods) {
+                        extractEndpoint(lines, lineIndex, componentId, method, path, apiEndpoints);
+                    }
+                }
+                default -> {
+                    // Simple route decorator (defaults to GET)
+                    String path = match.group(LEGACY_DECORATOR_PATH_GROUP);
+                    extractEndpoint(lines, lineIndex, componentId, HTTP_METHOD_GET, path, apiEndpoints);
                 }
-                continue;
-            }
-
-            // Try simple route decorator (defaults to GET)
-            Matcher simpleMatcher = SIMPLE_ROUTE.matcher(line);
-            if (simpleMatcher.find()) {
-                String path = simpleMatcher.group(LEGACY_DECORATOR_PATH_GROUP);
-                extractEndpoint(lines, i, componentId, HTTP_METHOD_GET, path, apiEndpoints);
             }
         }
     }
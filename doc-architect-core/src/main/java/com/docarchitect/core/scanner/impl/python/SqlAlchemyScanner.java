@@ -11,6 +11,7 @@ import java.util.regex.Pattern;
 import com.docarchitect.core.model.DataEntity;
 import com.docarchitect.core.model.Relationship;
 import com.docarchitect.core.model.RelationshipType;
+import com.docarchitect.core.scanner.FindingType;
 import com.docarchitect.core.scanner.ScanContext;
 import com.docarchitect.core.scanner.ScanResult;
 import com.docarchitect.core.scanner.ScanStatistics;
@@ -80,6 +81,15 @@ public class SqlAlchemyScanner extends AbstractAstScanner<PythonAst.PythonClass>
     private static final String SQLALCHEMY_ENTITY_SCANNER_ID = "sqlalchemy-entities";
     private static final String SQLALCHEMY_ENTITY_SCANNER_DISPLAY_NAME = "SQLAlchemy Entity Scanner";
     private static final int SCANNER_PRIORITY = 60;
+
+    // Pre-filter tokens: SQLAlchemy and SQLModel imports
+    private static final Set<String> SQLALCHEMY_TRIGGER_TOKENS = Set.of(
+        "from sqlalchemy import",
+        "from sqlalchemy.",
+        "declarative_base()",
+        "from sqlmodel import",
+        "SQLModel"
+    );
     private static final String BASE_CLASS_NAME = "Base";
     private static final String SQLALCHEMY_RELATIONSHIP_DESCRIPTION = "SQLAlchemy relationship";
     private static final String SQLALCHEMY_MODEL_PREFIX = "SQLAlchemy Model: ";
@@ -121,6 +131,11 @@ public class SqlAlchemyScanner extends AbstractAstScanner<PythonAst.PythonClass>
         return SCANNER_PRIORITY;
     }
 
+    @Override
+    public Set<FindingType> getProducedFindings() {
+        return Set.of(FindingType.DATA_ENTITIES, FindingType.RELATIONSHIPS);
+    }
+
     @Override
     public boolean appliesTo(ScanContext context) {
         return hasAnyFiles(context, PYTHON_FILE_PATTERN);
@@ -147,6 +162,11 @@ public class SqlAlchemyScanner extends AbstractAstScanner<PythonAst.PythonClass>
      */
     @Override
     protected boolean shouldScanFile(Path file) {
+        // Cheap byte-level check before the file is decoded
+        if (!containsTriggerToken(file)) {
+            return false;
+        }
+
         try {
             String content = readFileContent(file);
 
@@ -177,6 +197,11 @@ public class SqlAlchemyScanner extends AbstractAstScanner<PythonAst.PythonClass>
         }
     }
 
+    @Override
+    protected Set<String> getTriggerTokens() {
+        return SQLALCHEMY_TRIGGER_TOKENS;
+    }
+
     @Override
     public ScanResult scan(ScanContext context) {
         log.info("Scanning SQLAlchemy entities in: {}", context.rootPath());
@@ -204,6 +229,7 @@ public class SqlAlchemyScanner extends AbstractAstScanner<PythonAst.PythonClass>
 
             // Use three-tier parsing with fallback
             FileParseResult<EntityResult> result = parseWithFallback(
+                context,
                 pythonFile,
                 classes -> extractEntitiesFromAST(pythonFile, classes),
                 createFallbackStrategy(),
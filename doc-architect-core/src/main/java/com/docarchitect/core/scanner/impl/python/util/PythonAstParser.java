@@ -1,5 +1,7 @@
 package com.docarchitect.core.scanner.impl.python.util;
 
+import com.docarchitect.core.scanner.base.SourceReader;
+
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -182,11 +184,23 @@ public class PythonAstParser {
      * @throws IOException if the file cannot be read
      */
     public static List<PythonClass> parseFile(Path filePath) throws IOException {
+        return parseSource(SourceReader.defaultReader().read(filePath));
+    }
+
+    /**
+     * Parses source code that has already been read.
+     *
+     * <p>Uses ANTLR when available and falls back to regex-based parsing.</p>
+     *
+     * @param source source code
+     * @return list of parsed classes (never null)
+     */
+    public static List<PythonClass> parseSource(String source) {
         List<PythonClass> classes = new ArrayList<>();
 
         if (ANTLR_AVAILABLE) {
             try {
-                classes = parseWithAntlr(filePath);
+                classes = parseWithAntlr(source);
                 return classes;
             } catch (Exception e) {
                 // Fall through to regex
@@ -194,7 +208,7 @@ public class PythonAstParser {
         }
 
         // Fallback to regex-based parsing
-        return parseWithRegex(filePath);
+        return parseWithRegex(source);
     }
 
     /**
@@ -214,9 +228,7 @@ public class PythonAstParser {
      *
      * <p>Supports both Python 2.x and Python 3.x syntax.
      */
-    private static List<PythonClass> parseWithAntlr(Path filePath) throws IOException {
-        String source = new String(java.nio.file.Files.readAllBytes(filePath));
-
+    private static List<PythonClass> parseWithAntlr(String source) {
         // Try Python 3 grammar first, fall back to Python 2 if needed
         try {
             return parseWithPython3Grammar(source);
@@ -461,10 +473,9 @@ public class PythonAstParser {
     /**
      * Fallback regex-based parsing when ANTLR is unavailable or fails.
      */
-    private static List<PythonClass> parseWithRegex(Path filePath) throws IOException {
+    private static List<PythonClass> parseWithRegex(String content) {
         List<PythonClass> classes = new ArrayList<>();
-        String content = new String(java.nio.file.Files.readAllBytes(filePath));
-        List<String> lines = java.nio.file.Files.readAllLines(filePath);
+        List<String> lines = content.lines().toList();
 
         Pattern classPattern = Pattern.compile(CLASS_DEF_REGEX, Pattern.MULTILINE);
 
@@ -27,6 +27,14 @@ public class PythonAstParserAdapter implements AstParser<PythonAst.PythonClass>
             .collect(Collectors.toList());
     }
 
+    @Override
+    public List<PythonAst.PythonClass> parse(Path filePath, String sourceCode) {
+        List<PythonAstParser.PythonClass> classes = PythonAstParser.parseSource(sourceCode);
+        return classes.stream()
+            .map(this::convert)
+            .collect(Collectors.toList());
+    }
+
     @Override
     public boolean isAvailable() {
         return true; // Python parser always available (has regex fallback)
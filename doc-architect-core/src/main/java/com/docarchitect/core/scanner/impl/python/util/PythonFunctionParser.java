@@ -1,7 +1,6 @@
 package com.docarchitect.core.scanner.impl.python.util;
 
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
@@ -9,6 +8,7 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import com.docarchitect.core.scanner.ast.PythonAst;
+import com.docarchitect.core.scanner.base.SourceReader;
 
 /**
  * Utility class for parsing Python module-level functions using regex patterns.
@@ -69,7 +69,7 @@ public final class PythonFunctionParser {
      */
     public static List<PythonAst.Function> parseFunctions(Path filePath) throws IOException {
         List<PythonAst.Function> functions = new ArrayList<>();
-        List<String> lines = Files.readAllLines(filePath);
+        List<String> lines = SourceReader.defaultReader().readLines(filePath);
 
         List<String> currentDecorators = new ArrayList<>();
 
@@ -125,7 +125,7 @@ public final class PythonFunctionParser {
      */
     public static List<PythonAst.FunctionCall> parseFunctionCalls(Path filePath) throws IOException {
         List<PythonAst.FunctionCall> calls = new ArrayList<>();
-        List<String> lines = Files.readAllLines(filePath);
+        List<String> lines = SourceReader.defaultReader().readLines(filePath);
 
         for (int i = 0; i < lines.size(); i++) {
             String line = lines.get(i);
@@ -4,6 +4,7 @@ import com.docarchitect.core.model.ApiEndpoint;
 import com.docarchitect.core.model.ApiType;
 import com.docarchitect.core.model.Component;
 import com.docarchitect.core.model.ComponentType;
+import com.docarchitect.core.scanner.FindingType;
 import com.docarchitect.core.scanner.ScanContext;
 import com.docarchitect.core.scanner.ScanResult;
 import com.docarchitect.core.scanner.ScanStatistics;
@@ -141,6 +142,11 @@ public class RailsApiScanner extends AbstractAstScanner<RubyAst.RubyClass> {
         return 50;
     }
 
+    @Override
+    public Set<FindingType> getProducedFindings() {
+        return Set.of(FindingType.COMPONENTS, FindingType.API_ENDPOINTS);
+    }
+
     @Override
     public boolean appliesTo(ScanContext context) {
         // Check if this is a Rails project (has app/controllers directory)
@@ -185,6 +191,7 @@ public class RailsApiScanner extends AbstractAstScanner<RubyAst.RubyClass> {
 
             // Use three-tier parsing with fallback
             FileParseResult<ControllerData> result = parseWithFallback(
+                context,
                 controllerFile,
                 classes -> extractControllerDataFromAST(classes, controllerFile, rootPath),
                 createFallbackStrategy(rootPath),
@@ -1,6 +1,7 @@
 package com.docarchitect.core.scanner.impl.ruby;
 
 import com.docarchitect.core.model.MessageFlow;
+import com.docarchitect.core.scanner.FindingType;
 import com.docarchitect.core.scanner.ScanContext;
 import com.docarchitect.core.scanner.ScanResult;
 import com.docarchitect.core.scanner.base.AbstractRegexScanner;
@@ -160,6 +161,11 @@ public class SidekiqScanner extends AbstractRegexScanner {
         return 50;
     }
 
+    @Override
+    public Set<FindingType> getProducedFindings() {
+        return Set.of(FindingType.MESSAGE_FLOWS);
+    }
+
     @Override
     public boolean appliesTo(ScanContext context) {
         return hasAnyFiles(context, PATTERN_RUBY_FILES);
@@ -1,17 +1,19 @@
 package com.docarchitect.core.scanner.impl.ruby.util;
 
+import com.docarchitect.core.scanner.ast.AntlrParserPool;
+import com.docarchitect.core.scanner.base.SourceReader;
 import com.docarchitect.parser.RubyLexer;
 import com.docarchitect.parser.RubyParser;
-import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CancellationException;
 
 /**
  * Utility class for parsing Ruby files using ANTLR-based AST parsing.
@@ -25,6 +27,12 @@ public class RubyAstParser {
 
     private static final Logger log = LoggerFactory.getLogger(RubyAstParser.class);
 
+    /**
+     * Per-thread Ruby lexer/parser, parsing with SLL prediction first.
+     */
+    private static final AntlrParserPool<RubyParser> PARSERS =
+        AntlrParserPool.of(RubyLexer::new, RubyParser::new, RubyParser::program);
+
     /**
      * Represents a parsed Ruby class.
      */
@@ -86,7 +94,7 @@ public class RubyAstParser {
      */
     public static List<RubyClass> parseFile(Path filePath) {
         try {
-            String content = Files.readString(filePath);
+            String content = SourceReader.defaultReader().read(filePath);
             return parseContent(content);
         } catch (IOException e) {
             log.warn("Failed to read Ruby file {}: {}", filePath, e.getMessage());
@@ -104,21 +112,15 @@ public class RubyAstParser {
         List<RubyClass> classes = new ArrayList<>();
 
         try {
-            CharStream input = CharStreams.fromString(content);
-            RubyLexer lexer = new RubyLexer(input);
-            CommonTokenStream tokens = new CommonTokenStream(lexer);
-            RubyParser parser = new RubyParser(tokens);
-
-            // Reduce error reporting noise
-            parser.removeErrorListeners();
-            lexer.removeErrorListeners();
-
-            ParseTree tree = parser.program();
+            ParseTree tree = PARSERS.parse(content);
 
             // Extract classes using a custom visitor
             RubyClassExtractor extractor = new RubyClassExtractor();
             classes = extractor.visit(tree);
 
+        } catch (CancellationException e) {
+            // Parse timeout: the scanner discards this file's result, do not parse it again
+            throw e;
         } catch (Exception e) {
             log.debug("ANTLR parsing failed for Ruby content, error: {}", e.getMessage());
             // Fall back to regex-based parsing
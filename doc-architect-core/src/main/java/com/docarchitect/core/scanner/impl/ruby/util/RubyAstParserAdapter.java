@@ -30,6 +30,14 @@ public class RubyAstParserAdapter implements AstParser<RubyAst.RubyClass> {
             .collect(Collectors.toList());
     }
 
+    @Override
+    public List<RubyAst.RubyClass> parse(Path filePath, String sourceCode) {
+        List<RubyAstParser.RubyClass> classes = RubyAstParser.parseContent(sourceCode);
+        return classes.stream()
+            .map(this::convert)
+            .collect(Collectors.toList());
+    }
+
     @Override
     public boolean isAvailable() {
         return true; // Ruby parser always available (has regex fallback)
@@ -8,6 +8,7 @@ import java.util.Set;
 
 import com.docarchitect.core.model.DataEntity;
 import com.docarchitect.core.model.MessageFlow;
+import com.docarchitect.core.scanner.FindingType;
 import com.docarchitect.core.scanner.ScanContext;
 import com.docarchitect.core.scanner.ScanResult;
 import com.docarchitect.core.scanner.base.AbstractJacksonScanner;
@@ -141,6 +142,11 @@ public class AvroSchemaScanner extends AbstractJacksonScanner {
         return 70;
     }
 
+    @Override
+    public Set<FindingType> getProducedFindings() {
+        return Set.of(FindingType.MESSAGE_FLOWS, FindingType.DATA_ENTITIES);
+    }
+
     @Override
     public boolean appliesTo(ScanContext context) {
         return hasAnyFiles(context, PATTERN_AVSC_FILES, PATTERN_AVRO_FILES);
@@ -3,9 +3,12 @@ package com.docarchitect.core.scanner.impl.schema;
 import com.docarchitect.core.model.ApiEndpoint;
 import com.docarchitect.core.model.ApiType;
 import com.docarchitect.core.model.DataEntity;
+import com.docarchitect.core.scanner.FindingType;
 import com.docarchitect.core.scanner.ScanContext;
 import com.docarchitect.core.scanner.ScanResult;
+import com.docarchitect.core.scanner.ScanStatistics;
 import com.docarchitect.core.scanner.base.AbstractRegexScanner;
+import com.docarchitect.core.scanner.base.FileTooLargeException;
 import com.docarchitect.core.util.Technologies;
 
 import graphql.language.*;
@@ -153,6 +156,11 @@ public class GraphQLScanner extends AbstractRegexScanner {
         return PRIORITY;
     }
 
+    @Override
+    public Set<FindingType> getProducedFindings() {
+        return Set.of(FindingType.API_ENDPOINTS, FindingType.DATA_ENTITIES);
+    }
+
     @Override
     public boolean appliesTo(ScanContext context) {
         return hasAnyFiles(context, GRAPHQL_FILE_PATTERN, GQL_FILE_PATTERN);
@@ -263,6 +271,9 @@ public class GraphQLScanner extends AbstractRegexScanner {
      *   <li>Check line count - skip files with more than configured limit (default 50k lines)</li>
      * </ol>
      *
+     * <p>Skipped files are recorded in the scanner statistics like files refused by the
+     * global {@link com.docarchitect.core.scanner.base.ScanLimits scan limits}.
+     *
      * @param file path to GraphQL schema file
      * @param maxFileSizeBytes maximum file size in bytes (configurable)
      * @param maxSchemaLines maximum line count (configurable)
@@ -278,6 +289,7 @@ public class GraphQLScanner extends AbstractRegexScanner {
                     file.getFileName(), fileSize / 1024, maxFileSizeBytes / 1024);
                 log.warn(msg);
                 warnings.add(msg);
+                recordSkippedFile(file, ScanStatistics.FILE_TOO_LARGE_ERROR, msg);
                 return false;
             }
 
@@ -289,12 +301,17 @@ public class GraphQLScanner extends AbstractRegexScanner {
                     file.getFileName(), lineCount, maxSchemaLines);
                 log.warn(msg);
                 warnings.add(msg);
+                recordSkippedFile(file, ScanStatistics.TOO_MANY_LINES_ERROR, msg);
                 return false;
             }
 
             log.debug("GraphQL schema file passed pre-filter checks: {} ({} KB, {} lines)",
                 file.getFileName(), fileSize / 1024, lineCount);
             return true;
+        } catch (FileTooLargeException e) {
+            // Already recorded as skipped by readFileContent
+            warnings.add("Skipping large GraphQL schema file: " + file.getFileName() + " - " + e.getMessage());
+            return false;
         } catch (IOException e) {
             log.debug("Failed to check file size for pre-filtering: {}", file, e);
             // If we can't check the file, try to scan it anyway
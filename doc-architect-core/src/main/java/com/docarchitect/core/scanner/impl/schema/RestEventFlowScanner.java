@@ -2,6 +2,7 @@ package com.docarchitect.core.scanner.impl.schema;
 
 import com.docarchitect.core.model.ApiEndpoint;
 import com.docarchitect.core.model.MessageFlow;
+import com.docarchitect.core.scanner.FindingType;
 import com.docarchitect.core.scanner.ScanContext;
 import com.docarchitect.core.scanner.ScanResult;
 import com.docarchitect.core.scanner.Scanner;
@@ -156,6 +157,16 @@ public class RestEventFlowScanner implements Scanner {
         return SCANNER_PRIORITY;
     }
 
+    @Override
+    public Set<FindingType> getProducedFindings() {
+        return Set.of(FindingType.MESSAGE_FLOWS);
+    }
+
+    @Override
+    public Set<FindingType> getRequiredFindings() {
+        return Set.of(FindingType.API_ENDPOINTS);
+    }
+
     @Override
     public boolean appliesTo(ScanContext context) {
         // Apply if any previous scanner found API endpoints
@@ -0,0 +1,51 @@
+package com.docarchitect.core.scanner.profile;
+
+/**
+ * Phases of a scanner's work timed by the {@link ScanProfiler}.
+ *
+ * <p>{@link #APPLICABILITY} and {@link #SCAN} are measured by the scheduler around
+ * {@link com.docarchitect.core.scanner.Scanner#appliesTo} and
+ * {@link com.docarchitect.core.scanner.Scanner#scan}; the other phases are measured inside
+ * {@link #SCAN}. Scanners processing files in parallel spend phase time on several threads at
+ * once, so the phases of a scanner can add up to more than its {@link #SCAN} wall time.
+ *
+ * @since 1.0.0
+ */
+public enum ScanPhase {
+
+    /**
+     * Applicability check deciding whether the scanner runs.
+     */
+    APPLICABILITY,
+
+    /**
+     * The whole scan, including all phases below. Its CPU time and allocations are those of the
+     * scheduling thread; work handed to file workers only shows in the file phases.
+     */
+    SCAN,
+
+    /**
+     * Finding files with {@link com.docarchitect.core.scanner.ScanContext#findFiles(String)}.
+     */
+    DISCOVERY,
+
+    /**
+     * Reading and decoding file content.
+     */
+    READ,
+
+    /**
+     * Parsing file content into an AST.
+     */
+    PARSE,
+
+    /**
+     * Extracting findings from a parsed AST.
+     */
+    EXTRACTION,
+
+    /**
+     * Extracting findings with a regex fallback strategy.
+     */
+    FALLBACK
+}
@@ -0,0 +1,102 @@
+package com.docarchitect.core.scanner.profile;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Timings recorded by a {@link ScanProfiler}, per scanner and phase.
+ *
+ * <p>CPU time and allocated bytes are {@code -1} when the JVM cannot measure them per thread.
+ *
+ * @param scanners profiles of all scanners that recorded anything, slowest scan first
+ * @since 1.0.0
+ */
+public record ScanProfile(List<ScannerProfile> scanners) {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+        .enable(SerializationFeature.INDENT_OUTPUT);
+
+    /**
+     * Compact constructor with defaults.
+     */
+    public ScanProfile {
+        scanners = scanners != null ? List.copyOf(scanners) : List.of();
+    }
+
+    /**
+     * Serializes the profile for the {@code --profile} report.
+     *
+     * @return pretty-printed JSON
+     */
+    public String toJson() {
+        try {
+            return MAPPER.writeValueAsString(this);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Timings of one scanner.
+     *
+     * @param scannerId scanner ID
+     * @param phases timings of the phases the scanner went through, in {@link ScanPhase} order
+     * @param slowestFiles files that took the longest to read, parse and extract, slowest first
+     */
+    public record ScannerProfile(String scannerId, Map<ScanPhase, PhaseProfile> phases, List<FileProfile> slowestFiles) {
+
+        /**
+         * Compact constructor with validation and defaults.
+         */
+        public ScannerProfile {
+            Objects.requireNonNull(scannerId, "scannerId must not be null");
+            phases = phases == null || phases.isEmpty()
+                ? Map.of()
+                : Collections.unmodifiableMap(new EnumMap<>(phases));
+            slowestFiles = slowestFiles != null ? List.copyOf(slowestFiles) : List.of();
+        }
+
+        /**
+         * Returns the timings of one phase.
+         *
+         * @param phase phase
+         * @return timings, all zero if the scanner never entered the phase
+         */
+        public PhaseProfile phase(ScanPhase phase) {
+            return phases.getOrDefault(phase, PhaseProfile.NONE);
+        }
+    }
+
+    /**
+     * Accumulated timings of one phase.
+     *
+     * @param count number of times the phase was entered
+     * @param wallNanos elapsed time, summed over threads
+     * @param cpuNanos CPU time, or -1 if not measurable
+     * @param allocatedBytes heap allocated, or -1 if not measurable
+     */
+    public record PhaseProfile(long count, long wallNanos, long cpuNanos, long allocatedBytes) {
+
+        /**
+         * Timings of a phase that was never entered.
+         */
+        public static final PhaseProfile NONE = new PhaseProfile(0, 0, 0, 0);
+    }
+
+    /**
+     * Time spent on one file.
+     *
+     * @param path file path, relative to the project root when inside it
+     * @param wallNanos elapsed time reading, parsing and extracting the file
+     */
+    public record FileProfile(String path, long wallNanos) {
+    }
+}
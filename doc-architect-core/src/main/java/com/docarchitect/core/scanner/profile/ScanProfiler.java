@@ -0,0 +1,304 @@
+package com.docarchitect.core.scanner.profile;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records wall time, CPU time and allocated bytes per scanner and {@link ScanPhase}.
+ *
+ * <p>One profiler is created per run and attached to the
+ * {@link com.docarchitect.core.scanner.ScanContext}. The scheduler and the scanner base classes
+ * measure their work with a profiler {@link #forScanner(String) bound} to the scanner:
+ * <pre>{@code
+ * try (ScanProfiler.Span span = profiler.start(ScanPhase.PARSE, file)) {
+ *     return parser.parse(file, content);
+ * }
+ * }</pre>
+ *
+ * <p>CPU time and allocations are taken from the {@link ThreadMXBean} of the measuring thread;
+ * spans on virtual threads, such as files read ahead, only contribute their wall time.
+ * Time spent on a file in {@link ScanPhase#READ}, {@link ScanPhase#PARSE},
+ * {@link ScanPhase#EXTRACTION} and {@link ScanPhase#FALLBACK} is also summed per file to report
+ * the slowest files of each scanner.
+ *
+ * <p>The {@link #disabled() disabled} profiler, used unless {@code --profile} is given, hands out
+ * a shared no-op span and records nothing.
+ *
+ * <p><b>Thread Safety:</b> safe for concurrent use.
+ *
+ * @since 1.0.0
+ */
+public final class ScanProfiler {
+
+    /**
+     * Default number of slowest files reported per scanner.
+     */
+    public static final int DEFAULT_SLOWEST_FILES = 10;
+
+    private static final Logger log = LoggerFactory.getLogger(ScanProfiler.class);
+
+    private static final ScanProfiler DISABLED = new ScanProfiler(null, null);
+
+    private static final Span NO_OP = () -> { };
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private final Recording recording;
+    private final String scannerId;
+
+    private ScanProfiler(Recording recording, String scannerId) {
+        this.recording = recording;
+        this.scannerId = scannerId;
+    }
+
+    /**
+     * Creates an enabled profiler, turning on per-thread CPU time and allocation measurement
+     * where the JVM supports it.
+     *
+     * @param slowestFiles number of slowest files to report per scanner
+     * @return new profiler, not bound to a scanner
+     */
+    public static ScanProfiler create(int slowestFiles) {
+        if (slowestFiles < 0) {
+            throw new IllegalArgumentException("slowestFiles must not be negative: " + slowestFiles);
+        }
+        return new ScanProfiler(new Recording(slowestFiles, enableCpuTime(), enableAllocatedBytes()), null);
+    }
+
+    /**
+     * Returns the profiler that records nothing.
+     *
+     * @return disabled profiler
+     */
+    public static ScanProfiler disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * Checks whether this profiler records anything.
+     *
+     * @return true if created with {@link #create(int)}
+     */
+    public boolean isEnabled() {
+        return recording != null;
+    }
+
+    /**
+     * Returns a profiler recording into the same profile on behalf of one scanner.
+     *
+     * @param scannerId scanner the measured work is attributed to
+     * @return bound profiler, or this profiler if disabled
+     */
+    public ScanProfiler forScanner(String scannerId) {
+        return recording != null ? new ScanProfiler(recording, scannerId) : this;
+    }
+
+    /**
+     * Starts measuring a phase.
+     *
+     * @param phase phase being entered
+     * @return span to close when the phase ends; a no-op unless enabled and bound to a scanner
+     */
+    public Span start(ScanPhase phase) {
+        return start(phase, null);
+    }
+
+    /**
+     * Starts measuring a phase for one file.
+     *
+     * @param phase phase being entered
+     * @param file file being processed, counted towards the slowest files, or null
+     * @return span to close when the phase ends; a no-op unless enabled and bound to a scanner
+     */
+    public Span start(ScanPhase phase, Path file) {
+        if (recording == null || scannerId == null) {
+            return NO_OP;
+        }
+        return new MeasuredSpan(recording.scanner(scannerId), phase, file);
+    }
+
+    /**
+     * Returns the timings recorded so far.
+     *
+     * @param rootPath project root; file paths inside it are reported relative to it
+     * @return profile, empty if disabled
+     */
+    public ScanProfile snapshot(Path rootPath) {
+        if (recording == null) {
+            return new ScanProfile(List.of());
+        }
+        List<ScanProfile.ScannerProfile> scanners = new ArrayList<>();
+        recording.scanners.forEach((id, scanner) -> scanners.add(scanner.snapshot(id, rootPath, recording)));
+        scanners.sort(Comparator.comparingLong((ScanProfile.ScannerProfile p) -> p.phase(ScanPhase.SCAN).wallNanos())
+            .reversed()
+            .thenComparing(ScanProfile.ScannerProfile::scannerId));
+        return new ScanProfile(scanners);
+    }
+
+    /**
+     * Measurement of one phase, closed when the phase ends.
+     */
+    @FunctionalInterface
+    public interface Span extends AutoCloseable {
+
+        /**
+         * Ends the measurement and records it.
+         */
+        @Override
+        void close();
+    }
+
+    private static boolean enableCpuTime() {
+        try {
+            if (THREADS.isCurrentThreadCpuTimeSupported()) {
+                THREADS.setThreadCpuTimeEnabled(true);
+                return true;
+            }
+        } catch (UnsupportedOperationException | SecurityException e) {
+            log.debug("Thread CPU time not available: {}", e.getMessage());
+        }
+        return false;
+    }
+
+    private static boolean enableAllocatedBytes() {
+        try {
+            if (THREADS instanceof com.sun.management.ThreadMXBean threads && threads.isThreadAllocatedMemorySupported()) {
+                threads.setThreadAllocatedMemoryEnabled(true);
+                return true;
+            }
+        } catch (UnsupportedOperationException | SecurityException | LinkageError e) {
+            log.debug("Thread allocation measurement not available: {}", e.getMessage());
+        }
+        return false;
+    }
+
+    private static long delta(long start, long end) {
+        return start >= 0 && end >= start ? end - start : 0;
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) THREADS).getCurrentThreadAllocatedBytes();
+    }
+
+    /**
+     * Everything recorded by one profiler and the scanner-bound profilers derived from it.
+     */
+    private record Recording(int slowestFiles, boolean cpuTime, boolean allocatedBytes,
+                             Map<String, ScannerRecording> scanners) {
+
+        Recording(int slowestFiles, boolean cpuTime, boolean allocatedBytes) {
+            this(slowestFiles, cpuTime, allocatedBytes, new ConcurrentHashMap<>());
+        }
+
+        ScannerRecording scanner(String scannerId) {
+            return scanners.computeIfAbsent(scannerId, id -> new ScannerRecording());
+        }
+    }
+
+    /**
+     * Accumulated timings of one scanner.
+     */
+    private static final class ScannerRecording {
+
+        // Filled once and never modified, so concurrent reads are safe
+        private final Map<ScanPhase, PhaseRecording> phases = new EnumMap<>(ScanPhase.class);
+        private final Map<Path, LongAdder> fileNanos = new ConcurrentHashMap<>();
+
+        ScannerRecording() {
+            for (ScanPhase phase : ScanPhase.values()) {
+                phases.put(phase, new PhaseRecording());
+            }
+        }
+
+        ScanProfile.ScannerProfile snapshot(String scannerId, Path rootPath, Recording recording) {
+            Map<ScanPhase, ScanProfile.PhaseProfile> phaseProfiles = new EnumMap<>(ScanPhase.class);
+            phases.forEach((phase, timing) -> {
+                if (timing.count.sum() > 0) {
+                    phaseProfiles.put(phase, new ScanProfile.PhaseProfile(
+                        timing.count.sum(),
+                        timing.wallNanos.sum(),
+                        recording.cpuTime() ? timing.cpuNanos.sum() : -1,
+                        recording.allocatedBytes() ? timing.allocatedBytes.sum() : -1));
+                }
+            });
+            List<ScanProfile.FileProfile> slowest = fileNanos.entrySet().stream()
+                .map(entry -> new ScanProfile.FileProfile(displayPath(rootPath, entry.getKey()), entry.getValue().sum()))
+                .sorted(Comparator.comparingLong(ScanProfile.FileProfile::wallNanos).reversed()
+                    .thenComparing(ScanProfile.FileProfile::path))
+                .limit(recording.slowestFiles())
+                .toList();
+            return new ScanProfile.ScannerProfile(scannerId, phaseProfiles, slowest);
+        }
+
+        private static String displayPath(Path rootPath, Path file) {
+            Path path = rootPath != null && file.startsWith(rootPath) ? rootPath.relativize(file) : file;
+            return path.toString().replace('\\', '/');
+        }
+    }
+
+    /**
+     * Accumulated timings of one phase of one scanner.
+     */
+    private static final class PhaseRecording {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder wallNanos = new LongAdder();
+        private final LongAdder cpuNanos = new LongAdder();
+        private final LongAdder allocatedBytes = new LongAdder();
+    }
+
+    /**
+     * Span measuring the calling thread between creation and {@link #close()}.
+     */
+    private final class MeasuredSpan implements Span {
+
+        private final ScannerRecording scanner;
+        private final ScanPhase phase;
+        private final Path file;
+        private final long startWall;
+        private final long startCpu;
+        private final long startAllocated;
+        private boolean closed;
+
+        MeasuredSpan(ScannerRecording scanner, ScanPhase phase, Path file) {
+            this.scanner = scanner;
+            this.phase = phase;
+            this.file = file;
+            this.startCpu = recording.cpuTime() ? THREADS.getCurrentThreadCpuTime() : 0;
+            this.startAllocated = recording.allocatedBytes() ? allocatedBytes() : 0;
+            this.startWall = System.nanoTime();
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            long wall = System.nanoTime() - startWall;
+            PhaseRecording timing = scanner.phases.get(phase);
+            timing.count.increment();
+            timing.wallNanos.add(wall);
+            // Virtual threads report -1, their share stays unmeasured
+            if (recording.cpuTime()) {
+                timing.cpuNanos.add(delta(startCpu, THREADS.getCurrentThreadCpuTime()));
+            }
+            if (recording.allocatedBytes()) {
+                timing.allocatedBytes.add(delta(startAllocated, allocatedBytes()));
+            }
+            if (file != null && recording.slowestFiles() > 0) {
+                scanner.fileNanos.computeIfAbsent(file, path -> new LongAdder()).add(wall);
+            }
+        }
+    }
+}
@@ -2,9 +2,13 @@ package com.docarchitect.core.util;
 
 import java.io.IOException;
 import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.PathMatcher;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Stream;
 
@@ -22,6 +26,8 @@ public final class FileUtils {
      *
      * <p>Example patterns: pom.xml files, Java files, Kotlin files in src/main.
      *
+     * <p>Directories excluded by {@link IgnoreRules#defaults()} are not descended into.
+     *
      * @param rootPath root directory to search from
      * @param globPattern glob pattern
      * @return list of matching paths
@@ -30,15 +36,44 @@ public final class FileUtils {
     public static List<Path> findFiles(Path rootPath, String globPattern) throws IOException {
         PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + globPattern);
 
-        try (Stream<Path> paths = Files.walk(rootPath)) {
-            return paths
-                .filter(Files::isRegularFile)
-                .filter(path -> {
-                    Path relativePath = rootPath.relativize(path);
-                    return matcher.matches(relativePath);
-                })
-                .toList();
-        }
+        return walkFiles(rootPath, rootPath, IgnoreRules.defaults()).stream()
+            .filter(path -> {
+                Path relativePath = rootPath.relativize(path);
+                return matcher.matches(relativePath);
+            })
+            .toList();
+    }
+
+    /**
+     * Lists the regular files below a directory that are not ignored.
+     *
+     * <p>Ignored directories are pruned without being listed and unreadable entries are
+     * skipped. Symbolic links to regular files are included; linked directories are not
+     * followed.
+     *
+     * @param rootPath project root the ignore rules are relative to
+     * @param start directory to walk, at or below the root
+     * @param rules ignore rules to apply
+     * @return regular files in walk order
+     * @throws IOException if the start directory cannot be walked
+     */
+    public static List<Path> walkFiles(Path rootPath, Path start, IgnoreRules rules) throws IOException {
+        List<Path> files = new ArrayList<>();
+        rules.walk(rootPath, start, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                if (attrs.isRegularFile() || (attrs.isSymbolicLink() && Files.isRegularFile(file))) {
+                    files.add(file);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(Path file, IOException exc) {
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        return files;
     }
 
     /**
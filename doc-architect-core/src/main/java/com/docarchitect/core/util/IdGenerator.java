@@ -1,30 +1,110 @@
 package com.docarchitect.core.util;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
 import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Objects;
 
 /**
  * Utility class for generating deterministic IDs.
  *
- * <p>Uses SHA-256 hashing to generate consistent, collision-resistant IDs
- * from input strings.
+ * <p>An ID is 16 lowercase hex characters derived from a 64-bit hash of the input. Two hash
+ * modes are available:
+ * <ul>
+ *   <li>{@link Mode#COMPATIBLE} (default) - the first 8 bytes of the SHA-256 digest, which
+ *       reproduces the IDs of earlier versions, so existing baselines stay comparable</li>
+ *   <li>{@link Mode#FAST} - 64-bit xxHash, several times cheaper and still collision-resistant
+ *       enough for architecture element IDs, but not compatible with earlier IDs</li>
+ * </ul>
+ * The mode is read from the {@value #MODE_PROPERTY} system property ({@code compatible} or
+ * {@code fast}) and can be changed with {@link #setMode(Mode)}.
+ *
+ * <p>Both modes hash the UTF-8 bytes of the components and their {@code |} delimiters from a
+ * per-thread buffer, without joining strings, and reuse one digest per thread. Generated IDs
+ * are interned in a small fixed-size table, so the same element found by several scanners or
+ * in many files usually shares one {@code String} instance. Interning is best effort: IDs
+ * whose slots collide, or that are generated concurrently, evict each other and yield new
+ * instances. Compare IDs with {@code equals}, never by identity.
+ *
+ * <p><b>Thread Safety:</b> all methods are safe for concurrent use.
  */
 public final class IdGenerator {
 
+    /**
+     * System property selecting the initial {@link Mode}.
+     */
+    public static final String MODE_PROPERTY = "docarchitect.id.mode";
+
+    /**
+     * Hash function used to derive IDs.
+     */
+    public enum Mode {
+        /** Truncated SHA-256, identical to the IDs of earlier versions. */
+        COMPATIBLE,
+
+        /** 64-bit xxHash of the same input bytes. */
+        FAST
+    }
+
+    private static final byte DELIMITER = '|';
+    private static final int INTERN_TABLE_SIZE = 1 << 14;
+    private static final HexFormat HEX = HexFormat.of();
+    private static final VarHandle LONG_LE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle LONG_BE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle INT_LE = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private static final long PRIME64_1 = 0x9E3779B185EBCA87L;
+    private static final long PRIME64_2 = 0xC2B2AE3D27D4EB4FL;
+    private static final long PRIME64_3 = 0x165667B19E3779F9L;
+    private static final long PRIME64_4 = 0x85EBCA77C2B2AE63L;
+    private static final long PRIME64_5 = 0x27D4EB2F165667C5L;
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(IdGenerator::newSha256);
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    /** Racy but safe: entries are immutable, so a reader sees either a complete entry or another one. */
+    private static final Interned[] INTERNED = new Interned[INTERN_TABLE_SIZE];
+
+    private static volatile Mode mode = modeFromProperty(System.getProperty(MODE_PROPERTY));
+
     private IdGenerator() {
         // Utility class
     }
 
+    /**
+     * Returns the hash mode used for new IDs.
+     *
+     * @return current mode
+     */
+    public static Mode mode() {
+        return mode;
+    }
+
+    /**
+     * Changes the hash mode used for new IDs.
+     *
+     * <p>IDs of one scan must all come from the same mode; switch before scanning.
+     *
+     * @param newMode mode to use
+     */
+    public static void setMode(Mode newMode) {
+        mode = Objects.requireNonNull(newMode, "mode must not be null");
+    }
+
     /**
      * Generates a deterministic ID from input components.
      *
      * <p>The ID is generated by:
      * <ol>
      *   <li>Concatenating all input components with a delimiter</li>
-     *   <li>Computing SHA-256 hash of the concatenated string</li>
-     *   <li>Taking first 16 characters of the hex representation</li>
+     *   <li>Hashing the UTF-8 bytes with the current {@link Mode}</li>
+     *   <li>Formatting the first 64 bits as 16 hex characters</li>
      * </ol>
      *
      * <p>Example:
@@ -37,12 +117,34 @@ public final class IdGenerator {
      * @return deterministic ID (16 characters)
      */
     public static String generate(String... components) {
+        return generate(mode, components);
+    }
+
+    /**
+     * Generates a deterministic ID from input components with an explicit hash mode.
+     *
+     * @param hashMode hash mode, regardless of the current {@link #mode()}
+     * @param components input components to generate ID from
+     * @return deterministic ID (16 characters)
+     */
+    public static String generate(Mode hashMode, String... components) {
         if (components == null || components.length == 0) {
             throw new IllegalArgumentException("At least one component required");
         }
+        if (components.length == 1) {
+            requireNotBlank(String.valueOf(components[0]));
+        }
 
-        String input = String.join("|", components);
-        return generateFromString(input);
+        Scratch scratch = SCRATCH.get();
+        scratch.reset();
+        for (int i = 0; i < components.length; i++) {
+            if (i > 0) {
+                scratch.put(DELIMITER);
+            }
+            // String.join renders null elements as "null"; keep the same input bytes
+            scratch.putUtf8(String.valueOf(components[i]));
+        }
+        return intern(hash(hashMode, scratch));
     }
 
     /**
@@ -52,18 +154,11 @@ public final class IdGenerator {
      * @return deterministic ID (16 characters)
      */
     public static String generateFromString(String input) {
-        if (input == null || input.isBlank()) {
-            throw new IllegalArgumentException("Input must not be null or blank");
-        }
-
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hash = digest.digest(input.getBytes(StandardCharsets.UTF_8));
-            String hexHash = HexFormat.of().formatHex(hash);
-            return hexHash.substring(0, 16);
-        } catch (NoSuchAlgorithmException e) {
-            throw new IllegalStateException("SHA-256 algorithm not available", e);
-        }
+        requireNotBlank(input);
+        Scratch scratch = SCRATCH.get();
+        scratch.reset();
+        scratch.putUtf8(input);
+        return intern(hash(mode, scratch));
     }
 
     /**
@@ -73,16 +168,172 @@ public final class IdGenerator {
      * @return full SHA-256 hash (64 characters)
      */
     public static String generateFullHash(String input) {
+        requireNotBlank(input);
+        MessageDigest digest = SHA_256.get();
+        digest.reset();
+        return HEX.formatHex(digest.digest(input.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Computes the 64-bit xxHash (seed 0) of a byte range.
+     *
+     * @param bytes input bytes
+     * @param offset start of the range
+     * @param length length of the range
+     * @return hash value
+     */
+    static long xxHash64(byte[] bytes, int offset, int length) {
+        int index = offset;
+        int end = offset + length;
+        long hash;
+
+        if (length >= 32) {
+            long v1 = PRIME64_1 + PRIME64_2;
+            long v2 = PRIME64_2;
+            long v3 = 0;
+            long v4 = -PRIME64_1;
+            int limit = end - 32;
+            do {
+                v1 = round(v1, (long) LONG_LE.get(bytes, index));
+                v2 = round(v2, (long) LONG_LE.get(bytes, index + 8));
+                v3 = round(v3, (long) LONG_LE.get(bytes, index + 16));
+                v4 = round(v4, (long) LONG_LE.get(bytes, index + 24));
+                index += 32;
+            } while (index <= limit);
+
+            hash = Long.rotateLeft(v1, 1) + Long.rotateLeft(v2, 7) + Long.rotateLeft(v3, 12) + Long.rotateLeft(v4, 18);
+            hash = mergeRound(hash, v1);
+            hash = mergeRound(hash, v2);
+            hash = mergeRound(hash, v3);
+            hash = mergeRound(hash, v4);
+        } else {
+            hash = PRIME64_5;
+        }
+
+        hash += length;
+
+        while (index + 8 <= end) {
+            hash ^= round(0, (long) LONG_LE.get(bytes, index));
+            hash = Long.rotateLeft(hash, 27) * PRIME64_1 + PRIME64_4;
+            index += 8;
+        }
+        if (index + 4 <= end) {
+            hash ^= ((int) INT_LE.get(bytes, index) & 0xFFFFFFFFL) * PRIME64_1;
+            hash = Long.rotateLeft(hash, 23) * PRIME64_2 + PRIME64_3;
+            index += 4;
+        }
+        while (index < end) {
+            hash ^= (bytes[index] & 0xFFL) * PRIME64_5;
+            hash = Long.rotateLeft(hash, 11) * PRIME64_1;
+            index++;
+        }
+
+        hash ^= hash >>> 33;
+        hash *= PRIME64_2;
+        hash ^= hash >>> 29;
+        hash *= PRIME64_3;
+        hash ^= hash >>> 32;
+        return hash;
+    }
+
+    static Mode modeFromProperty(String value) {
+        if (value == null || value.isBlank()) {
+            return Mode.COMPATIBLE;
+        }
+        try {
+            return Mode.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return Mode.COMPATIBLE;
+        }
+    }
+
+    private static long hash(Mode hashMode, Scratch scratch) {
+        if (hashMode == Mode.FAST) {
+            return xxHash64(scratch.bytes, 0, scratch.length);
+        }
+        MessageDigest digest = SHA_256.get();
+        digest.reset();
+        digest.update(scratch.bytes, 0, scratch.length);
+        // The first 8 digest bytes as a big-endian long print as the first 16 hex characters
+        return (long) LONG_BE.get(digest.digest(), 0);
+    }
+
+    private static String intern(long hash) {
+        int slot = (int) (hash ^ (hash >>> 32)) & (INTERN_TABLE_SIZE - 1);
+        Interned entry = INTERNED[slot];
+        if (entry != null && entry.hash == hash) {
+            return entry.id;
+        }
+        String id = HEX.toHexDigits(hash);
+        INTERNED[slot] = new Interned(hash, id);
+        return id;
+    }
+
+    private static long round(long acc, long input) {
+        acc += input * PRIME64_2;
+        acc = Long.rotateLeft(acc, 31);
+        return acc * PRIME64_1;
+    }
+
+    private static long mergeRound(long acc, long value) {
+        acc ^= round(0, value);
+        return acc * PRIME64_1 + PRIME64_4;
+    }
+
+    private static void requireNotBlank(String input) {
         if (input == null || input.isBlank()) {
             throw new IllegalArgumentException("Input must not be null or blank");
         }
+    }
 
+    private static MessageDigest newSha256() {
         try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hash = digest.digest(input.getBytes(StandardCharsets.UTF_8));
-            return HexFormat.of().formatHex(hash);
+            return MessageDigest.getInstance("SHA-256");
         } catch (NoSuchAlgorithmException e) {
             throw new IllegalStateException("SHA-256 algorithm not available", e);
         }
     }
+
+    private record Interned(long hash, String id) {
+    }
+
+    /**
+     * Per-thread growable byte buffer holding the UTF-8 input of one ID.
+     */
+    private static final class Scratch {
+        private byte[] bytes = new byte[256];
+        private int length;
+
+        void reset() {
+            length = 0;
+        }
+
+        void put(byte value) {
+            ensureCapacity(1);
+            bytes[length++] = value;
+        }
+
+        void putUtf8(String value) {
+            int chars = value.length();
+            ensureCapacity(chars);
+            for (int i = 0; i < chars; i++) {
+                char c = value.charAt(i);
+                if (c >= 0x80) {
+                    // Non-ASCII: let the JDK encoder handle surrogates and multi-byte sequences
+                    byte[] encoded = value.substring(i).getBytes(StandardCharsets.UTF_8);
+                    ensureCapacity(encoded.length);
+                    System.arraycopy(encoded, 0, bytes, length, encoded.length);
+                    length += encoded.length;
+                    return;
+                }
+                bytes[length++] = (byte) c;
+            }
+        }
+
+        private void ensureCapacity(int additional) {
+            if (length + additional > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + additional));
+            }
+        }
+    }
 }
@@ -0,0 +1,615 @@
+package com.docarchitect.core.util;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileVisitResult;
+import java.nio.file.FileVisitor;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.regex.Pattern;
+
+/**
+ * Decides which files and directories a project walk skips, and performs such walks.
+ *
+ * <p>Rules use {@code .gitignore} syntax ({@code *}, {@code ?}, {@code **}, character
+ * classes, {@code !} negation, trailing {@code /} for directories, leading or inner
+ * {@code /} to anchor a pattern). They come from four sources, evaluated in this order with
+ * the last matching rule winning:
+ * <ol>
+ *   <li>{@link #DEFAULT_EXCLUDES} - VCS metadata and dependency/tool caches that never hold
+ *       project sources</li>
+ *   <li>{@value #DOCKERIGNORE} in the project root, anchored to the root as Docker does</li>
+ *   <li>{@value #GITIGNORE} files in the project root and every walked directory, relative
+ *       to the directory that contains them, deeper files taking precedence</li>
+ *   <li>configured excludes (e.g. {@code files.exclude} in {@code docarchitect.yaml}),
+ *       relative to the project root; {@code !pattern} re-includes anything excluded above</li>
+ * </ol>
+ *
+ * <p>{@link #walk(Path, Path, FileVisitor)} prunes an ignored directory with
+ * {@link FileVisitResult#SKIP_SUBTREE}, so nothing below it is ever listed. As in Git, a file
+ * cannot be re-included once one of its parent directories is excluded.
+ * {@link #walk(Path, Path, FileVisitor, int)} produces the same walk while listing directories
+ * concurrently on virtual threads.
+ *
+ * <p><b>Usage Example:</b></p>
+ * <pre>{@code
+ * IgnoreRules rules = IgnoreRules.of(List.of("vendor/", "**\/*.min.js"), true);
+ * rules.walk(projectRoot, projectRoot, new SimpleFileVisitor<>() {
+ *     public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+ *         files.add(file);
+ *         return FileVisitResult.CONTINUE;
+ *     }
+ * });
+ * }</pre>
+ *
+ * @since 1.0.0
+ */
+public final class IgnoreRules {
+
+    /**
+     * Directories excluded from every walk unless re-included with a {@code !} pattern.
+     */
+    public static final List<String> DEFAULT_EXCLUDES = List.of(
+        ".git/", ".hg/", ".svn/",
+        "node_modules/", "bower_components/",
+        ".venv/", "__pycache__/", ".tox/", ".mypy_cache/", ".pytest_cache/",
+        ".gradle/", ".docarchitect/"
+    );
+
+    /**
+     * Per-directory Git ignore file.
+     */
+    public static final String GITIGNORE = ".gitignore";
+
+    /**
+     * Docker build context ignore file, read from the project root only.
+     */
+    public static final String DOCKERIGNORE = ".dockerignore";
+
+    private static final IgnoreRules NONE = new IgnoreRules(List.of(), List.of(), false);
+    private static final IgnoreRules DEFAULTS = of(List.of(), true);
+
+    private final List<Rule> defaultRules;
+    private final List<Rule> configuredRules;
+    private final boolean readIgnoreFiles;
+
+    private IgnoreRules(List<Rule> defaultRules, List<Rule> configuredRules, boolean readIgnoreFiles) {
+        this.defaultRules = defaultRules;
+        this.configuredRules = configuredRules;
+        this.readIgnoreFiles = readIgnoreFiles;
+    }
+
+    /**
+     * Returns the rules used when nothing is configured: {@link #DEFAULT_EXCLUDES} plus
+     * {@value #GITIGNORE} and {@value #DOCKERIGNORE} files.
+     *
+     * @return default rules
+     */
+    public static IgnoreRules defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * Returns rules that skip nothing.
+     *
+     * @return empty rules
+     */
+    public static IgnoreRules none() {
+        return NONE;
+    }
+
+    /**
+     * Creates rules from {@link #DEFAULT_EXCLUDES} and configured excludes.
+     *
+     * @param excludes additional {@code .gitignore}-style patterns relative to the project root, may be null
+     * @param readIgnoreFiles whether {@value #GITIGNORE} and {@value #DOCKERIGNORE} files are honoured
+     * @return rules
+     */
+    public static IgnoreRules of(List<String> excludes, boolean readIgnoreFiles) {
+        return new IgnoreRules(
+            parse(DEFAULT_EXCLUDES, false),
+            parse(excludes == null ? List.of() : excludes, false),
+            readIgnoreFiles);
+    }
+
+    /**
+     * Checks whether a single path would be skipped by a walk of {@code rootPath}.
+     *
+     * <p>Reads the ignore files between the root and the path on every call; walks should use
+     * {@link #walk(Path, Path, FileVisitor)} instead.
+     *
+     * @param rootPath project root
+     * @param path file or directory below the root
+     * @param directory whether the path is a directory
+     * @return true if the path or one of its parent directories is ignored
+     */
+    public boolean isIgnored(Path rootPath, Path path, boolean directory) {
+        if (path.equals(rootPath) || !path.startsWith(rootPath)) {
+            return false;
+        }
+        Path relative = rootPath.relativize(path);
+        List<Frame> frames = new ArrayList<>();
+        frames.add(rootFrame(rootPath));
+        frames.add(gitignoreFrame(rootPath));
+        Frame configured = new Frame(rootPath, configuredRules);
+        Path current = rootPath;
+        for (int i = 0; i < relative.getNameCount(); i++) {
+            current = current.resolve(relative.getName(i));
+            boolean last = i == relative.getNameCount() - 1;
+            if (ignored(frames, configured, current, last ? directory : true)) {
+                return true;
+            }
+            if (!last) {
+                frames.add(gitignoreFrame(current));
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Walks a directory tree like {@link Files#walkFileTree(Path, FileVisitor)}, skipping ignored
+     * files and never descending into ignored directories.
+     *
+     * <p>The visitor sees exactly the walk {@code Files.walkFileTree} would produce on a tree
+     * from which the ignored entries had been removed. The start path itself is never ignored.
+     *
+     * @param rootPath project root; default, configured and {@value #DOCKERIGNORE} rules are relative to it
+     * @param start directory (or file) to walk, at or below the root
+     * @param visitor visitor receiving the non-ignored entries
+     * @throws IOException if the visitor throws one
+     */
+    public void walk(Path rootPath, Path start, FileVisitor<Path> visitor) throws IOException {
+        Objects.requireNonNull(rootPath, "rootPath must not be null");
+        Objects.requireNonNull(start, "start must not be null");
+        Files.walkFileTree(start, new PruningVisitor(rootPath, start, visitor));
+    }
+
+    /**
+     * Walks a directory tree like {@link #walk(Path, Path, FileVisitor)}, listing directories
+     * concurrently.
+     *
+     * <p>Directory listing, attribute reads and {@value #GITIGNORE} parsing run on virtual
+     * threads, at most {@code listingConcurrency} directories at a time, while the caller
+     * replays the results into the visitor. The visitor is only ever called from the calling
+     * thread and sees the same events in the same order as the sequential walk, so it needs no
+     * synchronization. Subtrees the visitor skips or terminates may still have been listed.
+     *
+     * @param rootPath project root; default, configured and {@value #DOCKERIGNORE} rules are relative to it
+     * @param start directory (or file) to walk, at or below the root
+     * @param visitor visitor receiving the non-ignored entries
+     * @param listingConcurrency maximum number of directories listed at once; 1 or less walks sequentially
+     * @throws IOException if the visitor throws one
+     */
+    public void walk(Path rootPath, Path start, FileVisitor<Path> visitor, int listingConcurrency) throws IOException {
+        Objects.requireNonNull(rootPath, "rootPath must not be null");
+        Objects.requireNonNull(start, "start must not be null");
+        if (listingConcurrency <= 1) {
+            walk(rootPath, start, visitor);
+            return;
+        }
+
+        BasicFileAttributes attrs;
+        try {
+            attrs = Files.readAttributes(start, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+        } catch (IOException e) {
+            visitor.visitFileFailed(start, e);
+            return;
+        }
+        if (!attrs.isDirectory()) {
+            visitor.visitFile(start, attrs);
+            return;
+        }
+
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            ConcurrentLister lister = new ConcurrentLister(
+                executor, new Semaphore(listingConcurrency), new Frame(rootPath, configuredRules));
+            replay(lister.submit(start, attrs, List.copyOf(initialFrames(rootPath, start))), visitor);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Frames in effect for the entries of {@code start}, excluding the start directory's own
+     * {@value #GITIGNORE}.
+     */
+    private List<Frame> initialFrames(Path rootPath, Path start) {
+        List<Frame> frames = new ArrayList<>();
+        frames.add(rootFrame(rootPath));
+
+        // Ignore files of the directories between the root and the start path still apply
+        if (!start.equals(rootPath) && start.startsWith(rootPath)) {
+            Path current = rootPath;
+            frames.add(gitignoreFrame(current));
+            Path relative = rootPath.relativize(start);
+            for (int i = 0; i < relative.getNameCount() - 1; i++) {
+                current = current.resolve(relative.getName(i));
+                frames.add(gitignoreFrame(current));
+            }
+        }
+        return frames;
+    }
+
+    /**
+     * Feeds a listed directory and, recursively, its subdirectories into the visitor in
+     * {@link Files#walkFileTree(Path, FileVisitor)} order.
+     */
+    private static FileVisitResult replay(Future<Listing> pending, FileVisitor<Path> visitor) throws IOException {
+        Listing listing = await(pending);
+        if (listing.openFailure() != null) {
+            return visitor.visitFileFailed(listing.directory(), listing.openFailure());
+        }
+
+        FileVisitResult result = visitor.preVisitDirectory(listing.directory(), listing.attributes());
+        if (result == FileVisitResult.SKIP_SUBTREE) {
+            return FileVisitResult.CONTINUE;
+        }
+        if (result != FileVisitResult.CONTINUE) {
+            return result;
+        }
+
+        for (Entry entry : listing.entries()) {
+            if (entry.failure() != null) {
+                result = visitor.visitFileFailed(entry.path(), entry.failure());
+            } else if (entry.subdirectory() != null) {
+                result = replay(entry.subdirectory(), visitor);
+            } else {
+                result = visitor.visitFile(entry.path(), entry.attributes());
+            }
+            if (result == FileVisitResult.TERMINATE) {
+                return result;
+            }
+            if (result == FileVisitResult.SKIP_SIBLINGS) {
+                break;
+            }
+        }
+        return visitor.postVisitDirectory(listing.directory(), listing.iterationFailure());
+    }
+
+    private static Listing await(Future<Listing> pending) throws IOException {
+        try {
+            return pending.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while listing directories");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IOException("Directory listing failed", e.getCause());
+        }
+    }
+
+    private Frame rootFrame(Path rootPath) {
+        List<Rule> rules = new ArrayList<>(defaultRules);
+        if (readIgnoreFiles) {
+            rules.addAll(parse(readLines(rootPath.resolve(DOCKERIGNORE)), true));
+        }
+        return new Frame(rootPath, rules);
+    }
+
+    private Frame gitignoreFrame(Path directory) {
+        if (!readIgnoreFiles) {
+            return new Frame(directory, List.of());
+        }
+        return new Frame(directory, parse(readLines(directory.resolve(GITIGNORE)), false));
+    }
+
+    private static boolean ignored(List<Frame> frames, Frame configured, Path path, boolean directory) {
+        Boolean decision = configured.decide(path, directory);
+        if (decision != null) {
+            return decision;
+        }
+        // Innermost frame first: deeper ignore files override their parents
+        for (int i = frames.size() - 1; i >= 0; i--) {
+            decision = frames.get(i).decide(path, directory);
+            if (decision != null) {
+                return decision;
+            }
+        }
+        return false;
+    }
+
+    private static List<String> readLines(Path file) {
+        if (!Files.isRegularFile(file)) {
+            return List.of();
+        }
+        try {
+            return Files.readAllLines(file);
+        } catch (IOException | RuntimeException e) {
+            // Unreadable or undecodable ignore file: ignore nothing rather than abort the walk
+            return List.of();
+        }
+    }
+
+    private static List<Rule> parse(List<String> lines, boolean anchored) {
+        List<Rule> rules = new ArrayList<>();
+        for (String line : lines) {
+            Rule rule = Rule.parse(line, anchored);
+            if (rule != null) {
+                rules.add(rule);
+            }
+        }
+        return rules;
+    }
+
+    /**
+     * Rules declared in one directory, matched against paths relative to it.
+     */
+    private record Frame(Path directory, List<Rule> rules) {
+
+        /**
+         * Returns true (ignore), false (re-include) or null (no rule matches).
+         */
+        Boolean decide(Path path, boolean isDirectory) {
+            if (rules.isEmpty()) {
+                return null;
+            }
+            String relative = directory.relativize(path).toString().replace('\\', '/');
+            for (int i = rules.size() - 1; i >= 0; i--) {
+                Rule rule = rules.get(i);
+                if (rule.matches(relative, isDirectory)) {
+                    return !rule.negated();
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * A single {@code .gitignore} pattern compiled to a regular expression.
+     *
+     * @param pattern compiled pattern matched against the full relative path
+     * @param negated whether the pattern starts with {@code !}
+     * @param directoryOnly whether the pattern ends with {@code /}
+     */
+    record Rule(Pattern pattern, boolean negated, boolean directoryOnly) {
+
+        boolean matches(String relativePath, boolean isDirectory) {
+            return (isDirectory || !directoryOnly) && pattern.matcher(relativePath).matches();
+        }
+
+        /**
+         * Parses one line of an ignore file.
+         *
+         * @param line raw line
+         * @param anchored whether every pattern is relative to the base directory (Docker semantics)
+         * @return rule, or null for blank lines and comments
+         */
+        static Rule parse(String line, boolean anchored) {
+            String text = stripTrailingSpaces(line);
+            if (text.isEmpty() || text.startsWith("#")) {
+                return null;
+            }
+
+            boolean negated = text.startsWith("!");
+            if (negated) {
+                text = text.substring(1);
+            } else if (text.startsWith("\\!") || text.startsWith("\\#")) {
+                text = text.substring(1);
+            }
+
+            boolean directoryOnly = text.endsWith("/");
+            while (text.endsWith("/")) {
+                text = text.substring(0, text.length() - 1);
+            }
+            if (text.isEmpty()) {
+                return null;
+            }
+
+            // A slash anywhere but at the end anchors the pattern to the base directory
+            boolean relativeToBase = anchored || text.indexOf('/') >= 0;
+            while (text.startsWith("/")) {
+                text = text.substring(1);
+            }
+
+            StringBuilder regex = new StringBuilder();
+            if (!relativeToBase) {
+                regex.append("(?:.*/)?");
+            }
+            appendGlob(regex, text);
+            return new Rule(Pattern.compile(regex.toString()), negated, directoryOnly);
+        }
+
+        private static void appendGlob(StringBuilder regex, String glob) {
+            int length = glob.length();
+            for (int i = 0; i < length; i++) {
+                char c = glob.charAt(i);
+                switch (c) {
+                    case '*' -> {
+                        boolean doubleStar = i + 1 < length && glob.charAt(i + 1) == '*';
+                        boolean segmentStart = i == 0 || glob.charAt(i - 1) == '/';
+                        if (doubleStar && segmentStart && i + 2 < length && glob.charAt(i + 2) == '/') {
+                            regex.append("(?:.*/)?");
+                            i += 2;
+                        } else if (doubleStar && segmentStart && i + 2 == length) {
+                            regex.append(".*");
+                            i += 1;
+                        } else if (doubleStar) {
+                            regex.append("[^/]*");
+                            i += 1;
+                        } else {
+                            regex.append("[^/]*");
+                        }
+                    }
+                    case '?' -> regex.append("[^/]");
+                    case '[' -> i = appendCharacterClass(regex, glob, i);
+                    case '\\' -> {
+                        if (i + 1 < length) {
+                            regex.append(Pattern.quote(String.valueOf(glob.charAt(++i))));
+                        }
+                    }
+                    default -> regex.append(Pattern.quote(String.valueOf(c)));
+                }
+            }
+        }
+
+        /**
+         * Appends a {@code [...]} class and returns the index of its closing bracket, or quotes
+         * a lone {@code [} when the class is not terminated.
+         */
+        private static int appendCharacterClass(StringBuilder regex, String glob, int open) {
+            int close = glob.indexOf(']', open + 2);
+            if (close < 0) {
+                regex.append("\\[");
+                return open;
+            }
+            String body = glob.substring(open + 1, close);
+            StringBuilder characterClass = new StringBuilder("[");
+            int start = 0;
+            if (body.startsWith("!") || body.startsWith("^")) {
+                characterClass.append('^');
+                start = 1;
+            }
+            for (int i = start; i < body.length(); i++) {
+                char c = body.charAt(i);
+                if (c == '\\' || c == '[' || c == '&' || c == '^') {
+                    characterClass.append('\\');
+                }
+                characterClass.append(c);
+            }
+            regex.append(characterClass).append(']');
+            return close;
+        }
+
+        private static String stripTrailingSpaces(String line) {
+            int end = line.length();
+            while (end > 0 && line.charAt(end - 1) == ' ' && (end < 2 || line.charAt(end - 2) != '\\')) {
+                end--;
+            }
+            return line.substring(0, end);
+        }
+    }
+
+    /**
+     * Delegating visitor that keeps the {@value #GITIGNORE} rules of the directories being
+     * walked and prunes ignored entries.
+     */
+    private final class PruningVisitor implements FileVisitor<Path> {
+        private final Path start;
+        private final FileVisitor<Path> delegate;
+        private final Frame configured;
+        private final List<Frame> frames;
+
+        private PruningVisitor(Path rootPath, Path start, FileVisitor<Path> delegate) {
+            this.start = start;
+            this.delegate = delegate;
+            this.configured = new Frame(rootPath, configuredRules);
+            this.frames = initialFrames(rootPath, start);
+        }
+
+        @Override
+        public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+            if (!dir.equals(start) && ignored(frames, configured, dir, true)) {
+                return FileVisitResult.SKIP_SUBTREE;
+            }
+            FileVisitResult result = delegate.preVisitDirectory(dir, attrs);
+            if (result == FileVisitResult.CONTINUE) {
+                frames.add(gitignoreFrame(dir));
+            }
+            return result;
+        }
+
+        @Override
+        public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+            if (!file.equals(start) && ignored(frames, configured, file, attrs.isDirectory())) {
+                return FileVisitResult.CONTINUE;
+            }
+            return delegate.visitFile(file, attrs);
+        }
+
+        @Override
+        public FileVisitResult visitFileFailed(Path file, IOException exc) throws IOException {
+            return delegate.visitFileFailed(file, exc);
+        }
+
+        @Override
+        public FileVisitResult postVisitDirectory(Path dir, IOException exc) throws IOException {
+            frames.remove(frames.size() - 1);
+            return delegate.postVisitDirectory(dir, exc);
+        }
+    }
+
+    /**
+     * Lists directories on virtual threads, applying the ignore rules while listing.
+     */
+    private final class ConcurrentLister {
+        private final ExecutorService executor;
+        private final Semaphore permits;
+        private final Frame configured;
+
+        private ConcurrentLister(ExecutorService executor, Semaphore permits, Frame configured) {
+            this.executor = executor;
+            this.permits = permits;
+            this.configured = configured;
+        }
+
+        private Future<Listing> submit(Path directory, BasicFileAttributes attrs, List<Frame> parentFrames) {
+            return executor.submit(() -> list(directory, attrs, parentFrames));
+        }
+
+        private Listing list(Path directory, BasicFileAttributes attrs, List<Frame> parentFrames)
+                throws InterruptedException {
+            permits.acquire();
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+                List<Frame> frames = new ArrayList<>(parentFrames.size() + 1);
+                frames.addAll(parentFrames);
+                frames.add(gitignoreFrame(directory));
+                List<Frame> childFrames = List.copyOf(frames);
+
+                List<Entry> entries = new ArrayList<>();
+                IOException iterationFailure = null;
+                try {
+                    for (Path child : stream) {
+                        BasicFileAttributes childAttrs;
+                        try {
+                            childAttrs = Files.readAttributes(child, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+                        } catch (IOException e) {
+                            entries.add(new Entry(child, null, null, e));
+                            continue;
+                        }
+                        if (ignored(childFrames, configured, child, childAttrs.isDirectory())) {
+                            continue;
+                        }
+                        entries.add(childAttrs.isDirectory()
+                            ? new Entry(child, childAttrs, submit(child, childAttrs, childFrames), null)
+                            : new Entry(child, childAttrs, null, null));
+                    }
+                } catch (DirectoryIteratorException e) {
+                    iterationFailure = e.getCause();
+                }
+                return new Listing(directory, attrs, entries, null, iterationFailure);
+            } catch (IOException e) {
+                return new Listing(directory, attrs, List.of(), e, null);
+            } finally {
+                permits.release();
+            }
+        }
+    }
+
+    private record Listing(Path directory, BasicFileAttributes attributes, List<Entry> entries,
+                           IOException openFailure, IOException iterationFailure) {
+    }
+
+    /**
+     * Listed entry: a file, a subdirectory whose listing is pending, or an unreadable entry.
+     */
+    private record Entry(Path path, BasicFileAttributes attributes, Future<Listing> subdirectory, IOException failure) {
+    }
+}
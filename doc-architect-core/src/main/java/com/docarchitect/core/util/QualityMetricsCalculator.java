@@ -4,8 +4,10 @@ import com.docarchitect.core.model.ArchitectureComponentMetrics;
 import com.docarchitect.core.model.QualityGap;
 import com.docarchitect.core.model.ScanQualityReport;
 import com.docarchitect.core.scanner.ConfidenceLevel;
+import com.docarchitect.core.scanner.FindingType;
 import com.docarchitect.core.scanner.ScanContext;
 import com.docarchitect.core.scanner.ScanResult;
+import com.docarchitect.core.scanner.ScanStatistics;
 
 import java.util.*;
 
@@ -19,6 +21,14 @@ import java.util.*;
  */
 public final class QualityMetricsCalculator {
 
+    /**
+     * Error types of files refused before parsing; such files are always skipped.
+     */
+    private static final List<String> REFUSED_FILE_ERRORS = List.of(
+        ScanStatistics.FILE_TOO_LARGE_ERROR,
+        ScanStatistics.TOO_MANY_LINES_ERROR
+    );
+
     private QualityMetricsCalculator() {
         // Utility class
     }
@@ -33,6 +43,33 @@ public final class QualityMetricsCalculator {
     public static ScanQualityReport calculateQualityReport(
         Map<String, ScanResult> scanResults,
         ScanContext context
+    ) {
+        Map<FindingType, Integer> findingCounts = new EnumMap<>(FindingType.class);
+        for (ScanResult result : scanResults.values()) {
+            findingCounts.merge(FindingType.COMPONENTS, result.components().size(), Integer::sum);
+            findingCounts.merge(FindingType.DEPENDENCIES, result.dependencies().size(), Integer::sum);
+            findingCounts.merge(FindingType.API_ENDPOINTS, result.apiEndpoints().size(), Integer::sum);
+            findingCounts.merge(FindingType.MESSAGE_FLOWS, result.messageFlows().size(), Integer::sum);
+            findingCounts.merge(FindingType.DATA_ENTITIES, result.dataEntities().size(), Integer::sum);
+            findingCounts.merge(FindingType.RELATIONSHIPS, result.relationships().size(), Integer::sum);
+        }
+        return calculateQualityReport(scanResults, context, findingCounts);
+    }
+
+    /**
+     * Calculate overall scan quality report from scan results whose findings have already
+     * been aggregated and released.
+     *
+     * @param scanResults map of scanner ID to scan result; only status, messages and statistics are read
+     * @param context scan context
+     * @param findingCounts number of findings per category across all results, before deduplication
+     * @return quality report
+     * @see com.docarchitect.core.model.ArchitectureModelBuilder#rawFindingCount(FindingType)
+     */
+    public static ScanQualityReport calculateQualityReport(
+        Map<String, ScanResult> scanResults,
+        ScanContext context,
+        Map<FindingType, Integer> findingCounts
     ) {
         // Calculate file statistics
         int totalFilesInProject = estimateTotalFiles(context);
@@ -42,11 +79,11 @@ public final class QualityMetricsCalculator {
 
         // Calculate coverage by component
         Map<String, ArchitectureComponentMetrics> coverageByComponent =
-            calculateComponentCoverage(scanResults, context);
+            calculateComponentCoverage(findingCounts, context);
 
         // Calculate findings by confidence level
         Map<ConfidenceLevel, Integer> findingsByConfidence =
-            calculateFindingsByConfidence(scanResults);
+            calculateFindingsByConfidence(findingCounts);
 
         // Detect quality gaps
         List<QualityGap> gaps = detectQualityGaps(scanResults);
@@ -104,12 +141,12 @@ public final class QualityMetricsCalculator {
     /**
      * Calculate coverage metrics for each architecture component type.
      *
-     * @param scanResults scan results
+     * @param findingCounts finding counts by category
      * @param context scan context
      * @return coverage by component type
      */
     private static Map<String, ArchitectureComponentMetrics> calculateComponentCoverage(
-        Map<String, ScanResult> scanResults,
+        Map<FindingType, Integer> findingCounts,
         ScanContext context
     ) {
         Map<String, ArchitectureComponentMetrics> coverage = new LinkedHashMap<>();
@@ -117,22 +154,22 @@ public final class QualityMetricsCalculator {
         // REST APIs coverage
         calculateComponentMetrics(coverage, "REST APIs",
             estimateRestApiFiles(context),
-            countRestApiFindings(scanResults));
+            count(findingCounts, FindingType.API_ENDPOINTS));
 
         // Database Entities coverage
         calculateComponentMetrics(coverage, "Database Entities",
             estimateDatabaseEntityFiles(context),
-            countDatabaseEntityFindings(scanResults));
+            count(findingCounts, FindingType.DATA_ENTITIES));
 
         // Message Flows coverage
         calculateComponentMetrics(coverage, "Message Flows",
             estimateMessageFlowFiles(context),
-            countMessageFlowFindings(scanResults));
+            count(findingCounts, FindingType.MESSAGE_FLOWS));
 
         // Dependencies coverage
         calculateComponentMetrics(coverage, "Dependencies",
             estimateDependencyFiles(context),
-            countDependencyFindings(scanResults));
+            count(findingCounts, FindingType.DEPENDENCIES));
 
         return coverage;
     }
@@ -170,15 +207,6 @@ public final class QualityMetricsCalculator {
         return (int) (javaControllers + pythonRoutes + pythonViews + pythonApi + dotnetControllers + goHandlers + goRouters);
     }
 
-    /**
-     * Count REST API findings from scan results.
-     */
-    private static int countRestApiFindings(Map<String, ScanResult> scanResults) {
-        return scanResults.values().stream()
-            .mapToInt(result -> result.apiEndpoints().size())
-            .sum();
-    }
-
     /**
      * Estimate number of database entity files.
      */
@@ -191,15 +219,6 @@ public final class QualityMetricsCalculator {
         return (int) (javaEntityDir + javaModelDir + pythonModels + dotnetEntityDir + dotnetModelDir);
     }
 
-    /**
-     * Count database entity findings from scan results.
-     */
-    private static int countDatabaseEntityFindings(Map<String, ScanResult> scanResults) {
-        return scanResults.values().stream()
-            .mapToInt(result -> result.dataEntities().size())
-            .sum();
-    }
-
     /**
      * Estimate number of message flow files.
      */
@@ -211,15 +230,6 @@ public final class QualityMetricsCalculator {
         return (int) (javaConsumers + javaProducers + pythonConsumers + pythonProducers);
     }
 
-    /**
-     * Count message flow findings from scan results.
-     */
-    private static int countMessageFlowFindings(Map<String, ScanResult> scanResults) {
-        return scanResults.values().stream()
-            .mapToInt(result -> result.messageFlows().size())
-            .sum();
-    }
-
     /**
      * Estimate number of dependency files.
      */
@@ -236,22 +246,20 @@ public final class QualityMetricsCalculator {
     }
 
     /**
-     * Count dependency findings from scan results.
+     * Count findings of one category.
      */
-    private static int countDependencyFindings(Map<String, ScanResult> scanResults) {
-        return scanResults.values().stream()
-            .mapToInt(result -> result.dependencies().size())
-            .sum();
+    private static int count(Map<FindingType, Integer> findingCounts, FindingType type) {
+        return findingCounts.getOrDefault(type, 0);
     }
 
     /**
      * Calculate distribution of findings by confidence level.
      *
-     * @param scanResults scan results
+     * @param findingCounts finding counts by category
      * @return findings count by confidence level
      */
     private static Map<ConfidenceLevel, Integer> calculateFindingsByConfidence(
-        Map<String, ScanResult> scanResults
+        Map<FindingType, Integer> findingCounts
     ) {
         Map<ConfidenceLevel, Integer> distribution = new EnumMap<>(ConfidenceLevel.class);
 
@@ -262,14 +270,10 @@ public final class QualityMetricsCalculator {
 
         // For now, assume all findings are HIGH confidence (AST-based)
         // In future, scanners should report confidence per finding
-        int totalFindings = scanResults.values().stream()
-            .mapToInt(result ->
-                result.components().size() +
-                result.apiEndpoints().size() +
-                result.dataEntities().size() +
-                result.messageFlows().size()
-            )
-            .sum();
+        int totalFindings = count(findingCounts, FindingType.COMPONENTS)
+            + count(findingCounts, FindingType.API_ENDPOINTS)
+            + count(findingCounts, FindingType.DATA_ENTITIES)
+            + count(findingCounts, FindingType.MESSAGE_FLOWS);
 
         distribution.put(ConfidenceLevel.HIGH, totalFindings);
 
@@ -301,6 +305,17 @@ public final class QualityMetricsCalculator {
                     result.warnings().get(0)));
             }
 
+            // Check for files skipped by the scan limits
+            if (result.statistics() != null && result.statistics().hasSkippedFiles()) {
+                gaps.add(QualityGap.warning(scannerId, describeSkippedFiles(result.statistics())));
+            }
+
+            // Check for parse timeouts, which may have disabled parsing
+            if (result.statistics() != null) {
+                describeParseTimeouts(result.statistics())
+                    .ifPresent(message -> gaps.add(QualityGap.warning(scannerId, message)));
+            }
+
             // Check for low parse rates
             if (result.statistics() != null && result.statistics().hasFailures()) {
                 double failureRate = result.statistics().getFailureRate();
@@ -313,4 +328,53 @@ public final class QualityMetricsCalculator {
 
         return gaps;
     }
+
+    /**
+     * Describe files skipped by the scan limits, broken down by exceeded limit.
+     *
+     * @param statistics statistics of one scanner
+     * @return gap message, e.g. "3 files skipped by scan limits (File too large: 2, Parse timeout: 1)"
+     */
+    private static String describeSkippedFiles(ScanStatistics statistics) {
+        StringBuilder reasons = new StringBuilder();
+        int skipped = statistics.filesSkipped();
+        int refused = 0;
+        for (String errorType : REFUSED_FILE_ERRORS) {
+            int count = statistics.errorCounts().getOrDefault(errorType, 0);
+            if (count > 0) {
+                reasons.append(reasons.isEmpty() ? " (" : ", ").append(errorType).append(": ").append(count);
+                refused += count;
+            }
+        }
+        // The rest were abandoned parses the regex fallback could not recover
+        if (skipped > refused) {
+            reasons.append(reasons.isEmpty() ? " (" : ", ")
+                .append(ScanStatistics.PARSE_TIMEOUT_ERROR).append(": ").append(skipped - refused);
+        }
+        if (!reasons.isEmpty()) {
+            reasons.append(')');
+        }
+        return skipped + (skipped == 1 ? " file" : " files") + " skipped by scan limits" + reasons;
+    }
+
+    /**
+     * Describe parse timeouts and files not parsed because they disabled the parser.
+     *
+     * @param statistics statistics of one scanner
+     * @return gap message, e.g. "3 parse timeouts; parser disabled for 12 files (regex fallback only)",
+     *         or empty if no parse timed out
+     */
+    private static Optional<String> describeParseTimeouts(ScanStatistics statistics) {
+        int timeouts = statistics.errorCounts().getOrDefault(ScanStatistics.PARSE_TIMEOUT_ERROR, 0);
+        int disabled = statistics.errorCounts().getOrDefault(ScanStatistics.PARSER_DISABLED_ERROR, 0);
+        if (timeouts == 0 && disabled == 0) {
+            return Optional.empty();
+        }
+        String message = timeouts + (timeouts == 1 ? " parse timeout" : " parse timeouts");
+        if (disabled > 0) {
+            message += "; parser disabled for " + disabled + (disabled == 1 ? " file" : " files")
+                + " (regex fallback only)";
+        }
+        return Optional.of(message);
+    }
 }
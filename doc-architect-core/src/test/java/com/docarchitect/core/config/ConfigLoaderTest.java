@@ -201,6 +201,27 @@ class ConfigLoaderTest {
         assertThat(config.scanners().config()).containsKey("maven");
     }
 
+    @Test
+    void load_withFileExcludes_parsesCorrectly() throws IOException {
+        Path configFile = tempDir.resolve("docarchitect.yaml");
+        Files.writeString(configFile, """
+            project:
+              name: "ExcludingProject"
+              version: "1.0.0"
+
+            files:
+              exclude:
+                - vendor/
+                - "**/*.min.js"
+              respectIgnoreFiles: false
+            """);
+
+        ProjectConfig config = ConfigLoader.load(configFile);
+
+        assertThat(config.files().exclude()).containsExactly("vendor/", "**/*.min.js");
+        assertThat(config.files().shouldRespectIgnoreFiles()).isFalse();
+    }
+
     @Test
     void load_withAutoModeLowerCase_parsesCorrectly() throws IOException {
         Path configFile = tempDir.resolve("docarchitect.yaml");
@@ -122,7 +122,8 @@ class ProjectConfigTest {
             List.of(new ProjectConfig.RepositoryConfig("main", ".")),
             new ProjectConfig.ScannerConfig(null, List.of("maven-dependencies"), List.of(), Map.of()),
             new ProjectConfig.GeneratorConfigSettings("mermaid", List.of("mermaid")),
-            new ProjectConfig.OutputConfig("./docs", true)
+            new ProjectConfig.OutputConfig("./docs", true),
+            new ProjectConfig.FileConfig(List.of("vendor/"), false)
         );
 
         assertThat(config.project().name()).isEqualTo("TestProject");
@@ -131,6 +132,8 @@ class ProjectConfigTest {
         assertThat(config.scanners().isEnabled("gradle-dependencies")).isFalse();
         assertThat(config.generators().defaultGenerator()).isEqualTo("mermaid");
         assertThat(config.output().directory()).isEqualTo("./docs");
+        assertThat(config.files().exclude()).containsExactly("vendor/");
+        assertThat(config.files().shouldRespectIgnoreFiles()).isFalse();
     }
 
     @Test
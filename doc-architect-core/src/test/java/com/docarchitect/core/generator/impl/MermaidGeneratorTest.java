@@ -213,6 +213,23 @@ class MermaidGeneratorTest {
             .contains("-->");
     }
 
+    @Test
+    void generate_dependencyGraph_ordersEdgesByFirstAppearance() {
+        ArchitectureModel model = new ArchitectureModel(
+            "TestProject", "1.0", List.of(), List.of(),
+            List.of(
+                new Dependency("zeta", "org.example", "guava", "1.0", "compile", true),
+                new Dependency("alpha", "org.example", "jackson", "1.0", "compile", true),
+                new Dependency("zeta", "org.example", "slf4j", "1.0", "compile", true)),
+            List.of(), List.of(), List.of(), List.of(), null, null
+        );
+
+        GeneratedDiagram diagram = generator.generate(model, DiagramType.DEPENDENCY_GRAPH, config);
+
+        assertThat(diagram.content())
+            .containsSubsequence("zeta --> guava", "zeta --> slf4j", "alpha --> jackson");
+    }
+
     @Test
     void generate_erDiagram_withEmptyModel_generatesPlaceholder() {
         ArchitectureModel model = new ArchitectureModel(
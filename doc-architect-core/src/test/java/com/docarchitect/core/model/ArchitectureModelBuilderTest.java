@@ -0,0 +1,87 @@
+package com.docarchitect.core.model;
+
+import com.docarchitect.core.scanner.FindingType;
+import com.docarchitect.core.scanner.ScanResult;
+import com.docarchitect.core.scanner.ScanStatistics;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for {@link ArchitectureModelBuilder}.
+ */
+class ArchitectureModelBuilderTest {
+
+    @Test
+    void add_withDuplicateFindings_keepsFirstOccurrenceInOrder() {
+        ArchitectureModelBuilder builder = new ArchitectureModelBuilder()
+            .add(result("maven",
+                List.of(component("orders", "Orders"), component("users", "Users")),
+                List.of(dependency("orders", "spring-web", "6.1"), dependency("users", "spring-web", "6.1"))))
+            .add(result("gradle",
+                List.of(component("orders", "Orders (gradle)"), component("billing", "Billing")),
+                List.of(dependency("billing", "spring-web", "6.2"))));
+
+        ArchitectureModel model = builder.build("shop", "1.0.0", List.of("/repo"), null);
+
+        assertThat(model.components()).extracting(Component::name).containsExactly("Orders", "Users", "Billing");
+        assertThat(model.dependencies()).extracting(Dependency::version).containsExactly("6.1", "6.2");
+        assertThat(model.dependencies().get(0).sourceComponentId()).isEqualTo("orders");
+    }
+
+    @Test
+    void add_withKeysContainingSeparators_doesNotConflateFindings() {
+        ScanResult result = new ScanResult("rest", true, List.of(), List.of(),
+            List.of(endpoint("api", "GET:/a", "/b"), endpoint("api", "GET", "/a:/b")),
+            List.of(), List.of(), List.of(), List.of(), List.of(), ScanStatistics.empty());
+
+        ArchitectureModel model = new ArchitectureModelBuilder().add(result).build("shop", null, List.of(), null);
+
+        assertThat(model.apiEndpoints()).hasSize(2);
+    }
+
+    @Test
+    void add_withFailedResult_recordsOnlyStatistics() {
+        ScanStatistics statistics = new ScanStatistics.Builder().incrementFilesScanned().build();
+        ScanResult failed = new ScanResult("broken", false, List.of(component("orders", "Orders")), List.of(),
+            List.of(), List.of(), List.of(), List.of(), List.of(), List.of("boom"), statistics);
+
+        ArchitectureModelBuilder builder = new ArchitectureModelBuilder().add(failed);
+        ArchitectureModel model = builder.build("shop", "1.0.0", List.of(), null);
+
+        assertThat(model.components()).isEmpty();
+        assertThat(model.scannerStatistics()).containsExactly(Map.entry("broken", statistics));
+    }
+
+    @Test
+    void rawFindingCount_countsFindingsBeforeDeduplication() {
+        ArchitectureModelBuilder builder = new ArchitectureModelBuilder()
+            .add(result("maven", List.of(component("orders", "Orders")), List.of(dependency("orders", "lib", "1"))))
+            .add(result("gradle", List.of(component("orders", "Orders")), List.of(dependency("orders", "lib", "1"))));
+
+        assertThat(builder.rawFindingCount(FindingType.COMPONENTS)).isEqualTo(2);
+        assertThat(builder.rawFindingCount(FindingType.DEPENDENCIES)).isEqualTo(2);
+        assertThat(builder.rawFindingCount(FindingType.API_ENDPOINTS)).isZero();
+        assertThat(builder.build("shop", "1.0.0", List.of(), null).components()).hasSize(1);
+    }
+
+    private static ScanResult result(String scannerId, List<Component> components, List<Dependency> dependencies) {
+        return new ScanResult(scannerId, true, components, dependencies, List.of(), List.of(), List.of(),
+            List.of(), List.of(), List.of(), ScanStatistics.empty());
+    }
+
+    private static Component component(String id, String name) {
+        return new Component(id, name, ComponentType.SERVICE, null, null, null, Map.of());
+    }
+
+    private static Dependency dependency(String source, String artifactId, String version) {
+        return new Dependency(source, "org.example", artifactId, version, "compile", true);
+    }
+
+    private static ApiEndpoint endpoint(String componentId, String method, String path) {
+        return new ApiEndpoint(componentId, ApiType.REST, path, method, null, null, null, null);
+    }
+}
@@ -0,0 +1,101 @@
+package com.docarchitect.core.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for {@link ArchitectureModelIndex}.
+ */
+class ArchitectureModelIndexTest {
+
+    private final ArchitectureModel model = new ArchitectureModel(
+        "shop",
+        "1.0.0",
+        List.of(),
+        List.of(component("orders", "Orders"), component("users", "Users"), component("orders", "Duplicate")),
+        List.of(new Dependency("orders", "org.example", "lib", "1.0", "compile", true)),
+        List.of(
+            new Relationship("orders", "users", RelationshipType.CALLS, null, null),
+            new Relationship("users", "orders", RelationshipType.USES, null, null),
+            new Relationship("orders", "billing", RelationshipType.CALLS, null, null)),
+        List.of(endpoint("users", "/users"), endpoint("orders", "/orders"), endpoint("users", "/users/{id}")),
+        List.of(
+            new MessageFlow("orders", "billing", "order-created", "OrderCreated", null, "kafka"),
+            new MessageFlow("orders", null, "order-created", "OrderCreated", null, "kafka")),
+        List.of(entity("orders", "Orders"), entity("users", "user"), entity("users", "Users")),
+        null,
+        null
+    );
+
+    @Test
+    void componentName_withKnownAndUnknownIds_resolvesNameOrFallsBackToId() {
+        ArchitectureModelIndex index = ArchitectureModelIndex.of(model);
+
+        assertThat(index.componentName("orders")).isEqualTo("Orders");
+        assertThat(index.componentName("billing")).isEqualTo("billing");
+        assertThat(index.component("users")).map(Component::name).contains("Users");
+    }
+
+    @Test
+    void endpointsByComponent_groupsInModelOrder() {
+        ArchitectureModelIndex index = ArchitectureModelIndex.of(model);
+
+        assertThat(index.endpointsByComponent()).containsOnlyKeys("users", "orders");
+        assertThat(index.endpointsByComponent().keySet()).containsExactly("users", "orders");
+        assertThat(index.endpointsOf("users")).extracting(ApiEndpoint::path).containsExactly("/users", "/users/{id}");
+        assertThat(index.endpointsOf("billing")).isEmpty();
+    }
+
+    @Test
+    void entitiesFlowsAndDependencies_areGroupedByOwner() {
+        ArchitectureModelIndex index = ArchitectureModelIndex.of(model);
+
+        assertThat(index.entitiesOf("users")).extracting(DataEntity::name).containsExactly("user", "Users");
+        assertThat(index.flowsByTopic().get("order-created")).hasSize(2);
+        assertThat(index.flowsByTopic()).containsOnlyKeys("order-created");
+        assertThat(index.dependenciesByComponent().get("orders")).hasSize(1);
+    }
+
+    @Test
+    void dataEntityNamed_returnsFirstMatchInModelOrderIgnoringCase() {
+        ArchitectureModelIndex index = ArchitectureModelIndex.of(model);
+
+        assertThat(index.dataEntityNamed("users", "userss")).map(DataEntity::name).contains("Users");
+        assertThat(index.dataEntityNamed("USER", "USERs")).map(DataEntity::name).contains("user");
+        assertThat(index.dataEntityNamed("payment")).isEmpty();
+    }
+
+    @Test
+    void of_withSameModel_buildsIndependentIndexes() {
+        ArchitectureModelIndex first = ArchitectureModelIndex.of(model);
+        ArchitectureModelIndex second = ArchitectureModelIndex.of(model);
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(first.model()).isSameAs(model);
+        assertThat(second.componentName("users")).isEqualTo(first.componentName("users"));
+    }
+
+    @Test
+    void groups_areUnmodifiable() {
+        ArchitectureModelIndex index = ArchitectureModelIndex.of(model);
+
+        assertThatThrownBy(() -> index.endpointsOf("users").add(endpoint("users", "/x")))
+            .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    private static Component component(String id, String name) {
+        return new Component(id, name, ComponentType.SERVICE, null, null, null, Map.of());
+    }
+
+    private static ApiEndpoint endpoint(String componentId, String path) {
+        return new ApiEndpoint(componentId, ApiType.REST, path, "GET", null, null, null, null);
+    }
+
+    private static DataEntity entity(String componentId, String name) {
+        return new DataEntity(componentId, name, "table", List.of(), null, null);
+    }
+}
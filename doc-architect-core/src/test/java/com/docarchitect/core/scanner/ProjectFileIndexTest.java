@@ -0,0 +1,135 @@
+package com.docarchitect.core.scanner;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for {@link ProjectFileIndex}.
+ */
+class ProjectFileIndexTest {
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        createFile("pom.xml", "<project/>");
+        createFile("Program.cs", "class Program {}");
+        createFile("service/pom.xml", "<project/>");
+        createFile("service/src/main/java/com/example/UserController.java", "class UserController {}");
+        createFile("service/src/main/java/com/example/model/User.java", "class User {}");
+        createFile("service/src/main/resources/application.yaml", "server: {}");
+        createFile("web/package.json", "{}");
+        createFile("web/src/app.js", "const x = 1;");
+        createFile("web/src/app.ts", "const x: number = 1;");
+        createFile("python/requirements-dev.txt", "pytest");
+        createFile("build.gradle.kts", "plugins {}");
+        createFile("api/Controllers/OrderController.cs", "class OrderController {}");
+        createFile(".github/.java", "edge case");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "**/*.java",
+        "**/pom.xml",
+        "pom.xml",
+        "*.cs",
+        "**/*.cs",
+        "**/*Controller.java",
+        "**/*Controller.cs",
+        "**/model/**/*.java",
+        "**/build.gradle*",
+        "build.gradle*",
+        "{**/,}requirements*.txt",
+        "**/*.{js,ts}",
+        "**/*",
+        "*",
+        "service/**"
+    })
+    void findFiles_matchesFileSystemWalk(String pattern) {
+        ScanContext walking = new ScanContext(tempDir, List.of(tempDir), Map.of(), Map.of(), Map.of());
+        ProjectFileIndex index = ProjectFileIndex.build(tempDir, List.of(tempDir));
+
+        assertThat(index.findFiles(pattern).toList())
+            .containsExactlyElementsOf(walking.findFiles(pattern).toList());
+    }
+
+    @Test
+    void build_recordsFileMetadata() throws IOException {
+        ProjectFileIndex index = ProjectFileIndex.build(tempDir, List.of(tempDir));
+        Path pom = tempDir.resolve("service/pom.xml");
+        long expectedSize = Files.size(pom);
+        long expectedModified = Files.getLastModifiedTime(pom).toMillis();
+
+        assertThat(index.size()).isEqualTo(13);
+        assertThat(index.get(pom)).hasValueSatisfying(file -> {
+            assertThat(file.fileName()).isEqualTo("pom.xml");
+            assertThat(file.extension()).isEqualTo("xml");
+            assertThat(file.relativePath()).isEqualTo(Path.of("service", "pom.xml"));
+            assertThat(file.size()).isEqualTo(expectedSize);
+            assertThat(file.lastModified()).isEqualTo(expectedModified);
+        });
+    }
+
+    @Test
+    void build_withMissingSourcePath_returnsEmptyIndex() {
+        ProjectFileIndex index = ProjectFileIndex.build(tempDir, List.of(tempDir.resolve("missing")));
+
+        assertThat(index.size()).isZero();
+        assertThat(index.findFiles("**/*.java")).isEmpty();
+    }
+
+    @Test
+    void scanContext_withIndex_answersFromIndex() throws IOException {
+        ProjectFileIndex index = ProjectFileIndex.build(tempDir, List.of(tempDir));
+        ScanContext context = new ScanContext(tempDir, List.of(tempDir), Map.of(), Map.of(), Map.of(), index);
+
+        // Files created after indexing are not visible - the index is a per-scan snapshot
+        createFile("service/src/main/java/com/example/Late.java", "class Late {}");
+
+        assertThat(context.findFiles("**/*.java").toList())
+            .hasSize(3)
+            .noneMatch(path -> path.getFileName().toString().equals("Late.java"));
+    }
+
+    @Test
+    void refresh_withModifiedFile_updatesMetadataInPlace() throws IOException {
+        ProjectFileIndex index = ProjectFileIndex.build(tempDir, List.of(tempDir));
+        Path user = tempDir.resolve("service/src/main/java/com/example/model/User.java");
+        Files.writeString(user, "class User { String name; }");
+
+        ProjectFileIndex refreshed = index.refresh(List.of(user)).orElseThrow();
+
+        assertThat(refreshed.get(user)).map(ProjectFileIndex.IndexedFile::size).contains(Files.size(user));
+        assertThat(refreshed.findFiles("**/*.java").toList()).containsExactlyElementsOf(index.findFiles("**/*.java").toList());
+    }
+
+    @Test
+    void refresh_withCreatedOrDeletedFiles_requiresRebuild() throws IOException {
+        ProjectFileIndex index = ProjectFileIndex.build(tempDir, List.of(tempDir));
+        createFile("web/src/new.js", "const y = 2;");
+        Path deleted = tempDir.resolve("web/src/app.ts");
+        Files.delete(deleted);
+
+        assertThat(index.refresh(List.of(tempDir.resolve("web/src/new.js")))).isEmpty();
+        assertThat(index.refresh(List.of(deleted))).isEmpty();
+        assertThat(index.refresh(List.of(tempDir.resolve("never/existed.txt")))).contains(index);
+    }
+
+    private void createFile(String relativePath, String content) throws IOException {
+        Path file = tempDir.resolve(relativePath);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content);
+    }
+}
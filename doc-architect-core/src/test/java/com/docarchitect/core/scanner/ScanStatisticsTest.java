@@ -223,6 +223,96 @@ class ScanStatisticsTest {
         assertThat(stats.hasFailures()).isTrue();
     }
 
+    @Test
+    void builder_merge_addsCountsAndAppendsErrorsInOrder() {
+        ScanStatistics first = new ScanStatistics.Builder()
+            .incrementFilesScanned()
+            .incrementFilesFailed()
+            .addError("Parse error", "A.java: failed")
+            .build();
+        ScanStatistics second = new ScanStatistics.Builder()
+            .incrementFilesScanned()
+            .incrementFilesParsedSuccessfully()
+            .addError("Parse error", "B.java: failed")
+            .addError("File read error", "B.java: unreadable")
+            .build();
+
+        ScanStatistics stats = new ScanStatistics.Builder()
+            .filesDiscovered(5)
+            .merge(first)
+            .merge(second)
+            .build();
+
+        assertThat(stats.filesDiscovered()).isEqualTo(5);
+        assertThat(stats.filesScanned()).isEqualTo(2);
+        assertThat(stats.filesParsedSuccessfully()).isEqualTo(1);
+        assertThat(stats.filesFailed()).isEqualTo(1);
+        assertThat(stats.errorCounts()).containsEntry("Parse error", 2).containsEntry("File read error", 1);
+        assertThat(stats.topErrors()).containsExactly("A.java: failed", "B.java: failed", "B.java: unreadable");
+    }
+
+    @Test
+    void builder_merge_keepsTopErrorsLimit() {
+        ScanStatistics.Builder builder = new ScanStatistics.Builder();
+        for (int i = 0; i < 8; i++) {
+            builder.addError("Parse error", "Error " + i);
+        }
+        ScanStatistics more = new ScanStatistics.Builder()
+            .addError("Parse error", "Error 8")
+            .addError("Parse error", "Error 9")
+            .addError("Parse error", "Error 10")
+            .build();
+
+        ScanStatistics stats = builder.merge(more).build();
+
+        assertThat(stats.topErrors()).hasSize(10).endsWith("Error 9");
+        assertThat(stats.errorCounts()).containsEntry("Parse error", 11);
+    }
+
+    @Test
+    void builder_merge_addsCacheHits() {
+        ScanStatistics.Builder builder = new ScanStatistics.Builder()
+            .incrementFilesScanned()
+            .incrementFilesParsedSuccessfully()
+            .incrementFilesFromCache();
+
+        ScanStatistics stats = builder.merge(builder.build()).build();
+
+        assertThat(stats.filesFromCache()).isEqualTo(2);
+        assertThat(stats.getCacheHitRate()).isEqualTo(100.0);
+        assertThat(stats.getSummary()).contains("Cached: 2");
+    }
+
+    @Test
+    void builder_merge_addsSkippedFiles() {
+        ScanStatistics skipped = new ScanStatistics.Builder()
+            .incrementFilesSkipped()
+            .addError(ScanStatistics.PARSE_TIMEOUT_ERROR, "Slow.java: parsing took longer than 30000 ms")
+            .build();
+
+        ScanStatistics stats = new ScanStatistics.Builder()
+            .incrementFilesSkipped()
+            .merge(skipped)
+            .build();
+
+        assertThat(stats.filesSkipped()).isEqualTo(2);
+        assertThat(stats.hasSkippedFiles()).isTrue();
+        assertThat(stats.errorCounts()).containsEntry(ScanStatistics.PARSE_TIMEOUT_ERROR, 1);
+        assertThat(stats.getSummary()).contains("Skipped: 2");
+    }
+
+    @Test
+    void getSummary_withoutSkippedFiles_omitsSkippedSection() {
+        assertThat(ScanStatistics.empty().hasSkippedFiles()).isFalse();
+        assertThat(ScanStatistics.empty().getSummary()).doesNotContain("Skipped");
+    }
+
+    @Test
+    void getSummary_withoutCacheHits_omitsCacheSection() {
+        assertThat(ScanStatistics.empty().filesFromCache()).isZero();
+        assertThat(ScanStatistics.empty().getSummary()).doesNotContain("Cached");
+    }
+
     @Test
     void realWorldScenario_keycloakWithFallback() {
         // Simulating Keycloak: 7,279 files, 1,876 AST success, rest use fallback
@@ -0,0 +1,156 @@
+package com.docarchitect.core.scanner;
+
+import com.docarchitect.core.scanner.base.LazyScanner;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.ServiceLoader;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for {@link ScannerManifest}.
+ */
+class ScannerManifestTest {
+
+    /**
+     * Content that satisfies the content checks of every applicability strategy, so only the
+     * file checks decide whether a scanner applies.
+     */
+    private static final String ALL_MARKERS = String.join("\n",
+        "org.springframework.web @RestController javax.ws.rs @Path javax.persistence @Entity",
+        "org.springframework.data.mongodb @Document org.springframework.kafka @KafkaListener",
+        "org.apache.kafka.streams StreamsBuilder org.springframework.amqp @RabbitListener",
+        "from fastapi import FastAPI from flask import Flask from celery import faust",
+        "Microsoft.AspNetCore [ApiController] Microsoft.EntityFrameworkCore DbContext DbSet<");
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void load_describesEveryRegisteredScanner() {
+        ScannerManifest manifest = ScannerManifest.load(getClass().getClassLoader());
+
+        List<ServiceLoader.Provider<Scanner>> providers = ServiceLoader.load(Scanner.class).stream().toList();
+        assertThat(manifest.entries()).hasSameSizeAs(providers);
+
+        for (ServiceLoader.Provider<Scanner> provider : providers) {
+            Scanner scanner = provider.get();
+            ScannerManifest.Entry entry = manifest.entryFor(provider.type().getName()).orElseThrow(
+                () -> new AssertionError("No manifest entry for " + provider.type().getName()));
+
+            assertThat(entry.id()).as("id of %s", entry.providerType()).isEqualTo(scanner.getId());
+            assertThat(entry.displayName()).as("name of %s", entry.id()).isEqualTo(scanner.getDisplayName());
+            assertThat(entry.priority()).as("priority of %s", entry.id()).isEqualTo(scanner.getPriority());
+            assertThat(entry.languages()).as("languages of %s", entry.id()).isEqualTo(scanner.getSupportedLanguages());
+            assertThat(entry.filePatterns()).as("file patterns of %s", entry.id()).isEqualTo(scanner.getSupportedFilePatterns());
+            assertThat(entry.producedFindings()).as("produced findings of %s", entry.id()).isEqualTo(scanner.getProducedFindings());
+            assertThat(entry.requiredFindings()).as("required findings of %s", entry.id()).isEqualTo(scanner.getRequiredFindings());
+        }
+    }
+
+    @Test
+    void load_applicabilityPatternsAreRequiredByEveryScanner() throws IOException {
+        ScannerManifest manifest = ScannerManifest.load(getClass().getClassLoader());
+
+        for (ServiceLoader.Provider<Scanner> provider : ServiceLoader.load(Scanner.class).stream().toList()) {
+            ScannerManifest.Entry entry = manifest.entryFor(provider.type().getName()).orElseThrow();
+            if (entry.applicabilityPatterns().isEmpty()) {
+                continue;
+            }
+            // Files every other scanner applies to, but none the scanner's own patterns match
+            Path project = Files.createDirectory(tempDir.resolve(entry.id()));
+            Files.writeString(project.resolve("markers.txt"), ALL_MARKERS);
+            for (ScannerManifest.Entry other : manifest.entries()) {
+                for (String pattern : other.applicabilityPatterns()) {
+                    Path relative = Path.of(sampleFileFor(pattern));
+                    if (!matchesAny(entry.applicabilityPatterns(), relative)) {
+                        Path file = project.resolve(relative);
+                        Files.createDirectories(file.getParent());
+                        Files.writeString(file, ALL_MARKERS);
+                    }
+                }
+            }
+            ScanContext context = new ScanContext(project, List.of(project), Map.of(), Map.of(), Map.of(),
+                ProjectFileIndex.build(project, List.of(project)));
+
+            assertThat(provider.get().appliesTo(context))
+                .as("%s applies without a file matching %s", entry.id(), entry.applicabilityPatterns())
+                .isFalse();
+        }
+    }
+
+    @Test
+    void discoverScanners_describedScannersAreNotInstantiated() {
+        List<Scanner> scanners = ScannerManifest.discoverScanners(getClass().getClassLoader());
+
+        assertThat(scanners)
+            .hasSize((int) ServiceLoader.load(Scanner.class).stream().count())
+            .allSatisfy(scanner -> assertThat(scanner).isInstanceOfSatisfying(LazyScanner.class,
+                lazy -> assertThat(lazy.isInstantiated()).isFalse()));
+    }
+
+    @Test
+    void parse_readsListsAndFindings() {
+        Properties properties = new Properties();
+        properties.setProperty("demo.provider", "com.example.DemoScanner");
+        properties.setProperty("demo.name", "Demo Scanner");
+        properties.setProperty("demo.priority", "42");
+        properties.setProperty("demo.filePatterns", "**/*.demo  {**/,}demo.lock");
+        properties.setProperty("demo.appliesToFiles", "**/*.demo");
+        properties.setProperty("demo.produces", "API_ENDPOINTS DATA_ENTITIES");
+
+        ScannerManifest.Entry entry = ScannerManifest.parse(properties, "test").entryFor("com.example.DemoScanner").orElseThrow();
+
+        assertThat(entry.id()).isEqualTo("demo");
+        assertThat(entry.priority()).isEqualTo(42);
+        assertThat(entry.filePatterns()).containsExactly("**/*.demo", "{**/,}demo.lock");
+        assertThat(entry.applicabilityPatterns()).containsExactly("**/*.demo");
+        assertThat(entry.languages()).isEmpty();
+        assertThat(entry.producedFindings()).containsExactly(FindingType.API_ENDPOINTS, FindingType.DATA_ENTITIES);
+        assertThat(entry.requiredFindings()).isEmpty();
+    }
+
+    @Test
+    void parse_withInvalidEntry_throwsIllegalStateException() {
+        Properties properties = new Properties();
+        properties.setProperty("demo.provider", "com.example.DemoScanner");
+        properties.setProperty("demo.name", "Demo Scanner");
+        properties.setProperty("demo.priority", "42");
+        properties.setProperty("demo.produces", "ENDPOINTS");
+
+        assertThatThrownBy(() -> ScannerManifest.parse(properties, "test"))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("demo");
+
+        properties.setProperty("demo.produces", "");
+        properties.remove("demo.priority");
+        assertThatThrownBy(() -> ScannerManifest.parse(properties, "test"))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("missing priority");
+    }
+
+    /**
+     * Turns a glob into a relative file path it matches, e.g. {@code **\/*_models.py} into
+     * {@code sample/x_models.py}.
+     */
+    private static String sampleFileFor(String pattern) {
+        return pattern
+            .replace("{**/,}", "sample/")
+            .replace("**/", "sample/")
+            .replace("*", "x");
+    }
+
+    private static boolean matchesAny(Set<String> patterns, Path relativePath) {
+        return patterns.stream().anyMatch(pattern ->
+            FileSystems.getDefault().getPathMatcher("glob:" + pattern).matches(relativePath));
+    }
+}
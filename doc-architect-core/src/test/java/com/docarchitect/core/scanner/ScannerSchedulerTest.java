@@ -0,0 +1,358 @@
+package com.docarchitect.core.scanner;
+
+import com.docarchitect.core.model.Dependency;
+import com.docarchitect.core.scanner.profile.ScanPhase;
+import com.docarchitect.core.scanner.profile.ScanProfile;
+import com.docarchitect.core.scanner.profile.ScanProfiler;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for {@link ScannerScheduler}.
+ */
+class ScannerSchedulerTest {
+
+    @TempDir
+    Path tempDir;
+
+    /** Previous result keys observed by each scanner, keyed by scanner ID. */
+    private final Map<String, List<String>> observed = new ConcurrentHashMap<>();
+
+    @Test
+    void constructor_withZeroParallelism_throwsException() {
+        assertThatThrownBy(() -> new ScannerScheduler(0))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("parallelism");
+    }
+
+    @Test
+    void execute_withDependencyConsumer_seesDependencyScannerResults() {
+        List<Scanner> scanners = List.of(
+            new StubScanner("spring", 50, Set.of(FindingType.API_ENDPOINTS), Set.of(FindingType.DEPENDENCIES),
+                context -> ScanResult.empty("spring")),
+            new StubScanner("maven", 10, Set.of(FindingType.DEPENDENCIES), Set.of(),
+                context -> dependencyResult("maven"))
+        );
+
+        Map<String, ScanResult> results = new ScannerScheduler(4).execute(scanners, context());
+
+        assertThat(results).containsOnlyKeys("maven", "spring");
+        assertThat(observed.get("spring")).containsExactly("maven");
+        assertThat(observed.get("maven")).isEmpty();
+    }
+
+    @Test
+    void execute_onlyExposesResultsOfTransitiveDependencies() {
+        List<Scanner> scanners = List.of(
+            new StubScanner("maven", 10, Set.of(FindingType.DEPENDENCIES), Set.of(), context -> dependencyResult("maven")),
+            new StubScanner("rest", 50, Set.of(FindingType.API_ENDPOINTS), Set.of(FindingType.DEPENDENCIES),
+                context -> ScanResult.empty("rest")),
+            new StubScanner("entities", 60, Set.of(FindingType.DATA_ENTITIES), Set.of(), context -> ScanResult.empty("entities")),
+            new StubScanner("flows", 150, Set.of(FindingType.MESSAGE_FLOWS), Set.of(FindingType.API_ENDPOINTS),
+                context -> ScanResult.empty("flows"))
+        );
+
+        new ScannerScheduler(4).execute(scanners, context());
+
+        assertThat(observed.get("entities")).isEmpty();
+        assertThat(observed.get("flows")).containsExactly("maven", "rest");
+    }
+
+    @Test
+    void execute_returnsResultsInPriorityOrderForAnyParallelism() {
+        List<String> sequential = new ArrayList<>(new ScannerScheduler(1).execute(workload(), context()).keySet());
+        Map<String, List<String>> sequentialObserved = Map.copyOf(observed);
+
+        for (int parallelism : new int[] {2, 8}) {
+            observed.clear();
+            assertThat(new ScannerScheduler(parallelism).execute(workload(), context()).keySet())
+                .containsExactlyElementsOf(sequential);
+            assertThat(observed).isEqualTo(sequentialObserved);
+        }
+        assertThat(sequential).containsExactly("npm", "maven", "spring", "express", "jpa", "flows");
+    }
+
+    @Test
+    void execute_runsIndependentScannersConcurrently() {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        Function<ScanContext, ScanResult> awaitOther = context -> {
+            bothStarted.countDown();
+            try {
+                return bothStarted.await(5, TimeUnit.SECONDS)
+                    ? ScanResult.empty("ok")
+                    : ScanResult.failed("timeout", List.of("scanners did not overlap"));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return ScanResult.failed("interrupted", List.of("interrupted"));
+            }
+        };
+        List<Scanner> scanners = List.of(
+            new StubScanner("first", 50, Set.of(FindingType.API_ENDPOINTS), Set.of(), awaitOther),
+            new StubScanner("second", 60, Set.of(FindingType.DATA_ENTITIES), Set.of(), awaitOther)
+        );
+
+        Map<String, ScanResult> results = new ScannerScheduler(2).execute(scanners, context());
+
+        assertThat(results.values()).allMatch(ScanResult::success);
+    }
+
+    @Test
+    void execute_withFailingScanner_recordsFailureAndContinues() {
+        List<Scanner> scanners = List.of(
+            new StubScanner("broken", 10, Set.of(FindingType.DEPENDENCIES), Set.of(), context -> {
+                throw new IllegalStateException("boom");
+            }),
+            new StubScanner("other", 50, Set.of(FindingType.API_ENDPOINTS), Set.of(FindingType.DEPENDENCIES),
+                context -> ScanResult.empty("other"))
+        );
+
+        Map<String, ScanResult> results = new ScannerScheduler(4).execute(scanners, context());
+
+        assertThat(results.get("broken").success()).isFalse();
+        assertThat(results.get("broken").errors()).containsExactly("boom");
+        assertThat(results.get("other").success()).isTrue();
+    }
+
+    @Test
+    void execute_withSink_deliversResultsInPriorityOrder() {
+        List<String> sequential = new ArrayList<>();
+        new ScannerScheduler(1).execute(workload(), context(), result -> sequential.add(result.scannerId()));
+
+        for (int parallelism : new int[] {2, 4, 8}) {
+            List<String> delivered = new ArrayList<>();
+            new ScannerScheduler(parallelism).execute(workload(), context(), result -> delivered.add(result.scannerId()));
+
+            assertThat(delivered).containsExactlyElementsOf(sequential);
+        }
+        assertThat(sequential).containsExactly("npm", "maven", "spring", "express", "jpa", "flows");
+    }
+
+    @Test
+    void execute_withSink_releasesFindingsAfterDependentsFinished() {
+        Map<String, Integer> dependenciesSeen = new ConcurrentHashMap<>();
+        List<Scanner> scanners = List.of(
+            new StubScanner("maven", 10, Set.of(FindingType.DEPENDENCIES), Set.of(), context -> dependencyResult("maven")),
+            new StubScanner("spring", 50, Set.of(FindingType.API_ENDPOINTS), Set.of(FindingType.DEPENDENCIES),
+                context -> {
+                    dependenciesSeen.put("spring", context.previousResults().get("maven").dependencies().size());
+                    return ScanResult.empty("spring");
+                })
+        );
+        List<ScanResult> delivered = new ArrayList<>();
+
+        Map<String, ScanResult> results = new ScannerScheduler(2).execute(scanners, context(), delivered::add);
+
+        assertThat(dependenciesSeen).containsEntry("spring", 1);
+        assertThat(delivered).extracting(ScanResult::scannerId).containsExactly("maven", "spring");
+        assertThat(delivered.get(0).dependencies()).hasSize(1);
+        assertThat(results.get("maven").dependencies()).isEmpty();
+        assertThat(results.get("maven").success()).isTrue();
+    }
+
+    @Test
+    void execute_withNonApplicableScanner_omitsResult() {
+        StubScanner skipped = new StubScanner("skipped", 10, Set.of(), Set.of(), context -> ScanResult.empty("skipped")) {
+            @Override
+            public boolean appliesTo(ScanContext context) {
+                return false;
+            }
+        };
+
+        Map<String, ScanResult> results = new ScannerScheduler(2).execute(List.of(skipped), context());
+
+        assertThat(results).isEmpty();
+    }
+
+    @Test
+    void execute_withScannerSections_passesEachScannerItsOwnConfiguration() {
+        Map<String, Map<String, Object>> seen = new ConcurrentHashMap<>();
+        List<Scanner> scanners = List.of(
+            new StubScanner("graphql", 10, Set.of(), Set.of(), context -> {
+                seen.put("graphql", context.configuration());
+                return ScanResult.empty("graphql");
+            }),
+            new StubScanner("maven", 10, Set.of(), Set.of(), context -> {
+                seen.put("maven", context.configuration());
+                return ScanResult.empty("maven");
+            })
+        );
+        Map<String, Object> configuration = Map.of(
+            "maxLines", 1000,
+            "graphql", Map.of("maxLines", 5000, "maxSchemaLines", 200));
+
+        new ScannerScheduler(2).execute(scanners,
+            new ScanContext(tempDir, List.of(tempDir), configuration, Map.of(), Map.of()));
+
+        assertThat(seen.get("graphql")).containsOnly(entry("maxLines", 5000), entry("maxSchemaLines", 200));
+        assertThat(seen.get("maven")).containsOnly(entry("maxLines", 1000));
+    }
+
+    @Test
+    void execute_withProfiler_recordsApplicabilityScanAndDiscoveryPerScanner() throws Exception {
+        Files.writeString(tempDir.resolve("pom.xml"), "<project/>");
+        StubScanner skipped = new StubScanner("skipped", 10, Set.of(), Set.of(), context -> ScanResult.empty("skipped")) {
+            @Override
+            public boolean appliesTo(ScanContext context) {
+                return false;
+            }
+        };
+        StubScanner maven = new StubScanner("maven", 10, Set.of(), Set.of(), context -> {
+            assertThat(context.findFiles("pom.xml")).hasSize(1);
+            return ScanResult.empty("maven");
+        });
+        ScanProfiler profiler = ScanProfiler.create(ScanProfiler.DEFAULT_SLOWEST_FILES);
+
+        new ScannerScheduler(2).execute(List.of(skipped, maven),
+            new ScanContext(tempDir, List.of(tempDir), Map.of(), Map.of(), Map.of(), null, null, null, null, profiler));
+
+        Map<String, ScanProfile.ScannerProfile> profiles = profiler.snapshot(tempDir).scanners().stream()
+            .collect(Collectors.toMap(ScanProfile.ScannerProfile::scannerId, Function.identity()));
+        assertThat(profiles).containsOnlyKeys("skipped", "maven");
+        assertThat(profiles.get("skipped").phases()).containsOnlyKeys(ScanPhase.APPLICABILITY);
+        assertThat(profiles.get("maven").phases())
+            .containsOnlyKeys(ScanPhase.APPLICABILITY, ScanPhase.SCAN, ScanPhase.DISCOVERY);
+        assertThat(profiles.get("maven").phase(ScanPhase.SCAN).count()).isEqualTo(1);
+    }
+
+    @Test
+    void rescan_rerunsChangedScannersAndDependentsOfChangedFindings() {
+        Map<String, ScanResult> previous = new ScannerScheduler(2).execute(workload(), context());
+        observed.clear();
+
+        Map<String, ScanResult> results = new ScannerScheduler(2).rescan(workload(), context(), previous, Set.of("jpa", "maven"));
+
+        // maven produced the same dependencies again, so its dependents keep their results
+        assertThat(observed).containsOnlyKeys("jpa", "maven");
+        assertThat(results).containsExactlyEntriesOf(previous);
+    }
+
+    @Test
+    void rescan_withChangedFindings_rerunsTransitiveDependents() {
+        Map<String, ScanResult> previous = new ScannerScheduler(1).execute(workload(), context());
+        List<Scanner> scanners = new ArrayList<>(workload());
+        scanners.set(2, new StubScanner("npm", 10, Set.of(FindingType.DEPENDENCIES), Set.of(),
+            context -> ScanResult.empty("npm")));
+        observed.clear();
+
+        Map<String, ScanResult> results = new ScannerScheduler(4).rescan(scanners, context(), previous, Set.of("npm"));
+
+        // flows sees npm's result through its transitive dependencies, so it runs again too
+        assertThat(observed).containsOnlyKeys("npm", "spring", "express", "flows");
+        assertThat(results.get("npm").dependencies()).isEmpty();
+        assertThat(results.get("jpa")).isSameAs(previous.get("jpa"));
+    }
+
+    @Test
+    void applicabilityStrategy_composedWithDependencyCheck_requiresDependencies() {
+        ScannerApplicabilityStrategy strategy = ApplicabilityStrategies.hasJavaFiles()
+            .and(ApplicabilityStrategies.hasSpringFramework().or(ApplicabilityStrategies.hasFileContaining("@RestController")));
+
+        assertThat(strategy.getRequiredFindings()).containsExactly(FindingType.DEPENDENCIES);
+        assertThat(strategy.negate().getRequiredFindings()).containsExactly(FindingType.DEPENDENCIES);
+        assertThat(ApplicabilityStrategies.hasJavaFiles().getRequiredFindings()).isEmpty();
+    }
+
+    private List<Scanner> workload() {
+        return List.of(
+            new StubScanner("flows", 150, Set.of(FindingType.MESSAGE_FLOWS), Set.of(FindingType.API_ENDPOINTS),
+                context -> ScanResult.empty("flows")),
+            new StubScanner("spring", 50, Set.of(FindingType.API_ENDPOINTS), Set.of(FindingType.DEPENDENCIES),
+                context -> ScanResult.empty("spring")),
+            new StubScanner("npm", 10, Set.of(FindingType.DEPENDENCIES), Set.of(), context -> dependencyResult("npm")),
+            new StubScanner("jpa", 60, Set.of(FindingType.DATA_ENTITIES), Set.of(), context -> ScanResult.empty("jpa")),
+            new StubScanner("maven", 10, Set.of(FindingType.DEPENDENCIES), Set.of(), context -> dependencyResult("maven")),
+            new StubScanner("express", 50, Set.of(FindingType.API_ENDPOINTS), Set.of(FindingType.DEPENDENCIES),
+                context -> ScanResult.empty("express"))
+        );
+    }
+
+    private ScanContext context() {
+        return new ScanContext(tempDir, List.of(tempDir), Map.of(), Map.of(), Map.of());
+    }
+
+    private static ScanResult dependencyResult(String scannerId) {
+        Dependency dependency = new Dependency(scannerId, "org.example", scannerId + "-lib", "1.0", "compile", true);
+        return new ScanResult(scannerId, true, List.of(), List.of(dependency), List.of(), List.of(), List.of(),
+            List.of(), List.of(), List.of(), ScanStatistics.empty());
+    }
+
+    /**
+     * Scanner with declared inputs/outputs that records the previous results it was given.
+     */
+    private class StubScanner implements Scanner {
+        private final String id;
+        private final int priority;
+        private final Set<FindingType> produced;
+        private final Set<FindingType> required;
+        private final Function<ScanContext, ScanResult> body;
+
+        StubScanner(String id, int priority, Set<FindingType> produced, Set<FindingType> required,
+                    Function<ScanContext, ScanResult> body) {
+            this.id = id;
+            this.priority = priority;
+            this.produced = produced;
+            this.required = required;
+            this.body = body;
+        }
+
+        @Override
+        public String getId() {
+            return id;
+        }
+
+        @Override
+        public String getDisplayName() {
+            return id;
+        }
+
+        @Override
+        public Set<String> getSupportedLanguages() {
+            return Set.of();
+        }
+
+        @Override
+        public Set<String> getSupportedFilePatterns() {
+            return Set.of();
+        }
+
+        @Override
+        public int getPriority() {
+            return priority;
+        }
+
+        @Override
+        public Set<FindingType> getProducedFindings() {
+            return produced;
+        }
+
+        @Override
+        public Set<FindingType> getRequiredFindings() {
+            return required;
+        }
+
+        @Override
+        public boolean appliesTo(ScanContext context) {
+            return true;
+        }
+
+        @Override
+        public ScanResult scan(ScanContext context) {
+            observed.put(id, List.copyOf(context.previousResults().keySet()));
+            return body.apply(context);
+        }
+    }
+}
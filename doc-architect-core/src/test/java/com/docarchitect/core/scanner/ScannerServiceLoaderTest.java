@@ -102,6 +102,17 @@ class ScannerServiceLoaderTest {
             .hasSize(EXPECTED_SCANNER_COUNT);
     }
 
+    @Test
+    void serviceLoader_allScannersDeclareProducedFindings() {
+        ServiceLoader<Scanner> serviceLoader = ServiceLoader.load(Scanner.class);
+
+        // Scanners keeping the conservative default serialize every later scanner that reads previous results
+        assertThat(serviceLoader.stream().map(ServiceLoader.Provider::get))
+            .as("Built-in scanners should narrow getProducedFindings() to what they emit")
+            .allMatch(scanner -> !scanner.getProducedFindings().isEmpty()
+                && scanner.getProducedFindings().size() < FindingType.values().length);
+    }
+
     @Test
     void serviceLoader_discoversExpectedScannerTypes() {
         ServiceLoader<Scanner> serviceLoader = ServiceLoader.load(Scanner.class);
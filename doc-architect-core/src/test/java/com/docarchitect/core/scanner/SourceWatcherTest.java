@@ -0,0 +1,157 @@
+package com.docarchitect.core.scanner;
+
+import com.docarchitect.core.util.IgnoreRules;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for {@link SourceWatcher}.
+ */
+class SourceWatcherTest {
+
+    private static final Duration QUIET_PERIOD = Duration.ofMillis(100);
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void awaitChanges_withModifiedFile_reportsFile() throws Exception {
+        Path source = createFile("src/App.java", "class App {}");
+
+        try (SourceWatcher watcher = SourceWatcher.start(tempDir, List.of(tempDir), IgnoreRules.defaults(), List.of())) {
+            Files.writeString(source, "class App { int x; }");
+
+            SourceWatcher.Changes changes = await(watcher);
+
+            assertThat(changes.paths()).containsExactly(source);
+            assertThat(changes.rescanAll()).isFalse();
+        }
+    }
+
+    @Test
+    void awaitChanges_withNewDirectory_reportsItsFilesAndWatchesIt() throws Exception {
+        createFile("src/App.java", "class App {}");
+
+        try (SourceWatcher watcher = SourceWatcher.start(tempDir, List.of(tempDir), IgnoreRules.defaults(), List.of())) {
+            Path created = createFile("src/orders/Order.java", "class Order {}");
+            assertThat(await(watcher).paths()).contains(created);
+
+            Files.writeString(created, "class Order { int id; }");
+            assertThat(await(watcher).paths()).containsExactly(created);
+        }
+    }
+
+    @Test
+    void awaitChanges_ignoresExcludedAndIgnoredPaths() throws Exception {
+        createFile("docs/architecture/index.md", "# old");
+        createFile("node_modules/lib/index.js", "module.exports = 1;");
+        Path source = createFile("src/App.java", "class App {}");
+
+        try (SourceWatcher watcher = SourceWatcher.start(tempDir, List.of(tempDir), IgnoreRules.defaults(),
+                List.of(tempDir.resolve("docs/architecture")))) {
+            Files.writeString(tempDir.resolve("docs/architecture/index.md"), "# new");
+            Files.writeString(tempDir.resolve("node_modules/lib/index.js"), "module.exports = 2;");
+            Files.writeString(source, "class App { int x; }");
+
+            assertThat(await(watcher).paths()).containsExactly(source);
+        }
+    }
+
+    @Test
+    void pollChanges_returnsPendingChangesWithoutBlocking() throws Exception {
+        Path source = createFile("src/App.java", "class App {}");
+
+        try (SourceWatcher watcher = SourceWatcher.start(tempDir, List.of(tempDir), IgnoreRules.defaults(), List.of())) {
+            assertThat(watcher.pollChanges()).isEmpty();
+
+            Files.writeString(source, "class App { int x; }");
+            assertThat(await(watcher).paths()).containsExactly(source);
+            assertThat(watcher.pollChanges()).isEmpty();
+
+            Files.writeString(source, "class App { int y; }");
+            Thread.sleep(QUIET_PERIOD.toMillis());
+            assertThat(watcher.pollChanges()).hasValueSatisfying(changes -> assertThat(changes.paths()).containsExactly(source));
+        }
+    }
+
+    @Test
+    void affectedScannerIds_matchesPatternsRelativeToRoot() {
+        SourceWatcher.Changes changes = new SourceWatcher.Changes(tempDir,
+            Set.of(tempDir.resolve("service/pom.xml"), tempDir.resolve("service/src/App.java")), false);
+        List<Scanner> scanners = List.of(
+            scanner("maven", "**/pom.xml"),
+            scanner("spring", "**/*.java"),
+            scanner("npm", "**/package.json"));
+
+        assertThat(changes.affectedScannerIds(scanners)).containsExactly("maven", "spring");
+        assertThat(new SourceWatcher.Changes(tempDir, Set.of(), true).affectedScannerIds(scanners))
+            .containsExactly("maven", "spring", "npm");
+    }
+
+    private static SourceWatcher.Changes await(SourceWatcher watcher) throws Exception {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return watcher.awaitChanges(QUIET_PERIOD);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        }).get(10, TimeUnit.SECONDS);
+    }
+
+    private Path createFile(String relativePath, String content) throws IOException {
+        Path file = tempDir.resolve(relativePath);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content);
+        return file;
+    }
+
+    private static Scanner scanner(String id, String pattern) {
+        return new Scanner() {
+            @Override
+            public String getId() {
+                return id;
+            }
+
+            @Override
+            public String getDisplayName() {
+                return id;
+            }
+
+            @Override
+            public Set<String> getSupportedLanguages() {
+                return Set.of();
+            }
+
+            @Override
+            public Set<String> getSupportedFilePatterns() {
+                return Set.of(pattern);
+            }
+
+            @Override
+            public int getPriority() {
+                return 10;
+            }
+
+            @Override
+            public boolean appliesTo(ScanContext context) {
+                return true;
+            }
+
+            @Override
+            public ScanResult scan(ScanContext context) {
+                return ScanResult.empty(id);
+            }
+        };
+    }
+}
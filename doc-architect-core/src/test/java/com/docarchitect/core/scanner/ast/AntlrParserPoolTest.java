@@ -0,0 +1,89 @@
+package com.docarchitect.core.scanner.ast;
+
+import com.docarchitect.parser.RubyLexer;
+import com.docarchitect.parser.RubyParser;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link AntlrParserPool}.
+ */
+class AntlrParserPoolTest {
+
+    private static final String CONTROLLER = """
+        class UsersController < ApplicationController
+          def index
+          end
+        end
+        """;
+
+    private final AntlrParserPool<RubyParser> pool =
+        AntlrParserPool.of(RubyLexer::new, RubyParser::new, RubyParser::program);
+
+    @Test
+    void parse_withValidSource_returnsStartRuleTree() {
+        ParseTree tree = pool.parse(CONTROLLER);
+
+        assertThat(tree).isInstanceOf(RubyParser.ProgramContext.class);
+        assertThat(tree.getText()).contains("UsersController");
+    }
+
+    @Test
+    void parse_calledRepeatedly_returnsIndependentTrees() {
+        ParseTree first = pool.parse(CONTROLLER);
+        ParseTree second = pool.parse("class OrdersController < ApplicationController\nend\n");
+
+        assertThat(first.getText()).contains("UsersController").doesNotContain("OrdersController");
+        assertThat(second.getText()).contains("OrdersController").doesNotContain("UsersController");
+    }
+
+    @Test
+    void parse_withSyntaxError_recoversWithoutThrowing() {
+        ParseTree broken = pool.parse("class Broken <\n  def (\nend end end\n");
+        ParseTree valid = pool.parse(CONTROLLER);
+
+        assertThat(broken).isNotNull();
+        assertThat(valid.getText()).contains("UsersController");
+    }
+
+    @Test
+    void parse_withInterruptedThread_throwsCancellationException() {
+        Thread.currentThread().interrupt();
+        try {
+            assertThatThrownBy(() -> pool.parse(CONTROLLER))
+                .isInstanceOf(CancellationException.class);
+        } finally {
+            Thread.interrupted();
+        }
+
+        assertThat(pool.parse(CONTROLLER).getText()).contains("UsersController");
+    }
+
+    @Test
+    void parse_fromSeveralThreads_returnsTreePerSource() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                String name = "Controller" + i + "Api";
+                results.add(executor.submit(() -> pool.parse("class " + name + "\nend\n").getText()));
+            }
+
+            for (int i = 0; i < results.size(); i++) {
+                assertThat(results.get(i).get()).contains("Controller" + i + "Api");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
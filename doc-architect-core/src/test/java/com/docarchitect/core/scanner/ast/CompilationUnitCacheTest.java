@@ -0,0 +1,232 @@
+package com.docarchitect.core.scanner.ast;
+
+import com.github.javaparser.StaticJavaParser;
+import com.github.javaparser.ast.CompilationUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for {@link CompilationUnitCache}.
+ */
+class CompilationUnitCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final AtomicInteger parses = new AtomicInteger();
+
+    @Test
+    void constructor_withNonPositiveBudget_throwsException() {
+        assertThatThrownBy(() -> new CompilationUnitCache(0))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("memoryBudget");
+    }
+
+    @Test
+    void get_withSameFile_parsesOnce() throws IOException {
+        Path file = writeClass("User");
+        CompilationUnitCache cache = new CompilationUnitCache(1_000_000);
+
+        Optional<CompilationUnit> first = cache.get(file, this::parse);
+        Optional<CompilationUnit> second = cache.get(file, this::parse);
+
+        assertThat(first).isPresent();
+        assertThat(second.get()).isSameAs(first.get());
+        assertThat(parses).hasValue(1);
+        assertThat(cache.hitCount()).isEqualTo(1);
+        assertThat(cache.missCount()).isEqualTo(1);
+    }
+
+    @Test
+    void get_withModifiedFile_parsesAgain() throws IOException {
+        Path file = writeClass("User");
+        CompilationUnitCache cache = new CompilationUnitCache(1_000_000);
+        cache.get(file, this::parse);
+
+        Files.writeString(file, "public class User { private String name; }");
+        Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() + 10_000));
+        Optional<CompilationUnit> updated = cache.get(file, this::parse);
+
+        assertThat(parses).hasValue(2);
+        assertThat(updated.get().getClassByName("User").get().getFields()).hasSize(1);
+    }
+
+    @Test
+    void get_withUnparseableFile_cachesEmptyResult() throws IOException {
+        Path file = writeClass("User");
+        CompilationUnitCache cache = new CompilationUnitCache(1_000_000);
+        CompilationUnitCache.Loader failingParser = path -> {
+            parses.incrementAndGet();
+            return Optional.empty();
+        };
+
+        assertThat(cache.get(file, failingParser)).isEmpty();
+        assertThat(cache.get(file, failingParser)).isEmpty();
+        assertThat(parses).hasValue(1);
+    }
+
+    @Test
+    void get_withReadError_doesNotCacheFailure() throws IOException {
+        Path file = writeClass("User");
+        CompilationUnitCache cache = new CompilationUnitCache(1_000_000);
+
+        assertThatThrownBy(() -> cache.get(file, path -> {
+            throw new IOException("disk error");
+        })).isInstanceOf(IOException.class).hasMessage("disk error");
+
+        assertThat(cache.get(file, this::parse)).isPresent();
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void get_withAbandonedParse_doesNotCacheResult() throws IOException {
+        Path file = writeClass("User");
+        CompilationUnitCache cache = new CompilationUnitCache(1_000_000);
+
+        assertThatThrownBy(() -> cache.get(file, path -> {
+            throw new ParseAbandonedException(path);
+        })).isInstanceOf(ParseAbandonedException.class);
+
+        assertThat(cache.size()).isZero();
+        assertThat(cache.contains(file)).isFalse();
+        assertThat(cache.get(file, this::parse)).isPresent();
+        assertThat(parses).hasValue(1);
+    }
+
+    @Test
+    void get_whileOwnerAbandonsParse_parsesWithOwnLoader() throws Exception {
+        Path file = writeClass("User");
+        CompilationUnitCache cache = new CompilationUnitCache(1_000_000);
+        CountDownLatch ownerParsing = new CountDownLatch(1);
+        CountDownLatch releaseOwner = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Optional<CompilationUnit>> owner = executor.submit(() -> cache.get(file, path -> {
+                ownerParsing.countDown();
+                awaitQuietly(releaseOwner);
+                throw new ParseAbandonedException(path);
+            }));
+            assertThat(ownerParsing.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<Optional<CompilationUnit>> waiter = executor.submit(() -> cache.get(file, this::parse));
+            releaseOwner.countDown();
+
+            assertThatThrownBy(() -> owner.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(ParseAbandonedException.class);
+            assertThat(waiter.get(5, TimeUnit.SECONDS)).isPresent();
+            assertThat(parses).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void get_interruptedWhileWaiting_abandonsWait() throws Exception {
+        Path file = writeClass("User");
+        CompilationUnitCache cache = new CompilationUnitCache(1_000_000);
+        CountDownLatch ownerParsing = new CountDownLatch(1);
+        CountDownLatch releaseOwner = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Optional<CompilationUnit>> owner = executor.submit(() -> cache.get(file, path -> {
+                ownerParsing.countDown();
+                awaitQuietly(releaseOwner);
+                return parse(path);
+            }));
+            assertThat(ownerParsing.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<Boolean> waiter = executor.submit(() -> {
+                Thread.currentThread().interrupt();
+                assertThatThrownBy(() -> cache.get(file, this::parse))
+                    .isInstanceOf(ParseAbandonedException.class);
+                return Thread.currentThread().isInterrupted();
+            });
+
+            assertThat(waiter.get(5, TimeUnit.SECONDS)).isTrue();
+            releaseOwner.countDown();
+            assertThat(owner.get(5, TimeUnit.SECONDS)).isPresent();
+            assertThat(parses).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void get_overMemoryBudget_evictsLeastRecentlyUsed() throws IOException {
+        Path first = writeClass("Alpha");
+        Path second = writeClass("Bravo");
+        Path third = writeClass("Delta");
+        long entryWeight = Files.size(first) * CompilationUnitCache.ESTIMATED_AST_BYTES_PER_SOURCE_BYTE;
+        CompilationUnitCache cache = new CompilationUnitCache(entryWeight * 2);
+
+        cache.get(first, this::parse);
+        cache.get(second, this::parse);
+        cache.get(first, this::parse);
+        cache.get(third, this::parse);
+        cache.get(first, this::parse);
+        cache.get(second, this::parse);
+
+        assertThat(cache.evictionCount()).isEqualTo(2);
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(parses).hasValue(4);
+    }
+
+    @Test
+    void get_concurrentlyForSameFile_parsesOnce() throws Exception {
+        Path file = writeClass("User");
+        CompilationUnitCache cache = new CompilationUnitCache(1_000_000);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Optional<CompilationUnit>>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await(5, TimeUnit.SECONDS);
+                    return cache.get(file, this::parse);
+                }));
+            }
+            start.countDown();
+
+            CompilationUnit expected = futures.get(0).get(5, TimeUnit.SECONDS).get();
+            for (Future<Optional<CompilationUnit>> future : futures) {
+                assertThat(future.get(5, TimeUnit.SECONDS).get()).isSameAs(expected);
+            }
+            assertThat(parses).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Optional<CompilationUnit> parse(Path file) throws IOException {
+        parses.incrementAndGet();
+        return Optional.of(StaticJavaParser.parse(Files.readString(file)));
+    }
+
+    private Path writeClass(String name) throws IOException {
+        Path file = tempDir.resolve(name + ".java");
+        Files.writeString(file, "public class " + name + " {}");
+        return file;
+    }
+}
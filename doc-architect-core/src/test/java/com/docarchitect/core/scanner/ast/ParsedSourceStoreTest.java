@@ -0,0 +1,401 @@
+package com.docarchitect.core.scanner.ast;
+
+import com.docarchitect.core.scanner.ScanContext;
+import com.docarchitect.core.scanner.ScanResult;
+import com.docarchitect.core.scanner.base.AbstractAstScanner;
+import com.docarchitect.core.scanner.base.ScanLimits;
+import com.docarchitect.core.scanner.impl.dotnet.AspNetCoreApiScanner;
+import com.docarchitect.core.scanner.impl.dotnet.EntityFrameworkScanner;
+import com.docarchitect.core.scanner.impl.dotnet.KafkaScanner;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for {@link ParsedSourceStore}.
+ */
+class ParsedSourceStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final AtomicInteger parses = new AtomicInteger();
+    private final LineParser parser = new LineParser("lines");
+
+    @Test
+    void constructor_withNonPositiveBudget_throwsException() {
+        assertThatThrownBy(() -> new ParsedSourceStore(0))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("memoryBudget");
+    }
+
+    @Test
+    void get_withSameFile_parsesOnce() throws IOException {
+        Path file = write("a.txt", "alpha\nbravo");
+        ParsedSourceStore store = new ParsedSourceStore(1_000_000);
+
+        List<String> first = store.get(parser, file, this::parse);
+        List<String> second = store.get(parser, file, this::parse);
+
+        assertThat(first).containsExactly("alpha", "bravo");
+        assertThat(second).isSameAs(first);
+        assertThat(parses).hasValue(1);
+        assertThat(store.hitCount()).isEqualTo(1);
+        assertThat(store.missCount()).isEqualTo(1);
+        assertThatThrownBy(() -> first.add("charlie")).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void get_withOtherLanguage_parsesSeparately() throws IOException {
+        Path file = write("a.txt", "alpha");
+        ParsedSourceStore store = new ParsedSourceStore(1_000_000);
+
+        store.get(parser, file, this::parse);
+        store.get(new LineParser("other"), file, this::parse);
+
+        assertThat(parses).hasValue(2);
+        assertThat(store.size()).isEqualTo(2);
+        assertThat(store.contains(parser, file)).isTrue();
+    }
+
+    @Test
+    void get_withModifiedFile_parsesAgain() throws IOException {
+        Path file = write("a.txt", "alpha");
+        ParsedSourceStore store = new ParsedSourceStore(1_000_000);
+        store.get(parser, file, this::parse);
+
+        Files.writeString(file, "alpha\nbravo");
+        Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() + 10_000));
+        List<String> updated = store.get(parser, file, this::parse);
+
+        assertThat(parses).hasValue(2);
+        assertThat(updated).containsExactly("alpha", "bravo");
+    }
+
+    @Test
+    void get_withEmptyResult_storesIt() throws IOException {
+        Path file = write("a.txt", "");
+        ParsedSourceStore store = new ParsedSourceStore(1_000_000);
+
+        assertThat(store.get(parser, file, this::parse)).isEmpty();
+        assertThat(store.get(parser, file, this::parse)).isEmpty();
+        assertThat(parses).hasValue(1);
+    }
+
+    @Test
+    void get_withReadError_doesNotStoreFailure() throws IOException {
+        Path file = write("a.txt", "alpha");
+        ParsedSourceStore store = new ParsedSourceStore(1_000_000);
+
+        assertThatThrownBy(() -> store.get(parser, file, path -> {
+            throw new IOException("disk error");
+        })).isInstanceOf(IOException.class).hasMessage("disk error");
+
+        assertThat(store.get(parser, file, this::parse)).containsExactly("alpha");
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    @Test
+    void get_withAbandonedParse_doesNotStoreResult() throws IOException {
+        Path file = write("a.txt", "alpha");
+        ParsedSourceStore store = new ParsedSourceStore(1_000_000);
+
+        assertThatThrownBy(() -> store.get(parser, file, path -> {
+            throw new ParseAbandonedException(path);
+        })).isInstanceOf(ParseAbandonedException.class);
+
+        assertThat(store.size()).isZero();
+        assertThat(store.get(parser, file, this::parse)).containsExactly("alpha");
+        assertThat(parses).hasValue(1);
+    }
+
+    @Test
+    void scanners_afterOtherScannerTimedOut_parseFileThemselves() throws IOException {
+        Path file = write("a.txt", "alpha\nbravo");
+        ParsedSourceStore store = new ParsedSourceStore(1_000_000);
+        ScanContext context = new ScanContext(tempDir, List.of(tempDir), Map.of(), Map.of(), Map.of(),
+            null, null, store, null, null);
+        LineScanner impatient = new LineScanner(new SlowLineParser("lines"));
+        impatient.setScanLimits(ScanLimits.DEFAULT.withOverrides(Map.of(ScanLimits.PARSE_TIMEOUT_MILLIS_KEY, 50)));
+
+        List<String> timedOut = impatient.parse(context, file);
+        List<String> parsed = new LineScanner(new LineParser("lines")).parse(context, file);
+
+        assertThat(timedOut).isEmpty();
+        assertThat(parsed).containsExactly("alpha", "bravo");
+        assertThat(store.missCount()).isEqualTo(2);
+    }
+
+    @Test
+    void get_interruptedWhileWaiting_abandonsWait() throws Exception {
+        Path file = write("a.txt", "alpha");
+        ParsedSourceStore store = new ParsedSourceStore(1_000_000);
+        CountDownLatch ownerParsing = new CountDownLatch(1);
+        CountDownLatch releaseOwner = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<List<String>> owner = executor.submit(() -> store.get(parser, file, path -> {
+                ownerParsing.countDown();
+                awaitQuietly(releaseOwner);
+                return parse(path);
+            }));
+            assertThat(ownerParsing.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<Boolean> waiter = executor.submit(() -> {
+                Thread.currentThread().interrupt();
+                assertThatThrownBy(() -> store.get(parser, file, this::parse))
+                    .isInstanceOf(ParseAbandonedException.class);
+                return Thread.currentThread().isInterrupted();
+            });
+
+            assertThat(waiter.get(5, TimeUnit.SECONDS)).isTrue();
+            releaseOwner.countDown();
+            assertThat(owner.get(5, TimeUnit.SECONDS)).containsExactly("alpha");
+            assertThat(parses).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void scanner_waitingForOtherScannersParse_stopsAtOwnTimeout() throws Exception {
+        Path file = write("a.txt", "alpha");
+        ParsedSourceStore store = new ParsedSourceStore(1_000_000);
+        ScanContext context = new ScanContext(tempDir, List.of(tempDir), Map.of(), Map.of(), Map.of(),
+            null, null, store, null, null);
+        LineScanner owner = new LineScanner(new SlowLineParser("lines"));
+        LineScanner waiter = new LineScanner(parser);
+        waiter.setScanLimits(ScanLimits.DEFAULT.withOverrides(Map.of(ScanLimits.PARSE_TIMEOUT_MILLIS_KEY, 50)));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(() -> owner.parse(context, file));
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (!store.contains(parser, file) && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+
+            long start = System.nanoTime();
+            List<String> waited = waiter.parse(context, file);
+
+            assertThat(waited).isEmpty();
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5));
+            assertThat(Thread.currentThread().isInterrupted()).isFalse();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void get_overMemoryBudget_evictsLeastRecentlyUsed() throws IOException {
+        Path first = write("a.txt", "alpha");
+        Path second = write("b.txt", "bravo");
+        Path third = write("d.txt", "delta");
+        long entryWeight = Files.size(first) * ParsedSourceStore.ESTIMATED_BYTES_PER_SOURCE_BYTE;
+        ParsedSourceStore store = new ParsedSourceStore(entryWeight * 2);
+        // Empty results are never reclaimed by the garbage collector, so only the budget evicts
+        ParsedSourceStore.Loader<String> loader = path -> {
+            parses.incrementAndGet();
+            return List.of();
+        };
+
+        store.get(parser, first, loader);
+        store.get(parser, second, loader);
+        store.get(parser, first, loader);
+        store.get(parser, third, loader);
+        store.get(parser, first, loader);
+        store.get(parser, second, loader);
+
+        assertThat(store.evictionCount()).isEqualTo(2);
+        assertThat(store.size()).isEqualTo(2);
+        assertThat(parses).hasValue(4);
+    }
+
+    @Test
+    void get_concurrentlyForSameFile_parsesOnce() throws Exception {
+        Path file = write("a.txt", "alpha");
+        ParsedSourceStore store = new ParsedSourceStore(1_000_000);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<List<String>>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await(5, TimeUnit.SECONDS);
+                    return store.get(parser, file, this::parse);
+                }));
+            }
+            start.countDown();
+
+            List<String> expected = futures.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<List<String>> future : futures) {
+                assertThat(future.get(5, TimeUnit.SECONDS)).isSameAs(expected);
+            }
+            assertThat(parses).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void dotNetScanners_withSharedStore_parseEachFileOnce() throws IOException {
+        Files.createDirectories(tempDir.resolve("src"));
+        write("src/OrdersController.cs", """
+            using Microsoft.AspNetCore.Mvc;
+
+            [ApiController]
+            [Route("api/orders")]
+            public class OrdersController : ControllerBase
+            {
+                [HttpGet("{id}")]
+                public Order Get(int id) { return null; }
+            }
+            """);
+        write("src/Order.cs", """
+            public class Order : BaseEntity
+            {
+                public int Id { get; set; }
+                public string Number { get; set; }
+            }
+            """);
+        ParsedSourceStore store = new ParsedSourceStore(1_000_000);
+        ScanContext context = new ScanContext(tempDir, List.of(tempDir), Map.of(), Map.of(), Map.of(),
+            null, null, store, null, null);
+
+        new AspNetCoreApiScanner().scan(context);
+        new EntityFrameworkScanner().scan(context);
+        new KafkaScanner().scan(context);
+
+        assertThat(store.missCount()).isEqualTo(2);
+        assertThat(store.hitCount()).isPositive();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Path write(String name, String content) throws IOException {
+        return Files.writeString(tempDir.resolve(name), content);
+    }
+
+    private List<String> parse(Path file) throws IOException {
+        parses.incrementAndGet();
+        return Files.readString(file).lines().toList();
+    }
+
+    /**
+     * Parser splitting files into lines.
+     */
+    private record LineParser(String language) implements AstParser<String> {
+
+        @Override
+        public List<String> parseFile(Path filePath) throws IOException {
+            return Files.readString(filePath).lines().toList();
+        }
+
+        @Override
+        public boolean isAvailable() {
+            return true;
+        }
+
+        @Override
+        public String getLanguage() {
+            return language;
+        }
+    }
+
+    /**
+     * Parser that never finishes before it is interrupted.
+     */
+    private record SlowLineParser(String language) implements AstParser<String> {
+
+        @Override
+        public List<String> parseFile(Path filePath) throws IOException {
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                throw new InterruptedIOException("parse interrupted");
+            }
+            return Files.readString(filePath).lines().toList();
+        }
+
+        @Override
+        public boolean isAvailable() {
+            return true;
+        }
+
+        @Override
+        public String getLanguage() {
+            return language;
+        }
+    }
+
+    /**
+     * Minimal AST scanner exposing the store-backed parse.
+     */
+    private static final class LineScanner extends AbstractAstScanner<String> {
+
+        private LineScanner(AstParser<String> parser) {
+            super(parser);
+        }
+
+        List<String> parse(ScanContext context, Path file) {
+            return parseAstFile(context, file);
+        }
+
+        @Override
+        public String getId() {
+            return "line-scanner";
+        }
+
+        @Override
+        public String getDisplayName() {
+            return "Line Scanner";
+        }
+
+        @Override
+        public Set<String> getSupportedLanguages() {
+            return Set.of("lines");
+        }
+
+        @Override
+        public Set<String> getSupportedFilePatterns() {
+            return Set.of("**/*.txt");
+        }
+
+        @Override
+        public int getPriority() {
+            return 100;
+        }
+
+        @Override
+        public boolean appliesTo(ScanContext context) {
+            return true;
+        }
+
+        @Override
+        public ScanResult scan(ScanContext context) {
+            return emptyResult();
+        }
+    }
+}
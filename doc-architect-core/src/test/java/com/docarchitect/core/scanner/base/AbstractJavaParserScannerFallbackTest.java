@@ -1,7 +1,12 @@
 package com.docarchitect.core.scanner.base;
 
 import com.docarchitect.core.scanner.ConfidenceLevel;
+import com.docarchitect.core.scanner.ScanContext;
 import com.docarchitect.core.scanner.ScanStatistics;
+import com.docarchitect.core.scanner.cache.IncrementalScanCache;
+import com.docarchitect.core.scanner.profile.ScanPhase;
+import com.docarchitect.core.scanner.profile.ScanProfile;
+import com.docarchitect.core.scanner.profile.ScanProfiler;
 import com.github.javaparser.ast.CompilationUnit;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -11,6 +16,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -159,6 +165,32 @@ class AbstractJavaParserScannerFallbackTest {
         assertThat(scanStats.filesFailed()).isZero();
     }
 
+    @Test
+    void tier2_afterParseTimeout_doesNotCacheFallbackResult() throws IOException {
+        StringBuilder source = new StringBuilder("package com.example; public class Large {\n");
+        for (int i = 0; i < 5_000; i++) {
+            source.append("    public int method").append(i).append("(int a) { return a + ").append(i).append("; }\n");
+        }
+        Path javaFile = tempDir.resolve("Large.java");
+        Files.writeString(javaFile, source.append("}\n"));
+        Path cacheDir = tempDir.resolve(IncrementalScanCache.DEFAULT_DIRECTORY);
+        IncrementalScanCache cache = IncrementalScanCache.open(cacheDir);
+        ScanContext context = new ScanContext(tempDir, List.of(tempDir), Map.of(), Map.of(), Map.of(),
+            null, null, null, cache, null);
+
+        TestScanner scanner = new TestScanner();
+        scanner.setScanLimits(ScanLimits.DEFAULT.withOverrides(Map.of(ScanLimits.PARSE_TIMEOUT_MILLIS_KEY, 1)));
+        AbstractJavaParserScanner.FileParseResult<String> result = scanner.parseWithFallback(context, javaFile,
+            String.class, scanner::extractFromAST, scanner.createFallback(), new ScanStatistics.Builder());
+        cache.flush();
+
+        // The regex result is used for this run, but the next run parses the file again
+        assertThat(result.getData()).containsExactly("Large");
+        assertThat(result.getConfidence()).isEqualTo(ConfidenceLevel.MEDIUM);
+        assertThat(IncrementalScanCache.open(cacheDir).lookup(scanner.getId(), scanner.getVersion(), "Large.java",
+            IncrementalScanCache.contentHash(Files.readString(javaFile)), String.class)).isEmpty();
+    }
+
     @Test
     void tier3_emptyFile_tracksFailure() throws IOException {
         // Create file with only comments - AST parses successfully but extracts nothing
@@ -222,6 +254,36 @@ class AbstractJavaParserScannerFallbackTest {
         assertThat(scanStats.getOverallParseRate()).isEqualTo(100.0);
     }
 
+    @Test
+    void mixedFiles_withProfiler_recordsPhasesAndSlowestFiles() throws IOException {
+        // Create valid (parse + extraction) and broken (parse + fallback) files
+        Path valid = tempDir.resolve("Valid.java");
+        Path broken = tempDir.resolve("Broken.java");
+        Files.writeString(valid, "public class Valid {}");
+        Files.writeString(broken, "public class Broken { /* missing brace */");
+
+        ScanProfiler profiler = ScanProfiler.create(ScanProfiler.DEFAULT_SLOWEST_FILES);
+        TestScanner scanner = new TestScanner();
+        scanner.setProfiler(profiler.forScanner(scanner.getId()));
+        ScanStatistics.Builder stats = new ScanStatistics.Builder();
+
+        // Parse both files
+        for (Path file : List.of(valid, broken)) {
+            scanner.parseWithFallback(file, scanner::extractFromAST, scanner.createFallback(), stats);
+        }
+
+        // Verify every phase is attributed to the scanner and both files are ranked
+        ScanProfile.ScannerProfile profile = profiler.snapshot(tempDir).scanners().get(0);
+        assertThat(profile.scannerId()).isEqualTo("test-scanner");
+        assertThat(profile.phase(ScanPhase.PARSE).count()).isEqualTo(2);
+        assertThat(profile.phase(ScanPhase.EXTRACTION).count()).isEqualTo(1);
+        assertThat(profile.phase(ScanPhase.FALLBACK).count()).isEqualTo(1);
+        assertThat(profile.phase(ScanPhase.READ).count()).isGreaterThanOrEqualTo(2);
+        assertThat(profile.slowestFiles())
+            .extracting(ScanProfile.FileProfile::path)
+            .containsExactlyInAnyOrder("Valid.java", "Broken.java");
+    }
+
     @Test
     void realWorldScenario_100Files_mixedSuccessRates() throws IOException {
         // Simulate real-world: 10 valid (AST), 30 broken (fallback), 60 empty (AST succeeds)
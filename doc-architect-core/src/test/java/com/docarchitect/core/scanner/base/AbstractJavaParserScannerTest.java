@@ -1,5 +1,6 @@
 package com.docarchitect.core.scanner.base;
 
+import com.docarchitect.core.scanner.ast.CompilationUnitCache;
 import com.docarchitect.core.scanner.ScanContext;
 import com.docarchitect.core.scanner.ScanResult;
 import com.github.javaparser.ast.CompilationUnit;
@@ -13,9 +14,15 @@ import org.junit.jupiter.api.io.TempDir;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -66,6 +73,76 @@ class AbstractJavaParserScannerTest {
         assertThat(cu).isEmpty();
     }
 
+    @Test
+    void parseJavaFile_withCompilationUnitCache_sharesTreeAcrossScanners() throws IOException {
+        Path javaFile = tempDir.resolve("User.java");
+        Files.writeString(javaFile, "package com.example; public class User {}");
+        CompilationUnitCache cache = new CompilationUnitCache(1_000_000);
+        ScanContext context = new ScanContext(tempDir, List.of(tempDir), Map.of(), Map.of(), Map.of(), null, cache, null, null, null);
+
+        Optional<CompilationUnit> first = scanner.parseJavaFile(context, javaFile);
+        Optional<CompilationUnit> second = new TestJavaParserScanner().parseJavaFile(context, javaFile);
+
+        assertThat(first).isPresent();
+        assertThat(second.get()).isSameAs(first.get());
+        assertThat(cache.missCount()).isEqualTo(1);
+        assertThat(cache.hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void parseJavaFile_afterOtherScannerTimedOut_parsesFileItself() throws IOException {
+        StringBuilder source = new StringBuilder("package com.example; public class Large {\n");
+        for (int i = 0; i < 5_000; i++) {
+            source.append("    public int method").append(i).append("(int a) { return a + ").append(i).append("; }\n");
+        }
+        Path javaFile = tempDir.resolve("Large.java");
+        Files.writeString(javaFile, source.append("}\n"));
+        CompilationUnitCache cache = new CompilationUnitCache(100_000_000);
+        ScanContext context = new ScanContext(tempDir, List.of(tempDir), Map.of(), Map.of(), Map.of(), null, cache, null, null, null);
+        TestJavaParserScanner impatient = new TestJavaParserScanner();
+        impatient.setScanLimits(ScanLimits.DEFAULT.withOverrides(Map.of(ScanLimits.PARSE_TIMEOUT_MILLIS_KEY, 1)));
+
+        Optional<CompilationUnit> timedOut = impatient.parseJavaFile(context, javaFile);
+        Optional<CompilationUnit> parsed = new TestJavaParserScanner().parseJavaFile(context, javaFile);
+
+        assertThat(timedOut).isEmpty();
+        assertThat(parsed).isPresent();
+        assertThat(parsed.get().findAll(MethodDeclaration.class)).hasSize(5_000);
+    }
+
+    @Test
+    void parseJavaFile_whileOtherScannerParses_stopsAtOwnTimeout() throws Exception {
+        Path javaFile = tempDir.resolve("User.java");
+        Files.writeString(javaFile, "package com.example; public class User {}");
+        CompilationUnitCache cache = new CompilationUnitCache(1_000_000);
+        ScanContext context = new ScanContext(tempDir, List.of(tempDir), Map.of(), Map.of(), Map.of(), null, cache, null, null, null);
+        TestJavaParserScanner impatient = new TestJavaParserScanner();
+        impatient.setScanLimits(ScanLimits.DEFAULT.withOverrides(Map.of(ScanLimits.PARSE_TIMEOUT_MILLIS_KEY, 50)));
+        CountDownLatch ownerParsing = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(() -> cache.get(javaFile, path -> {
+                ownerParsing.countDown();
+                try {
+                    Thread.sleep(10_000);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return Optional.empty();
+            }));
+            assertThat(ownerParsing.await(5, TimeUnit.SECONDS)).isTrue();
+
+            long start = System.nanoTime();
+            Optional<CompilationUnit> waited = impatient.parseJavaFile(context, javaFile);
+
+            assertThat(waited).isEmpty();
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5));
+            assertThat(Thread.currentThread().isInterrupted()).isFalse();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     @Test
     void parseJavaFile_withAnnotations_parsesSuccessfully() throws IOException {
         Path javaFile = tempDir.resolve("Controller.java");
@@ -179,6 +179,22 @@ class AbstractRegexScannerTest {
         assertThat(matches).isEmpty();
     }
 
+    @Test
+    void findAllMatchesPerLine_withSeveralPatterns_returnsTaggedMatches() throws IOException {
+        Path file = tempDir.resolve("test.txt");
+        Files.writeString(file, "@app.get('/users')\nno match here\n@app.route('/orders')");
+
+        MultiPatternMatcher matcher = MultiPatternMatcher.builder()
+            .add("get", Pattern.compile("@app\\.get\\('(/\\w+)'\\)"))
+            .add("route", Pattern.compile("@app\\.route\\('(/\\w+)'\\)"))
+            .build();
+        List<MultiPatternMatcher.Match> matches = scanner.findAllMatchesPerLine(file, matcher);
+
+        assertThat(matches).extracting(MultiPatternMatcher.Match::patternId).containsExactly("get", "route");
+        assertThat(matches).extracting(MultiPatternMatcher.Match::lineNumber).containsExactly(1, 3);
+        assertThat(matches.get(1).group(1)).isEqualTo("/orders");
+    }
+
     @Test
     void findFirstLineMatch_withMatch_returnsFirstMatcher() throws IOException {
         Path file = tempDir.resolve("test.txt");
@@ -3,16 +3,23 @@ package com.docarchitect.core.scanner.base;
 import com.docarchitect.core.model.Dependency;
 import com.docarchitect.core.scanner.ScanContext;
 import com.docarchitect.core.scanner.ScanResult;
+import com.docarchitect.core.scanner.ScanStatistics;
 import com.docarchitect.core.scanner.ScannerTestBase;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * Tests for {@link AbstractScanner} base class functionality.
@@ -21,6 +28,7 @@ import static org.assertj.core.api.Assertions.assertThat;
  * <ul>
  *   <li>Logger initialization</li>
  *   <li>File reading utilities (readFileContent, readFileLines)</li>
+ *   <li>Scan limits (setScanLimits, parseWithinTimeout)</li>
  *   <li>appliesTo() helper (hasAnyFiles)</li>
  *   <li>ScanResult creation helpers (emptyResult, failedResult, buildSuccessResult)</li>
  * </ul>
@@ -62,6 +70,140 @@ class AbstractScannerTest extends ScannerTestBase {
         assertThat(lines).containsExactly("Line 1", "Line 2", "Line 3");
     }
 
+    @Test
+    void readFileContent_withSourceReader_readsThroughReader() throws IOException {
+        // Given: A scanner whose source reader refuses files over 8 bytes
+        scanner.setSourceReader(new MappedSourceReader(8));
+        Path small = createFile("small.txt", "tiny");
+        Path large = createFile("large.txt", "far too large");
+
+        // Then: Small files are read, large files are refused
+        assertThat(scanner.readFileContent(small)).isEqualTo("tiny");
+        assertThatThrownBy(() -> scanner.readFileContent(large)).isInstanceOf(FileTooLargeException.class);
+    }
+
+    @Test
+    void setScanLimits_withFileOverLineLimit_recordsSkippedFileInStatistics() throws IOException {
+        // Given: A scanner limited to 2 lines per file
+        scanner.setScanLimits(new ScanLimits(1024, 2, Duration.ofSeconds(5)));
+        Path large = createFile("large.test", "a\nb\nc");
+
+        // When: The file is read and the result built
+        assertThatThrownBy(() -> scanner.readFileLines(large)).isInstanceOf(FileTooLargeException.class);
+        ScanResult result = scanner.emptyResult();
+
+        // Then: The file is reported as skipped, once
+        assertThat(scanner.getSourceReader()).isInstanceOf(MappedSourceReader.class);
+        assertThat(result.statistics().filesSkipped()).isEqualTo(1);
+        assertThat(result.statistics().errorCounts()).containsEntry(ScanStatistics.TOO_MANY_LINES_ERROR, 1);
+        assertThat(result.statistics().topErrors()).anySatisfy(error -> assertThat(error).contains("large.test"));
+        assertThat(scanner.emptyResult().statistics().filesSkipped()).isZero();
+    }
+
+    @Test
+    void parseWithinTimeout_withFastParse_returnsResult() throws IOException {
+        // Given: A file parsed well within the timeout
+        Path file = createFile("fast.test", "fast");
+
+        // When: The parse runs
+        Optional<String> parsed = scanner.parseWithinTimeout(file, () -> "parsed");
+
+        // Then: The result is returned and nothing is skipped
+        assertThat(parsed).contains("parsed");
+        assertThat(Thread.currentThread().isInterrupted()).isFalse();
+        assertThat(scanner.emptyResult().statistics().filesSkipped()).isZero();
+    }
+
+    @Test
+    void parseWithinTimeout_withSlowParse_interruptsAndRecordsSkippedFile() throws IOException {
+        // Given: A scanner with a short parse timeout and a parse that waits to be interrupted
+        scanner.setScanLimits(ScanLimits.DEFAULT.withOverrides(Map.of(ScanLimits.PARSE_TIMEOUT_MILLIS_KEY, 50)));
+        Path file = createFile("slow.test", "slow");
+
+        // When: The parse runs past the timeout
+        Optional<String> parsed = scanner.parseWithinTimeout(file, ScannerTestSupport::sleepUntilInterrupted);
+
+        // Then: The result is discarded, the interrupt cleared and the file reported as skipped
+        assertThat(parsed).isEmpty();
+        assertThat(Thread.currentThread().isInterrupted()).isFalse();
+        ScanResult result = scanner.emptyResult();
+        assertThat(result.statistics().filesSkipped()).isEqualTo(1);
+        assertThat(result.statistics().errorCounts()).containsEntry(ScanStatistics.PARSE_TIMEOUT_ERROR, 1);
+    }
+
+    @Test
+    void recordFallbackParse_afterTimeout_keepsErrorButNotSkippedFile() throws IOException {
+        // Given: A file whose parse timed out
+        scanner.setScanLimits(ScanLimits.DEFAULT.withOverrides(Map.of(ScanLimits.PARSE_TIMEOUT_MILLIS_KEY, 20)));
+        Path file = createFile("slow.test", "slow");
+        scanner.parseWithinTimeout(file, ScannerTestSupport::sleepUntilInterrupted);
+        assertThat(scanner.isParseAbandoned(file)).isTrue();
+
+        // When: The regex fallback parses it instead
+        scanner.recordFallbackParse(file);
+
+        // Then: The timeout is reported, but the file is not skipped
+        ScanResult result = scanner.emptyResult();
+        assertThat(scanner.isParseAbandoned(file)).isFalse();
+        assertThat(result.statistics().filesSkipped()).isZero();
+        assertThat(result.statistics().errorCounts()).containsEntry(ScanStatistics.PARSE_TIMEOUT_ERROR, 1);
+    }
+
+    @Test
+    void parseWithinTimeout_afterRepeatedTimeouts_disablesParsingUntilNextResult() throws IOException {
+        // Given: A scanner whose first three parses time out
+        scanner.setScanLimits(ScanLimits.DEFAULT.withOverrides(Map.of(ScanLimits.PARSE_TIMEOUT_MILLIS_KEY, 20)));
+        for (int i = 0; i < 3; i++) {
+            scanner.parseWithinTimeout(createFile("slow" + i + ".test", "slow"), ScannerTestSupport::sleepUntilInterrupted);
+        }
+
+        // When: Another file is parsed
+        AtomicInteger parses = new AtomicInteger();
+        Path next = createFile("next.test", "fast");
+        Optional<Integer> parsed = scanner.parseWithinTimeout(next, parses::incrementAndGet);
+
+        // Then: The parse is not started and the file is reported as not parsed
+        assertThat(parsed).isEmpty();
+        assertThat(parses).hasValue(0);
+        assertThat(scanner.isParseAbandoned(next)).isTrue();
+        ScanResult result = scanner.emptyResult();
+        assertThat(result.statistics().filesSkipped()).isEqualTo(4);
+        assertThat(result.statistics().errorCounts())
+            .containsEntry(ScanStatistics.PARSE_TIMEOUT_ERROR, 3)
+            .containsEntry(ScanStatistics.PARSER_DISABLED_ERROR, 1);
+
+        // And: Building the result closes the breaker again
+        assertThat(scanner.parseWithinTimeout(next, parses::incrementAndGet)).contains(1);
+    }
+
+    @Test
+    void parseWithinTimeout_withTimeoutRateBelowThreshold_keepsParsing() throws IOException {
+        // Given: Three timeouts among many fast parses
+        scanner.setScanLimits(ScanLimits.DEFAULT.withOverrides(Map.of(ScanLimits.PARSE_TIMEOUT_MILLIS_KEY, 20)));
+        Path fast = createFile("fast.test", "fast");
+        for (int i = 0; i < 30; i++) {
+            scanner.parseWithinTimeout(fast, () -> "parsed");
+        }
+        for (int i = 0; i < 3; i++) {
+            scanner.parseWithinTimeout(createFile("slow" + i + ".test", "slow"), ScannerTestSupport::sleepUntilInterrupted);
+        }
+
+        // Then: Parsing stays enabled
+        assertThat(scanner.parseWithinTimeout(fast, () -> "parsed")).contains("parsed");
+    }
+
+    @Test
+    void parseWithinTimeout_withFailingParse_rethrowsException() throws IOException {
+        // Given: A parse failing before the timeout
+        Path file = createFile("broken.test", "broken");
+
+        // Then: The failure is not mistaken for a timeout
+        assertThatThrownBy(() -> scanner.parseWithinTimeout(file, () -> {
+            throw new IOException("syntax error");
+        })).isInstanceOf(IOException.class).hasMessage("syntax error");
+        assertThat(scanner.emptyResult().statistics().filesSkipped()).isZero();
+    }
+
     @Test
     void readFileLines_withEmptyFile_returnsEmptyList() throws IOException {
         // Given: An empty file
@@ -112,6 +254,30 @@ class AbstractScannerTest extends ScannerTestBase {
         assertThat(result).isFalse();
     }
 
+    // ==================== Content Pre-Filtering ====================
+
+    @Test
+    void containsTriggerToken_withoutTriggerTokens_returnsTrue() throws IOException {
+        // Given: A scanner without trigger tokens
+        Path file = createFile("Plain.test", "nothing relevant");
+
+        // Then: Every file passes the pre-filter
+        assertThat(scanner.containsTriggerToken(file)).isTrue();
+    }
+
+    @Test
+    void containsTriggerToken_withTriggerTokens_checksFileContent() throws IOException {
+        // Given: A scanner with trigger tokens
+        TestScanner filtering = new TestScanner(Set.of("@Listener", "Template"));
+        Path relevant = createFile("Relevant.test", "class A { Template t; }");
+        Path irrelevant = createFile("Irrelevant.test", "class B {}");
+
+        // Then: Only files containing a token pass the pre-filter
+        assertThat(filtering.containsTriggerToken(relevant)).isTrue();
+        assertThat(filtering.containsTriggerToken(irrelevant)).isFalse();
+        assertThat(filtering.containsTriggerToken(tempDir.resolve("Missing.test"))).isFalse();
+    }
+
     // ==================== ScanResult Creation Helpers ====================
 
     @Test
@@ -184,11 +350,44 @@ class AbstractScannerTest extends ScannerTestBase {
 
     // ==================== Test Scanner Implementation ====================
 
+    /**
+     * Parse tasks for timeout tests.
+     */
+    private static final class ScannerTestSupport {
+
+        /**
+         * Blocks until the parse timeout interrupts the thread.
+         */
+        static String sleepUntilInterrupted() throws IOException {
+            try {
+                Thread.sleep(10_000);
+                return "too late";
+            } catch (InterruptedException e) {
+                throw new InterruptedIOException("interrupted");
+            }
+        }
+    }
+
     /**
      * Concrete test implementation of AbstractScanner for testing base functionality.
      */
     private static class TestScanner extends AbstractScanner {
 
+        private final Set<String> triggerTokens;
+
+        TestScanner() {
+            this(Set.of());
+        }
+
+        TestScanner(Set<String> triggerTokens) {
+            this.triggerTokens = triggerTokens;
+        }
+
+        @Override
+        protected Set<String> getTriggerTokens() {
+            return triggerTokens;
+        }
+
         @Override
         public String getId() {
             return "test-scanner";
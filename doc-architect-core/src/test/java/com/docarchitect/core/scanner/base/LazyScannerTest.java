@@ -0,0 +1,160 @@
+package com.docarchitect.core.scanner.base;
+
+import com.docarchitect.core.scanner.FindingType;
+import com.docarchitect.core.scanner.ProjectFileIndex;
+import com.docarchitect.core.scanner.ScanContext;
+import com.docarchitect.core.scanner.ScanResult;
+import com.docarchitect.core.scanner.Scanner;
+import com.docarchitect.core.scanner.ScannerManifest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for {@link LazyScanner}.
+ */
+class LazyScannerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final AtomicInteger created = new AtomicInteger();
+
+    @Test
+    void metadata_comesFromManifestWithoutInstantiating() {
+        LazyScanner scanner = new LazyScanner(entry("stub", Set.of("**/*.stub")), () -> stub("stub"));
+
+        assertThat(scanner.getId()).isEqualTo("stub");
+        assertThat(scanner.getDisplayName()).isEqualTo("Stub Scanner");
+        assertThat(scanner.getPriority()).isEqualTo(50);
+        assertThat(scanner.getSupportedFilePatterns()).containsExactly("**/*.stub");
+        assertThat(scanner.getProducedFindings()).containsExactly(FindingType.API_ENDPOINTS);
+        assertThat(scanner.getRequiredFindings()).isEmpty();
+        assertThat(scanner.isInstantiated()).isFalse();
+        assertThat(created).hasValue(0);
+    }
+
+    @Test
+    void appliesTo_withoutMatchingFile_returnsFalseWithoutInstantiating() throws IOException {
+        Files.writeString(tempDir.resolve("readme.md"), "# Readme");
+        LazyScanner scanner = new LazyScanner(entry("stub", Set.of("**/*.stub")), () -> stub("stub"));
+
+        assertThat(scanner.appliesTo(context())).isFalse();
+        assertThat(scanner.isInstantiated()).isFalse();
+    }
+
+    @Test
+    void appliesTo_withMatchingFile_instantiatesAndDelegates() throws IOException {
+        Files.createDirectories(tempDir.resolve("src"));
+        Files.writeString(tempDir.resolve("src/api.stub"), "stub");
+        List<Scanner> configured = new ArrayList<>();
+        LazyScanner scanner = new LazyScanner(entry("stub", Set.of("**/*.stub")), () -> stub("stub"));
+        scanner.configure(configured::add);
+
+        assertThat(scanner.appliesTo(context())).isTrue();
+        assertThat(scanner.scan(context()).scannerId()).isEqualTo("stub");
+        assertThat(scanner.isInstantiated()).isTrue();
+        assertThat(created).hasValue(1);
+        assertThat(configured).containsExactly(scanner.instance());
+    }
+
+    @Test
+    void appliesTo_withoutApplicabilityPatterns_delegates() {
+        LazyScanner scanner = new LazyScanner(entry("stub", Set.of()), () -> stub("stub"));
+
+        assertThat(scanner.appliesTo(context())).isTrue();
+        assertThat(scanner.isInstantiated()).isTrue();
+    }
+
+    @Test
+    void configure_afterInstantiation_appliesImmediately() {
+        List<Scanner> configured = new ArrayList<>();
+        LazyScanner scanner = new LazyScanner(entry("stub", Set.of()), () -> stub("stub"));
+        Scanner instance = scanner.instance();
+
+        scanner.configure(configured::add);
+
+        assertThat(configured).containsExactly(instance);
+    }
+
+    @Test
+    void instance_withMismatchingId_throwsIllegalStateException() {
+        LazyScanner scanner = new LazyScanner(entry("stub", Set.of()), () -> stub("other"));
+
+        assertThatThrownBy(scanner::instance)
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("'stub'")
+            .hasMessageContaining("'other'");
+    }
+
+    private ScanContext context() {
+        return new ScanContext(tempDir, List.of(tempDir), Map.of(), Map.of(), Map.of(),
+            ProjectFileIndex.build(tempDir, List.of(tempDir)));
+    }
+
+    private static ScannerManifest.Entry entry(String id, Set<String> applicabilityPatterns) {
+        return new ScannerManifest.Entry(id, StubScanner.class.getName(), "Stub Scanner", 50, Set.of(),
+            Set.of("**/*.stub"), applicabilityPatterns, Set.of(FindingType.API_ENDPOINTS), Set.of());
+    }
+
+    private Scanner stub(String id) {
+        created.incrementAndGet();
+        return new StubScanner(id);
+    }
+
+    /**
+     * Scanner that applies to every project and returns an empty result.
+     */
+    private static class StubScanner implements Scanner {
+        private final String id;
+
+        StubScanner(String id) {
+            this.id = id;
+        }
+
+        @Override
+        public String getId() {
+            return id;
+        }
+
+        @Override
+        public String getDisplayName() {
+            return "Stub Scanner";
+        }
+
+        @Override
+        public Set<String> getSupportedLanguages() {
+            return Set.of();
+        }
+
+        @Override
+        public Set<String> getSupportedFilePatterns() {
+            return Set.of("**/*.stub");
+        }
+
+        @Override
+        public int getPriority() {
+            return 50;
+        }
+
+        @Override
+        public boolean appliesTo(ScanContext context) {
+            return true;
+        }
+
+        @Override
+        public ScanResult scan(ScanContext context) {
+            return ScanResult.empty(id);
+        }
+    }
+}
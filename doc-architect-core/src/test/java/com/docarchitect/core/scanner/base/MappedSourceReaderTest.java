@@ -0,0 +1,139 @@
+package com.docarchitect.core.scanner.base;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for {@link MappedSourceReader}.
+ */
+class MappedSourceReaderTest {
+
+    private final MappedSourceReader reader = new MappedSourceReader(MappedSourceReader.DEFAULT_MAX_FILE_SIZE);
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void read_withUtf8File_returnsContent() throws IOException {
+        Path file = write("Orders.java", "// Bestellübersicht – €\nclass Orders {}".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(reader.read(file)).isEqualTo("// Bestellübersicht – €\nclass Orders {}");
+    }
+
+    @Test
+    void read_withUtf8ByteOrderMark_stripsMark() throws IOException {
+        Path file = write("Program.cs", concat(new byte[]{(byte) 0xEF, (byte) 0xBB, (byte) 0xBF},
+            "using System;".getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(reader.read(file)).isEqualTo("using System;");
+    }
+
+    @Test
+    void read_withUtf16ByteOrderMark_decodesUtf16() throws IOException {
+        Path littleEndian = write("Le.cs", concat(new byte[]{(byte) 0xFF, (byte) 0xFE},
+            "class Lé {}".getBytes(StandardCharsets.UTF_16LE)));
+        Path bigEndian = write("Be.cs", concat(new byte[]{(byte) 0xFE, (byte) 0xFF},
+            "class Bé {}".getBytes(StandardCharsets.UTF_16BE)));
+
+        assertThat(reader.read(littleEndian)).isEqualTo("class Lé {}");
+        assertThat(reader.read(bigEndian)).isEqualTo("class Bé {}");
+    }
+
+    @Test
+    void read_withLatin1File_fallsBackToLatin1() throws IOException {
+        Path file = write("legacy.py", "# Größe\nclass Model: pass".getBytes(StandardCharsets.ISO_8859_1));
+
+        assertThat(reader.read(file)).isEqualTo("# Größe\nclass Model: pass");
+    }
+
+    @Test
+    void read_withFileOverLimit_throwsFileTooLargeException() throws IOException {
+        Path file = write("bundle.min.js", new byte[2048]);
+        MappedSourceReader limited = new MappedSourceReader(1024);
+
+        assertThatThrownBy(() -> limited.read(file))
+            .isInstanceOf(FileTooLargeException.class)
+            .satisfies(e -> {
+                FileTooLargeException tooLarge = (FileTooLargeException) e;
+                assertThat(tooLarge.getSize()).isEqualTo(2048);
+                assertThat(tooLarge.getLimit()).isEqualTo(1024);
+                assertThat(tooLarge.getFile()).isEqualTo(file);
+            });
+    }
+
+    @Test
+    void read_withMoreLinesThanLimit_throwsFileTooLargeException() throws IOException {
+        Path file = write("Generated.java", "a\nb\r\nc\n".getBytes(StandardCharsets.UTF_8));
+        Path atLimit = write("Small.java", "a\nb".getBytes(StandardCharsets.UTF_8));
+        MappedSourceReader limited = new MappedSourceReader(MappedSourceReader.DEFAULT_MAX_FILE_SIZE, 2);
+
+        assertThat(limited.read(atLimit)).isEqualTo("a\nb");
+        assertThatThrownBy(() -> limited.read(file))
+            .isInstanceOf(FileTooLargeException.class)
+            .hasMessageContaining("line limit")
+            .satisfies(e -> {
+                FileTooLargeException tooLarge = (FileTooLargeException) e;
+                assertThat(tooLarge.getMeasure()).isEqualTo(FileTooLargeException.Measure.LINES);
+                assertThat(tooLarge.getSize()).isEqualTo(3);
+                assertThat(tooLarge.getLimit()).isEqualTo(2);
+            });
+    }
+
+    @Test
+    void read_withLargeFile_readsMappedContent() throws IOException {
+        byte[] content = new byte[MappedSourceReader.MMAP_THRESHOLD + 3];
+        Arrays.fill(content, (byte) 'a');
+        content[content.length - 1] = (byte) 0xE9; // Latin-1 'é', invalid as UTF-8
+        Path file = write("Generated.java", content);
+
+        String text = reader.read(file);
+
+        assertThat(text).hasSize(content.length).endsWith("aaé");
+    }
+
+    @Test
+    void read_withSmallFilesAfterLargeFile_reusesBuffersCorrectly() throws IOException {
+        Path longer = write("Long.java", "class LongerName {}".getBytes(StandardCharsets.UTF_8));
+        Path shorter = write("Short.java", "class S {}".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(reader.read(longer)).isEqualTo("class LongerName {}");
+        assertThat(reader.read(shorter)).isEqualTo("class S {}");
+    }
+
+    @Test
+    void readLines_withMixedLineTerminators_splitsLikeFilesReadAllLines() throws IOException {
+        Path file = write("lines.rb", "a\nb\r\nc\rd".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(reader.readLines(file))
+            .containsExactly("a", "b", "c", "d")
+            .isEqualTo(Files.readAllLines(file));
+    }
+
+    @Test
+    void constructor_withNonPositiveLimit_throwsException() {
+        assertThatThrownBy(() -> new MappedSourceReader(0))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new MappedSourceReader(1024, 0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Path write(String name, byte[] content) throws IOException {
+        Path file = tempDir.resolve(name);
+        Files.write(file, content);
+        return file;
+    }
+
+    private static byte[] concat(byte[] first, byte[] second) {
+        byte[] result = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
+    }
+}
@@ -0,0 +1,128 @@
+package com.docarchitect.core.scanner.base;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for {@link MultiPatternMatcher}.
+ */
+class MultiPatternMatcherTest {
+
+    private static final Pattern GET = Pattern.compile("@(\\w+)\\.get\\(\"([^\"]+)\"");
+    private static final Pattern ROUTE = Pattern.compile("@(\\w+)\\.route\\(\"([^\"]+)\"");
+    private static final Pattern CALL = Pattern.compile("(?<receiver>\\w+)\\.GET\\(\"(?<path>[^\"]+)\"");
+
+    @Test
+    void matchLines_withSeveralPatterns_returnsTaggedMatchesWithLineNumbers() {
+        MultiPatternMatcher matcher = MultiPatternMatcher.builder()
+            .add("get", GET)
+            .add("route", ROUTE)
+            .build();
+
+        List<MultiPatternMatcher.Match> matches = matcher.matchLines(List.of(
+            "@app.route(\"/users\")",
+            "def users(): pass",
+            "@bp.get(\"/items\")"
+        ));
+
+        assertThat(matches).extracting(MultiPatternMatcher.Match::patternId).containsExactly("route", "get");
+        assertThat(matches).extracting(MultiPatternMatcher.Match::lineNumber).containsExactly(1, 3);
+        assertThat(matches.get(0).group(2)).isEqualTo("/users");
+        assertThat(matches.get(1).group(1)).isEqualTo("bp");
+    }
+
+    @Test
+    void matchLines_withSeveralMatchesOnLine_ordersByRegistrationThenPosition() {
+        MultiPatternMatcher matcher = MultiPatternMatcher.builder()
+            .add("get", GET)
+            .add("route", ROUTE)
+            .build();
+
+        List<MultiPatternMatcher.Match> matches = matcher.matchLines(List.of(
+            "@a.route(\"/r\") @b.get(\"/g1\") @c.get(\"/g2\")"
+        ));
+
+        assertThat(matches).extracting(MultiPatternMatcher.Match::text)
+            .containsExactly("@b.get(\"/g1\"", "@c.get(\"/g2\"", "@a.route(\"/r\"");
+    }
+
+    @Test
+    void matchLines_withMissingRequiredLiteral_skipsPattern() {
+        MultiPatternMatcher matcher = MultiPatternMatcher.builder()
+            .add("route", ROUTE, "methods")
+            .build();
+
+        List<MultiPatternMatcher.Match> matches = matcher.matchLines(List.of(
+            "@app.route(\"/a\")",
+            "@app.route(\"/b\", methods=[\"POST\"])"
+        ));
+
+        assertThat(matches).extracting(m -> m.group(2)).containsExactly("/b");
+    }
+
+    @Test
+    void matchContent_withSharedPattern_reportsMatchUnderEachApplicableId() {
+        MultiPatternMatcher matcher = MultiPatternMatcher.builder()
+            .add("gin", CALL, "gin-gonic")
+            .add("echo", Pattern.compile(CALL.pattern()), "labstack/echo")
+            .add("fiber", Pattern.compile(CALL.pattern()), "gofiber")
+            .build();
+
+        List<MultiPatternMatcher.Match> matches = matcher.matchContent(
+            "import \"github.com/gin-gonic/gin\"\nimport \"github.com/labstack/echo\"\nr.GET(\"/users\")"
+        );
+
+        assertThat(matches).extracting(MultiPatternMatcher.Match::patternId).containsExactly("gin", "echo");
+        assertThat(matches).allSatisfy(match -> {
+            assertThat(match.lineNumber()).isEqualTo(3);
+            assertThat(match.group("path")).isEqualTo("/users");
+        });
+    }
+
+    @Test
+    void matchContent_withMultiLinePattern_reportsLineOfMatchStart() {
+        MultiPatternMatcher matcher = MultiPatternMatcher.builder()
+            .add("table", Pattern.compile("CREATE TABLE (\\w+)\\s*\\((.*?)\\);", Pattern.DOTALL))
+            .add("index", Pattern.compile("CREATE INDEX (\\w+)"))
+            .build();
+
+        List<MultiPatternMatcher.Match> matches = matcher.matchContent(
+            "-- schema\r\nCREATE INDEX idx_a ON a(x);\rCREATE TABLE users (\n  id INT\n);\nCREATE TABLE orders (id INT);"
+        );
+
+        assertThat(matches).extracting(MultiPatternMatcher.Match::patternId).containsExactly("index", "table", "table");
+        assertThat(matches).extracting(MultiPatternMatcher.Match::lineNumber).containsExactly(2, 3, 6);
+        assertThat(matches.get(1).group(1)).isEqualTo("users");
+    }
+
+    @Test
+    void matchContent_withNoMatches_returnsEmptyList() {
+        MultiPatternMatcher matcher = MultiPatternMatcher.builder().add("get", GET).build();
+
+        assertThat(matcher.matchContent("print('hello')")).isEmpty();
+        assertThat(matcher.matchLines(List.of())).isEmpty();
+    }
+
+    @Test
+    void build_withDuplicateId_throwsException() {
+        MultiPatternMatcher.Builder builder = MultiPatternMatcher.builder().add("get", GET);
+
+        assertThatThrownBy(() -> builder.add("get", ROUTE))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("get");
+    }
+
+    @Test
+    void patternIds_returnsIdsInRegistrationOrder() {
+        MultiPatternMatcher matcher = MultiPatternMatcher.builder()
+            .add("route", ROUTE)
+            .add("get", GET)
+            .build();
+
+        assertThat(matcher.patternIds()).containsExactly("route", "get");
+    }
+}
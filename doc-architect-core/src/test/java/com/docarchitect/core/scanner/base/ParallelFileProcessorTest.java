@@ -0,0 +1,114 @@
+package com.docarchitect.core.scanner.base;
+
+import com.docarchitect.core.scanner.ScanStatistics;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for {@link ParallelFileProcessor}.
+ */
+class ParallelFileProcessorTest {
+
+    private static final List<Path> FILES = IntStream.range(0, 200)
+        .mapToObj(i -> Path.of("src", "File" + i + ".java"))
+        .toList();
+
+    @Test
+    void process_withParallelism_matchesSequentialResultsAndStatistics() {
+        ScanStatistics.Builder sequentialStats = new ScanStatistics.Builder();
+        List<String> sequential = ParallelFileProcessor.process(FILES, 1, sequentialStats, ParallelFileProcessorTest::task);
+
+        ScanStatistics.Builder parallelStats = new ScanStatistics.Builder();
+        List<String> parallel = ParallelFileProcessor.process(FILES, 8, parallelStats, ParallelFileProcessorTest::task);
+
+        assertThat(parallel).containsExactlyElementsOf(sequential);
+        assertThat(parallelStats.build()).isEqualTo(sequentialStats.build());
+        assertThat(parallelStats.build().topErrors()).hasSize(10).startsWith("File0.java: failed");
+    }
+
+    @Test
+    void process_withParallelism_usesMultipleThreads() {
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        ParallelFileProcessor.process(FILES, 4, new ScanStatistics.Builder(), (file, stats) -> {
+            threads.add(Thread.currentThread().getName());
+            busyWait();
+            return List.of();
+        });
+
+        assertThat(threads).hasSizeGreaterThan(1);
+    }
+
+    @Test
+    void process_withFailingTask_rethrowsException() {
+        assertThatThrownBy(() -> ParallelFileProcessor.process(FILES, 4, new ScanStatistics.Builder(), (file, stats) -> {
+            throw new IllegalStateException("broken " + file.getFileName());
+        }))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageStartingWith("broken");
+    }
+
+    @Test
+    void process_withPrefetcher_matchesSequentialResultsAndExposesContent() {
+        ScanStatistics.Builder sequentialStats = new ScanStatistics.Builder();
+        List<String> sequential = ParallelFileProcessor.process(FILES, 1, sequentialStats, ParallelFileProcessorTest::task);
+
+        ScanStatistics.Builder pipelineStats = new ScanStatistics.Builder();
+        List<String> pipeline = ParallelFileProcessor.process(FILES, 4, file -> "content of " + file.getFileName(),
+            pipelineStats, (file, stats) -> {
+                assertThat(ParallelFileProcessor.prefetchedContent(file)).isEqualTo("content of " + file.getFileName());
+                return task(file, stats);
+            });
+
+        assertThat(pipeline).containsExactlyElementsOf(sequential);
+        assertThat(pipelineStats.build()).isEqualTo(sequentialStats.build());
+        assertThat(ParallelFileProcessor.prefetchedContent(FILES.get(0))).isNull();
+    }
+
+    @Test
+    void process_withFailingPrefetcher_leavesContentUnset() {
+        List<Boolean> prefetched = ParallelFileProcessor.process(FILES, 4, file -> {
+            throw new IOException("unreadable");
+        }, new ScanStatistics.Builder(), (file, stats) -> List.of(ParallelFileProcessor.prefetchedContent(file) != null));
+
+        assertThat(prefetched).hasSize(FILES.size()).containsOnly(false);
+    }
+
+    @Test
+    void process_withPrefetcherAndFailingTask_rethrowsException() {
+        assertThatThrownBy(() -> ParallelFileProcessor.process(FILES, 4, file -> "content", new ScanStatistics.Builder(),
+            (file, stats) -> {
+                throw new IllegalStateException("broken " + file.getFileName());
+            }))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageStartingWith("broken");
+    }
+
+    private static List<String> task(Path file, ScanStatistics.Builder stats) {
+        stats.incrementFilesScanned();
+        String name = file.getFileName().toString();
+        int index = Integer.parseInt(name.replaceAll("\\D", ""));
+        if (index % 3 == 0) {
+            stats.incrementFilesFailed();
+            stats.addError("Parse error", name + ": failed");
+            return List.of();
+        }
+        stats.incrementFilesParsedSuccessfully();
+        return List.of(name + "#a", name + "#b");
+    }
+
+    private static void busyWait() {
+        long end = System.nanoTime() + 1_000_000;
+        while (System.nanoTime() < end) {
+            Thread.onSpinWait();
+        }
+    }
+}
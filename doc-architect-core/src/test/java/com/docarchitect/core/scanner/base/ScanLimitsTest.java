@@ -0,0 +1,76 @@
+package com.docarchitect.core.scanner.base;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for {@link ScanLimits}.
+ */
+class ScanLimitsTest {
+
+    @Test
+    void constructor_withNonPositiveValues_throwsException() {
+        assertThatThrownBy(() -> new ScanLimits(0, 10, Duration.ofSeconds(1)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("maxFileSizeBytes");
+        assertThatThrownBy(() -> new ScanLimits(10, 0, Duration.ofSeconds(1)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("maxLines");
+        assertThatThrownBy(() -> new ScanLimits(10, 10, Duration.ZERO))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("parseTimeout");
+    }
+
+    @Test
+    void withOverrides_withEmptyConfiguration_returnsSameLimits() {
+        assertThat(ScanLimits.DEFAULT.withOverrides(Map.of())).isSameAs(ScanLimits.DEFAULT);
+        assertThat(ScanLimits.DEFAULT.withOverrides(null)).isSameAs(ScanLimits.DEFAULT);
+    }
+
+    @Test
+    void withOverrides_withNumbersAndStrings_overridesConfiguredLimits() {
+        ScanLimits limits = ScanLimits.DEFAULT.withOverrides(Map.of(
+            ScanLimits.MAX_LINES_KEY, 500,
+            ScanLimits.PARSE_TIMEOUT_MILLIS_KEY, "2500",
+            "maxSchemaLines", 10));
+
+        assertThat(limits.maxFileSizeBytes()).isEqualTo(MappedSourceReader.DEFAULT_MAX_FILE_SIZE);
+        assertThat(limits.maxLines()).isEqualTo(500);
+        assertThat(limits.parseTimeout()).isEqualTo(Duration.ofMillis(2500));
+    }
+
+    @Test
+    void withOverrides_withTimeoutRate_overridesRate() {
+        assertThat(ScanLimits.DEFAULT.maxParseTimeoutRate()).isEqualTo(ScanLimits.DEFAULT_MAX_PARSE_TIMEOUT_RATE);
+        assertThat(ScanLimits.DEFAULT.withOverrides(Map.of(ScanLimits.MAX_PARSE_TIMEOUT_RATE_KEY, "0.5"))
+            .maxParseTimeoutRate()).isEqualTo(0.5);
+        assertThatThrownBy(() -> ScanLimits.DEFAULT.withOverrides(Map.of(ScanLimits.MAX_PARSE_TIMEOUT_RATE_KEY, 2)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("between 0 and 1");
+    }
+
+    @Test
+    void withOverrides_withInvalidValue_throwsException() {
+        assertThatThrownBy(() -> ScanLimits.DEFAULT.withOverrides(Map.of(ScanLimits.MAX_LINES_KEY, "many")))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("maxLines");
+        assertThatThrownBy(() -> ScanLimits.DEFAULT.withOverrides(Map.of(ScanLimits.MAX_FILE_SIZE_BYTES_KEY, -1)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("maxFileSizeBytes");
+    }
+
+    @Test
+    void sourceReader_enforcesSizeAndLineLimits() {
+        ScanLimits limits = ScanLimits.DEFAULT.withMaxFileSizeBytes(1024).withOverrides(Map.of(ScanLimits.MAX_LINES_KEY, 20));
+
+        assertThat(limits.sourceReader())
+            .isInstanceOfSatisfying(MappedSourceReader.class, reader -> {
+                assertThat(reader.maxFileSize()).isEqualTo(1024);
+                assertThat(reader.maxLines()).isEqualTo(20);
+            });
+    }
+}
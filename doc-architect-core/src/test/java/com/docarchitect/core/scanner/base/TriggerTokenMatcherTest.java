@@ -0,0 +1,103 @@
+package com.docarchitect.core.scanner.base;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for {@link TriggerTokenMatcher}.
+ */
+class TriggerTokenMatcherTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void matches_withOverlappingTokens_findsTokenEndingInsideAnother() {
+        TriggerTokenMatcher matcher = TriggerTokenMatcher.of(List.of("hers", "she", "his"));
+
+        assertThat(matcher.matches(bytes("ushers"))).isTrue();
+        assertThat(matcher.matches(bytes("ahishe"))).isTrue();
+        assertThat(matcher.matches(bytes("hehehe"))).isFalse();
+    }
+
+    @Test
+    void matches_withTokenAfterPartialPrefix_recoversViaFailureTransition() {
+        TriggerTokenMatcher matcher = TriggerTokenMatcher.of(List.of("@KafkaListener"));
+
+        assertThat(matcher.matches(bytes("@Kafka @KafkaListener(topics = \"orders\")"))).isTrue();
+        assertThat(matcher.matches(bytes("@Kafka @KafkaList"))).isFalse();
+    }
+
+    @Test
+    void matches_withFileWithoutTokens_returnsFalse() throws IOException {
+        Path file = write("Plain.java", "public class Plain {}");
+
+        assertThat(TriggerTokenMatcher.of(List.of("@RabbitListener")).matches(file)).isFalse();
+    }
+
+    @Test
+    void matches_withTokenSpanningBufferBoundary_returnsTrue() throws IOException {
+        String token = "@RabbitListener";
+        byte[] content = new byte[128 * 1024];
+        Arrays.fill(content, (byte) 'x');
+        int start = 64 * 1024 - token.length() / 2;
+        System.arraycopy(bytes(token), 0, content, start, token.length());
+        Path file = tempDir.resolve("Spanning.java");
+        Files.write(file, content);
+
+        assertThat(TriggerTokenMatcher.of(List.of(token)).matches(file)).isTrue();
+    }
+
+    @Test
+    void matches_withLargeFile_usesMappedSearch() throws IOException {
+        byte[] content = new byte[TriggerTokenMatcher.MMAP_THRESHOLD + 10];
+        Arrays.fill(content, (byte) ' ');
+        byte[] token = bytes("KafkaTemplate");
+        System.arraycopy(token, 0, content, content.length - token.length, token.length);
+        Path file = tempDir.resolve("Large.java");
+        Files.write(file, content);
+
+        assertThat(TriggerTokenMatcher.of(List.of("KafkaTemplate")).matches(file)).isTrue();
+        assertThat(TriggerTokenMatcher.of(List.of("RabbitTemplate")).matches(file)).isFalse();
+    }
+
+    @Test
+    void matches_withNonAsciiContent_matchesAsciiTokens() throws IOException {
+        Path file = tempDir.resolve("Unicode.java");
+        Files.writeString(file, "// Überprüfung für Bestellungen\n@RestController class Orders {}", StandardCharsets.UTF_8);
+
+        assertThat(TriggerTokenMatcher.of(List.of("@RestController")).matches(file)).isTrue();
+    }
+
+    @Test
+    void of_withNoTokens_throwsException() {
+        assertThatThrownBy(() -> TriggerTokenMatcher.of(List.of()))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void of_withEmptyToken_throwsException() {
+        assertThatThrownBy(() -> TriggerTokenMatcher.of(List.of("@Path", "")))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("must not be empty");
+    }
+
+    private Path write(String name, String content) throws IOException {
+        Path file = tempDir.resolve(name);
+        Files.writeString(file, content);
+        return file;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
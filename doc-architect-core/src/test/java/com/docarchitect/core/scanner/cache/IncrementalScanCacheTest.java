@@ -0,0 +1,186 @@
+package com.docarchitect.core.scanner.cache;
+
+import com.docarchitect.core.model.Component;
+import com.docarchitect.core.model.ComponentType;
+import com.docarchitect.core.scanner.ConfidenceLevel;
+import com.docarchitect.core.util.IdGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for {@link IncrementalScanCache}.
+ */
+class IncrementalScanCacheTest {
+
+    private static final String HASH = IncrementalScanCache.contentHash("class A {}".getBytes(StandardCharsets.UTF_8));
+    private static final Component COMPONENT = new Component(
+        "a", "A", ComponentType.SERVICE, "Component A", "Java", null, Map.of("sourceFile", "src/A.java"));
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void contentHash_returnsSha256Hex() {
+        assertThat(IncrementalScanCache.contentHash(new byte[0]))
+            .isEqualTo("e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855");
+    }
+
+    @Test
+    void contentHash_withString_hashesUtf8Bytes() {
+        assertThat(IncrementalScanCache.contentHash("class Ä {}"))
+            .isEqualTo(IncrementalScanCache.contentHash("class Ä {}".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void lookup_afterFlushAndReopen_restoresStoredResults() throws IOException {
+        IncrementalScanCache first = IncrementalScanCache.open(tempDir);
+        first.store("scanner", "1", "src/A.java", HASH, Component.class, List.of(COMPONENT), ConfidenceLevel.MEDIUM);
+        first.flush();
+
+        Optional<IncrementalScanCache.CachedResult<Component>> cached = IncrementalScanCache.open(tempDir)
+            .lookup("scanner", "1", "src/A.java", HASH, Component.class);
+
+        assertThat(cached).isPresent();
+        assertThat(cached.get().data()).containsExactly(COMPONENT);
+        assertThat(cached.get().confidence()).isEqualTo(ConfidenceLevel.MEDIUM);
+        assertThat(tempDir.resolve("scanner.cache")).isRegularFile();
+    }
+
+    @Test
+    void lookup_withEmptyResult_restoresEmptyList() throws IOException {
+        IncrementalScanCache first = IncrementalScanCache.open(tempDir);
+        first.store("scanner", "1", "src/A.java", HASH, Component.class, List.of(), ConfidenceLevel.HIGH);
+        first.flush();
+
+        Optional<IncrementalScanCache.CachedResult<Component>> cached = IncrementalScanCache.open(tempDir)
+            .lookup("scanner", "1", "src/A.java", HASH, Component.class);
+
+        assertThat(cached).isPresent();
+        assertThat(cached.get().data()).isEmpty();
+    }
+
+    @Test
+    void lookup_withChangedContent_misses() throws IOException {
+        storeAndFlush("1");
+
+        String changedHash = IncrementalScanCache.contentHash("class A { int x; }".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(IncrementalScanCache.open(tempDir)
+            .lookup("scanner", "1", "src/A.java", changedHash, Component.class)).isEmpty();
+    }
+
+    @Test
+    void lookup_withDifferentScannerVersion_misses() throws IOException {
+        storeAndFlush("1");
+
+        assertThat(IncrementalScanCache.open(tempDir)
+            .lookup("scanner", "2", "src/A.java", HASH, Component.class)).isEmpty();
+    }
+
+    @Test
+    void lookup_fromOtherBuild_misses() throws IOException {
+        storeAndFlush("1");
+        Path cacheFile = tempDir.resolve("scanner.cache");
+        Files.writeString(cacheFile, Files.readString(cacheFile)
+            .replaceFirst("\"toolVersion\":\"[^\"]*\"", "\"toolVersion\":\"dev+other-build\""));
+
+        assertThat(IncrementalScanCache.open(tempDir)
+            .lookup("scanner", "1", "src/A.java", HASH, Component.class)).isEmpty();
+    }
+
+    @Test
+    void lookup_withDifferentIdMode_misses() throws IOException {
+        IdGenerator.Mode original = IdGenerator.mode();
+        try {
+            IdGenerator.setMode(IdGenerator.Mode.COMPATIBLE);
+            storeAndFlush("1");
+
+            IdGenerator.setMode(IdGenerator.Mode.FAST);
+
+            assertThat(IncrementalScanCache.open(tempDir)
+                .lookup("scanner", "1", "src/A.java", HASH, Component.class)).isEmpty();
+        } finally {
+            IdGenerator.setMode(original);
+        }
+    }
+
+    @Test
+    void rebuild_ignoresExistingEntries() throws IOException {
+        storeAndFlush("1");
+
+        assertThat(IncrementalScanCache.rebuild(tempDir)
+            .lookup("scanner", "1", "src/A.java", HASH, Component.class)).isEmpty();
+    }
+
+    @Test
+    void flush_keepsOnlyEntriesUsedInThisRun() throws IOException {
+        IncrementalScanCache first = IncrementalScanCache.open(tempDir);
+        first.store("scanner", "1", "src/A.java", HASH, Component.class, List.of(COMPONENT), ConfidenceLevel.HIGH);
+        first.store("scanner", "1", "src/Deleted.java", HASH, Component.class, List.of(COMPONENT), ConfidenceLevel.HIGH);
+        first.flush();
+
+        IncrementalScanCache second = IncrementalScanCache.open(tempDir);
+        second.lookup("scanner", "1", "src/A.java", HASH, Component.class);
+        second.flush();
+
+        IncrementalScanCache third = IncrementalScanCache.open(tempDir);
+        assertThat(third.lookup("scanner", "1", "src/A.java", HASH, Component.class)).isPresent();
+        assertThat(third.lookup("scanner", "1", "src/Deleted.java", HASH, Component.class)).isEmpty();
+    }
+
+    @Test
+    void open_withCorruptFile_startsEmpty() throws IOException {
+        Files.writeString(tempDir.resolve("scanner.cache"), "{not json");
+
+        assertThat(IncrementalScanCache.open(tempDir)
+            .lookup("scanner", "1", "src/A.java", HASH, Component.class)).isEmpty();
+    }
+
+    @Test
+    void lookup_withTypeNamedInCacheFile_ignoresItAndRestoresExpectedType() throws IOException {
+        storeAndFlush("1");
+        Path cacheFile = tempDir.resolve("scanner.cache");
+        Files.writeString(cacheFile, Files.readString(cacheFile)
+            .replace("\"confidence\"", "\"type\":\"java.lang.ProcessBuilder\",\"confidence\""));
+
+        Optional<IncrementalScanCache.CachedResult<Component>> cached = IncrementalScanCache.open(tempDir)
+            .lookup("scanner", "1", "src/A.java", HASH, Component.class);
+
+        assertThat(Files.readString(cacheFile)).contains("java.lang.ProcessBuilder");
+        assertThat(cached).isPresent();
+        assertThat(cached.get().data()).containsExactly(COMPONENT);
+    }
+
+    @Test
+    void store_withElementsOfOtherClass_doesNotCache() throws IOException {
+        IncrementalScanCache first = IncrementalScanCache.open(tempDir);
+        first.store("scanner", "1", "src/A.java", HASH, Object.class, List.of(COMPONENT), ConfidenceLevel.HIGH);
+        first.flush();
+
+        assertThat(IncrementalScanCache.open(tempDir)
+            .lookup("scanner", "1", "src/A.java", HASH, Object.class)).isEmpty();
+    }
+
+    @Test
+    void flush_writesGitignoreIntoCacheDirectory() throws IOException {
+        storeAndFlush("1");
+
+        assertThat(Files.readString(tempDir.resolve(".gitignore"))).contains("*");
+    }
+
+    private void storeAndFlush(String scannerVersion) throws IOException {
+        IncrementalScanCache cache = IncrementalScanCache.open(tempDir);
+        cache.store("scanner", scannerVersion, "src/A.java", HASH, Component.class, List.of(COMPONENT), ConfidenceLevel.HIGH);
+        cache.flush();
+    }
+}
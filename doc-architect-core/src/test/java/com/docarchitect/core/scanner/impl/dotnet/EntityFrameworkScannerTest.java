@@ -1,8 +1,10 @@
 package com.docarchitect.core.scanner.impl.dotnet;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,6 +15,7 @@ import com.docarchitect.core.model.DataEntity;
 import com.docarchitect.core.scanner.ScanContext;
 import com.docarchitect.core.scanner.ScanResult;
 import com.docarchitect.core.scanner.ScannerTestBase;
+import com.docarchitect.core.scanner.base.SourceReader;
 
 /**
  * Functional tests for {@link EntityFrameworkScanner}.
@@ -575,4 +578,79 @@ public class Comment
             .extracting(DataEntity::name)
             .contains("Blogs", "Posts", "Comments");
     }
+
+    @Test
+    void scan_readsEachFileOnce() throws IOException {
+        // Given: DbContext, Fluent API configuration and entities in separate files
+        createFile("Data/AppDbContext.cs", """
+using Microsoft.EntityFrameworkCore;
+
+public class AppDbContext : DbContext
+{
+    public DbSet<Customer> Customers { get; set; }
+
+    protected override void OnModelCreating(ModelBuilder modelBuilder)
+    {
+        modelBuilder.Entity<Address>();
+    }
+}
+""");
+
+        createFile("Models/Customer.cs", """
+public class Customer
+{
+    public int Id { get; set; }
+    public Address Address { get; set; }
+}
+""");
+
+        createFile("Models/Address.cs", """
+public class Address
+{
+    public int Id { get; set; }
+    public string Street { get; set; }
+}
+""");
+
+        Map<Path, Integer> reads = new ConcurrentHashMap<>();
+        SourceReader defaultReader = SourceReader.defaultReader();
+        scanner.setSourceReader(file -> {
+            reads.merge(file, 1, Integer::sum);
+            return defaultReader.read(file);
+        });
+
+        // When: Scanner is executed
+        ScanResult result = scanner.scan(context);
+
+        // Then: Should find both entities reading every file exactly once
+        assertThat(result.dataEntities())
+            .extracting(DataEntity::name)
+            .containsExactlyInAnyOrder("Customers", "Addresses");
+        assertThat(result.relationships()).hasSize(1);
+        assertThat(reads).hasSize(3).allSatisfy((file, count) -> assertThat(count).isEqualTo(1));
+    }
+
+    @Test
+    void scan_inheritanceFromEntityDeclaredLater_detectsEntity() throws IOException {
+        // Given: A class inheriting from an entity that is only detected further down
+        createFile("Models/Invoices.cs", """
+public class RecurringInvoice : Invoice
+{
+    public string Interval { get; set; }
+}
+
+public class Invoice : BaseEntity
+{
+    public decimal Amount { get; set; }
+}
+""");
+
+        // When: Scanner is executed
+        ScanResult result = scanner.scan(context);
+
+        // Then: Should detect both entities regardless of declaration order
+        assertThat(result.dataEntities())
+            .extracting(DataEntity::name)
+            .contains("Invoices", "RecurringInvoices");
+    }
 }
@@ -6,10 +6,12 @@ import com.docarchitect.core.model.RelationshipType;
 import com.docarchitect.core.scanner.ScanContext;
 import com.docarchitect.core.scanner.ScanResult;
 import com.docarchitect.core.scanner.ScannerTestBase;
+import com.docarchitect.core.scanner.cache.IncrementalScanCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
 
@@ -560,4 +562,53 @@ class JpaEntityScannerTest extends ScannerTestBase {
 
         assertThat(addressField.dataType()).isEqualTo("Address");
     }
+
+    @Test
+    void scan_withIncrementalCache_reusesResultsOfUnchangedFiles() throws IOException {
+        // Given: Two entities with a relationship and a scan that filled the cache
+        createFile("src/main/java/com/example/User.java", """
+            package com.example;
+
+            import javax.persistence.*;
+            import java.util.List;
+
+            @Entity
+            public class User {
+                @Id
+                private Long id;
+
+                @OneToMany(mappedBy = "user")
+                private List<Order> orders;
+            }
+            """);
+        createFile("src/main/java/com/example/Order.java", """
+            package com.example;
+
+            import javax.persistence.*;
+
+            @Entity
+            public class Order {
+                @Id
+                private Long id;
+            }
+            """);
+        Path cacheDir = tempDir.resolve(IncrementalScanCache.DEFAULT_DIRECTORY);
+        ScanResult uncached = scanner.scan(context);
+        IncrementalScanCache firstRun = IncrementalScanCache.open(cacheDir);
+        scanner.scan(cachingContext(firstRun));
+        firstRun.flush();
+
+        // When: The project is scanned again with the cache
+        ScanResult cached = new JpaEntityScanner().scan(cachingContext(IncrementalScanCache.open(cacheDir)));
+
+        // Then: Findings are identical and all files came from the cache
+        assertThat(cached.dataEntities()).isEqualTo(uncached.dataEntities());
+        assertThat(cached.relationships()).isEqualTo(uncached.relationships());
+        assertThat(cached.statistics().filesFromCache()).isEqualTo(2);
+        assertThat(cached.statistics().filesParsedSuccessfully()).isEqualTo(uncached.statistics().filesParsedSuccessfully());
+    }
+
+    private ScanContext cachingContext(IncrementalScanCache cache) {
+        return new ScanContext(tempDir, List.of(tempDir), Map.of(), Map.of(), Map.of(), null, null, null, cache, null);
+    }
 }
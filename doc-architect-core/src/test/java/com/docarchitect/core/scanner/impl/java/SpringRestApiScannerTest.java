@@ -597,4 +597,41 @@ class SpringRestApiScannerTest extends ScannerTestBase {
         assertThat(result.success()).isTrue();
         assertThat(result.apiEndpoints()).isEmpty();
     }
+
+    @Test
+    void scan_withParallelism_producesSameResultAsSequential() throws IOException {
+        // Given: Many controllers, including one that only the regex fallback can read
+        for (int i = 0; i < 40; i++) {
+            createFile("src/main/java/com/example/Controller" + i + ".java", """
+                package com.example;
+
+                import org.springframework.web.bind.annotation.*;
+
+                @RestController
+                @RequestMapping("/api/resource%d")
+                public class Controller%d {
+                    @GetMapping("/{id}")
+                    public String get(@PathVariable String id) {
+                        return id;
+                    }
+                }
+                """.formatted(i, i));
+        }
+        createFile("src/main/java/com/example/Broken.java", """
+            @RestController
+            public class Broken {
+                @GetMapping("/broken")
+                public String get() { return "x" +
+            """);
+
+        // When: Scanner is executed sequentially and with parallel file parsing
+        ScanResult sequential = scanner.scan(context);
+        ScanContext parallelContext = new ScanContext(tempDir, List.of(tempDir), Map.of(),
+            Map.of(ScanContext.PARALLELISM_SETTING, "8"), Map.of());
+        ScanResult parallel = new SpringRestApiScanner().scan(parallelContext);
+
+        // Then: Findings and statistics are identical, in the same order
+        assertThat(parallel.apiEndpoints()).hasSize(sequential.apiEndpoints().size());
+        assertThat(parallel).isEqualTo(sequential);
+    }
 }
@@ -0,0 +1,114 @@
+package com.docarchitect.core.scanner.profile;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for {@link ScanProfiler}.
+ */
+class ScanProfilerTest {
+
+    private static final Path ROOT = Path.of("/project").toAbsolutePath();
+
+    @Test
+    void create_withNegativeSlowestFiles_throwsException() {
+        assertThatThrownBy(() -> ScanProfiler.create(-1))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("slowestFiles");
+    }
+
+    @Test
+    void start_withDisabledProfiler_recordsNothing() {
+        ScanProfiler profiler = ScanProfiler.disabled().forScanner("maven");
+
+        try (ScanProfiler.Span span = profiler.start(ScanPhase.PARSE, ROOT.resolve("pom.xml"))) {
+            assertThat(profiler.isEnabled()).isFalse();
+        }
+
+        assertThat(profiler.snapshot(ROOT).scanners()).isEmpty();
+    }
+
+    @Test
+    void start_withUnboundProfiler_recordsNothing() {
+        ScanProfiler profiler = ScanProfiler.create(ScanProfiler.DEFAULT_SLOWEST_FILES);
+
+        profiler.start(ScanPhase.DISCOVERY).close();
+
+        assertThat(profiler.isEnabled()).isTrue();
+        assertThat(profiler.snapshot(ROOT).scanners()).isEmpty();
+    }
+
+    @Test
+    void start_withBoundProfilers_recordsPhasesPerScanner() throws Exception {
+        ScanProfiler profiler = ScanProfiler.create(ScanProfiler.DEFAULT_SLOWEST_FILES);
+        ScanProfiler maven = profiler.forScanner("maven");
+        ScanProfiler npm = profiler.forScanner("npm");
+
+        try (ScanProfiler.Span span = maven.start(ScanPhase.SCAN)) {
+            Thread.sleep(20);
+            maven.start(ScanPhase.READ).close();
+            maven.start(ScanPhase.READ).close();
+        }
+        npm.start(ScanPhase.APPLICABILITY).close();
+
+        List<ScanProfile.ScannerProfile> scanners = profiler.snapshot(ROOT).scanners();
+        assertThat(scanners).extracting(ScanProfile.ScannerProfile::scannerId).containsExactly("maven", "npm");
+        ScanProfile.ScannerProfile mavenProfile = scanners.get(0);
+        assertThat(mavenProfile.phases()).containsOnlyKeys(ScanPhase.SCAN, ScanPhase.READ);
+        assertThat(mavenProfile.phase(ScanPhase.READ).count()).isEqualTo(2);
+        assertThat(mavenProfile.phase(ScanPhase.SCAN).wallNanos()).isGreaterThanOrEqualTo(20_000_000L);
+        assertThat(mavenProfile.phase(ScanPhase.PARSE)).isEqualTo(ScanProfile.PhaseProfile.NONE);
+    }
+
+    @Test
+    void start_withSpanClosedTwice_recordsOnce() {
+        ScanProfiler profiler = ScanProfiler.create(ScanProfiler.DEFAULT_SLOWEST_FILES).forScanner("maven");
+
+        ScanProfiler.Span span = profiler.start(ScanPhase.PARSE);
+        span.close();
+        span.close();
+
+        assertThat(profiler.snapshot(ROOT).scanners().get(0).phase(ScanPhase.PARSE).count()).isEqualTo(1);
+    }
+
+    @Test
+    void snapshot_withFileSpans_reportsSlowestFilesRelativeToRoot() throws Exception {
+        ScanProfiler profiler = ScanProfiler.create(2).forScanner("spring");
+        Path slow = ROOT.resolve("src/Slow.java");
+        Path medium = ROOT.resolve("src/Medium.java");
+
+        try (ScanProfiler.Span span = profiler.start(ScanPhase.PARSE, slow)) {
+            Thread.sleep(30);
+        }
+        try (ScanProfiler.Span span = profiler.start(ScanPhase.READ, medium)) {
+            Thread.sleep(10);
+        }
+        try (ScanProfiler.Span span = profiler.start(ScanPhase.EXTRACTION, medium)) {
+            Thread.sleep(5);
+        }
+        profiler.start(ScanPhase.READ, ROOT.resolve("src/Fast.java")).close();
+
+        List<ScanProfile.FileProfile> slowest = profiler.snapshot(ROOT).scanners().get(0).slowestFiles();
+
+        assertThat(slowest).extracting(ScanProfile.FileProfile::path).containsExactly("src/Slow.java", "src/Medium.java");
+        assertThat(slowest.get(1).wallNanos()).isGreaterThanOrEqualTo(15_000_000L);
+    }
+
+    @Test
+    void toJson_withRecordedPhases_writesScannersPhasesAndFiles() {
+        ScanProfiler profiler = ScanProfiler.create(ScanProfiler.DEFAULT_SLOWEST_FILES).forScanner("maven");
+        profiler.start(ScanPhase.PARSE, ROOT.resolve("pom.xml")).close();
+
+        String json = profiler.snapshot(ROOT).toJson();
+
+        assertThat(json)
+            .contains("\"scannerId\" : \"maven\"")
+            .contains("\"PARSE\"")
+            .contains("\"wallNanos\"")
+            .contains("\"path\" : \"pom.xml\"");
+    }
+}
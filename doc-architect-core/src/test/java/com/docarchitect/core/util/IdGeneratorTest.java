@@ -2,9 +2,14 @@ package com.docarchitect.core.util;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+
 import static org.assertj.core.api.Assertions.*;
 
 /**
@@ -94,4 +99,61 @@ class IdGeneratorTest {
             .isInstanceOf(IllegalArgumentException.class)
             .hasMessageContaining("Input must not be null or blank");
     }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"user-service", "order-service|v1|api", "Bestellung-Übersicht", "服务", "emoji-\uD83D\uDE80"})
+    void generateFromString_inCompatibleMode_matchesTruncatedSha256(String input) throws Exception {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        String legacy = HexFormat.of()
+            .formatHex(digest.digest(input.getBytes(StandardCharsets.UTF_8)))
+            .substring(0, 16);
+
+        assertThat(IdGenerator.generate(IdGenerator.Mode.COMPATIBLE, input)).isEqualTo(legacy);
+        assertThat(IdGenerator.mode()).isEqualTo(IdGenerator.Mode.COMPATIBLE);
+        assertThat(IdGenerator.generateFromString(input)).isEqualTo(legacy);
+    }
+
+    @Test
+    void generate_withComponents_hashesJoinedInput() {
+        assertThat(IdGenerator.generate("order-service", "v1", "api"))
+            .isEqualTo(IdGenerator.generateFromString("order-service|v1|api"));
+        assertThat(IdGenerator.generate("order-service", null))
+            .isEqualTo(IdGenerator.generateFromString("order-service|null"));
+    }
+
+    @Test
+    void generate_inFastMode_returnsDeterministicIdDifferentFromCompatible() {
+        String fast = IdGenerator.generate(IdGenerator.Mode.FAST, "user-service", "v1.0.0");
+
+        assertThat(fast).hasSize(16).matches("[0-9a-f]{16}");
+        assertThat(IdGenerator.generate(IdGenerator.Mode.FAST, "user-service", "v1.0.0")).isEqualTo(fast);
+        assertThat(fast).isNotEqualTo(IdGenerator.generate(IdGenerator.Mode.COMPATIBLE, "user-service", "v1.0.0"));
+    }
+
+    @Test
+    void xxHash64_matchesReferenceVectors() {
+        assertThat(xxHash64("")).isEqualTo(0xEF46DB3751D8E999L);
+        assertThat(xxHash64("abc")).isEqualTo(0x44BC2CF5AD770999L);
+        assertThat(xxHash64("The quick brown fox jumps over the lazy dog")).isEqualTo(0x0B242D361FDA71BCL);
+    }
+
+    @Test
+    void generate_withRepeatedInput_returnsEqualId() {
+        String first = IdGenerator.generate("shared", "component");
+        String second = IdGenerator.generate("shared", "component");
+
+        assertThat(second).isEqualTo(first);
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {"fast, FAST", "FAST, FAST", "compatible, COMPATIBLE", "unknown, COMPATIBLE", "NULL, COMPATIBLE"},
+        nullValues = "NULL")
+    void modeFromProperty_parsesModeOrDefaultsToCompatible(String value, IdGenerator.Mode expected) {
+        assertThat(IdGenerator.modeFromProperty(value)).isEqualTo(expected);
+    }
+
+    private static long xxHash64(String input) {
+        byte[] bytes = input.getBytes(StandardCharsets.UTF_8);
+        return IdGenerator.xxHash64(bytes, 0, bytes.length);
+    }
 }
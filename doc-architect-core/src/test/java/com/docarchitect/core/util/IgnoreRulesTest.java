@@ -0,0 +1,220 @@
+package com.docarchitect.core.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for {@link IgnoreRules}.
+ */
+class IgnoreRulesTest {
+
+    @TempDir
+    Path tempDir;
+
+    @ParameterizedTest
+    @CsvSource({
+        "target/,            target,              true,  true",
+        "target/,            target,              false, false",
+        "target/,            module/target,       true,  true",
+        "/target,            module/target,       true,  false",
+        "*.log,              logs/app.log,        false, true",
+        "logs/*.log,         logs/app.log,        false, true",
+        "logs/*.log,         sub/logs/app.log,    false, false",
+        "**/logs/*.log,      sub/logs/app.log,    false, true",
+        "docs/**,            docs/api/index.md,   false, true",
+        "docs/**,            docs,                true,  false",
+        "a/**/b,             a/x/y/b,             true,  true",
+        "a/**/b,             a/b,                 true,  true",
+        "file?.txt,          file1.txt,           false, true",
+        "file[0-9].txt,      filea.txt,           false, false",
+        "file[!0-9].txt,     filea.txt,           false, true",
+        "\\#notes,           #notes,              false, true"
+    })
+    void rule_matchesGitignoreSemantics(String pattern, String path, boolean directory, boolean expected) {
+        IgnoreRules.Rule rule = IgnoreRules.Rule.parse(pattern, false);
+
+        assertThat(rule.matches(path, directory)).isEqualTo(expected);
+    }
+
+    @Test
+    void rule_withCommentOrBlankLine_returnsNull() {
+        assertThat(IgnoreRules.Rule.parse("# comment", false)).isNull();
+        assertThat(IgnoreRules.Rule.parse("   ", false)).isNull();
+    }
+
+    @Test
+    void walk_withDefaults_prunesDependencyDirectories() throws IOException {
+        createFile("src/app.js");
+        createFile("node_modules/express/index.js");
+        createFile(".git/config");
+        createFile(".docarchitect/cache/spring-rest-api.cache");
+        createFile("api/node_modules/lodash/lodash.js");
+
+        assertThat(walk(IgnoreRules.defaults())).containsExactly("src/app.js");
+    }
+
+    @Test
+    void walk_withGitignore_appliesRulesRelativeToTheirDirectory() throws IOException {
+        createFile(".gitignore", "target/\n*.log\n");
+        createFile("service/.gitignore", "generated/\n!keep.log\n");
+        createFile("service/src/Main.java");
+        createFile("service/target/classes/Main.class");
+        createFile("service/generated/Api.java");
+        createFile("service/keep.log");
+        createFile("debug.log");
+        createFile("web/generated/bundle.js");
+
+        assertThat(walk(IgnoreRules.defaults())).containsExactlyInAnyOrder(
+            ".gitignore",
+            "service/.gitignore",
+            "service/src/Main.java",
+            "service/keep.log",
+            "web/generated/bundle.js");
+    }
+
+    @Test
+    void walk_withDockerignore_anchorsPatternsToRoot() throws IOException {
+        createFile(".dockerignore", "docs\n");
+        createFile("docs/readme.md");
+        createFile("service/docs/api.md");
+
+        assertThat(walk(IgnoreRules.defaults())).containsExactlyInAnyOrder(
+            ".dockerignore", "service/docs/api.md");
+    }
+
+    @Test
+    void walk_withConfiguredExcludes_overridesIgnoreFiles() throws IOException {
+        createFile(".gitignore", "generated/\n");
+        createFile("generated/Api.java");
+        createFile("vendor/lib/lib.go");
+        createFile("main.go");
+
+        IgnoreRules rules = IgnoreRules.of(List.of("vendor/", "!generated/", ".gitignore"), true);
+
+        assertThat(walk(rules)).containsExactlyInAnyOrder("generated/Api.java", "main.go");
+    }
+
+    @Test
+    void walk_withIgnoreFilesDisabled_keepsGitignoredFiles() throws IOException {
+        createFile(".gitignore", "target/\n");
+        createFile("target/app.jar");
+
+        assertThat(walk(IgnoreRules.of(List.of(), false))).containsExactlyInAnyOrder(".gitignore", "target/app.jar");
+    }
+
+    @Test
+    void walk_fromSubdirectory_appliesParentGitignore() throws IOException {
+        createFile(".gitignore", "build/\n");
+        createFile("module/build/out.txt");
+        createFile("module/src/in.txt");
+
+        List<String> files = new ArrayList<>();
+        IgnoreRules.defaults().walk(tempDir, tempDir.resolve("module"), collector(files));
+
+        assertThat(files).containsExactly("module/src/in.txt");
+    }
+
+    @Test
+    void walk_withNone_visitsEverything() throws IOException {
+        createFile("node_modules/a.js");
+
+        assertThat(walk(IgnoreRules.none())).containsExactly("node_modules/a.js");
+    }
+
+    @Test
+    void walk_withListingConcurrency_replaysSequentialWalk() throws IOException {
+        createFile(".gitignore", "target/\n*.log\n");
+        createFile("service/.gitignore", "!keep.log\n");
+        for (int i = 0; i < 20; i++) {
+            createFile("module" + i + "/src/Main" + i + ".java");
+            createFile("module" + i + "/target/Main" + i + ".class");
+            createFile("module" + i + "/docs/readme.md");
+        }
+        createFile("service/keep.log");
+        createFile("service/debug/trace.log");
+        createFile("skipped/inner/file.txt");
+
+        List<String> sequential = new ArrayList<>();
+        List<String> concurrent = new ArrayList<>();
+        IgnoreRules.defaults().walk(tempDir, tempDir, recorder(sequential));
+        IgnoreRules.defaults().walk(tempDir, tempDir, recorder(concurrent), 4);
+
+        assertThat(concurrent)
+            .containsExactlyElementsOf(sequential)
+            .contains("file service/keep.log", "pre module7/docs")
+            .doesNotContain("pre skipped/inner", "file service/debug/trace.log");
+    }
+
+    @Test
+    void isIgnored_withIgnoredParent_returnsTrue() throws IOException {
+        createFile(".gitignore", "dist/\n");
+
+        assertThat(IgnoreRules.defaults().isIgnored(tempDir, tempDir.resolve("dist/js/app.js"), false)).isTrue();
+        assertThat(IgnoreRules.defaults().isIgnored(tempDir, tempDir.resolve("src/app.js"), false)).isFalse();
+    }
+
+    private List<String> walk(IgnoreRules rules) throws IOException {
+        List<String> files = new ArrayList<>();
+        rules.walk(tempDir, tempDir, collector(files));
+        return files;
+    }
+
+    private SimpleFileVisitor<Path> recorder(List<String> events) {
+        return new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                events.add("pre " + relative(dir));
+                return dir.endsWith("skipped") ? FileVisitResult.SKIP_SUBTREE : FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                events.add("file " + relative(file));
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult postVisitDirectory(Path dir, IOException exc) {
+                events.add("post " + relative(dir));
+                return FileVisitResult.CONTINUE;
+            }
+        };
+    }
+
+    private String relative(Path path) {
+        return tempDir.relativize(path).toString().replace('\\', '/');
+    }
+
+    private SimpleFileVisitor<Path> collector(List<String> files) {
+        return new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                files.add(tempDir.relativize(file).toString().replace('\\', '/'));
+                return FileVisitResult.CONTINUE;
+            }
+        };
+    }
+
+    private void createFile(String relativePath) throws IOException {
+        createFile(relativePath, "content");
+    }
+
+    private void createFile(String relativePath, String content) throws IOException {
+        Path file = tempDir.resolve(relativePath);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content);
+    }
+}